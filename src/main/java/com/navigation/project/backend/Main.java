@@ -34,10 +34,10 @@ public class Main {
         // PATTERN 2: BUILDER - Harita oluşturma
         System.out.println("PATTERN 2: BUILDER - Harita oluşturuluyor...");
         new MapBuilder()
-                .addNode("İstanbul", NodeType.CITY)
-                .addNode("Ankara", NodeType.CITY)
-                .addNode("Bursa", NodeType.CITY)
-                .addNode("İzmir", NodeType.CITY)
+                .addNode("İstanbul", NodeType.CITY, 41.0082, 28.9784)
+                .addNode("Ankara", NodeType.CITY, 39.9334, 32.8597)
+                .addNode("Bursa", NodeType.CITY, 40.1828, 29.0665)
+                .addNode("İzmir", NodeType.CITY, 38.4237, 27.1428)
                 .addRoad("İstanbul", "Ankara", 450, 120)
                 .addRoad("İstanbul", "Bursa", 150, 110)
                 .addRoad("Bursa", "İzmir", 200, 100)
@@ -0,0 +1,140 @@
+package com.navigation.project.backend.builder;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.NodeRegistry;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+
+/**
+ * BulkMapBuilder - Toplu Harita Kurucu
+ *
+ * AMAÇ:
+ * Milyonlarca şehir/yoldan oluşan haritaları (dosya yükleme, içe aktarma)
+ * MapBuilder'ın çağrı başı maliyetleri olmadan kurar.
+ *
+ * NE İŞE YARAR:
+ * - Şehirler id ile eklenir, yollar id ile bağlanır (isimden şehir arama yok)
+ * - İsim → id çözümlemesi tek bir hash tablosu (NodeRegistry) üzerinden yapılır
+ * - Yol başına tekrar kontrolü, log, sürüm artırma ve indeks güncellemesi yapılmaz
+ * - Yollar Edge nesnesi oluşturulmadan doğrudan sütunlu yol tablosuna (EdgeTable) yazılır
+ * - build(): hazırlanan içerikle yeni bir harita kurar (CityMap.populate ile tek seferde)
+ * - commitTo(): içeriği var olan haritaya atomik olarak aktarır (CityMap.swapIn)
+ *
+ * PATTERN: Builder
+ * İLİŞKİLİ SINIFLAR: MapBuilder, CityMap, NodeRegistry, EdgeTable, GraphFile, RoadNetworkImporter
+ *
+ * FARK (MapBuilder):
+ * MapBuilder yolları iki yönlü ekler ve bulunamayan şehirleri loglar.
+ * BulkMapBuilder yönlü yol ekler ve id'lerin geçerli olduğunu varsayar.
+ *
+ * ÖRNEK:
+ * BulkMapBuilder builder = new BulkMapBuilder(2, 1);
+ * int a = builder.addNode("İstanbul", NodeType.CITY);
+ * int b = builder.addNode("Ankara", NodeType.CITY);
+ * builder.addEdge(a, b, 450, 120);
+ * builder.commitTo(CityMap.getInstance());
+ */
+public class BulkMapBuilder {
+
+    private final NodeRegistry registry;
+    private final EdgeTable edges;
+    private boolean built;
+
+    public BulkMapBuilder(int expectedNodes, int expectedEdges) {
+        this.registry = new NodeRegistry(expectedNodes);
+        this.edges = new EdgeTable(expectedEdges);
+    }
+
+    /**
+     * Yeni şehir ekler ve id'sini döner. Aynı isim daha önce eklendiyse IllegalArgumentException.
+     */
+    public int addNode(String name, NodeType type) {
+        return addNode(name, type, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Konumu (enlem, boylam) bilinen şehir ekler ve id'sini döner
+     */
+    public int addNode(String name, NodeType type, double latitude, double longitude) {
+        requireOpen();
+        Node node = new Node(name, type, latitude, longitude);
+        if (!registry.register(node)) {
+            throw new IllegalArgumentException("Aynı isimde birden fazla şehir: " + name);
+        }
+        return node.getId();
+    }
+
+    /**
+     * İsmin id'sini döner; şehir yoksa ekler (tek hash araması, içe aktarma için)
+     */
+    public int resolve(String name, NodeType type) {
+        int id = registry.idOf(name);
+        return id >= 0 ? id : addNode(name, type);
+    }
+
+    /**
+     * İsme göre id, yoksa -1
+     */
+    public int idOf(String name) {
+        return registry.idOf(name);
+    }
+
+    /**
+     * Yönlü, açık yol ekler
+     */
+    public void addEdge(int fromId, int toId, double distance, int speedLimit) {
+        addEdge(fromId, toId, distance, speedLimit, EdgeStatus.OPEN);
+    }
+
+    /**
+     * Yönlü yol ekler (id'ler addNode/resolve ile alınmış olmalıdır, mesafe km)
+     */
+    public void addEdge(int fromId, int toId, double distance, int speedLimit, EdgeStatus status) {
+        addEdgeMeters(fromId, toId, EdgeTable.toMeters(distance), speedLimit, status);
+    }
+
+    /**
+     * Yönlü yol ekler, mesafe tam sayı metre (ikili dosyadan yükleme için dönüşümsüz yol)
+     */
+    public void addEdgeMeters(int fromId, int toId, int distanceMeters, int speedLimit, EdgeStatus status) {
+        requireOpen();
+        if (fromId < 0 || fromId >= registry.size() || toId < 0 || toId >= registry.size()) {
+            throw new IllegalArgumentException("Geçersiz şehir id'si: " + fromId + " → " + toId);
+        }
+        edges.add(fromId, toId, distanceMeters, speedLimit, status);
+    }
+
+    public int getNodeCount() {
+        return registry.size();
+    }
+
+    public int getEdgeCount() {
+        return edges.liveCount();
+    }
+
+    /**
+     * Hazırlanan içerikle yeni (singleton'dan bağımsız) bir harita kurar. Kurucu bir kez kullanılabilir.
+     */
+    public CityMap build() {
+        requireOpen();
+        built = true;
+        CityMap map = CityMap.create();
+        map.populate(registry, edges);
+        return map;
+    }
+
+    /**
+     * İçeriği verilen haritaya atomik olarak aktarır; o an çalışan sorgular eski haritayla bitirir
+     */
+    public void commitTo(CityMap map) {
+        map.swapIn(build());
+    }
+
+    private void requireOpen() {
+        if (built) {
+            throw new IllegalStateException("BulkMapBuilder zaten kullanıldı (build/commitTo)");
+        }
+    }
+}
@@ -19,7 +19,12 @@ public class MapBuilder {
 
     public MapBuilder(){
         // İnşaata başlamadan önce Singleton haritayı çağırıyoruz
-        this.map = CityMap.getInstance();
+        this(CityMap.getInstance());
+    }
+
+    // Belirli bir haritayı doldurmak için (örn. arka planda hazırlanan yeni harita)
+    public MapBuilder(CityMap map){
+        this.map = map;
     }
 
     // 1. Düğüm Ekleme Zinciri
@@ -29,6 +34,12 @@ public class MapBuilder {
         return this;    // "this" döndürerek zincirin devam etmesini sağlıyoruz (.add().add())
     }
 
+    // 1b. Konumu (enlem, boylam) bilinen düğüm ekleme (A* sezgiseli konumları kullanır)
+    public MapBuilder addNode(String name, NodeType type, double latitude, double longitude){
+        map.addNode(new Node(name, type, latitude, longitude));
+        return this;
+    }
+
     // 2. Yol Ekleme Zinciri (İsimden isme yol çeker)
     public MapBuilder addRoad(String fromName, String toName, double distance, int speedLimit){
         Node source = findNode(fromName);
@@ -50,14 +61,9 @@ public class MapBuilder {
         return this;
     }
 
-    // Yardımcı Metot: İsme göre Node bulmak için
+    // Yardımcı Metot: İsme göre Node bulmak için (CityMap isim defteri, O(1))
     private Node findNode(String name){
-        for(Node node : map.getNodes()){
-            if (node.getName().equals(name)){
-                return node;
-            }
-        }
-        return null;
+        return map.findNode(name);
     }
 
     // 3. İnşaatı bitir
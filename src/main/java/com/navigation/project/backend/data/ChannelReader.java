@@ -0,0 +1,106 @@
+package com.navigation.project.backend.data;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.Checksum;
+
+/**
+ * ChannelReader - Tamponlu Sıralı Dosya Okuyucu
+ *
+ * AMAÇ:
+ * Harita dosyalarını FileChannel'dan sabit boyutlu bir tampona büyük bloklar halinde,
+ * baştan sona tek geçişte okur (little-endian). ChannelWriter'ın okuma tarafıdır.
+ *
+ * NE İŞE YARAR:
+ * - Tampon bitince kanaldan yeni blok okur (dosya boyutundan bağımsız sabit bellek)
+ * - İstenirse okunan her byte'ı bir checksum'a (CRC32C) ekler
+ * - Dosya beklenenden kısaysa EOFException fırlatır
+ *
+ * İLİŞKİLİ SINIFLAR: ChannelWriter, GraphFile
+ */
+final class ChannelReader {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final Checksum checksum;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long consumed;
+
+    /**
+     * Kanalın o anki konumundan okumaya başlar. checksum null olabilir.
+     */
+    ChannelReader(FileChannel channel, Checksum checksum) throws IOException {
+        this.channel = channel;
+        this.checksum = checksum;
+        this.consumed = channel.position();
+        buffer.limit(0);
+    }
+
+    /**
+     * Dosyada bir sonraki okunacak byte'ın konumu
+     */
+    long position() {
+        return consumed + buffer.position();
+    }
+
+    byte getByte() throws IOException {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    short getShort() throws IOException {
+        require(Short.BYTES);
+        return buffer.getShort();
+    }
+
+    int getInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long getLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    double getDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    void getBytes(byte[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            require(1);
+            int length = Math.min(buffer.remaining(), values.length - offset);
+            buffer.get(values, offset, length);
+            offset += length;
+        }
+    }
+
+    // Tamponda en az "bytes" kadar veri kalmasını sağlar
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        consumed += buffer.position();
+        buffer.compact();
+        int kept = buffer.position();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Harita dosyası beklenenden kısa (konum " + (consumed + buffer.position()) + ")");
+            }
+        }
+        buffer.flip();
+        if (checksum != null) {
+            // Sadece yeni okunan kısım checksum'a eklenir
+            ByteBuffer fresh = buffer.duplicate();
+            fresh.position(kept);
+            checksum.update(fresh);
+        }
+    }
+}
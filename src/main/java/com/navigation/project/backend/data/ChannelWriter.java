@@ -0,0 +1,106 @@
+package com.navigation.project.backend.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.Checksum;
+
+/**
+ * ChannelWriter - Tamponlu Sıralı Dosya Yazıcı
+ *
+ * AMAÇ:
+ * Harita dosyalarını (GraphFile, MappedGraphStore) sabit boyutlu bir tampon üzerinden
+ * FileChannel'a sırayla, little-endian yazar.
+ *
+ * NE İŞE YARAR:
+ * - Primitive değerleri tampona yazar, tampon dolunca kanala boşaltır
+ * - İstenirse boşaltılan her byte'ı bir checksum'a (CRC32C) ekler
+ * - Bölümleri 8 byte sınırına hizalar
+ *
+ * İLİŞKİLİ SINIFLAR: ChannelReader, GraphFile, MappedGraphStore
+ */
+final class ChannelWriter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final Checksum checksum;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long flushed;
+
+    /**
+     * Kanalın o anki konumundan yazmaya başlar. checksum null olabilir.
+     */
+    ChannelWriter(FileChannel channel, Checksum checksum) throws IOException {
+        this.channel = channel;
+        this.checksum = checksum;
+        this.flushed = channel.position();
+    }
+
+    /**
+     * Dosyada bir sonraki byte'ın yazılacağı konum
+     */
+    long position() {
+        return flushed + buffer.position();
+    }
+
+    void putByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void putShort(short value) throws IOException {
+        ensure(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void putDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void putBytes(byte[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), values.length - offset);
+            buffer.put(values, offset, length);
+            offset += length;
+        }
+    }
+
+    // Bir sonraki bölüm 8 byte sınırından başlasın
+    void align() throws IOException {
+        while ((position() & 7) != 0) {
+            putByte((byte) 0);
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        if (checksum != null) {
+            checksum.update(buffer.duplicate());
+        }
+        while (buffer.hasRemaining()) {
+            flushed += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -1,82 +1,576 @@
 package com.navigation.project.backend.data;
 
+import com.navigation.project.backend.builder.MapBuilder;
 import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
 import com.navigation.project.backend.model.Node;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Şehirleri ve yolları depolar
  * Singleton kullanarak sadece 1 harita oluşturumamıza olanak tanır bu sayede karmaşıklık önlenir
  * Admin ayrı bir map te kullanıcı ayrı map te gibi bir durumu engeller
+ *
+ * BÖLGESEL HARİTALAR (MapRegistry):
+ * - getInstance() paylaşılan defterin varsayılan bölgesidir; tekil harita garantisi bu bölge içindir
+ * - Diğer bölgeler create() ile oluşturulan bağımsız haritalardır, her birinin kilidi kendinedir
+ * - Stratejiler, facade ve MapBuilder bağlı oldukları haritayı okur (singleton'a gömülü değil)
+ *
+ * SÜRÜMLÜ GÖRÜNTÜLER (GraphSnapshot):
+ * - Her yazma işlemi (şehir/yol ekleme-silme, hız/durum değişikliği) sürüm numarasını artırır
+ * - Rota sorguları snapshot() ile değiştirilemez bir görüntü alır ve sorgu boyunca onu kullanır
+ * - Yeni görüntü, yazmalardan sonraki ilk snapshot() çağrısında kurulur ve atomik olarak yayınlanır
+ * - Tam harita yeniden yüklemesi arka planda ayrı bir haritada hazırlanıp swapIn() ile devreye alınır
+ *
+ * SÜTUNLU YOL TABLOSU (EdgeTable):
+ * - Yollar nesne listesi yerine primitive sütunlarda tutulur (kaynak, hedef, metre, hız, durum)
+ * - Edge nesneleri tablodaki bir satırın görünümüdür; getEdges/findEdge istenince oluşturulur,
+ *   harita görünümleri saklamaz (yol başına kalıcı nesne yok)
+ * - Edge setter'ları satırı bu haritanın kilidi altında günceller ve yeni sürüm üretir
+ *
+ * DOSYA DEPOSU (MappedGraphStore):
+ * - Ülke ölçeğindeki haritalar attachStore() ile bellek eşlemeli dosyadan bağlanır
+ * - Bağlıyken rota motorları getGraph() ile depoyu okur, şehir arama da depodan yapılır
+ * - Depo salt-okunurdur: bağlıyken şehir/yol eklenemez, güncelleme için yeni dosya bağlanır
+ *
+ * SIKIŞTIRILMIŞ GÖRÜNTÜ (CompressedGraph):
+ * - Küçük heap'li cihazlar için compress() güncel görüntüyü sıkıştırıp bağlar
+ * - Heap'teki şehir/yol tablosu ve CSR görüntüsü bırakılır; depo gibi salt-okunurdur
  */
 
 // [PATTERN: Singleton]
 // Bu sınıf harita verisini tutan TEKİL depodur.
 public class CityMap {
 
-    // 1. Kendi türünden statik, tekil bir değişken
-    private static CityMap instance;
-
     // Harita Verileri (Noktalar ve Yollar)
-    private final List<Node> nodes;
-    private final List<Edge> edges;
+    // Şehirler isim → id → Node defterinde tutulur; görüntülerdeki CSR dizileri bu id ile adreslenir.
+    private NodeRegistry nodes;
+    private EdgeTable edgeTable;
+
+    // Şehri henüz haritaya eklenmemiş yollar (satır → yol); görüntü kurulurken id'ye çevrilir
+    private Map<Integer, Edge> pendingEdges;
+
+    // (kaynak id, hedef id) → yol tablosu satırı. addEdge/removeEdge/clearAll ile senkron tutulur.
+    private EdgeIndex edgeIndex;
+
+    // Aynı çift arasındaki diğer (paralel) yolların satırları, ekleme sırasıyla (EdgeIndex.key → satırlar).
+    // İndeksteki yol silinince sıradaki buradan alınır; tabloyu taramaya gerek kalmaz.
+    private Map<Long, List<Integer>> parallelRows;
+
+    // Yazma sürümü: her değişiklikte artar
+    private volatile long version;
+
+    // En son yayınlanan değiştirilemez görüntü
+    private volatile GraphSnapshot current;
+
+    // Bağlı salt-okunur görüntü: bellek eşlemeli depo ya da sıkıştırılmış görüntü
+    // (null ise harita heap'teki tablodan okunur)
+    private volatile IRoadGraph store;
+
+    // Şehir/yol eklenip silindiyse bir sonraki görüntüde CSR yeniden kurulur.
+    // Sadece hız/durum değiştiyse eski CSR paylaşılır, sadece öznitelikler kopyalanır.
+    private boolean structureDirty;
 
     // 2. Constructor PRIVATE yapılır.
     // Böylece kimse dışarıdan "new CityMap()" diyemez.
     private CityMap(){
-        nodes = new ArrayList<>();
-        edges = new ArrayList<>();
+        nodes = new NodeRegistry();
+        edgeTable = ownTable(new EdgeTable());
+        pendingEdges = new HashMap<>();
+        edgeIndex = new EdgeIndex();
+        parallelRows = new HashMap<>();
+        structureDirty = true;
     }
 
     // 3. Dış dünyaya açılan TEK kapı
-    // İlk çağrıldığında oluşturur, sonrakilerde var olanı döndürür.
-    public static synchronized CityMap getInstance(){
-        if(instance == null){
-            instance = new CityMap();
-        }
-        return instance;
+    // Varsayılan bölgenin haritası: ilk çağrıda oluşturulur, sonrakilerde kilitsiz okunur.
+    public static CityMap getInstance(){
+        return MapRegistry.shared().getOrCreate(MapRegistry.DEFAULT_REGION);
+    }
+
+    /**
+     * Bağımsız yeni (boş) harita. Bölgesel haritalar (MapRegistry) ve arka planda hazırlanıp
+     * swapIn() ile devreye alınan haritalar (reloadAsync, BulkMapBuilder) için kullanılır.
+     */
+    public static CityMap create(){
+        return new CityMap();
     }
 
     // --- Veri Okuma Metotları ---
 
-    public void addNode(Node node){
-        // Aynı isimli şehir var mı diye bakmak iyi olur ama şimdilik basit tutalım
-        if (!nodes.contains(node)){
-            nodes.add(node);
+    public synchronized void addNode(Node node){
+        requireHeapMode();
+        // Aynı isimli şehir tekrar eklenmez (isim defteri üzerinden O(1) kontrol)
+        // Eklenen şehre sıradaki yoğun id atanır
+        if (nodes.register(node)){
+            structureChanged();
         }
     }
 
-    public void addEdge(Edge edge){
-        edges.add(edge);
+    public synchronized void addEdge(Edge edge){
+        requireHeapMode();
+        // Değerler satıra kopyalanır, nesne o satırın görünümü olur
+        int fromId = nodes.idOf(edge.getSource());
+        int toId = nodes.idOf(edge.getDestination());
+        int row = edgeTable.add(fromId, toId, EdgeTable.toMeters(edge.getDistance()),
+                edge.getSpeedLimit(), edge.getStatus());
+        edge.bind(edgeTable, row);
+        if (fromId >= 0 && toId >= 0) {
+            indexRow(edgeIndex, parallelRows, fromId, toId, row);
+        } else {
+            pendingEdges.put(row, edge);
+        }
+        structureChanged();
     }
 
     // --- Veri Okuma Metotları ---
 
     // Dışarıdan listeyi değiştiremesinler diye "Unmodifiable" döndürüyoruz (Güvenlik)
     public List<Node> getNodes(){
-        return Collections.unmodifiableList(nodes);
+        return nodes.asList();
     }
 
-    public List<Edge> getEdges(){
-        return Collections.unmodifiableList(edges);
+    // Yollar ekleme sırasıyla, tablodaki satırların görünümleri olarak döner
+    public synchronized List<Edge> getEdges(){
+        List<Edge> result = new ArrayList<>(edgeTable.liveCount());
+        for (int row = 0; row < edgeTable.size(); row++) {
+            if (!edgeTable.isRemoved(row)) {
+                result.add(edgeView(row));
+            }
+        }
+        return Collections.unmodifiableList(result);
     }
 
     // Haritayı sıfırlamak için (Testlerde işe yarar)
-    public void clearAll(){
+    public synchronized void clearAll(){
+        releaseTable();
         nodes.clear();
-        edges.clear();
+        edgeTable = ownTable(new EdgeTable());
+        pendingEdges.clear();
+        edgeIndex.clear();
+        parallelRows.clear();
+        store = null;
+        structureChanged();
     }
 
-    public void removeEdge(Edge edge) {
-        if (edges.remove(edge)) {
+    public synchronized void removeEdge(Edge edge) {
+        int row = edge.getRow();
+        if (edge.getTable() == edgeTable && !edgeTable.isRemoved(row)) {
+            unindexRow(row);
+            edgeTable.remove(row);
+            pendingEdges.remove(row);
+            structureChanged();
             System.out.println("Yol silindi.");
         } else {
             System.out.println("Böyle bir yol yok");
         }
     }
+
+    /**
+     * Toplu yükleme modu: haritanın içeriğini hazır bir şehir defteri ve yol tablosuyla tek seferde değiştirir.
+     * Yol başına tekrar kontrolü, log ve sürüm artırma yapılmaz; indeks tek geçişte, önceden boyutlanarak kurulur.
+     * Tablodaki şehir id'leri defterdeki id'ler olmalıdır. BulkMapBuilder tarafından kullanılır.
+     */
+    public synchronized void populate(NodeRegistry registry, EdgeTable table){
+        requireHeapMode();
+        EdgeIndex index = new EdgeIndex();
+        Map<Long, List<Integer>> parallel = new HashMap<>();
+        index.ensureCapacity(table.liveCount());
+        for (int row = 0; row < table.size(); row++) {
+            if (!table.isRemoved(row)) {
+                indexRow(index, parallel, table.getSource(row), table.getTarget(row), row);
+            }
+        }
+        releaseTable();
+        nodes = registry;
+        edgeTable = ownTable(table);
+        pendingEdges = new HashMap<>();
+        edgeIndex = index;
+        parallelRows = parallel;
+        structureChanged();
+    }
+
+    // --- Yol Tablosu Yazma (Edge setter'ları EdgeTable üzerinden çağırır) ---
+
+    synchronized void setEdgeSpeedLimit(EdgeTable table, int row, int speedLimit){
+        CityMap owner = table.getOwner();
+        if (owner != this && owner != null) {
+            // Tablo bu arada başka haritaya aktarıldı (swapIn)
+            owner.setEdgeSpeedLimit(table, row, speedLimit);
+            return;
+        }
+        table.writeSpeedLimit(row, speedLimit);
+        if (table == edgeTable) {
+            version++;
+        }
+    }
+
+    synchronized void setEdgeStatus(EdgeTable table, int row, EdgeStatus status){
+        CityMap owner = table.getOwner();
+        if (owner != this && owner != null) {
+            owner.setEdgeStatus(table, row, status);
+            return;
+        }
+        table.writeStatus(row, status);
+        if (table == edgeTable) {
+            version++;
+        }
+    }
+
+    // --- Şehir Arama Metotları (isim defteri, O(1)) ---
+
+    /**
+     * İsme göre şehri bulur, yoksa null
+     */
+    public Node findNode(String name){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped.findNode(name);
+        }
+        return nodes.find(name);
+    }
+
+    /**
+     * Node'un haritadaki yoğun id'sini döner, haritada yoksa -1
+     */
+    public int idOf(Node node){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped.idOf(node);
+        }
+        return nodes.idOf(node);
+    }
+
+    /**
+     * İsme göre id, yoksa -1
+     */
+    public int idOf(String name){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped.idOf(name);
+        }
+        return nodes.idOf(name);
+    }
+
+    /**
+     * Id'ye göre şehri döner
+     */
+    public Node getNode(int id){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped.getNode(id);
+        }
+        return nodes.get(id);
+    }
+
+    public int getNodeCount(){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped.getNodeCount();
+        }
+        return nodes.size();
+    }
+
+    // --- Yol Arama Metotları (EdgeIndex, O(1)) ---
+    // Depo bağlıyken Edge nesnesi yoktur; yol bilgisi getGraph() üzerinden okunur.
+
+    /**
+     * İki şehir arasındaki yolu bulur, yoksa null
+     */
+    public Edge findEdge(Node from, Node to){
+        int fromId = nodes.idOf(from);
+        int toId = nodes.idOf(to);
+        if (fromId < 0 || toId < 0) {
+            return null;
+        }
+        return findEdge(fromId, toId);
+    }
+
+    public Edge findEdge(String fromName, String toName){
+        int fromId = nodes.idOf(fromName);
+        int toId = nodes.idOf(toName);
+        if (fromId < 0 || toId < 0) {
+            return null;
+        }
+        return findEdge(fromId, toId);
+    }
+
+    public synchronized Edge findEdge(int fromId, int toId){
+        int row = edgeIndex.get(fromId, toId);
+        return row < 0 ? null : edgeView(row);
+    }
+
+    /**
+     * Node'dan çıkan yollar (güncel görüntünün CSR'ı üzerinden, tam tarama yok)
+     */
+    public synchronized List<Edge> getOutgoingEdges(Node node){
+        GraphSnapshot graph = snapshot();
+        int id = graph.idOf(node);
+        if (id < 0) {
+            return Collections.emptyList();
+        }
+        List<Edge> result = new ArrayList<>(graph.outEnd(id) - graph.outBegin(id));
+        for (int slot = graph.outBegin(id); slot < graph.outEnd(id); slot++) {
+            result.add(edgeView(graph.getRow(slot)));
+        }
+        return result;
+    }
+
+    /**
+     * Node'a giren yollar (ters CSR üzerinden)
+     */
+    public synchronized List<Edge> getIncomingEdges(Node node){
+        GraphSnapshot graph = snapshot();
+        int id = graph.idOf(node);
+        if (id < 0) {
+            return Collections.emptyList();
+        }
+        List<Edge> result = new ArrayList<>(graph.inEnd(id) - graph.inBegin(id));
+        for (int position = graph.inBegin(id); position < graph.inEnd(id); position++) {
+            result.add(edgeView(graph.getRow(graph.getInSlot(position))));
+        }
+        return result;
+    }
+
+    // --- Sürümlü Görüntü Metotları ---
+
+    public long getVersion(){
+        return version;
+    }
+
+    /**
+     * Rota motorlarının okuyacağı harita: bağlı depo varsa o, yoksa güncel heap görüntüsü
+     */
+    public IRoadGraph getGraph(){
+        IRoadGraph mapped = store;
+        if (mapped != null) {
+            return mapped;
+        }
+        return snapshot();
+    }
+
+    /**
+     * Bellek eşlemeli depoyu haritanın kaynağı yapar.
+     * Heap'teki şehir/yol listeleri boşaltılır; çalışan sorgular eski görüntüyle bitirir.
+     * Daha yeni bir dosya bağlamak, haritayı atomik olarak o dosyanın içeriğine geçirir.
+     */
+    public synchronized void attachStore(MappedGraphStore mapped){
+        attachReadOnly(mapped);
+    }
+
+    /**
+     * Sıkıştırılmış görüntüyü haritanın kaynağı yapar (attachStore ile aynı kurallar)
+     */
+    public synchronized void attachCompressed(CompressedGraph compressed){
+        attachReadOnly(compressed);
+    }
+
+    /**
+     * Güncel heap görüntüsünü sıkıştırır ve bağlar; heap'teki tablo ve CSR görüntüsü bırakılır.
+     * Mesafeler distanceStepMeters, hızlar speedStep katlarına yuvarlanır (1, 1: kayıpsız).
+     */
+    public synchronized CompressedGraph compress(int distanceStepMeters, int speedStep){
+        CompressedGraph compressed = CompressedGraph.encode(getGraph(), distanceStepMeters, speedStep);
+        attachReadOnly(compressed);
+        return compressed;
+    }
+
+    /**
+     * Salt-okunur görüntüyü ayırır, harita tekrar heap'te (boş olarak) düzenlenebilir olur
+     */
+    public synchronized void detachStore(){
+        store = null;
+        structureChanged();
+    }
+
+    // Bağlı depo (bellek eşlemeli değilse null)
+    public MappedGraphStore getStore(){
+        IRoadGraph mapped = store;
+        return mapped instanceof MappedGraphStore ? (MappedGraphStore) mapped : null;
+    }
+
+    // Bağlı sıkıştırılmış görüntü (yoksa null)
+    public CompressedGraph getCompressed(){
+        IRoadGraph mapped = store;
+        return mapped instanceof CompressedGraph ? (CompressedGraph) mapped : null;
+    }
+
+    private void attachReadOnly(IRoadGraph mapped){
+        releaseTable();
+        nodes = new NodeRegistry();
+        edgeTable = ownTable(new EdgeTable());
+        pendingEdges = new HashMap<>();
+        edgeIndex = new EdgeIndex();
+        parallelRows = new HashMap<>();
+        store = mapped;
+        current = null;         // Eski heap görüntüsü sorgular bitince toplanabilsin
+        structureChanged();
+    }
+
+    /**
+     * Güncel değiştirilemez görüntüyü döner.
+     * Son yayından beri yazma yoksa kilit alınmaz, sadece volatile okuma yapılır.
+     */
+    public GraphSnapshot snapshot(){
+        GraphSnapshot snapshot = current;
+        if (snapshot != null && snapshot.getVersion() >= version) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (current == null || current.getVersion() < version) {
+                if (!pendingEdges.isEmpty()) {
+                    resolvePendingEdges();
+                }
+                current = GraphSnapshot.build(version, nodes, edgeTable, structureDirty ? null : current);
+                structureDirty = false;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Ayrı hazırlanmış bir haritanın içeriğini bu haritaya atomik olarak aktarır.
+     * Hazır haritanın görüntüsü kilit dışında kurulur; okuyucular hiç beklemez,
+     * o an çalışan sorgular eski görüntüyle bitirir. Aktarımdan sonra staged boşalır.
+     */
+    public void swapIn(CityMap staged){
+        GraphSnapshot prepared = staged.snapshot();
+        synchronized (staged) {
+            synchronized (this) {
+                // Hazırlık sırasında staged değiştiyse görüntüyü tazele
+                if (prepared.getVersion() != staged.version) {
+                    prepared = staged.snapshot();
+                }
+                releaseTable();
+                nodes = staged.nodes;
+                edgeTable = ownTable(staged.edgeTable);
+                pendingEdges = staged.pendingEdges;
+                edgeIndex = staged.edgeIndex;
+                parallelRows = staged.parallelRows;
+                store = null;
+                structureDirty = false;
+
+                // Önce görüntü, sonra sürüm yayınlanır; okuyucu ikisini farklı anlarda görse de beklemez
+                long newVersion = Math.max(version, prepared.getVersion()) + 1;
+                current = prepared.withVersion(newVersion);
+                version = newVersion;
+
+                staged.nodes = new NodeRegistry();
+                staged.edgeTable = staged.ownTable(new EdgeTable());
+                staged.pendingEdges = new HashMap<>();
+                staged.edgeIndex = new EdgeIndex();
+                staged.parallelRows = new HashMap<>();
+                staged.structureChanged();
+            }
+        }
+    }
+
+    /**
+     * Haritayı arka planda baştan yükler ve hazır olunca devreye alır.
+     * Yükleme sırasında rota sorguları eski haritayla kesintisiz çalışmaya devam eder.
+     */
+    public CompletableFuture<Void> reloadAsync(Consumer<MapBuilder> loader){
+        return CompletableFuture.runAsync(() -> {
+            CityMap staged = create();
+            loader.accept(new MapBuilder(staged));
+            staged.snapshot();      // Görüntü arka planda kurulsun
+            swapIn(staged);
+        });
+    }
+
+    // Depo salt-okunurdur; bağlıyken heap listelerine yazılan veri rotalarda görünmezdi
+    private void requireHeapMode(){
+        if (store != null) {
+            throw new IllegalStateException("Harita salt-okunur görüntüden (depo / sıkıştırılmış) okunuyor; önce detachStore() çağrılmalı");
+        }
+    }
+
+    // Şehir/yol yapısı değişti: yeni sürüm, CSR yeniden kurulacak
+    private void structureChanged(){
+        structureDirty = true;
+        version++;
+    }
+
+    // Satırın Edge görünümü (her istenişte yeni, hafif nesne; şehri çözülmemiş satırda eklenen yol)
+    private Edge edgeView(int row){
+        Edge pending = pendingEdges.get(row);
+        if (pending != null) {
+            return pending;
+        }
+        return new Edge(nodes.get(edgeTable.getSource(row)), nodes.get(edgeTable.getTarget(row)), edgeTable, row);
+    }
+
+    private EdgeTable ownTable(EdgeTable table){
+        table.setOwner(this);
+        return table;
+    }
+
+    // Tablo değiştirilmeden önce haritadan ayrılır; eski görünümler son değerleri okumaya devam eder
+    private void releaseTable(){
+        if (edgeTable.getOwner() == this) {
+            edgeTable.setOwner(null);
+        }
+    }
+
+    // Şehri yoldan sonra eklenen satırların uçlarını id'ye çevirir ve indeksler
+    private void resolvePendingEdges(){
+        Iterator<Map.Entry<Integer, Edge>> it = pendingEdges.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Edge> entry = it.next();
+            int row = entry.getKey();
+            int fromId = nodes.idOf(entry.getValue().getSource());
+            int toId = nodes.idOf(entry.getValue().getDestination());
+            edgeTable.resolve(row, fromId, toId);
+            if (fromId >= 0 && toId >= 0) {
+                indexRow(edgeIndex, parallelRows, fromId, toId, row);
+                it.remove();
+            }
+        }
+    }
+
+    // Çiftin ilk yolu indekse, sonrakiler paralel listesine girer
+    private static void indexRow(EdgeIndex index, Map<Long, List<Integer>> parallel, int fromId, int toId, int row){
+        if (!index.putIfAbsent(fromId, toId, row)) {
+            parallel.computeIfAbsent(EdgeIndex.key(fromId, toId), key -> new ArrayList<>(2)).add(row);
+        }
+    }
+
+    // Satırı indeksten çıkar; aynı çift arasında başka yol varsa sıradakini indeksle (paralel listesi, O(1))
+    private void unindexRow(int row){
+        int fromId = edgeTable.getSource(row);
+        int toId = edgeTable.getTarget(row);
+        if (fromId < 0 || toId < 0) {
+            return;
+        }
+        long key = EdgeIndex.key(fromId, toId);
+        List<Integer> parallel = parallelRows.get(key);
+        if (edgeIndex.get(fromId, toId) != row) {
+            // Paralel yol siliniyor: sadece listeden çıkar
+            if (parallel != null) {
+                parallel.remove(Integer.valueOf(row));
+                if (parallel.isEmpty()) {
+                    parallelRows.remove(key);
+                }
+            }
+            return;
+        }
+        if (parallel == null) {
+            edgeIndex.remove(fromId, toId);
+            return;
+        }
+        edgeIndex.put(fromId, toId, parallel.remove(0));
+        if (parallel.isEmpty()) {
+            parallelRows.remove(key);
+        }
+    }
 }
 
 
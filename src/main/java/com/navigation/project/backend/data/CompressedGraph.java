@@ -0,0 +1,496 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+
+import java.util.Arrays;
+
+/**
+ * CompressedGraph - Sıkıştırılmış Harita Görüntüsü
+ *
+ * AMAÇ:
+ * Küçük heap'li cihazlarda haritanın komşuluk ve yol özniteliklerini
+ * düz int/short dizilerinden çok daha az bellekle tutar.
+ *
+ * NE İŞE YARAR:
+ * - Komşular: her şehrin çıkış hedefleri, bir öncekine göre farkı (zigzag) varint olarak kodlanır
+ *   (ilk hedefin farkı şehrin kendi id'sine göre); ızgara/yol ağlarında hedef başına 1-3 byte
+ * - Ters komşuluk: kaynak farkı varint + kaynağın çıkış listesindeki sıra varint
+ * - Mesafeler: distanceStep metreye yuvarlanır ve sözlüğe çevrilir; slot başına 1 ya da 2 byte kod
+ * - Hız + durum: speedStep katına yuvarlanan hız ile durum çifti sözlüğe çevrilir; slot başına 1 byte
+ * - Rota döngüsü komşuları loadTargets() ile tek geçişte, sırayla çözer
+ *
+ * İLİŞKİLİ SINIFLAR: IRoadGraph, CityMap (compress / attachCompressed), GraphSnapshot
+ *
+ * ERİŞİM MALİYETİ:
+ * - loadTargets(), getDistanceMeters(), getSpeedLimit(), isOpen(): O(çıkış sayısı) / O(1)
+ * - getTarget(slot), getInSource(), getInSlot(): slotun şehri ikili aramayla bulunup liste baştan
+ *   çözülür (O(log V + derece)); sadece rota sonucu ve seyrek erişimler için
+ *
+ * SINIRLAR:
+ * En fazla 65536 farklı (yuvarlanmış) mesafe ve 256 farklı hız/durum çifti.
+ * Fazlası için daha büyük adım verilir (IllegalArgumentException mesajı bunu söyler).
+ *
+ * ÖRNEK:
+ * CompressedGraph compressed = CityMap.getInstance().compress(10, 1);   // 10 m, hız kayıpsız
+ * System.out.println(compressed.getEncodedBytes() + " byte");
+ */
+public final class CompressedGraph implements IRoadGraph {
+
+    private static final EdgeStatus[] STATUSES = EdgeStatus.values();
+    private static final int MAX_DISTANCE_CODES = 1 << 16;
+    private static final int MAX_ATTRIBUTE_CODES = 1 << 8;
+
+    private final long version;
+    private final int edgeCount;
+    private final int distanceStep;
+    private final int speedStep;
+
+    // Şehirler ve isme göre sıralı id'ler (ikili arama)
+    private final Node[] nodes;
+    private final int[] nameOrder;
+
+    // Çıkış komşuluğu: slot offsetleri + şehir başına varint akışının byte konumu
+    private final int[] outOffsets;
+    private final int[] outPositions;
+    private final byte[] outBytes;
+
+    // Giriş komşuluğu: (kaynak farkı, kaynağın çıkış listesindeki sıra) varint çiftleri
+    private final int[] inOffsets;
+    private final int[] inPositions;
+    private final byte[] inBytes;
+
+    // Mesafe sözlüğü ve slot → kod (sözlük 256'dan küçükse byte, değilse char)
+    private final int[] distanceDictionary;
+    private final byte[] narrowDistanceCodes;
+    private final char[] wideDistanceCodes;
+
+    // Hız/durum sözlüğü ve slot → kod
+    private final short[] attributeSpeeds;
+    private final byte[] attributeStatuses;
+    private final byte[] attributeCodes;
+
+    private CompressedGraph(long version, int distanceStep, int speedStep, Node[] nodes, int[] nameOrder,
+                            int[] outOffsets, int[] outPositions, byte[] outBytes,
+                            int[] inOffsets, int[] inPositions, byte[] inBytes,
+                            int[] distanceDictionary, byte[] narrowDistanceCodes, char[] wideDistanceCodes,
+                            short[] attributeSpeeds, byte[] attributeStatuses, byte[] attributeCodes) {
+        this.version = version;
+        this.edgeCount = outOffsets[outOffsets.length - 1];
+        this.distanceStep = distanceStep;
+        this.speedStep = speedStep;
+        this.nodes = nodes;
+        this.nameOrder = nameOrder;
+        this.outOffsets = outOffsets;
+        this.outPositions = outPositions;
+        this.outBytes = outBytes;
+        this.inOffsets = inOffsets;
+        this.inPositions = inPositions;
+        this.inBytes = inBytes;
+        this.distanceDictionary = distanceDictionary;
+        this.narrowDistanceCodes = narrowDistanceCodes;
+        this.wideDistanceCodes = wideDistanceCodes;
+        this.attributeSpeeds = attributeSpeeds;
+        this.attributeStatuses = attributeStatuses;
+        this.attributeCodes = attributeCodes;
+    }
+
+    // --- Kodlama ---
+
+    /**
+     * Kayıpsız sıkıştırma (mesafe 1 m, hız 1 km/h adım)
+     */
+    public static CompressedGraph encode(IRoadGraph graph) {
+        return encode(graph, 1, 1);
+    }
+
+    /**
+     * Bir harita görüntüsünü sıkıştırır. Mesafeler distanceStepMeters, hızlar speedStep
+     * katlarına yuvarlanır (rota mesafeleri adım başına en fazla yarım adım sapar).
+     */
+    public static CompressedGraph encode(IRoadGraph graph, int distanceStepMeters, int speedStep) {
+        if (distanceStepMeters < 1 || speedStep < 1) {
+            throw new IllegalArgumentException("Yuvarlama adımı en az 1 olmalı: " + distanceStepMeters + ", " + speedStep);
+        }
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+
+        Node[] nodes = new Node[nodeCount];
+        for (int id = 0; id < nodeCount; id++) {
+            nodes[id] = graph.getNode(id);
+        }
+        int[] nameOrder = sortByName(nodes);
+
+        // Çıkış komşuluğu
+        int[] outOffsets = new int[nodeCount + 1];
+        int[] outPositions = new int[nodeCount + 1];
+        ByteSink out = new ByteSink(edgeCount * 2);
+        for (int id = 0; id < nodeCount; id++) {
+            outOffsets[id] = graph.outBegin(id);
+            outPositions[id] = out.size();
+            int previous = id;
+            for (int slot = graph.outBegin(id); slot < graph.outEnd(id); slot++) {
+                int target = graph.getTarget(slot);
+                out.putVarint(zigzag(target - previous));
+                previous = target;
+            }
+        }
+        outOffsets[nodeCount] = edgeCount;
+        outPositions[nodeCount] = out.size();
+
+        // Giriş komşuluğu
+        int[] inOffsets = new int[nodeCount + 1];
+        int[] inPositions = new int[nodeCount + 1];
+        ByteSink in = new ByteSink(edgeCount * 3);
+        for (int id = 0; id < nodeCount; id++) {
+            inOffsets[id] = graph.inBegin(id);
+            inPositions[id] = in.size();
+            int previous = id;
+            for (int position = graph.inBegin(id); position < graph.inEnd(id); position++) {
+                int source = graph.getInSource(position);
+                in.putVarint(zigzag(source - previous));
+                in.putVarint(graph.getInSlot(position) - graph.outBegin(source));
+                previous = source;
+            }
+        }
+        inOffsets[nodeCount] = edgeCount;
+        inPositions[nodeCount] = in.size();
+
+        // Mesafe sözlüğü
+        int[] quantised = new int[edgeCount];
+        for (int slot = 0; slot < edgeCount; slot++) {
+            quantised[slot] = quantise(graph.getDistanceMeters(slot), distanceStepMeters);
+        }
+        int[] distanceDictionary = distinctSorted(quantised);
+        if (distanceDictionary.length > MAX_DISTANCE_CODES) {
+            throw new IllegalArgumentException("Çok fazla farklı mesafe (" + distanceDictionary.length
+                    + "); daha büyük mesafe adımı verin (şu an " + distanceStepMeters + " m)");
+        }
+        boolean narrow = distanceDictionary.length <= MAX_ATTRIBUTE_CODES;
+        byte[] narrowDistanceCodes = narrow ? new byte[edgeCount] : null;
+        char[] wideDistanceCodes = narrow ? null : new char[edgeCount];
+        for (int slot = 0; slot < edgeCount; slot++) {
+            int code = Arrays.binarySearch(distanceDictionary, quantised[slot]);
+            if (narrow) {
+                narrowDistanceCodes[slot] = (byte) code;
+            } else {
+                wideDistanceCodes[slot] = (char) code;
+            }
+        }
+
+        // Hız + durum sözlüğü: (hız << 8 | durum) anahtarları
+        int[] keys = new int[edgeCount];
+        for (int slot = 0; slot < edgeCount; slot++) {
+            int speed = quantise(graph.getSpeedLimit(slot), speedStep);
+            keys[slot] = (speed << 8) | graph.getStatus(slot).ordinal();
+        }
+        int[] attributeDictionary = distinctSorted(keys);
+        if (attributeDictionary.length > MAX_ATTRIBUTE_CODES) {
+            throw new IllegalArgumentException("Çok fazla farklı hız/durum çifti (" + attributeDictionary.length
+                    + "); daha büyük hız adımı verin (şu an " + speedStep + " km/h)");
+        }
+        short[] attributeSpeeds = new short[attributeDictionary.length];
+        byte[] attributeStatuses = new byte[attributeDictionary.length];
+        for (int code = 0; code < attributeDictionary.length; code++) {
+            attributeSpeeds[code] = (short) (attributeDictionary[code] >> 8);
+            attributeStatuses[code] = (byte) (attributeDictionary[code] & 0xFF);
+        }
+        byte[] attributeCodes = new byte[edgeCount];
+        for (int slot = 0; slot < edgeCount; slot++) {
+            attributeCodes[slot] = (byte) Arrays.binarySearch(attributeDictionary, keys[slot]);
+        }
+
+        return new CompressedGraph(graph.getVersion(), distanceStepMeters, speedStep, nodes, nameOrder,
+                outOffsets, outPositions, out.toArray(), inOffsets, inPositions, in.toArray(),
+                distanceDictionary, narrowDistanceCodes, wideDistanceCodes,
+                attributeSpeeds, attributeStatuses, attributeCodes);
+    }
+
+    /**
+     * Komşuluk ve öznitelik dizilerinin toplam boyutu (byte; şehirler ve isim araması hariç)
+     */
+    public long getEncodedBytes() {
+        long bytes = 4L * (outOffsets.length + outPositions.length + inOffsets.length + inPositions.length);
+        bytes += outBytes.length + inBytes.length;
+        bytes += 4L * distanceDictionary.length;
+        bytes += narrowDistanceCodes != null ? narrowDistanceCodes.length : 2L * wideDistanceCodes.length;
+        bytes += 3L * attributeSpeeds.length + attributeCodes.length;
+        return bytes;
+    }
+
+    public int getDistanceStep() {
+        return distanceStep;
+    }
+
+    public int getSpeedStep() {
+        return speedStep;
+    }
+
+    // --- Şehirler ---
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public Node getNode(int id) {
+        return nodes[id];
+    }
+
+    @Override
+    public String getNodeName(int id) {
+        return nodes[id].getName();
+    }
+
+    @Override
+    public NodeType getNodeType(int id) {
+        return nodes[id].getType();
+    }
+
+    @Override
+    public int idOf(Node node) {
+        int id = node.getId();
+        if (id >= 0 && id < nodes.length && nodes[id].equals(node)) {
+            return id;
+        }
+        return idOf(node.getName());
+    }
+
+    @Override
+    public int idOf(String name) {
+        int low = 0;
+        int high = nameOrder.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int id = nameOrder[middle];
+            int comparison = nodes[id].getName().compareTo(name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    // --- Çıkış komşuluğu ---
+
+    @Override
+    public int outBegin(int id) {
+        return outOffsets[id];
+    }
+
+    @Override
+    public int outEnd(int id) {
+        return outOffsets[id + 1];
+    }
+
+    @Override
+    public int loadTargets(int id, int[] buffer) {
+        int count = outOffsets[id + 1] - outOffsets[id];
+        int position = outPositions[id];
+        int previous = id;
+        byte[] bytes = outBytes;
+        for (int i = 0; i < count; i++) {
+            // Satır içi varint çözme (döngüde metot çağrısı/nesne yok)
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += (value >>> 1) ^ -(value & 1);
+            buffer[i] = previous;
+        }
+        return count;
+    }
+
+    @Override
+    public int getTarget(int slot) {
+        int id = ownerOf(outOffsets, slot);
+        long cursor = outPositions[id];
+        int previous = id;
+        for (int i = outOffsets[id]; i <= slot; i++) {
+            cursor = readVarint(outBytes, (int) cursor);
+            previous += unzigzag((int) (cursor >>> 32));
+        }
+        return previous;
+    }
+
+    // --- Giriş komşuluğu ---
+
+    @Override
+    public int inBegin(int id) {
+        return inOffsets[id];
+    }
+
+    @Override
+    public int inEnd(int id) {
+        return inOffsets[id + 1];
+    }
+
+    @Override
+    public int getInSource(int position) {
+        return decodeIn(position, false);
+    }
+
+    @Override
+    public int getInSlot(int position) {
+        return decodeIn(position, true);
+    }
+
+    // --- Yol öznitelikleri ---
+
+    @Override
+    public int getDistanceMeters(int slot) {
+        return narrowDistanceCodes != null
+                ? distanceDictionary[narrowDistanceCodes[slot] & 0xFF]
+                : distanceDictionary[wideDistanceCodes[slot]];
+    }
+
+    @Override
+    public int getSpeedLimit(int slot) {
+        return attributeSpeeds[attributeCodes[slot] & 0xFF];
+    }
+
+    @Override
+    public EdgeStatus getStatus(int slot) {
+        return STATUSES[attributeStatuses[attributeCodes[slot] & 0xFF]];
+    }
+
+    @Override
+    public boolean isOpen(int slot) {
+        return attributeStatuses[attributeCodes[slot] & 0xFF] == EdgeStatus.OPEN.ordinal();
+    }
+
+    // --- Yardımcılar ---
+
+    // Varint okur; dönüş: üst 32 bit değer, alt 32 bit sonraki okuma konumu (görüntü paylaşıldığı için durum tutulmaz)
+    private static long readVarint(byte[] bytes, int position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return ((long) value << 32) | position;
+    }
+
+    private int decodeIn(int position, boolean slot) {
+        int id = ownerOf(inOffsets, position);
+        long cursor = inPositions[id];
+        int previous = id;
+        int rank = 0;
+        for (int i = inOffsets[id]; i <= position; i++) {
+            cursor = readVarint(inBytes, (int) cursor);
+            previous += unzigzag((int) (cursor >>> 32));
+            cursor = readVarint(inBytes, (int) cursor);
+            rank = (int) (cursor >>> 32);
+        }
+        return slot ? outOffsets[previous] + rank : previous;
+    }
+
+    // offsets[id] <= index < offsets[id + 1] olan şehir (boş şehirler atlanır)
+    private static int ownerOf(int[] offsets, int index) {
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int quantise(int value, int step) {
+        if (step == 1) {
+            return value;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, ((long) value + step / 2) / step * step);
+    }
+
+    private static int[] distinctSorted(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    private static int[] sortByName(Node[] nodes) {
+        Integer[] order = new Integer[nodes.length];
+        for (int id = 0; id < nodes.length; id++) {
+            order[id] = id;
+        }
+        Arrays.sort(order, (a, b) -> nodes[a].getName().compareTo(nodes[b].getName()));
+        int[] result = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    /**
+     * Büyüyen byte dizisi (sadece kodlama sırasında)
+     */
+    private static final class ByteSink {
+        private byte[] bytes;
+        private int size;
+
+        ByteSink(int expectedSize) {
+            bytes = new byte[Math.max(16, expectedSize)];
+        }
+
+        void putVarint(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.navigation.project.backend.data;
+
+import java.util.Arrays;
+
+/**
+ * EdgeIndex - (Kaynak, Hedef) → Yol İndeksi
+ *
+ * AMAÇ:
+ * İki şehir arasındaki yolu tam tarama yapmadan O(1) sürede bulur.
+ *
+ * NE İŞE YARAR:
+ * - Anahtar: (sourceId << 32) | destId şeklinde paketlenmiş long
+ * - Değer: yolun CityMap yol tablosundaki satır numarası (EdgeTable)
+ * - Açık adresleme (linear probing) kullanır, boxed Long/Integer yoktur
+ * - Silmede "backward shift" yapılır, mezar taşı (tombstone) birikmez
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, EdgeTable
+ *
+ * NOT:
+ * Aynı iki şehir arasında birden fazla yol varsa ilk eklenen tutulur
+ * (eski tam taramanın döndürdüğü yol ile aynı).
+ */
+public class EdgeIndex {
+
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public EdgeIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * İki id'yi tek bir long anahtara paketler
+     */
+    public static long key(int sourceId, int destId) {
+        return ((long) sourceId << 32) | (destId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Çiftin yol satırı, yoksa -1
+     */
+    public int get(int sourceId, int destId) {
+        long key = key(sourceId, destId);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Anahtar yoksa ekler. Varsa mevcut yol korunur ve false döner.
+     */
+    public boolean putIfAbsent(int sourceId, int destId, int row) {
+        long key = key(sourceId, destId);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = row;
+        if (++size > resizeThreshold) {
+            resize(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Anahtarın değerini koşulsuz değiştirir (yoksa ekler)
+     */
+    public void put(int sourceId, int destId, int row) {
+        long key = key(sourceId, destId);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = row;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = row;
+        if (++size > resizeThreshold) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Anahtarı siler; silinen yolun satırını döner (yoksa -1)
+     */
+    public int remove(int sourceId, int destId) {
+        long key = key(sourceId, destId);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Beklenen yol sayısı için önceden yer ayırır (toplu yüklemede yeniden boyutlamayı önler)
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = keys.length;
+        while (expectedSize > capacity * 3 / 4) {
+            capacity *= 2;
+        }
+        if (capacity != keys.length) {
+            resize(capacity);
+        }
+    }
+
+    // Linear probing silmesi: boşluktan sonraki zincir elemanlarını geri kaydır
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slotOf(key);
+            // home, (gap, slot] aralığında değilse eleman gap'e taşınabilir
+            boolean between = gap <= slot ? (gap < home && home <= slot) : (gap < home || home <= slot);
+            if (!between) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+    }
+
+    private int slotOf(long key) {
+        // MurmurHash3 fmix64 karıştırıcısı
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity * 3 / 4;
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+}
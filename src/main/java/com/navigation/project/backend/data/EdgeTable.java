@@ -0,0 +1,213 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.EdgeStatus;
+
+import java.util.Arrays;
+
+/**
+ * EdgeTable - Sütunlu (Columnar) Yol Tablosu
+ *
+ * AMAÇ:
+ * Haritadaki yolları her biri ayrı heap nesnesi olan Edge'ler yerine
+ * primitive dizilerden oluşan sütunlarda tutar.
+ *
+ * NE İŞE YARAR:
+ * - Her yol bir satırdır (ekleme sırasıyla 0, 1, 2, ...)
+ * - Sütunlar: kaynak id, hedef id, mesafe (metre), hız limiti, durum
+ * - Snapshot kurulumu ve rota döngüleri nesne/pointer takibi yapmadan bu dizileri okur
+ * - Edge nesneleri sadece istenince (getEdges, findEdge) satırın görünümü olarak oluşturulur;
+ *   tablo görünümleri tutmaz, yol başına kalıcı nesne yoktur
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, Edge, GraphSnapshot, BulkMapBuilder
+ *
+ * MESAFE (sabit noktalı):
+ * Mesafe km yerine tam sayı metre olarak tutulur (int, 4 byte).
+ * En fazla 3 ondalık basamaklı km değerleri (örn. 12.345) birebir geri döner;
+ * daha hassas değerler en yakın metreye yuvarlanır.
+ *
+ * SİLME:
+ * Silinen satırın durum byte'ına REMOVED biti eklenir, satır numaraları kaymaz
+ * (var olan Edge görünümleri son değerleri okumaya devam eder).
+ * clearAll/swapIn tabloyu değiştirdiğinde eski tablo haritadan ayrılır; eski görünümler
+ * onu okumaya devam eder ama değişiklikleri artık haritayı etkilemez.
+ */
+public final class EdgeTable {
+
+    // Silinmiş satırın durum byte'ındaki işaret biti (alt bitler EdgeStatus ordinal'i)
+    private static final int REMOVED = 0x80;
+    private static final int STATUS_MASK = 0x7F;
+
+    private static final EdgeStatus[] STATUSES = EdgeStatus.values();
+    private static final int MIN_CAPACITY = 16;
+    private static final double METERS_PER_KM = 1000.0;
+
+    private int[] sources;
+    private int[] targets;
+    private int[] distances;
+    private short[] speedLimits;
+    private byte[] statuses;
+
+    private int size;
+    private int liveCount;
+
+    // Tablonun bağlı olduğu harita (Edge setter'ları değişikliği onun kilidi altında yapar)
+    private volatile CityMap owner;
+
+    public EdgeTable() {
+        this(MIN_CAPACITY);
+    }
+
+    public EdgeTable(int expectedSize) {
+        allocate(Math.max(MIN_CAPACITY, expectedSize));
+    }
+
+    // --- Birim Dönüşümleri ---
+
+    /**
+     * km → metre (en yakın metreye yuvarlanır)
+     */
+    public static int toMeters(double kilometers) {
+        double meters = Math.rint(kilometers * METERS_PER_KM);
+        if (meters < 0 || meters > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Geçersiz yol mesafesi: " + kilometers + " km");
+        }
+        return (int) meters;
+    }
+
+    public static double toKilometers(long meters) {
+        return meters / METERS_PER_KM;
+    }
+
+    // --- Satır Ekleme / Silme ---
+
+    /**
+     * Yeni satır ekler ve satır numarasını döner. Şehri henüz haritada olmayan uç için id -1 verilir.
+     */
+    public int add(int source, int target, int distanceMeters, int speedLimit, EdgeStatus status) {
+        if (speedLimit < Short.MIN_VALUE || speedLimit > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Geçersiz hız limiti: " + speedLimit);
+        }
+        if (size == sources.length) {
+            grow(size * 2);
+        }
+        int row = size++;
+        sources[row] = source;
+        targets[row] = target;
+        distances[row] = distanceMeters;
+        speedLimits[row] = (short) speedLimit;
+        statuses[row] = (byte) status.ordinal();
+        liveCount++;
+        return row;
+    }
+
+    void remove(int row) {
+        if (!isRemoved(row)) {
+            statuses[row] |= REMOVED;
+            liveCount--;
+        }
+    }
+
+    // --- Sütun Okuma ---
+
+    public int size() {
+        return size;
+    }
+
+    public int liveCount() {
+        return liveCount;
+    }
+
+    public boolean isRemoved(int row) {
+        return (statuses[row] & REMOVED) != 0;
+    }
+
+    public int getSource(int row) {
+        return sources[row];
+    }
+
+    public int getTarget(int row) {
+        return targets[row];
+    }
+
+    public int getDistanceMeters(int row) {
+        return distances[row];
+    }
+
+    public int getSpeedLimit(int row) {
+        return speedLimits[row];
+    }
+
+    public EdgeStatus getStatus(int row) {
+        return STATUSES[statuses[row] & STATUS_MASK];
+    }
+
+    byte getStatusOrdinal(int row) {
+        return (byte) (statuses[row] & STATUS_MASK);
+    }
+
+    // --- Edge Setter'ları ---
+
+    /**
+     * Satırın hız limitini değiştirir; tablo bir haritaya bağlıysa değişiklik yeni harita sürümü üretir
+     */
+    public void setSpeedLimit(int row, int speedLimit) {
+        CityMap map = owner;
+        if (map != null) {
+            map.setEdgeSpeedLimit(this, row, speedLimit);
+        } else {
+            writeSpeedLimit(row, speedLimit);
+        }
+    }
+
+    public void setStatus(int row, EdgeStatus status) {
+        CityMap map = owner;
+        if (map != null) {
+            map.setEdgeStatus(this, row, status);
+        } else {
+            writeStatus(row, status);
+        }
+    }
+
+    // --- Sütun Yazma (CityMap kilidi altında) ---
+
+    void writeSpeedLimit(int row, int speedLimit) {
+        if (speedLimit < Short.MIN_VALUE || speedLimit > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Geçersiz hız limiti: " + speedLimit);
+        }
+        speedLimits[row] = (short) speedLimit;
+    }
+
+    void writeStatus(int row, EdgeStatus status) {
+        statuses[row] = (byte) ((statuses[row] & REMOVED) | status.ordinal());
+    }
+
+    // Şehri sonradan eklenen satırın uçlarını günceller
+    void resolve(int row, int source, int target) {
+        sources[row] = source;
+        targets[row] = target;
+    }
+
+    CityMap getOwner() {
+        return owner;
+    }
+
+    void setOwner(CityMap owner) {
+        this.owner = owner;
+    }
+
+    private void allocate(int capacity) {
+        sources = new int[capacity];
+        targets = new int[capacity];
+        distances = new int[capacity];
+        speedLimits = new short[capacity];
+        statuses = new byte[capacity];
+    }
+
+    private void grow(int capacity) {
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        speedLimits = Arrays.copyOf(speedLimits, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+}
@@ -0,0 +1,270 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.builder.BulkMapBuilder;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.NodeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * GraphFile - İkili Harita Dosyası (Hızlı Açılış)
+ *
+ * AMAÇ:
+ * Haritayı MapBuilder çağrılarını tek tek tekrar oynatmadan, tek bir dosyadan
+ * saniyenin altında yüklemeyi sağlar.
+ *
+ * NE İŞE YARAR:
+ * - write(): Haritanın güncel görüntüsünü sürümlü, checksum'lı ikili dosyaya yazar
+ * - read(): Dosyayı sıralı NIO okumalarıyla tek geçişte okuyup yeni bir harita kurar
+ * - load(): Okunan haritayı mevcut haritaya atomik olarak aktarır (CityMap.swapIn)
+ * - Okuma süresi dosya boyutuyla doğrusal artar (isim araması yok, yol başına sabit iş)
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, GraphSnapshot, BulkMapBuilder, ChannelWriter, ChannelReader
+ *
+ * DOSYA YAPISI (little-endian):
+ * - Başlık: magic "NAVS", format sürümü, harita sürümü, şehir/yol sayısı,
+ *   CRC32C (başlıktan sonraki tüm byte'lar), bölüm tablosu (offset + uzunluk)
+ * - NODES       her şehir: tip (byte), enlem ve boylam (double, bilinmiyorsa NaN),
+ *               isim uzunluğu (unsigned short), UTF-8 isim
+ * - EDGES       her yol: kaynak id (int), hedef id (int)
+ * - ATTRIBUTES  sütun sütun: mesafeler (metre) int[E], hız limitleri short[E], durumlar byte[E]
+ *
+ * TUTARLILIK:
+ * Dosya haritanın tek bir sürümlü görüntüsünden yazılır; yazma sırasında gelen değişiklikler
+ * dosyaya yarım girmez. Yollar kaynak şehre göre gruplu (CSR slot sırası) yazılır,
+ * bu yüzden geri yüklenen haritanın görüntüsü (komşuluk, slotlar, öznitelikler) birebir aynıdır.
+ * Checksum ya da bölüm sınırları tutmazsa IOException fırlatılır ve mevcut harita değişmez.
+ *
+ * ÖRNEK:
+ * GraphFile.write(CityMap.getInstance(), Path.of("harita.navs"));
+ * GraphFile.load(CityMap.getInstance(), Path.of("harita.navs"));
+ */
+public final class GraphFile {
+
+    private static final int MAGIC = 0x4E415653;          // "NAVS"
+    private static final int FORMAT_VERSION = 3;
+
+    private static final int NODES = 0;
+    private static final int EDGES = 1;
+    private static final int ATTRIBUTES = 2;
+    private static final int SECTION_COUNT = 3;
+
+    // magic + format + sürüm + şehir + yol + checksum + bölüm sayısı, ardından bölüm tablosu
+    private static final int HEADER_SIZE = 40 + SECTION_COUNT * 16;
+
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private static final EdgeStatus[] EDGE_STATUSES = EdgeStatus.values();
+    private static final NodeType[] NODE_TYPES = NodeType.values();
+
+    private GraphFile() {
+    }
+
+    // --- Yazma ---
+
+    /**
+     * Haritanın güncel görüntüsünü dosyaya yazar
+     */
+    public static void write(CityMap map, Path file) throws IOException {
+        write(map.getGraph(), file);
+    }
+
+    /**
+     * Bir harita görüntüsünü dosyaya yazar (heap görüntüsü ya da bellek eşlemeli depo)
+     */
+    public static void write(IRoadGraph graph, Path file) throws IOException {
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+        long[] offsets = new long[SECTION_COUNT];
+        long[] lengths = new long[SECTION_COUNT];
+        CRC32C checksum = new CRC32C();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // Bölümler başlıktan sonra yazılır, başlık en sonda checksum ile doldurulur
+            channel.position(HEADER_SIZE);
+            ChannelWriter out = new ChannelWriter(channel, checksum);
+
+            offsets[NODES] = out.position();
+            for (int id = 0; id < nodeCount; id++) {
+                byte[] name = graph.getNodeName(id).getBytes(StandardCharsets.UTF_8);
+                if (name.length > MAX_NAME_BYTES) {
+                    throw new IOException("Şehir ismi çok uzun (" + name.length + " byte): " + graph.getNodeName(id));
+                }
+                out.putByte((byte) graph.getNodeType(id).ordinal());
+                out.putDouble(graph.getLatitude(id));
+                out.putDouble(graph.getLongitude(id));
+                out.putShort((short) name.length);
+                out.putBytes(name);
+            }
+            lengths[NODES] = out.position() - offsets[NODES];
+
+            offsets[EDGES] = out.position();
+            for (int id = 0; id < nodeCount; id++) {
+                int end = graph.outEnd(id);
+                for (int slot = graph.outBegin(id); slot < end; slot++) {
+                    out.putInt(id);
+                    out.putInt(graph.getTarget(slot));
+                }
+            }
+            lengths[EDGES] = out.position() - offsets[EDGES];
+
+            offsets[ATTRIBUTES] = out.position();
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putInt(graph.getDistanceMeters(slot));
+            }
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putShort((short) graph.getSpeedLimit(slot));
+            }
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putByte((byte) graph.getStatus(slot).ordinal());
+            }
+            lengths[ATTRIBUTES] = out.position() - offsets[ATTRIBUTES];
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putInt(FORMAT_VERSION);
+            header.putLong(graph.getVersion());
+            header.putInt(nodeCount);
+            header.putInt(edgeCount);
+            header.putLong(checksum.getValue());
+            header.putInt(SECTION_COUNT);
+            header.putInt(0);
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                header.putLong(offsets[i]);
+                header.putLong(lengths[i]);
+            }
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    // --- Okuma ---
+
+    /**
+     * Dosyayı okuyup mevcut haritaya atomik olarak aktarır.
+     * Okuma sırasında rota sorguları eski haritayla çalışmaya devam eder.
+     */
+    public static void load(CityMap map, Path file) throws IOException {
+        map.swapIn(read(file));
+    }
+
+    /**
+     * Dosyayı baştan sona tek geçişte okuyup yeni (singleton'dan bağımsız) bir harita döner
+     */
+    public static CityMap read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ChannelReader header = new ChannelReader(channel, null);
+            if (channel.size() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("Geçersiz harita dosyası (magic uyuşmuyor): " + file);
+            }
+            int formatVersion = header.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Desteklenmeyen harita dosyası sürümü " + formatVersion + ": " + file);
+            }
+            header.getLong();                       // Yazıldığı andaki harita sürümü (bilgi amaçlı)
+            int nodeCount = header.getInt();
+            int edgeCount = header.getInt();
+            long expectedChecksum = header.getLong();
+            if (nodeCount < 0 || edgeCount < 0 || header.getInt() != SECTION_COUNT) {
+                throw new IOException("Geçersiz harita dosyası (başlık bozuk): " + file);
+            }
+            header.getInt();
+            long[] offsets = new long[SECTION_COUNT];
+            long[] lengths = new long[SECTION_COUNT];
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                offsets[i] = header.getLong();
+                lengths[i] = header.getLong();
+            }
+
+            CRC32C checksum = new CRC32C();
+            channel.position(HEADER_SIZE);
+            ChannelReader in = new ChannelReader(channel, checksum);
+
+            requireSection(in, offsets[NODES], file);
+            BulkMapBuilder builder = new BulkMapBuilder(nodeCount, edgeCount);
+            try {
+                for (int id = 0; id < nodeCount; id++) {
+                    int type = in.getByte();
+                    double latitude = in.getDouble();
+                    double longitude = in.getDouble();
+                    byte[] name = new byte[in.getShort() & 0xFFFF];
+                    in.getBytes(name);
+                    if (type < 0 || type >= NODE_TYPES.length) {
+                        throw new IOException("Geçersiz harita dosyası (şehir tipi " + type + "): " + file);
+                    }
+                    builder.addNode(new String(name, StandardCharsets.UTF_8), NODE_TYPES[type], latitude, longitude);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Geçersiz harita dosyası (" + e.getMessage() + "): " + file, e);
+            }
+            requireSectionEnd(in, offsets[NODES] + lengths[NODES], file);
+
+            requireSection(in, offsets[EDGES], file);
+            int[] sources = new int[edgeCount];
+            int[] targets = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                sources[i] = in.getInt();
+                targets[i] = in.getInt();
+                if (sources[i] < 0 || sources[i] >= nodeCount || targets[i] < 0 || targets[i] >= nodeCount) {
+                    throw new IOException("Geçersiz harita dosyası (yol " + i + " şehir id'si sınır dışı): " + file);
+                }
+            }
+            requireSectionEnd(in, offsets[EDGES] + lengths[EDGES], file);
+
+            // Öznitelikler sütun sütun yazıldığı için önce sütunlar okunur, sonra yollar eklenir
+            requireSection(in, offsets[ATTRIBUTES], file);
+            int[] distances = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                distances[i] = in.getInt();
+                if (distances[i] < 0) {
+                    throw new IOException("Geçersiz harita dosyası (yol " + i + " mesafesi negatif): " + file);
+                }
+            }
+            short[] speedLimits = new short[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                speedLimits[i] = in.getShort();
+            }
+            byte[] statuses = new byte[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                statuses[i] = in.getByte();
+                if (statuses[i] < 0 || statuses[i] >= EDGE_STATUSES.length) {
+                    throw new IOException("Geçersiz harita dosyası (yol durumu " + statuses[i] + "): " + file);
+                }
+            }
+            requireSectionEnd(in, offsets[ATTRIBUTES] + lengths[ATTRIBUTES], file);
+
+            if (in.position() != channel.size() || checksum.getValue() != expectedChecksum) {
+                throw new IOException("Harita dosyası bozuk (checksum uyuşmuyor): " + file);
+            }
+
+            for (int i = 0; i < edgeCount; i++) {
+                builder.addEdgeMeters(sources[i], targets[i], distances[i], speedLimits[i], EDGE_STATUSES[statuses[i]]);
+            }
+            return builder.build();
+        }
+    }
+
+    // Bölümler sırayla ve boşluksuz yazılır; okuyucu her bölümün başında beklenen konumda olmalı
+    private static void requireSection(ChannelReader in, long offset, Path file) throws IOException {
+        if (in.position() != offset) {
+            throw new IOException("Geçersiz harita dosyası (bölüm konumu " + offset + "): " + file);
+        }
+    }
+
+    private static void requireSectionEnd(ChannelReader in, long end, Path file) throws IOException {
+        if (in.position() != end) {
+            throw new IOException("Geçersiz harita dosyası (bölüm sonu " + end + "): " + file);
+        }
+    }
+}
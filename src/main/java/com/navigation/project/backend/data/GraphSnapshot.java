@@ -0,0 +1,356 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GraphSnapshot - Değiştirilemez, Sürüm Numaralı Harita Görüntüsü
+ *
+ * AMAÇ:
+ * Rota sorgularının, yönetici komutları haritayı değiştirirken bile
+ * tutarlı (yarım uygulanmış değişiklik görmeyen) bir haritada çalışmasını sağlar.
+ *
+ * NE İŞE YARAR:
+ * - CSR komşuluğunu tutar (çıkış offset + hedef dizileri, giriş için ters CSR)
+ * - Yol özniteliklerinin (mesafe, hız, durum) o andaki KOPYASINI primitive dizilerde tutar
+ * - Sürüm numarası taşır (her yazma işlemi yeni sürüm üretir)
+ * - Sorgu başında bir kez alınır, sorgu boyunca hep aynı görüntü kullanılır
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, EdgeTable, IRoadGraph, DijkstraStrategy
+ *
+ * YAPI:
+ * - Topology: şehirler + CSR dizileri + slot → yol tablosu satırı
+ *   (sadece şehir/yol eklenip silinince yeniden kurulur)
+ * - Öznitelik dizileri: slot sırasıyla mesafe (metre), hız limiti, durum
+ *   (EdgeTable sütunlarından slot sırasına toplanır, nesne takibi yoktur)
+ * Sadece hız/durum değiştiyse yeni sürüm eski Topology'yi paylaşır.
+ *
+ * BELLEK:
+ * Eski sürümler için ayrıca bir serbest bırakma işlemi yoktur.
+ * Hiçbir sorgu referans tutmadığında çöp toplayıcı tarafından toplanır.
+ *
+ * ÖRNEK:
+ * GraphSnapshot graph = CityMap.getInstance().snapshot();
+ * for (int slot = graph.outBegin(id); slot < graph.outEnd(id); slot++) {
+ *     int neighbour = graph.getTarget(slot);
+ * }
+ */
+public final class GraphSnapshot implements IRoadGraph {
+
+    private static final EdgeStatus[] STATUSES = EdgeStatus.values();
+
+    // nextAttributeChange'in bir seferde karşılaştırdığı slot sayısı
+    private static final int DIFF_BLOCK = 4096;
+
+    private final long version;
+    private final Topology topology;
+
+    // Slot sırasıyla yol öznitelikleri (kopya, sonradan değişmez)
+    private final int[] distances;
+    private final short[] speedLimits;
+    private final byte[] statuses;
+
+    private GraphSnapshot(long version, Topology topology, int[] distances, short[] speedLimits, byte[] statuses) {
+        this.version = version;
+        this.topology = topology;
+        this.distances = distances;
+        this.speedLimits = speedLimits;
+        this.statuses = statuses;
+    }
+
+    /**
+     * Şehir defteri ve yol tablosundan yeni bir görüntü kurar.
+     * reuse null değilse (yapı değişmediyse) komşuluk yeniden kurulmaz.
+     */
+    static GraphSnapshot build(long version, NodeRegistry registry, EdgeTable table, GraphSnapshot reuse) {
+        Topology topology = reuse != null ? reuse.topology : Topology.build(registry, table);
+
+        int[] slotRows = topology.slotRows;
+        int[] distances = new int[slotRows.length];
+        short[] speedLimits = new short[slotRows.length];
+        byte[] statuses = new byte[slotRows.length];
+        for (int slot = 0; slot < slotRows.length; slot++) {
+            int row = slotRows[slot];
+            distances[slot] = table.getDistanceMeters(row);
+            speedLimits[slot] = (short) table.getSpeedLimit(row);
+            statuses[slot] = table.getStatusOrdinal(row);
+        }
+        return new GraphSnapshot(version, topology, distances, speedLimits, statuses);
+    }
+
+    /**
+     * Aynı içeriği farklı sürüm numarasıyla döner (hazırlanan haritayı devreye alırken kullanılır)
+     */
+    GraphSnapshot withVersion(long newVersion) {
+        return new GraphSnapshot(newVersion, topology, distances, speedLimits, statuses);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    // --- Şehirler ---
+
+    @Override
+    public int getNodeCount() {
+        return topology.nodes.length;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return topology.outTargets.length;
+    }
+
+    @Override
+    public Node getNode(int id) {
+        return topology.nodes[id];
+    }
+
+    @Override
+    public String getNodeName(int id) {
+        return topology.nodes[id].getName();
+    }
+
+    @Override
+    public NodeType getNodeType(int id) {
+        return topology.nodes[id].getType();
+    }
+
+    @Override
+    public double getLatitude(int id) {
+        return topology.coordinates[2 * id];
+    }
+
+    @Override
+    public double getLongitude(int id) {
+        return topology.coordinates[2 * id + 1];
+    }
+
+    @Override
+    public int idOf(Node node) {
+        int id = node.getId();
+        if (id >= 0 && id < topology.nodes.length && topology.nodes[id].equals(node)) {
+            return id;
+        }
+        return idOf(node.getName());
+    }
+
+    @Override
+    public int idOf(String name) {
+        Integer id = topology.idsByName.get(name);
+        return id == null ? -1 : id;
+    }
+
+    // --- Çıkış komşuluğu (CSR) ---
+
+    @Override
+    public int outBegin(int id) {
+        return topology.outOffsets[id];
+    }
+
+    @Override
+    public int outEnd(int id) {
+        return topology.outOffsets[id + 1];
+    }
+
+    @Override
+    public int getTarget(int slot) {
+        return topology.outTargets[slot];
+    }
+
+    // --- Giriş komşuluğu (ters CSR) ---
+
+    @Override
+    public int inBegin(int id) {
+        return topology.inOffsets[id];
+    }
+
+    @Override
+    public int inEnd(int id) {
+        return topology.inOffsets[id + 1];
+    }
+
+    @Override
+    public int getInSource(int position) {
+        return topology.inSources[position];
+    }
+
+    @Override
+    public int getInSlot(int position) {
+        return topology.inSlots[position];
+    }
+
+    // --- Yol öznitelikleri ---
+
+    @Override
+    public int getDistanceMeters(int slot) {
+        return distances[slot];
+    }
+
+    @Override
+    public int getSpeedLimit(int slot) {
+        return speedLimits[slot];
+    }
+
+    @Override
+    public EdgeStatus getStatus(int slot) {
+        return STATUSES[statuses[slot]];
+    }
+
+    @Override
+    public boolean isOpen(int slot) {
+        return statuses[slot] == EdgeStatus.OPEN.ordinal();
+    }
+
+    /**
+     * Slotun CityMap yol tablosundaki satırı (CityMap, Edge görünümünü bu satırdan oluşturur).
+     * Öznitelikler için tablo değil, görüntünün kendi dizileri kullanılmalıdır.
+     */
+    public int getRow(int slot) {
+        return topology.slotRows[slot];
+    }
+
+    @Override
+    public boolean sharesTopology(IRoadGraph other) {
+        return other == this || (other instanceof GraphSnapshot && ((GraphSnapshot) other).topology == topology);
+    }
+
+    // Diziler blok blok Arrays.mismatch ile (vektörel) karşılaştırılır
+    @Override
+    public int nextAttributeChange(IRoadGraph other, int fromSlot) {
+        if (!(other instanceof GraphSnapshot)) {
+            return IRoadGraph.super.nextAttributeChange(other, fromSlot);
+        }
+        GraphSnapshot snapshot = (GraphSnapshot) other;
+        int count = distances.length;
+        for (int begin = fromSlot; begin < count; begin += DIFF_BLOCK) {
+            int end = Math.min(count, begin + DIFF_BLOCK);
+            int first = end;
+            int mismatch = Arrays.mismatch(speedLimits, begin, end, snapshot.speedLimits, begin, end);
+            if (mismatch >= 0) {
+                first = begin + mismatch;
+            }
+            mismatch = Arrays.mismatch(statuses, begin, first, snapshot.statuses, begin, first);
+            if (mismatch >= 0) {
+                first = begin + mismatch;
+            }
+            mismatch = Arrays.mismatch(distances, begin, first, snapshot.distances, begin, first);
+            if (mismatch >= 0) {
+                first = begin + mismatch;
+            }
+            if (first < end) {
+                return first;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Şehirler ve CSR dizileri. Yapı değişmedikçe sürümler arasında paylaşılır.
+     */
+    private static final class Topology {
+        private final Node[] nodes;
+        private final Map<String, Integer> idsByName;
+        private final double[] coordinates;     // id başına (enlem, boylam); A* sezgiseli Node'a gitmeden okur
+
+        private final int[] outOffsets;
+        private final int[] outTargets;
+        private final int[] slotRows;
+
+        private final int[] inOffsets;
+        private final int[] inSources;
+        private final int[] inSlots;
+
+        private Topology(Node[] nodes, Map<String, Integer> idsByName, double[] coordinates, int[] outOffsets,
+                         int[] outTargets, int[] slotRows, int[] inOffsets, int[] inSources, int[] inSlots) {
+            this.nodes = nodes;
+            this.idsByName = idsByName;
+            this.coordinates = coordinates;
+            this.outOffsets = outOffsets;
+            this.outTargets = outTargets;
+            this.slotRows = slotRows;
+            this.inOffsets = inOffsets;
+            this.inSources = inSources;
+            this.inSlots = inSlots;
+        }
+
+        /**
+         * CSR dizilerini yol tablosunun kaynak/hedef sütunlarından counting-sort ile O(V + E) sürede kurar.
+         * Aynı şehrin yolları ekleme sırasını korur; silinmiş satırlar atlanır.
+         */
+        static Topology build(NodeRegistry registry, EdgeTable table) {
+            int nodeCount = registry.size();
+            Node[] nodes = registry.asList().toArray(new Node[0]);
+            Map<String, Integer> idsByName = new HashMap<>(nodeCount * 4 / 3 + 1);
+            double[] coordinates = new double[2 * nodeCount];
+            for (int id = 0; id < nodeCount; id++) {
+                idsByName.put(nodes[id].getName(), id);
+                coordinates[2 * id] = nodes[id].getLatitude();
+                coordinates[2 * id + 1] = nodes[id].getLongitude();
+            }
+
+            int rows = table.size();
+            int[] outOffsets = new int[nodeCount + 1];
+            int[] inOffsets = new int[nodeCount + 1];
+            int validEdges = 0;
+
+            for (int row = 0; row < rows; row++) {
+                // Silinmiş ya da haritaya eklenmemiş şehirlere bağlı yollar komşuluğa girmez
+                if (!isRoutable(table, row)) {
+                    continue;
+                }
+                outOffsets[table.getSource(row) + 1]++;
+                inOffsets[table.getTarget(row) + 1]++;
+                validEdges++;
+            }
+
+            // Prefix toplamı ile offset dizileri
+            for (int i = 0; i < nodeCount; i++) {
+                outOffsets[i + 1] += outOffsets[i];
+                inOffsets[i + 1] += inOffsets[i];
+            }
+
+            int[] outTargets = new int[validEdges];
+            int[] slotRows = new int[validEdges];
+            int[] outCursor = new int[nodeCount];
+            System.arraycopy(outOffsets, 0, outCursor, 0, nodeCount);
+
+            for (int row = 0; row < rows; row++) {
+                if (!isRoutable(table, row)) {
+                    continue;
+                }
+                int slot = outCursor[table.getSource(row)]++;
+                outTargets[slot] = table.getTarget(row);
+                slotRows[slot] = row;
+            }
+
+            // Ters CSR: slot sırasıyla gezilir, böylece aynı hedefin girişleri de ekleme sırasını korur
+            int[] inSources = new int[validEdges];
+            int[] inSlots = new int[validEdges];
+            int[] inCursor = new int[nodeCount];
+            System.arraycopy(inOffsets, 0, inCursor, 0, nodeCount);
+
+            for (int source = 0; source < nodeCount; source++) {
+                for (int slot = outOffsets[source]; slot < outOffsets[source + 1]; slot++) {
+                    int position = inCursor[outTargets[slot]]++;
+                    inSources[position] = source;
+                    inSlots[position] = slot;
+                }
+            }
+
+            return new Topology(nodes, Collections.unmodifiableMap(idsByName), coordinates, outOffsets, outTargets,
+                    slotRows, inOffsets, inSources, inSlots);
+        }
+
+        private static boolean isRoutable(EdgeTable table, int row) {
+            return !table.isRemoved(row) && table.getSource(row) >= 0 && table.getTarget(row) >= 0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+
+/**
+ * IRoadGraph - Rota Motorlarının Okuduğu Harita Arayüzü
+ *
+ * AMAÇ:
+ * Rota algoritmalarının haritayı nerede tutulduğundan bağımsız okumasını sağlar.
+ *
+ * NE İŞE YARAR:
+ * - Şehirler yoğun int id ile, yollar CSR slot numarası ile adreslenir
+ * - Komşuluk, mesafe, hız ve durum bilgisi primitive değerler olarak okunur
+ * - Algoritma döngüsünde Node/Edge nesnesi üretilmez; sadece sonuç rotası için getNode() çağrılır
+ * - Her görüntü değiştirilemezdir ve bir sürüm numarası taşır
+ *
+ * İMPLEMENTASYONLAR:
+ * - GraphSnapshot: Heap üzerindeki CSR görüntüsü (CityMap.snapshot())
+ * - MappedGraphStore: Bellek eşlemeli (memory-mapped) dosya, ülke ölçeğinde haritalar için
+ * - CompressedGraph: Varint/sözlük kodlu görüntü, küçük heap'li cihazlar için
+ *
+ * KULLANIM:
+ * IRoadGraph graph = CityMap.getInstance().getGraph();
+ * for (int slot = graph.outBegin(id); slot < graph.outEnd(id); slot++) {
+ *     if (graph.isOpen(slot)) { int next = graph.getTarget(slot); }
+ * }
+ */
+public interface IRoadGraph {
+
+    long getVersion();
+
+    int getNodeCount();
+
+    int getEdgeCount();
+
+    // --- Şehirler ---
+
+    // Sonuç rotası için Node nesnesi döner
+    Node getNode(int id);
+
+    String getNodeName(int id);
+
+    NodeType getNodeType(int id);
+
+    // Node'un bu görüntüdeki id'si, yoksa -1
+    int idOf(Node node);
+
+    int idOf(String name);
+
+    // Enlem / boylam (derece); konumu bilinmeyen şehirde NaN
+    default double getLatitude(int id) {
+        return getNode(id).getLatitude();
+    }
+
+    default double getLongitude(int id) {
+        return getNode(id).getLongitude();
+    }
+
+    // --- Çıkış komşuluğu (CSR) ---
+
+    int outBegin(int id);
+
+    int outEnd(int id);
+
+    int getTarget(int slot);
+
+    // --- Giriş komşuluğu (ters CSR) ---
+
+    int inBegin(int id);
+
+    int inEnd(int id);
+
+    // Ters CSR'deki konumun kaynak şehri
+    int getInSource(int position);
+
+    // Ters CSR'deki konumun çıkış slotu (öznitelikler bu slottan okunur)
+    int getInSlot(int position);
+
+    /**
+     * Şehrin çıkış hedeflerini slot sırasıyla buffer'a yazar ve sayısını (outEnd - outBegin) döner.
+     * Rota döngüleri komşuları bununla okur; sıkıştırılmış görüntü listeyi tek geçişte çözer.
+     * buffer en az şehrin çıkış sayısı kadar uzun olmalıdır.
+     */
+    default int loadTargets(int id, int[] buffer) {
+        int begin = outBegin(id);
+        int count = outEnd(id) - begin;
+        for (int i = 0; i < count; i++) {
+            buffer[i] = getTarget(begin + i);
+        }
+        return count;
+    }
+
+    // --- Yol öznitelikleri ---
+
+    // Mesafe, sabit noktalı tam sayı metre (rota döngüleri bunu kullanır)
+    int getDistanceMeters(int slot);
+
+    // Mesafe (km)
+    default double getDistance(int slot) {
+        return EdgeTable.toKilometers(getDistanceMeters(slot));
+    }
+
+    int getSpeedLimit(int slot);
+
+    EdgeStatus getStatus(int slot);
+
+    boolean isOpen(int slot);
+
+    /**
+     * Diğer görüntüyle aynı şehirleri ve CSR dizilerini paylaşıyor mu? (sadece hız/durum farkı)
+     * true ise yapı kesin aynıdır; false ise yapı yine de aynı olabilir, ayrıca karşılaştırılmalıdır.
+     */
+    default boolean sharesTopology(IRoadGraph other) {
+        return other == this;
+    }
+
+    /**
+     * fromSlot'tan itibaren mesafesi, hız limiti ya da durumu diğer görüntüden farklı olan ilk slot,
+     * yoksa -1. Sadece sharesTopology(other) true iken anlamlıdır (slotlar aynı yolu gösterir).
+     */
+    default int nextAttributeChange(IRoadGraph other, int fromSlot) {
+        int count = getEdgeCount();
+        for (int slot = fromSlot; slot < count; slot++) {
+            if (getDistanceMeters(slot) != other.getDistanceMeters(slot)
+                    || getSpeedLimit(slot) != other.getSpeedLimit(slot) || getStatus(slot) != other.getStatus(slot)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * İsme göre şehir, yoksa null
+     */
+    default Node findNode(String name) {
+        int id = idOf(name);
+        return id < 0 ? null : getNode(id);
+    }
+
+    /**
+     * İki şehir arasındaki ilk yolun slotu, yoksa -1 (kaynağın çıkışları gezilir)
+     */
+    default int findSlot(int fromId, int toId) {
+        int end = outEnd(fromId);
+        for (int slot = outBegin(fromId); slot < end; slot++) {
+            if (getTarget(slot) == toId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+}
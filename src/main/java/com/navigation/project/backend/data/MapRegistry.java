@@ -0,0 +1,119 @@
+package com.navigation.project.backend.data;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MapRegistry - Bölgesel Harita Kayıt Defteri
+ *
+ * AMAÇ:
+ * Tek bir JVM'de birden fazla bağımsız haritayı (bölge ya da kiracı) anahtarıyla tutar.
+ *
+ * NE İŞE YARAR:
+ * - Her bölgenin kendi CityMap'i, kendi kilidi ve kendi sürümlü görüntüleri vardır
+ * - Bölge araması ConcurrentHashMap üzerinden kilitsizdir; bölgeler ortak kilit paylaşmaz,
+ *   farklı çekirdeklerde birbirini beklemeden sorgulanır ve güncellenir
+ * - Rota stratejileri ve facade belirli bir bölgenin haritasına bağlanır
+ * - CityMap.getInstance() paylaşılan defterin varsayılan bölgesidir (geriye uyumluluk)
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, NavigationFacade, DijkstraStrategy, CrossRegionRouter
+ *
+ * TEMEL METODLAR:
+ * - getOrCreate(region): Bölgenin haritası, yoksa boş harita oluşturup kaydeder
+ * - get(region) / require(region): Kayıtlı harita (yoksa null / IllegalArgumentException)
+ * - register(region, map): Hazırlanmış bir haritayı bölge olarak kaydeder
+ * - remove(region): Bölgeyi defterden çıkarır (varsayılan bölge çıkarılamaz)
+ *
+ * ÖRNEK:
+ * MapRegistry registry = MapRegistry.shared();
+ * CityMap marmara = registry.getOrCreate("marmara");
+ * NavigationFacade facade = new NavigationFacade(marmara);
+ */
+public final class MapRegistry {
+
+    // CityMap.getInstance() bu bölgenin haritasını döner
+    public static final String DEFAULT_REGION = "default";
+
+    // Uygulama genelindeki defter (sınıf yüklenirken bir kez oluşturulur, erişim kilitsizdir)
+    private static final MapRegistry SHARED = new MapRegistry();
+
+    private final ConcurrentHashMap<String, CityMap> maps = new ConcurrentHashMap<>();
+
+    public static MapRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Bölgenin haritasını döner; yoksa boş bir harita oluşturup kaydeder
+     */
+    public CityMap getOrCreate(String region) {
+        CityMap map = maps.get(requireName(region));
+        if (map != null) {
+            return map;
+        }
+        return maps.computeIfAbsent(region, name -> CityMap.create());
+    }
+
+    /**
+     * Bölgenin haritası, kayıtlı değilse null
+     */
+    public CityMap get(String region) {
+        return maps.get(requireName(region));
+    }
+
+    /**
+     * Bölgenin haritası, kayıtlı değilse IllegalArgumentException
+     */
+    public CityMap require(String region) {
+        CityMap map = get(region);
+        if (map == null) {
+            throw new IllegalArgumentException("Bölge bulunamadı: " + region);
+        }
+        return map;
+    }
+
+    /**
+     * Hazırlanmış bir haritayı bölge olarak kaydeder. Bölge zaten varsa IllegalArgumentException;
+     * var olan bölgenin içeriği CityMap.swapIn() ile güncellenir.
+     */
+    public void register(String region, CityMap map) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz: " + region);
+        }
+        if (maps.putIfAbsent(requireName(region), map) != null) {
+            throw new IllegalArgumentException("Bölge zaten kayıtlı: " + region);
+        }
+    }
+
+    /**
+     * Bölgeyi defterden çıkarır ve haritasını döner (yoksa null).
+     * Varsayılan bölge singleton garantisi için çıkarılamaz.
+     */
+    public CityMap remove(String region) {
+        if (DEFAULT_REGION.equals(region)) {
+            throw new IllegalArgumentException("Varsayılan bölge çıkarılamaz");
+        }
+        return maps.remove(requireName(region));
+    }
+
+    public boolean contains(String region) {
+        return maps.containsKey(requireName(region));
+    }
+
+    // Kayıtlı bölgeler (canlı, değiştirilemez görünüm)
+    public Set<String> getRegions() {
+        return Collections.unmodifiableSet(maps.keySet());
+    }
+
+    public int size() {
+        return maps.size();
+    }
+
+    private static String requireName(String region) {
+        if (region == null || region.isBlank()) {
+            throw new IllegalArgumentException("Bölge adı boş olamaz");
+        }
+        return region;
+    }
+}
@@ -0,0 +1,468 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * MappedGraphStore - Bellek Eşlemeli (Off-Heap) Harita Deposu
+ *
+ * AMAÇ:
+ * Heap'e sığmayan ülke ölçeğindeki haritaları dosyadan, bellek eşleme (MappedByteBuffer) ile okur.
+ * Harita verisi JVM heap'inde değil, işletim sisteminin sayfa önbelleğinde durur.
+ *
+ * NE İŞE YARAR:
+ * - CSR komşuluğu ve yol öznitelikleri dosyadaki primitive dizilerden doğrudan okunur
+ * - Sorgu sırasında Node/Edge nesnesi üretilmez (sadece sonuç rotasındaki şehirler için)
+ * - Heap kullanımı harita büyüdükçe sabit kalır (sadece bölüm başına birkaç buffer nesnesi)
+ * - Aynı dosyayı açan birden çok JVM aynı fiziksel sayfaları paylaşır
+ * - İsimden id araması dosyadaki sıralı isim dizisinde ikili arama ile yapılır (O(log V))
+ *
+ * İLİŞKİLİ SINIFLAR: IRoadGraph, GraphSnapshot, CityMap, ChannelWriter
+ *
+ * DOSYA YAPISI (little-endian, her bölüm 8 byte hizalı):
+ * - Başlık: magic "NAVG", format sürümü, harita sürümü, şehir/yol sayısı, bölüm tablosu (offset + uzunluk)
+ * - NODE_TYPES    byte[V]    şehir tipi (NodeType ordinal)
+ * - NAME_OFFSETS  int[V+1]   isimlerin NAME_BYTES içindeki başlangıçları
+ * - NAME_BYTES    byte[]     UTF-8 isimler
+ * - NAME_ORDER    int[V]     isimlerine göre (UTF-8 byte sırası) sıralı id'ler
+ * - OUT_OFFSETS   int[V+1]   CSR çıkış offsetleri
+ * - OUT_TARGETS   int[E]     slot → hedef id
+ * - IN_OFFSETS    int[V+1]   ters CSR offsetleri
+ * - IN_SOURCES    int[E]     ters CSR kaynak id'leri
+ * - IN_SLOTS      int[E]     ters CSR → çıkış slotu
+ * - DISTANCES     int[E]     slot → mesafe (metre)
+ * - SPEED_LIMITS  short[E]   slot → hız limiti
+ * - STATUSES      byte[E]    slot → EdgeStatus ordinal
+ * - COORDINATES   double[2V] id → (enlem, boylam), bilinmiyorsa NaN
+ *
+ * DEĞİŞİKLİKLER:
+ * Depo salt-okunurdur (değiştirilemez görüntü, GraphSnapshot ile aynı garanti).
+ * Güncel hız/durum bilgisi için yeni dosya yazılır ve CityMap.attachStore() ile devreye alınır.
+ *
+ * SINIRLAR:
+ * Her bölüm tek bir MappedByteBuffer ile eşlenir, bu yüzden bölüm başına en fazla 2 GB
+ * (int bölümler için ~536 milyon yol). Eşleme, buffer çöp toplayıcı tarafından toplanınca bırakılır.
+ *
+ * ÖRNEK:
+ * MappedGraphStore.write(CityMap.getInstance().snapshot(), Path.of("turkiye.navg"));
+ * MappedGraphStore store = MappedGraphStore.open(Path.of("turkiye.navg"));
+ * CityMap.getInstance().attachStore(store);
+ */
+public final class MappedGraphStore implements IRoadGraph {
+
+    private static final int MAGIC = 0x4E415647;          // "NAVG"
+    private static final int FORMAT_VERSION = 3;
+
+    // Bölüm sırası (dosyadaki bölüm tablosu bu sırayla yazılır)
+    private static final int NODE_TYPES = 0;
+    private static final int NAME_OFFSETS = 1;
+    private static final int NAME_BYTES = 2;
+    private static final int NAME_ORDER = 3;
+    private static final int OUT_OFFSETS = 4;
+    private static final int OUT_TARGETS = 5;
+    private static final int IN_OFFSETS = 6;
+    private static final int IN_SOURCES = 7;
+    private static final int IN_SLOTS = 8;
+    private static final int DISTANCES = 9;
+    private static final int SPEED_LIMITS = 10;
+    private static final int STATUSES = 11;
+    private static final int COORDINATES = 12;
+    private static final int SECTION_COUNT = 13;
+
+    // magic + format + sürüm + şehir + yol + bölüm sayısı, ardından bölüm tablosu
+    private static final int HEADER_SIZE = 32 + SECTION_COUNT * 16;
+
+    private static final EdgeStatus[] EDGE_STATUSES = EdgeStatus.values();
+    private static final NodeType[] NODE_TYPE_VALUES = NodeType.values();
+
+    private final long version;
+    private final int nodeCount;
+    private final int edgeCount;
+
+    private final ByteBuffer nodeTypes;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer nameBytes;
+    private final IntBuffer nameOrder;
+
+    private final IntBuffer outOffsets;
+    private final IntBuffer outTargets;
+    private final IntBuffer inOffsets;
+    private final IntBuffer inSources;
+    private final IntBuffer inSlots;
+
+    private final IntBuffer distances;
+    private final ShortBuffer speedLimits;
+    private final ByteBuffer statuses;
+
+    private final DoubleBuffer coordinates;
+
+    private MappedGraphStore(long version, int nodeCount, int edgeCount, ByteBuffer[] sections) {
+        this.version = version;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.nodeTypes = sections[NODE_TYPES];
+        this.nameOffsets = sections[NAME_OFFSETS].asIntBuffer();
+        this.nameBytes = sections[NAME_BYTES];
+        this.nameOrder = sections[NAME_ORDER].asIntBuffer();
+        this.outOffsets = sections[OUT_OFFSETS].asIntBuffer();
+        this.outTargets = sections[OUT_TARGETS].asIntBuffer();
+        this.inOffsets = sections[IN_OFFSETS].asIntBuffer();
+        this.inSources = sections[IN_SOURCES].asIntBuffer();
+        this.inSlots = sections[IN_SLOTS].asIntBuffer();
+        this.distances = sections[DISTANCES].asIntBuffer();
+        this.speedLimits = sections[SPEED_LIMITS].asShortBuffer();
+        this.statuses = sections[STATUSES];
+        this.coordinates = sections[COORDINATES].asDoubleBuffer();
+    }
+
+    // --- Dosya Açma ---
+
+    /**
+     * Harita dosyasını salt-okunur olarak eşler.
+     * Dosya içeriği okunmaz; sayfalar ilk erişimde işletim sistemi tarafından yüklenir.
+     */
+    public static MappedGraphStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Geçersiz harita dosyası (başlık eksik): " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Geçersiz harita dosyası (magic uyuşmuyor): " + file);
+            }
+            if (header.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Desteklenmeyen harita dosyası sürümü " + header.getInt(4) + ": " + file);
+            }
+            long version = header.getLong(8);
+            int nodeCount = header.getInt(16);
+            int edgeCount = header.getInt(20);
+            if (header.getInt(24) != SECTION_COUNT) {
+                throw new IOException("Geçersiz harita dosyası (bölüm sayısı): " + file);
+            }
+
+            // Kanal kapansa da eşlemeler geçerli kalır
+            ByteBuffer[] sections = new ByteBuffer[SECTION_COUNT];
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                long offset = header.getLong(32 + i * 16);
+                long length = header.getLong(40 + i * 16);
+                if (offset < HEADER_SIZE || length > Integer.MAX_VALUE || offset + length > channel.size()) {
+                    throw new IOException("Geçersiz harita dosyası (bölüm " + i + " sınır dışı): " + file);
+                }
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedGraphStore(version, nodeCount, edgeCount, sections);
+        }
+    }
+
+    // --- Dosya Yazma ---
+
+    /**
+     * Bir harita görüntüsünü bellek eşlemeli depo dosyası olarak yazar.
+     * Dosya sırayla, sabit boyutlu bir tampon üzerinden yazılır.
+     */
+    public static void write(IRoadGraph graph, Path file) throws IOException {
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+
+        // İsimler UTF-8 olarak bir kez kodlanır; ikili arama için byte sırasına göre sıralanır
+        byte[][] names = new byte[nodeCount][];
+        long nameLength = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            names[id] = graph.getNodeName(id).getBytes(StandardCharsets.UTF_8);
+            nameLength += names[id].length;
+        }
+        if (nameLength > Integer.MAX_VALUE) {
+            throw new IOException("Şehir isimleri tek bölüme sığmıyor: " + nameLength + " byte");
+        }
+        Integer[] order = new Integer[nodeCount];
+        for (int id = 0; id < nodeCount; id++) {
+            order[id] = id;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(names[a], names[b]));
+
+        long[] lengths = new long[SECTION_COUNT];
+        lengths[NODE_TYPES] = nodeCount;
+        lengths[NAME_OFFSETS] = (nodeCount + 1L) * Integer.BYTES;
+        lengths[NAME_BYTES] = nameLength;
+        lengths[NAME_ORDER] = (long) nodeCount * Integer.BYTES;
+        lengths[OUT_OFFSETS] = (nodeCount + 1L) * Integer.BYTES;
+        lengths[OUT_TARGETS] = (long) edgeCount * Integer.BYTES;
+        lengths[IN_OFFSETS] = (nodeCount + 1L) * Integer.BYTES;
+        lengths[IN_SOURCES] = (long) edgeCount * Integer.BYTES;
+        lengths[IN_SLOTS] = (long) edgeCount * Integer.BYTES;
+        lengths[DISTANCES] = (long) edgeCount * Integer.BYTES;
+        lengths[SPEED_LIMITS] = (long) edgeCount * Short.BYTES;
+        lengths[STATUSES] = edgeCount;
+        lengths[COORDINATES] = 2L * nodeCount * Double.BYTES;
+
+        long[] offsets = new long[SECTION_COUNT];
+        long fileOffset = HEADER_SIZE;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            if (lengths[i] > Integer.MAX_VALUE) {
+                throw new IOException("Harita bölümü " + i + " eşleme sınırını (2 GB) aşıyor");
+            }
+            offsets[i] = fileOffset;
+            fileOffset = align(fileOffset + lengths[i]);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ChannelWriter out = new ChannelWriter(channel, null);
+
+            out.putInt(MAGIC);
+            out.putInt(FORMAT_VERSION);
+            out.putLong(graph.getVersion());
+            out.putInt(nodeCount);
+            out.putInt(edgeCount);
+            out.putInt(SECTION_COUNT);
+            out.putInt(0);
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                out.putLong(offsets[i]);
+                out.putLong(lengths[i]);
+            }
+
+            for (int id = 0; id < nodeCount; id++) {
+                out.putByte((byte) graph.getNodeType(id).ordinal());
+            }
+            out.align();
+
+            int nameOffset = 0;
+            for (int id = 0; id < nodeCount; id++) {
+                out.putInt(nameOffset);
+                nameOffset += names[id].length;
+            }
+            out.putInt(nameOffset);
+            out.align();
+
+            for (byte[] name : names) {
+                out.putBytes(name);
+            }
+            out.align();
+
+            for (Integer id : order) {
+                out.putInt(id);
+            }
+            out.align();
+
+            for (int id = 0; id <= nodeCount; id++) {
+                out.putInt(id < nodeCount ? graph.outBegin(id) : edgeCount);
+            }
+            out.align();
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putInt(graph.getTarget(slot));
+            }
+            out.align();
+
+            for (int id = 0; id <= nodeCount; id++) {
+                out.putInt(id < nodeCount ? graph.inBegin(id) : edgeCount);
+            }
+            out.align();
+            for (int position = 0; position < edgeCount; position++) {
+                out.putInt(graph.getInSource(position));
+            }
+            out.align();
+            for (int position = 0; position < edgeCount; position++) {
+                out.putInt(graph.getInSlot(position));
+            }
+            out.align();
+
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putInt(graph.getDistanceMeters(slot));
+            }
+            out.align();
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putShort((short) graph.getSpeedLimit(slot));
+            }
+            out.align();
+            for (int slot = 0; slot < edgeCount; slot++) {
+                out.putByte((byte) graph.getStatus(slot).ordinal());
+            }
+            out.align();
+
+            for (int id = 0; id < nodeCount; id++) {
+                out.putDouble(graph.getLatitude(id));
+                out.putDouble(graph.getLongitude(id));
+            }
+            out.align();
+
+            out.flush();
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    // --- IRoadGraph ---
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Sonuç rotası için şehri dosyadan üretir (her çağrıda yeni Node, id atanmış olarak)
+     */
+    @Override
+    public Node getNode(int id) {
+        Node node = new Node(getNodeName(id), getNodeType(id), getLatitude(id), getLongitude(id));
+        node.setId(id);
+        return node;
+    }
+
+    @Override
+    public String getNodeName(int id) {
+        int begin = nameOffsets.get(id);
+        byte[] bytes = new byte[nameOffsets.get(id + 1) - begin];
+        nameBytes.get(begin, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public NodeType getNodeType(int id) {
+        return NODE_TYPE_VALUES[nodeTypes.get(id)];
+    }
+
+    @Override
+    public double getLatitude(int id) {
+        return coordinates.get(2 * id);
+    }
+
+    @Override
+    public double getLongitude(int id) {
+        return coordinates.get(2 * id + 1);
+    }
+
+    @Override
+    public int idOf(Node node) {
+        int id = node.getId();
+        if (id >= 0 && id < nodeCount) {
+            byte[] name = node.getName().getBytes(StandardCharsets.UTF_8);
+            if (compareName(id, name) == 0) {
+                return id;
+            }
+            return search(name);
+        }
+        return idOf(node.getName());
+    }
+
+    @Override
+    public int idOf(String name) {
+        return search(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int outBegin(int id) {
+        return outOffsets.get(id);
+    }
+
+    @Override
+    public int outEnd(int id) {
+        return outOffsets.get(id + 1);
+    }
+
+    @Override
+    public int getTarget(int slot) {
+        return outTargets.get(slot);
+    }
+
+    @Override
+    public int inBegin(int id) {
+        return inOffsets.get(id);
+    }
+
+    @Override
+    public int inEnd(int id) {
+        return inOffsets.get(id + 1);
+    }
+
+    @Override
+    public int getInSource(int position) {
+        return inSources.get(position);
+    }
+
+    @Override
+    public int getInSlot(int position) {
+        return inSlots.get(position);
+    }
+
+    @Override
+    public int getDistanceMeters(int slot) {
+        return distances.get(slot);
+    }
+
+    @Override
+    public int getSpeedLimit(int slot) {
+        return speedLimits.get(slot);
+    }
+
+    @Override
+    public EdgeStatus getStatus(int slot) {
+        return EDGE_STATUSES[statuses.get(slot)];
+    }
+
+    @Override
+    public boolean isOpen(int slot) {
+        return statuses.get(slot) == EdgeStatus.OPEN.ordinal();
+    }
+
+    // --- İsim Araması ---
+
+    // Sıralı isim dizisinde ikili arama
+    private int search(byte[] name) {
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int id = nameOrder.get(middle);
+            int comparison = compareName(id, name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    // Dosyadaki ismi kopyalamadan, işaretsiz byte sırasıyla karşılaştırır
+    private int compareName(int id, byte[] name) {
+        int begin = nameOffsets.get(id);
+        int length = nameOffsets.get(id + 1) - begin;
+        int common = Math.min(length, name.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (nameBytes.get(begin + i) & 0xFF) - (name[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - name.length;
+    }
+}
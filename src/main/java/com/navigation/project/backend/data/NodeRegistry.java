@@ -0,0 +1,105 @@
+package com.navigation.project.backend.data;
+
+import com.navigation.project.backend.model.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NodeRegistry - Şehir Kayıt Defteri
+ *
+ * AMAÇ:
+ * Şehir adı → id → Node eşlemesini O(1) sürede yapar.
+ * MapBuilder, NavigationFacade ve MainController aynı defteri CityMap üzerinden kullanır.
+ *
+ * NE İŞE YARAR:
+ * - Her yeni şehre kayıt sırasıyla yoğun bir int id verir (0, 1, 2, ...)
+ * - İsimden id'ye hash tablosu tutar
+ * - id'den Node'a dizi erişimi sağlar
+ * - Aynı isimli şehrin iki kez eklenmesini engeller
+ *
+ * İLİŞKİLİ SINIFLAR: CityMap, Node
+ *
+ * NOT:
+ * Id'ler kalıcıdır; şehir silme olmadığı için id'ler kaymaz.
+ * Sadece clearAll() ile defter sıfırlanır.
+ */
+public class NodeRegistry {
+
+    private final Map<String, Integer> idsByName;
+    private final List<Node> nodesById;
+
+    public NodeRegistry() {
+        this.idsByName = new HashMap<>();
+        this.nodesById = new ArrayList<>();
+    }
+
+    /**
+     * Şehir sayısı önceden biliniyorsa (toplu yükleme) tablolar tek seferde boyutlanır
+     */
+    public NodeRegistry(int expectedSize) {
+        this.idsByName = new HashMap<>(expectedSize * 4 / 3 + 1);
+        this.nodesById = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Şehri kaydeder ve id atar. Aynı isimde şehir varsa false döner.
+     */
+    public boolean register(Node node) {
+        Integer existing = idsByName.putIfAbsent(node.getName(), nodesById.size());
+        if (existing != null) {
+            return false;
+        }
+        node.setId(nodesById.size());
+        nodesById.add(node);
+        return true;
+    }
+
+    /**
+     * İsme göre id, yoksa -1
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Node'un bu defterdeki id'si, kayıtlı değilse -1.
+     * Node'un kendi id'si geçerliyse hash'e hiç bakılmaz.
+     */
+    public int idOf(Node node) {
+        int id = node.getId();
+        if (id >= 0 && id < nodesById.size() && nodesById.get(id).equals(node)) {
+            return id;
+        }
+        return idOf(node.getName());
+    }
+
+    public Node get(int id) {
+        return nodesById.get(id);
+    }
+
+    /**
+     * İsme göre şehir, yoksa null
+     */
+    public Node find(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? null : nodesById.get(id);
+    }
+
+    public int size() {
+        return nodesById.size();
+    }
+
+    public List<Node> asList() {
+        return Collections.unmodifiableList(nodesById);
+    }
+
+    public void clear() {
+        idsByName.clear();
+        nodesById.clear();
+    }
+}
@@ -12,17 +12,48 @@ import com.navigation.project.backend.model.NodeType;
 import com.navigation.project.backend.model.VehicleType;
 import com.navigation.project.backend.observer.ITrafficObserver;
 import com.navigation.project.backend.observer.TrafficNotifier;
+import com.navigation.project.backend.observer.TripRegistry;
 import com.navigation.project.backend.proxy.MapManagerProxy;
+import com.navigation.project.backend.strategy.BatchRouteCalculator;
+import com.navigation.project.backend.strategy.BatchRouteResult;
+import com.navigation.project.backend.strategy.ContractionHierarchyStrategy;
 import com.navigation.project.backend.strategy.DijkstraStrategy;
 import com.navigation.project.backend.strategy.IRouteStrategy;
+import com.navigation.project.backend.strategy.Isochrone;
+import com.navigation.project.backend.strategy.IsochroneCalculator;
+import com.navigation.project.backend.strategy.RouteObjective;
+import com.navigation.project.backend.strategy.RouteMatrix;
+import com.navigation.project.backend.strategy.RouteMatrixCalculator;
+import com.navigation.project.backend.strategy.RouteRequest;
 import com.navigation.project.backend.template.TripAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * NavigationFacade - Facade Pattern İmplementasyonu
  *
  * AMAÇ:
  * Karmaşık backend sistemini basit ve kullanıcı dostu bir API ile sunar.
  * 10 farklı design pattern'i koordine eder ve tek noktadan erişim sağlar.
+ *
+ * HARİTA:
+ * Facade bir haritaya bağlıdır (varsayılan: CityMap.getInstance()).
+ * Bölgesel haritalar için new NavigationFacade(MapRegistry.shared().getOrCreate("marmara")).
+ *
+ * ROTA ALGORİTMASI:
+ * Varsayılan DijkstraStrategy'dir; setRouteStrategy() ile değiştirilebilir
+ * (örn. uzun sorgular için new BidirectionalDijkstraStrategy(facade.getMap())).
+ *
+ * MATRİS:
+ * calculateMatrix() çok sayıda kaynak x hedef için mesafe / süre matrisi döner (konsola yazmaz).
+ * Strateji ContractionHierarchyStrategy ise onun hiyerarşisi kullanılır (bkz. RouteMatrixCalculator).
+ * calculateIsochrone() bir şehirden verilen dakikalar içinde ulaşılabilen şehirleri döner.
+ * calculateRoutes() çok sayıda rota isteğini paralel ve konsola yazmadan hesaplar (bkz. BatchRouteCalculator).
+ *
+ * YOLCULUKLAR:
+ * getTripRegistry() aktif yolculuk kaydını döner (ilk çağrıda trafik bildirimlerine eklenir).
+ * blockRoad() / changeSpeed() sonrası sadece o yoldan geçen yolculuklar yeniden hesaplanır.
  */
 
 public class NavigationFacade {
@@ -31,18 +62,42 @@ public class NavigationFacade {
     private CommandInvoker invoker;
     private MapManagerProxy proxy;
     private IRouteStrategy strategy;
+    private IsochroneCalculator isochrones;
+    private TripRegistry trips;             // İlk kullanımda oluşturulur
 
     public NavigationFacade() {
+        this(CityMap.getInstance());
+    }
+
+    // Belirli bir bölgenin haritasına bağlı facade
+    public NavigationFacade(CityMap map) {
         this.notifier = new TrafficNotifier();
         this.invoker = new CommandInvoker();
         this.proxy = new MapManagerProxy();
-        this.strategy = new DijkstraStrategy();
-        this.map = CityMap.getInstance();
+        this.strategy = new DijkstraStrategy(map);
+        this.isochrones = new IsochroneCalculator(map);
+        this.map = map;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public IRouteStrategy getRouteStrategy() {
+        return strategy;
+    }
+
+    // Sonraki rota hesaplamalarında kullanılacak algoritmayı değiştir
+    public void setRouteStrategy(IRouteStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Rota stratejisi boş olamaz!");
+        }
+        this.strategy = strategy;
     }
 
     // Sistemi başlat
     public void initSystem() {
-        new MapBuilder().addNode("A", NodeType.CITY)
+        new MapBuilder(map).addNode("A", NodeType.CITY)
                 .addNode("B", NodeType.CITY)
                 .addNode("C", NodeType.CITY)
                 .addRoad("A", "B", 10, 60)
@@ -69,6 +124,34 @@ public class NavigationFacade {
         trip.executeTrip(start, end);
     }
 
+    // Mesafe (km) / süre (dk) matrisi; bulunamayan şehirlerin satır ve sütunları sonsuz
+    public RouteMatrix calculateMatrix(List<String> sourceNames, List<String> targetNames, VehicleType vehicle) {
+        ContractionHierarchyStrategy hierarchy = strategy instanceof ContractionHierarchyStrategy
+                && ((ContractionHierarchyStrategy) strategy).getMap() == map
+                ? (ContractionHierarchyStrategy) strategy : null;
+        return new RouteMatrixCalculator(map, hierarchy).calculate(findNodes(sourceNames), findNodes(targetNames),
+                vehicle);
+    }
+
+    // Verilen süre bütçeleri (dakika) içinde ulaşılabilen şehirler; şehir bulunamazsa null
+    public Isochrone calculateIsochrone(String originName, VehicleType vehicle, double... budgetMinutes) {
+        Node origin = findNode(originName);
+        if (origin == null) {
+            System.out.println("Hata: şehir bulunamadı!!!");
+            return null;
+        }
+        return isochrones.calculate(origin, vehicle, RouteObjective.FASTEST, budgetMinutes);
+    }
+
+    // Toplu rota hesabı (gece işleri); sonuçlar istek sırasıyla, konsola yazmaz.
+    // Strateji DijkstraStrategy ise onun amacı (SHORTEST / FASTEST) kullanılır.
+    public BatchRouteResult calculateRoutes(List<RouteRequest> requests) {
+        RouteObjective objective = strategy instanceof DijkstraStrategy
+                ? ((DijkstraStrategy) strategy).getObjective() : RouteObjective.SHORTEST;
+        return new BatchRouteCalculator(map, objective, Math.max(1, Runtime.getRuntime().availableProcessors()))
+                .calculate(requests);
+    }
+
     public void setAdminMode(boolean isAdmin) {
         proxy.setAdmin(isAdmin);
     }
@@ -102,28 +185,30 @@ public class NavigationFacade {
         notifier.attach(observer);
     }
 
+    // Aktif yolculuk kaydı; ilk çağrıda oluşturulur ve observer olarak eklenir
+    public TripRegistry getTripRegistry() {
+        if (trips == null) {
+            trips = new TripRegistry(map);
+            notifier.attach(trips);
+        }
+        return trips;
+    }
+
     // yardımcı methodlar
     private Node findNode(String name) {
-        for (Node node : map.getNodes()) {
-            if (node.getName().equals(name)) {
-                return node;
-            }
+        return map.findNode(name);
+    }
+
+    private List<Node> findNodes(List<String> names) {
+        List<Node> nodes = new ArrayList<>(names.size());
+        for (String name : names) {
+            nodes.add(findNode(name));
         }
-        return null;
+        return nodes;
     }
 
     private Edge findEdge(String fromName, String toName) {
-        Node from = findNode(fromName);
-        Node to = findNode(toName);
-
-        if (from == null || to == null) return null;
-
-        for (Edge edge : map.getEdges()) {
-            if (edge.getSource().equals(from) && edge.getDestination().equals(to)) {
-                return edge;
-            }
-        }
-        return null;
+        return map.findEdge(fromName, toName);
     }
 
     public void showStatus() {
@@ -0,0 +1,77 @@
+package com.navigation.project.backend.io;
+
+/**
+ * ImportReport - İçe Aktarma Raporu
+ *
+ * AMAÇ:
+ * RoadNetworkImporter'ın bir dosyayı ne kadar sürede, kaç yol/şehir ile
+ * içe aktardığını raporlar.
+ *
+ * FIELD'LAR:
+ * - bytes: Okunan dosya boyutu
+ * - lines: Okunan satır sayısı (boş ve yorum satırları dahil)
+ * - edges: Eklenen yönlü yol sayısı
+ * - nodes: Haritadaki şehir sayısı
+ * - skippedLines: Ayrıştırılamayan satır sayısı
+ * - elapsedNanos: Toplam süre (okuma + ayrıştırma + harita kurulumu)
+ *
+ * TEMEL METODLAR:
+ * - getEdgesPerSecond(): Saniyede eklenen yol sayısı
+ * - getMegabytesPerSecond(): Saniyede okunan MB
+ */
+public class ImportReport {
+
+    private final long bytes;
+    private final long lines;
+    private final long edges;
+    private final int nodes;
+    private final long skippedLines;
+    private final long elapsedNanos;
+
+    public ImportReport(long bytes, long lines, long edges, int nodes, long skippedLines, long elapsedNanos) {
+        this.bytes = bytes;
+        this.lines = lines;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.skippedLines = skippedLines;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getEdges() {
+        return edges;
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getEdgesPerSecond() {
+        return elapsedNanos == 0 ? 0 : edges / (elapsedNanos / 1e9);
+    }
+
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (bytes / 1e6) / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("İçe aktarma: %d yol, %d şehir, %d hatalı satır, %.2f s (%.0f yol/s, %.1f MB/s)",
+                edges, nodes, skippedLines, elapsedNanos / 1e9, getEdgesPerSecond(), getMegabytesPerSecond());
+    }
+}
@@ -0,0 +1,418 @@
+package com.navigation.project.backend.io;
+
+import com.navigation.project.backend.builder.BulkMapBuilder;
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.NodeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * RoadNetworkImporter - Akış Halinde Yol Ağı İçe Aktarıcı
+ *
+ * AMAÇ:
+ * Gigabaytlarca büyüklükteki CSV / kenar listesi dosyalarını MapBuilder'ı elle
+ * sürmeden, sabit bellekle ve birden çok çekirdek kullanarak haritaya aktarır.
+ *
+ * NE İŞE YARAR:
+ * - Dosyayı FileChannel'dan sabit boyutlu parçalar (chunk) halinde okur
+ * - Parçalar satır sınırından bölünür ve iş parçacıklarında paralel ayrıştırılır
+ * - Ayrıştırılan parçalar dosya sırasıyla birleştirilir (şehir id'leri tekrarlanabilir)
+ * - Şehir isimleri BulkMapBuilder'ın hash tablosu ile çözülür (MapBuilder.findNode yok)
+ * - Harita toplu yükleme moduyla kurulur ve tek seferde devreye alınır
+ * - Süre ve yol/saniye bilgisini ImportReport olarak döner
+ *
+ * İLİŞKİLİ SINIFLAR: BulkMapBuilder, CityMap, ImportReport
+ *
+ * SATIR BİÇİMİ:
+ * kaynak,hedef,mesafe,hızLimiti[,durum]
+ * - Ayraç değiştirilebilir (delimiter), alanların etrafındaki boşluklar atılır
+ * - durum: OPEN / CLOSED / UNDER_CONSTRUCTION (yoksa OPEN)
+ * - Boş satırlar ve '#' ile başlayan satırlar atlanır
+ * - Ayrıştırılamayan satırlar (örn. başlık satırı) sayılır ve atlanır
+ *
+ * BELLEK:
+ * Aynı anda en fazla 2 x threads parça bellekte bulunur;
+ * kullanım parça boyutu + son haritanın boyutu ile sınırlıdır.
+ *
+ * ÖRNEK:
+ * ImportReport report = new RoadNetworkImporter()
+ *         .bidirectional(true)
+ *         .importInto(CityMap.getInstance(), Path.of("turkiye-yollar.csv"));
+ */
+public class RoadNetworkImporter {
+
+    private static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+    private static final EdgeStatus[] STATUSES = EdgeStatus.values();
+
+    // En hızlı yoldan (tam sayı / 10^k) kesin sonuç verilebilecek sınırlar
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private byte delimiter = ',';
+    private boolean bidirectional;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int chunkBytes = DEFAULT_CHUNK_BYTES;
+
+    // --- Ayarlar (zincirleme) ---
+
+    public RoadNetworkImporter delimiter(char delimiter) {
+        if (delimiter > 0x7F) {
+            throw new IllegalArgumentException("Ayraç ASCII olmalıdır: " + delimiter);
+        }
+        this.delimiter = (byte) delimiter;
+        return this;
+    }
+
+    /**
+     * true ise her satır iki yönlü yol olarak eklenir (MapBuilder.addRoad gibi)
+     */
+    public RoadNetworkImporter bidirectional(boolean bidirectional) {
+        this.bidirectional = bidirectional;
+        return this;
+    }
+
+    public RoadNetworkImporter threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalıdır: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public RoadNetworkImporter chunkBytes(int chunkBytes) {
+        if (chunkBytes < 1024) {
+            throw new IllegalArgumentException("Parça boyutu en az 1024 byte olmalıdır: " + chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+        return this;
+    }
+
+    // --- İçe Aktarma ---
+
+    /**
+     * Dosyayı içe aktarır ve haritaya atomik olarak aktarır (haritanın eski içeriği değişir).
+     * İçe aktarma sürerken rota sorguları eski haritayla çalışmaya devam eder.
+     */
+    public ImportReport importInto(CityMap map, Path file) throws IOException {
+        long start = System.nanoTime();
+        BulkMapBuilder builder = new BulkMapBuilder(1024, 4096);
+        Counters counters = importFile(file, builder);
+        builder.commitTo(map);
+        return counters.report(builder, System.nanoTime() - start);
+    }
+
+    /**
+     * Dosyadaki yolları verilen kurucuya ekler (birden çok dosyayı tek haritada birleştirmek için)
+     */
+    public ImportReport importInto(BulkMapBuilder builder, Path file) throws IOException {
+        long start = System.nanoTime();
+        Counters counters = importFile(file, builder);
+        return counters.report(builder, System.nanoTime() - start);
+    }
+
+    private Counters importFile(Path file, BulkMapBuilder builder) throws IOException {
+        Counters counters = new Counters();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "road-importer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<ParsedChunk>> pending = new ArrayDeque<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            counters.bytes = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(chunkBytes);
+            byte[] array = buffer.array();
+            boolean endOfFile = false;
+
+            while (!endOfFile) {
+                // Tampon dolana ya da dosya bitene kadar oku
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        endOfFile = true;
+                        break;
+                    }
+                }
+
+                int filled = buffer.position();
+                int cut = endOfFile ? filled : lastNewline(array, filled) + 1;
+                if (cut == 0 && !endOfFile) {
+                    throw new IOException("Satır parça boyutundan (" + chunkBytes + " byte) uzun: " + file);
+                }
+                if (cut > 0) {
+                    byte[] chunk = Arrays.copyOf(array, cut);
+                    pending.add(pool.submit(() -> parse(chunk)));
+                }
+
+                // Yarım kalan satır bir sonraki parçanın başına taşınır
+                System.arraycopy(array, cut, array, 0, filled - cut);
+                buffer.position(filled - cut);
+
+                // Bellekte en fazla 2 x threads parça tutulur
+                while (pending.size() >= threads * 2 || (endOfFile && !pending.isEmpty())) {
+                    merge(await(pending.poll()), builder, counters);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return counters;
+    }
+
+    // Ayrıştırılmış parçayı dosya sırasıyla haritaya ekler (tek iş parçacığında)
+    private void merge(ParsedChunk chunk, BulkMapBuilder builder, Counters counters) {
+        for (int i = 0; i < chunk.count; i++) {
+            int from = builder.resolve(chunk.sources[i], NodeType.CITY);
+            int to = builder.resolve(chunk.targets[i], NodeType.CITY);
+            EdgeStatus status = STATUSES[chunk.statuses[i]];
+            builder.addEdge(from, to, chunk.distances[i], chunk.speedLimits[i], status);
+            if (bidirectional) {
+                builder.addEdge(to, from, chunk.distances[i], chunk.speedLimits[i], status);
+            }
+        }
+        counters.lines += chunk.lines;
+        counters.edges += bidirectional ? 2L * chunk.count : chunk.count;
+        counters.skipped += chunk.skipped;
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("İçe aktarma yarıda kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Parça ayrıştırılamadı: " + e.getCause(), e.getCause());
+        }
+    }
+
+    private static int lastNewline(byte[] data, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (data[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // --- Ayrıştırma (iş parçacıklarında çalışır, paylaşılan durum yok) ---
+
+    private ParsedChunk parse(byte[] data) {
+        ParsedChunk chunk = new ParsedChunk(Math.max(16, data.length / 24));
+        int[] fieldStarts = new int[5];
+        int[] fieldEnds = new int[5];
+
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < data.length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            chunk.lines++;
+            parseLine(data, lineStart, lineEnd, fieldStarts, fieldEnds, chunk);
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    private void parseLine(byte[] data, int start, int end, int[] fieldStarts, int[] fieldEnds, ParsedChunk chunk) {
+        if (end > start && data[end - 1] == '\r') {
+            end--;
+        }
+        int first = skipBlanks(data, start, end);
+        if (first == end || data[first] == '#') {
+            return;
+        }
+
+        // Alanları ayır
+        int fields = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || data[i] == delimiter) {
+                if (fields == fieldStarts.length) {
+                    chunk.skipped++;
+                    return;
+                }
+                fieldStarts[fields] = skipBlanks(data, fieldStart, i);
+                fieldEnds[fields] = trimEnd(data, fieldStarts[fields], i);
+                fields++;
+                fieldStart = i + 1;
+            }
+        }
+        if (fields < 4 || fieldStarts[0] == fieldEnds[0] || fieldStarts[1] == fieldEnds[1]) {
+            chunk.skipped++;
+            return;
+        }
+
+        double distance = parseDouble(data, fieldStarts[2], fieldEnds[2]);
+        int speedLimit = parseInt(data, fieldStarts[3], fieldEnds[3]);
+        int status = fields == 5 ? parseStatus(data, fieldStarts[4], fieldEnds[4]) : EdgeStatus.OPEN.ordinal();
+        if (Double.isNaN(distance) || distance < 0 || speedLimit < 0 || status < 0) {
+            chunk.skipped++;
+            return;
+        }
+
+        chunk.add(new String(data, fieldStarts[0], fieldEnds[0] - fieldStarts[0], StandardCharsets.UTF_8),
+                new String(data, fieldStarts[1], fieldEnds[1] - fieldStarts[1], StandardCharsets.UTF_8),
+                distance, speedLimit, (byte) status);
+    }
+
+    private static int skipBlanks(byte[] data, int start, int end) {
+        while (start < end && (data[start] == ' ' || data[start] == '\t')) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(byte[] data, int start, int end) {
+        while (end > start && (data[end - 1] == ' ' || data[end - 1] == '\t')) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Ondalık sayı ayrıştırır, geçersizse NaN.
+     * "123.45" gibi sade sayılar tam sayı / 10^k ile kesin olarak hesaplanır,
+     * üslü ya da çok basamaklı sayılar Double.parseDouble'a bırakılır.
+     */
+    private static double parseDouble(byte[] data, int start, int end) {
+        if (start == end) {
+            return Double.NaN;
+        }
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenDot = false;
+        boolean seenDigit = false;
+        int i = start;
+        boolean negative = data[i] == '-';
+        if (negative || data[i] == '+') {
+            i++;
+        }
+        for (; i < end; i++) {
+            byte b = data[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                seenDigit = true;
+                if (seenDot) {
+                    fractionDigits++;
+                }
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    return parseSlow(data, start, end);
+                }
+            } else if (b == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                return parseSlow(data, start, end);
+            }
+        }
+        if (!seenDigit || fractionDigits >= POWERS_OF_TEN.length) {
+            return parseSlow(data, start, end);
+        }
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double parseSlow(byte[] data, int start, int end) {
+        try {
+            return Double.parseDouble(new String(data, start, end - start, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    // Negatif olmayan tam sayı, geçersizse -1
+    private static int parseInt(byte[] data, int start, int end) {
+        if (start == end || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            byte b = data[i];
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    // EdgeStatus ordinal, geçersizse -1
+    private static int parseStatus(byte[] data, int start, int end) {
+        String name = new String(data, start, end - start, StandardCharsets.US_ASCII);
+        for (EdgeStatus status : STATUSES) {
+            if (status.name().equalsIgnoreCase(name)) {
+                return status.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bir parçanın ayrıştırılmış satırları (sütun sütun)
+     */
+    private static final class ParsedChunk {
+        private String[] sources;
+        private String[] targets;
+        private double[] distances;
+        private int[] speedLimits;
+        private byte[] statuses;
+        private int count;
+        private int lines;
+        private int skipped;
+
+        ParsedChunk(int capacity) {
+            sources = new String[capacity];
+            targets = new String[capacity];
+            distances = new double[capacity];
+            speedLimits = new int[capacity];
+            statuses = new byte[capacity];
+        }
+
+        void add(String source, String target, double distance, int speedLimit, byte status) {
+            if (count == sources.length) {
+                int capacity = count * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                distances = Arrays.copyOf(distances, capacity);
+                speedLimits = Arrays.copyOf(speedLimits, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            sources[count] = source;
+            targets[count] = target;
+            distances[count] = distance;
+            speedLimits[count] = speedLimit;
+            statuses[count] = status;
+            count++;
+        }
+    }
+
+    /**
+     * Birleştirme sırasında toplanan sayaçlar (sadece birleştiren iş parçacığı yazar)
+     */
+    private static final class Counters {
+        private long bytes;
+        private long lines;
+        private long edges;
+        private long skipped;
+
+        ImportReport report(BulkMapBuilder builder, long elapsedNanos) {
+            return new ImportReport(bytes, lines, edges, builder.getNodeCount(), skipped, elapsedNanos);
+        }
+    }
+}
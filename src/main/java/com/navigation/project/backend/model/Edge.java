@@ -1,5 +1,7 @@
 package com.navigation.project.backend.model;
 
+import com.navigation.project.backend.data.EdgeTable;
+
 /**
  * Edge - Yol/Kenar Veri Modeli
  *
@@ -13,15 +15,19 @@ package com.navigation.project.backend.model;
  * - Hız limiti tutar (km/h)
  * - Yol durumu tutar (OPEN/CLOSED/UNDER_CONSTRUCTION)
  * - Durum ve hız değiştirilebilir
+ * - Haritaya eklenince CityMap'in sütunlu yol tablosundaki bir satırın görünümü olur;
+ *   okuma ve değişiklikler o satır üzerinden yapılır (değişiklik yeni harita sürümü üretir)
+ * - Harita görünüm nesnelerini saklamaz; aynı satırın görünümleri aynı değerleri okur
  *
- * İLİŞKİLİ SINIFLAR: Node, EdgeStatus, CityMap
+ * İLİŞKİLİ SINIFLAR: Node, EdgeStatus, CityMap, EdgeTable
  *
  * FIELD'LAR:
  * - source (Node): Başlangıç şehri
  * - destination (Node): Bitiş şehri
- * - distance (double): Mesafe (km)
- * - speedLimit (int): Hız limiti (km/h)
- * - status (EdgeStatus): Yol durumu
+ * - distance (double): Mesafe (km) - sadece haritaya eklenmemişken
+ * - speedLimit (int): Hız limiti (km/h) - sadece haritaya eklenmemişken
+ * - status (EdgeStatus): Yol durumu - sadece haritaya eklenmemişken
+ * - table / row: Eklendiği haritanın yol tablosu ve satır
  *
  * TEMEL METODLAR:
  * - getSource(), getDestination(): Node'ları döner
@@ -31,6 +37,9 @@ package com.navigation.project.backend.model;
  * - setSpeedLimit(int): Hız limitini değiştirir
  * - setStatus(EdgeStatus): Yol durumunu değiştirir
  *
+ * NOT:
+ * Haritadaki mesafeler metre hassasiyetinde tutulur (bkz. EdgeTable).
+ *
  * ÖRNEK:
  * Edge road = new Edge(istanbul, ankara, 450, 120);
  * road.setStatus(EdgeStatus.UNDER_CONSTRUCTION);
@@ -39,11 +48,15 @@ package com.navigation.project.backend.model;
 public class Edge {
     private final Node source;          // Başlangıç
     private final Node destination;     // Bitiş
+
+    // Haritaya eklenmemiş yolun kendi değerleri
     private double distance;      // Mesafe (km)
     private int speedLimit;          // Hız sınırı (km/s)
-
     private EdgeStatus status;          // Yolun durumu (Değişebilir)
 
+    private EdgeTable table;            // Yolun satırının bulunduğu tablo (eklenmediyse null)
+    private int row = -1;               // Yol tablosundaki satır
+
     public Edge(Node source, Node destination, double distance, int speedLimit){
         this.source = source;
         this.destination = destination;
@@ -52,6 +65,14 @@ public class Edge {
         this.status = EdgeStatus.OPEN;  // Yollar varsayılan olarak açık başlar.
     }
 
+    // Yol tablosundaki bir satırın görünümü (CityMap oluşturur)
+    public Edge(Node source, Node destination, EdgeTable table, int row){
+        this.source = source;
+        this.destination = destination;
+        this.table = table;
+        this.row = row;
+    }
+
     public Node getSource(){
         return source;
     }
@@ -59,20 +80,44 @@ public class Edge {
     public Node getDestination(){ return destination; }
 
     public double getDistance(){
-        return distance;
+        return table != null ? EdgeTable.toKilometers(table.getDistanceMeters(row)) : distance;
     }
 
     public int getSpeedLimit(){
-        return speedLimit;
+        return table != null ? table.getSpeedLimit(row) : speedLimit;
     }
 
-    public void setSpeedLimit(int speedLimit) { this.speedLimit = speedLimit; }
+    public void setSpeedLimit(int speedLimit) {
+        if (table != null) {
+            table.setSpeedLimit(row, speedLimit);
+        } else {
+            this.speedLimit = speedLimit;
+        }
+    }
 
     public EdgeStatus getStatus(){
-        return status;
+        return table != null ? table.getStatus(row) : status;
     }
 
     public void setStatus(EdgeStatus status){
-        this.status = status;
+        if (table != null) {
+            table.setStatus(row, status);
+        } else {
+            this.status = status;
+        }
+    }
+
+    public EdgeTable getTable(){
+        return table;
+    }
+
+    public int getRow(){
+        return row;
+    }
+
+    // Sadece CityMap tarafından çağrılır (yol haritaya eklenince)
+    public void bind(EdgeTable table, int row){
+        this.table = table;
+        this.row = row;
     }
 }
@@ -11,34 +11,57 @@ import java.util.Objects;
  * NE İŞE YARAR:
  * - Şehir ismini tutar
  * - Şehir tipini tutar (CITY)
+ * - Haritaya eklenince CityMap'in verdiği yoğun int id'yi tutar
+ * - Coğrafi konumu (enlem/boylam, derece) tutar; konumu bilinmeyen şehirde NaN
  * - Equals/hashCode ile karşılaştırma sağlar
- * - Immutable (değiştirilemez) yapı
+ * - Immutable (değiştirilemez) yapı (id hariç, id'yi sadece CityMap atar)
  *
  * İLİŞKİLİ SINIFLAR: Edge, NodeType, CityMap
  *
  * FIELD'LAR:
  * - name (String): Şehir adı
  * - type (NodeType): Şehir tipi
+ * - id (int): Haritadaki yoğun id (eklenmeden önce -1)
+ * - latitude, longitude (double): Enlem ve boylam (derece, bilinmiyorsa NaN)
  *
  * TEMEL METODLAR:
  * - getName(): Şehir adını döner
  * - getType(): Şehir tipini döner
+ * - getId(): Haritadaki id'yi döner
+ * - getLatitude() / getLongitude(): Konumu döner
+ * - hasCoordinates(): Konum biliniyor mu?
  * - equals(Object): İsim bazlı eşitlik kontrolü
- * - hashCode(): İsim bazlı hash
+ * - hashCode(): İsim bazlı hash (constructor'da bir kez hesaplanır)
  * - toString(): "İstanbul (CITY)" formatında string
  *
  * ÖRNEK:
  * Node istanbul = new Node("İstanbul", NodeType.CITY);
- * Node ankara = new Node("Ankara", NodeType.CITY);
+ * Node ankara = new Node("Ankara", NodeType.CITY, 39.93, 32.86);
  */
 
 public class Node {
     private final String name;
     private final NodeType type;
+    private final int hash;     // İsim değişmediği için hash bir kez hesaplanır
+    private final double latitude;  // Enlem (derece, bilinmiyorsa NaN)
+    private final double longitude; // Boylam (derece, bilinmiyorsa NaN)
+    private int id;             // CityMap'teki yoğun id (-1: henüz eklenmedi)
 
     public Node(String name, NodeType type){
+        this(name, type, Double.NaN, Double.NaN);
+    }
+
+    public Node(String name, NodeType type, double latitude, double longitude){
+        boolean unknown = Double.isNaN(latitude) && Double.isNaN(longitude);
+        if (!unknown && !(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Geçersiz konum: " + name + " (" + latitude + ", " + longitude + ")");
+        }
         this.name = name;
         this.type = type;
+        this.hash = Objects.hash(name);
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.id = -1;
     }
 
     public String getName(){
@@ -49,6 +72,27 @@ public class Node {
         return type;
     }
 
+    public double getLatitude(){
+        return latitude;
+    }
+
+    public double getLongitude(){
+        return longitude;
+    }
+
+    public boolean hasCoordinates(){
+        return !Double.isNaN(latitude);
+    }
+
+    public int getId(){
+        return id;
+    }
+
+    // Sadece CityMap (NodeRegistry) tarafından çağrılır
+    public void setId(int id){
+        this.id = id;
+    }
+
     @Override
     public String toString(){
         return name + " (" + type + ")";
@@ -64,6 +108,6 @@ public class Node {
 
     @Override
     public int hashCode(){
-        return Objects.hash(name);
+        return hash;
     }
 }
\ No newline at end of file
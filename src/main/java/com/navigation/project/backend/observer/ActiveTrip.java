@@ -0,0 +1,90 @@
+package com.navigation.project.backend.observer;
+
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+/**
+ * ActiveTrip - Devam Eden Yolculuk
+ *
+ * AMAÇ:
+ * TripRegistry'de kayıtlı bir yolculuğun başlangıç / hedef şehrini, araç tipini, güncel
+ * rotasını ve yolculuğun şu an bulunduğu şehri tutar.
+ *
+ * NE İŞE YARAR:
+ * - Rota ve konum sadece TripRegistry tarafından güncellenir (dışarıdan okunur)
+ * - Yeniden hesaplama bulunulan şehirden (getPosition()) hedefe yapılır
+ * - Yolculuk bitince (TripRegistry.endTrip) isActive() false olur
+ *
+ * İLİŞKİLİ SINIFLAR: TripRegistry, ITripListener, RouteCalculationResult
+ */
+public class ActiveTrip {
+    private final int id;
+    private final Node start;
+    private final Node end;
+    private final VehicleType vehicle;
+    private final ITripListener listener;           // null olabilir
+    private volatile RouteCalculationResult route;
+    private volatile Node position;                 // Bulunulan şehir (rota üzerinde)
+    private volatile boolean active = true;
+
+    ActiveTrip(int id, Node start, Node end, VehicleType vehicle, RouteCalculationResult route,
+               ITripListener listener) {
+        this.id = id;
+        this.start = start;
+        this.end = end;
+        this.vehicle = vehicle;
+        this.route = route;
+        this.position = start;
+        this.listener = listener;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Node getStart() {
+        return start;
+    }
+
+    public Node getEnd() {
+        return end;
+    }
+
+    public VehicleType getVehicle() {
+        return vehicle;
+    }
+
+    public RouteCalculationResult getRoute() {
+        return route;
+    }
+
+    public Node getPosition() {
+        return position;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    ITripListener getListener() {
+        return listener;
+    }
+
+    void setRoute(RouteCalculationResult route) {
+        this.route = route;
+    }
+
+    void setPosition(Node position) {
+        this.position = position;
+    }
+
+    void deactivate() {
+        this.active = false;
+    }
+
+    @Override
+    public String toString() {
+        return "Yolculuk #" + id + " (" + start.getName() + " -> " + end.getName() + ", " + vehicle + ")";
+    }
+}
@@ -14,7 +14,7 @@ import com.navigation.project.backend.model.Edge;
  * - Observer'ların implement etmesi gereken metodları tanımlar
  *
  * PATTERN: Observer Pattern
- * İLİŞKİLİ SINIFLAR: TrafficNotifier
+ * İLİŞKİLİ SINIFLAR: TrafficNotifier, TripRegistry
  *
  * GEREKLI METODLAR:
  * - onRoadStatusChanged(edge, message): Yol durumu değişti
@@ -0,0 +1,26 @@
+package com.navigation.project.backend.observer;
+
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+/**
+ * ITripListener - Aktif Yolculuk Dinleyicisi
+ *
+ * AMAÇ:
+ * TripRegistry'de kayıtlı bir yolculuğun rotası, geçtiği bir yol değiştiği için yeniden
+ * hesaplandığında istemciyi (panel, mobil oturum) bilgilendirir.
+ *
+ * NE İŞE YARAR:
+ * - Sadece etkilenen yolculukların dinleyicisi çağrılır (her observer'a yayın yapılmaz)
+ * - current: yeni rota; yol kalmadıysa path boştur
+ * - message: değişikliği açıklayan mesaj (örn. "A -> B kapatıldı.")
+ *
+ * PATTERN: Observer Pattern
+ * İLİŞKİLİ SINIFLAR: TripRegistry, ActiveTrip, RouteCalculationResult
+ */
+@FunctionalInterface
+public interface ITripListener {
+
+    // Yolculuğun rotası yeniden hesaplandığında çağrılır
+    void onTripRerouted(ActiveTrip trip, RouteCalculationResult previous, RouteCalculationResult current,
+                        String message);
+}
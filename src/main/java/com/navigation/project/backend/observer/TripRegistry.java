@@ -0,0 +1,361 @@
+package com.navigation.project.backend.observer;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.IRouteStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * TripRegistry - Aktif Yolculuk Kaydı ve Hedefli Yeniden Rotalama
+ *
+ * AMAÇ:
+ * Sunucu tarafında devam eden yolculukları tutar. Bir yol kapandığında ya da hız limiti
+ * değiştiğinde sadece o yoldan geçecek yolculukların rotasını yeniden hesaplar ve yeni
+ * RouteCalculationResult ile yolculuğun dinleyicisini (ITripListener) bilgilendirir.
+ *
+ * NE İŞE YARAR:
+ * - Ters dizin (inverted index): yol (kaynak id, hedef id) → o yoldan geçen yolculuk id'leri.
+ *   Değişiklikte etkilenen yolculuklar doğrudan bulunur; maliyet tüm yolculuk sayısıyla değil,
+ *   etkilenen yolculuk sayısıyla orantılıdır
+ * - Dizin kayıtları tembel silinir: rota değişince / yolculuk bitince eski kayıtlar kalır, yol
+ *   sorgulanınca ayıklanır; eskimiş kayıt sayısı canlıları geçerse dizin aktif rotalardan yeniden kurulur
+ * - Etkilenen yolculuklar ForkJoinPool'da paralel yeniden hesaplanır (bulunulan şehirden hedefe);
+ *   dizin kilidi hesaplama sırasında tutulmaz
+ * - Sadece kalan rota dikkate alınır: geçilmiş yol değişirse yolculuk etkilenmez (updatePosition)
+ * - TrafficNotifier'a observer olarak eklenir (BlockRoadCommand, SetSpeedLimitCommand)
+ *
+ * STRATEJİ:
+ * Varsayılan FASTEST DijkstraStrategy (konsola yazmaz). Verilen strateji birden fazla iş
+ * parçacığından aynı anda çağrılabilir olmalıdır.
+ *
+ * PATTERN: Observer Pattern
+ * İLİŞKİLİ SINIFLAR: ActiveTrip, ITripListener, TrafficNotifier, IRouteStrategy
+ *
+ * ÖRNEK:
+ * TripRegistry trips = new TripRegistry(map);
+ * notifier.attach(trips);
+ * ActiveTrip trip = trips.startTrip(ankara, izmir, VehicleType.CAR,
+ *         (t, previous, current, message) -> send(t, current));
+ * invoker.execute(new BlockRoadCommand(edge, notifier));   // sadece bu yoldan geçenler
+ */
+public class TripRegistry implements ITrafficObserver {
+
+    // Eskimiş kayıt sayısı bu sınırın ve canlı kayıtların üstüne çıkınca dizin yeniden kurulur
+    private static final int MIN_REBUILD_ENTRIES = 1024;
+
+    private final CityMap map;
+    private final IRouteStrategy strategy;
+    private final ForkJoinPool pool;
+
+    // Yolculuk id → aktif yolculuk
+    private final Map<Integer, ActiveTrip> trips = new HashMap<>();
+
+    // Yol anahtarı → yolculuk id'leri (eskimiş ve tekrar eden kayıtlar olabilir)
+    private final Map<Long, IntList> index = new HashMap<>();
+    private long entries;           // Dizindeki toplam kayıt
+    private long liveEntries;       // Aktif rotaların kayıtları
+    private int nextId;
+
+    public TripRegistry(CityMap map) {
+        this(map, new DijkstraStrategy(map, RouteObjective.FASTEST, false));
+    }
+
+    public TripRegistry(CityMap map, IRouteStrategy strategy) {
+        this(map, strategy, ForkJoinPool.commonPool());
+    }
+
+    public TripRegistry(CityMap map, IRouteStrategy strategy, ForkJoinPool pool) {
+        if (map == null || strategy == null || pool == null) {
+            throw new IllegalArgumentException("Harita, strateji ve havuz boş olamaz!");
+        }
+        this.map = map;
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    /**
+     * Rotayı hesaplayıp yolculuğu kaydeder. Yol yoksa rota boştur (yolculuk yine de kaydedilir).
+     */
+    public ActiveTrip startTrip(Node start, Node end, VehicleType vehicle, ITripListener listener) {
+        if (start == null || end == null || vehicle == null) {
+            throw new IllegalArgumentException("Başlangıç, hedef ve araç tipi boş olamaz!");
+        }
+        return registerTrip(start, end, vehicle, strategy.calculateRoute(start, end, vehicle), listener);
+    }
+
+    /**
+     * Rotası önceden hesaplanmış yolculuğu kaydeder (örn. sunucu yeniden başlarken)
+     */
+    public synchronized ActiveTrip registerTrip(Node start, Node end, VehicleType vehicle,
+                                                RouteCalculationResult route, ITripListener listener) {
+        if (start == null || end == null || vehicle == null || route == null) {
+            throw new IllegalArgumentException("Başlangıç, hedef, araç tipi ve rota boş olamaz!");
+        }
+        ActiveTrip trip = new ActiveTrip(nextId++, start, end, vehicle, route, listener);
+        trips.put(trip.getId(), trip);
+        liveEntries += indexRoute(trip);
+        return trip;
+    }
+
+    /**
+     * Yolculuğu bitirir; kayıtlı değilse false
+     */
+    public synchronized boolean endTrip(ActiveTrip trip) {
+        if (trip == null || trips.remove(trip.getId()) != trip) {
+            return false;
+        }
+        trip.deactivate();
+        liveEntries -= edgeCount(trip);
+        rebuildIfStale();
+        return true;
+    }
+
+    /**
+     * Yolculuğun bulunduğu şehri ilerletir; şehir kalan rota üzerinde değilse false.
+     * Geçilen yollar artık yolculuğu etkilemez.
+     */
+    public synchronized boolean updatePosition(ActiveTrip trip, Node position) {
+        if (trip == null || position == null || trips.get(trip.getId()) != trip) {
+            return false;
+        }
+        List<Node> path = trip.getRoute().getPath();
+        int current = positionIndex(trip, path);
+        int next = path.subList(current, path.size()).indexOf(position);
+        if (next < 0) {
+            return false;
+        }
+        liveEntries -= next;
+        trip.setPosition(position);
+        rebuildIfStale();
+        return true;
+    }
+
+    public synchronized int getActiveTripCount() {
+        return trips.size();
+    }
+
+    /**
+     * Kalan rotası from → to yolundan geçen aktif yolculuklar
+     */
+    public synchronized List<ActiveTrip> getTripsUsing(Node from, Node to) {
+        return tripsUsing(from, to);
+    }
+
+    // Yol durumu değişti (kapandı / açıldı)
+    @Override
+    public void onRoadStatusChanged(Edge edge, String message) {
+        reroute(edge.getSource(), edge.getDestination(), message);
+    }
+
+    // Hız limiti değişti
+    @Override
+    public void onSpeedLimitChanged(Edge edge, int oldLimit, int newLimit) {
+        reroute(edge.getSource(), edge.getDestination(),
+                String.format("Hız sınırı değişti: %d km/h -> %d km/h", oldLimit, newLimit));
+    }
+
+    /**
+     * from → to yolundan geçen yolculukları paralel yeniden hesaplar ve dinleyicilerini bilgilendirir.
+     * Rotası güncellenen yolculuk sayısını döner.
+     */
+    public int reroute(Node from, Node to, String message) {
+        List<ActiveTrip> affected;
+        List<RouteCalculationResult> previous = new ArrayList<>();
+        synchronized (this) {
+            affected = tripsUsing(from, to);
+            for (ActiveTrip trip : affected) {
+                previous.add(trip.getRoute());
+            }
+        }
+        if (affected.isEmpty()) {
+            return 0;
+        }
+
+        // Yeniden hesaplama kilitsiz ve paralel: bulunulan şehirden hedefe
+        List<RouteCalculationResult> planned = plan(affected);
+
+        // Hesaplama sırasında biten ya da başka bir değişiklikle güncellenen yolculuk atlanır
+        List<Integer> applied = new ArrayList<>(affected.size());
+        synchronized (this) {
+            for (int i = 0; i < affected.size(); i++) {
+                ActiveTrip trip = affected.get(i);
+                if (trips.get(trip.getId()) == trip && trip.getRoute() == previous.get(i)) {
+                    liveEntries -= edgeCount(trip);
+                    trip.setRoute(planned.get(i));
+                    liveEntries += indexRoute(trip);
+                    applied.add(i);
+                }
+            }
+            rebuildIfStale();
+        }
+
+        // Bildirimler kilit dışında
+        for (int i : applied) {
+            ActiveTrip trip = affected.get(i);
+            if (trip.getListener() != null) {
+                try {
+                    trip.getListener().onTripRerouted(trip, previous.get(i), planned.get(i), message);
+                } catch (RuntimeException e) {
+                    System.out.println("Hata: " + trip + " bildirimi başarısız: " + e.getMessage());
+                }
+            }
+        }
+        return applied.size();
+    }
+
+    private List<RouteCalculationResult> plan(List<ActiveTrip> affected) {
+        if (affected.size() == 1) {
+            ActiveTrip trip = affected.get(0);
+            return List.of(strategy.calculateRoute(trip.getPosition(), trip.getEnd(), trip.getVehicle()));
+        }
+        List<Callable<RouteCalculationResult>> plans = new ArrayList<>(affected.size());
+        for (ActiveTrip trip : affected) {
+            plans.add(() -> strategy.calculateRoute(trip.getPosition(), trip.getEnd(), trip.getVehicle()));
+        }
+        List<RouteCalculationResult> results = new ArrayList<>(plans.size());
+        try {
+            for (Future<RouteCalculationResult> future : pool.invokeAll(plans)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Yeniden rotalama kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Yeniden rotalama başarısız: " + e.getCause(), e.getCause());
+        }
+        return results;
+    }
+
+    // Dizinden etkilenen yolculuklar; yolun kayıt listesi ayıklanır (eskimiş ve tekrar eden kayıtlar)
+    private List<ActiveTrip> tripsUsing(Node from, Node to) {
+        List<ActiveTrip> affected = new ArrayList<>();
+        int fromId = map.idOf(from);
+        int toId = map.idOf(to);
+        IntList ids = fromId < 0 || toId < 0 ? null : index.get(key(fromId, toId));
+        if (ids == null) {
+            return affected;
+        }
+        Set<Integer> seen = new HashSet<>();
+        int kept = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            int id = ids.get(i);
+            ActiveTrip trip = trips.get(id);
+            if (trip != null && seen.add(id) && usesRoad(trip, from, to)) {
+                ids.set(kept++, id);
+                affected.add(trip);
+            }
+        }
+        entries -= ids.size() - kept;
+        if (kept == 0) {
+            index.remove(key(fromId, toId));
+        } else {
+            ids.truncate(kept);
+        }
+        return affected;
+    }
+
+    // Kalan rota (bulunulan şehirden sonrası) from → to yolunu içeriyor mu
+    private static boolean usesRoad(ActiveTrip trip, Node from, Node to) {
+        List<Node> path = trip.getRoute().getPath();
+        for (int i = positionIndex(trip, path); i + 1 < path.size(); i++) {
+            if (path.get(i).equals(from) && path.get(i + 1).equals(to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Kalan rotanın yollarını dizine ekler; eklenen kayıt sayısını döner
+    private int indexRoute(ActiveTrip trip) {
+        List<Node> path = trip.getRoute().getPath();
+        int added = 0;
+        int previous = -1;
+        for (int i = positionIndex(trip, path); i < path.size(); i++) {
+            int current = map.idOf(path.get(i));
+            if (previous >= 0 && current >= 0) {
+                index.computeIfAbsent(key(previous, current), k -> new IntList()).add(trip.getId());
+                added++;
+            }
+            previous = current;
+        }
+        entries += added;
+        return added;
+    }
+
+    // Kalan rotanın yol sayısı (indexRoute ile aynı sayım)
+    private int edgeCount(ActiveTrip trip) {
+        List<Node> path = trip.getRoute().getPath();
+        return Math.max(0, path.size() - 1 - positionIndex(trip, path));
+    }
+
+    private static int positionIndex(ActiveTrip trip, List<Node> path) {
+        return Math.max(0, path.indexOf(trip.getPosition()));
+    }
+
+    // Eskimiş kayıtlar canlıları geçtiyse dizini aktif rotalardan yeniden kurar
+    private void rebuildIfStale() {
+        long stale = entries - liveEntries;
+        if (stale <= MIN_REBUILD_ENTRIES || stale <= liveEntries) {
+            return;
+        }
+        index.clear();
+        entries = 0;
+        for (ActiveTrip trip : trips.values()) {
+            indexRoute(trip);
+        }
+        liveEntries = entries;
+    }
+
+    private static long key(int fromId, int toId) {
+        return ((long) fromId << 32) | (toId & 0xFFFFFFFFL);
+    }
+
+    // Büyüyen int dizisi (yol başına yolculuk id'leri)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void truncate(int newSize) {
+            size = newSize;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.*;
+
+/**
+ * AStarStrategy - A* Algoritması İmplementasyonu
+ *
+ * AMAÇ:
+ * Şehirlerin coğrafi konumlarını (enlem/boylam) kullanarak hedefe yönelen A* araması ile
+ * iki şehir arasındaki rotayı hesaplar. Aynı sorguda Dijkstra'nın kesinleştirdiği şehirlerin
+ * küçük bir kısmını gezer.
+ *
+ * NE İŞE YARAR:
+ * - Öncelik = kat edilen maliyet + hedefe kalan tahmini maliyet (sezgisel)
+ * - DISTANCE: En kısa rota; sezgisel büyük daire (great-circle) mesafesidir
+ * - TIME: En hızlı rota (yol süresi = mesafe / hız limiti); sezgisel büyük daire
+ *   mesafesinin haritadaki en yüksek hız limitine bölümüdür
+ * - OPEN olmayan yolları kullanmaz
+ * - Araç tipine göre süre DijkstraStrategy ile aynı kurallarla hesaplanır
+ *
+ * PATTERN: Strategy Pattern
+ * İLİŞKİLİ SINIFLAR: IRouteStrategy, DijkstraStrategy, CityMap, IRoadGraph, Node
+ *
+ * KABUL EDİLEBİLİRLİK (ADMISSIBLE):
+ * Sezgisel gerçek maliyeti asla aşmamalıdır, yoksa rota en kısa olmayabilir.
+ * Sezgiselin mesafesi iki şehir arasındaki kiriş (chord) mesafesidir: dünya yüzeyindeki iki
+ * noktanın düz çizgi uzaklığı, büyük daire mesafesinden hiç uzun değildir ve trigonometri
+ * gerektirmez (şehir başına bir karekök). Yol mesafeleri elle girildiği için bir yol kirişten de
+ * kısa olabilir. Bu yüzden her görüntü için bir kez "ölçek" hesaplanır:
+ * ölçek = min(1, tüm yollarda yol mesafesi / kiriş mesafesi).
+ * Sezgisel kiriş mesafesi × ölçek olduğu için üçgen eşitsizliği ile tutarlıdır (consistent).
+ * Konumu olmayan bir şehir varsa sezgisel 0 olur (arama Dijkstra gibi davranır, sonuç yine doğrudur).
+ *
+ * ÖNBELLEK:
+ * Ölçek, en yüksek hız limiti ve şehirlerin birim küre koordinatları görüntü başına bir kez (O(E))
+ * hesaplanır ve görüntü değişene kadar tutulur.
+ *
+ * ARAMA ALANI:
+ * Maliyet, önceki şehir ve sezgisel dizileri + INodeQueue iş parçacığı başına bir kez ayrılır
+ * (SearchWorkspace); sorgu başında O(V) temizlik ya da ayırma yapılmaz. Sezgisel şehir başına
+ * bir kez, ilk ulaşıldığında hesaplanır. Kuyruk anahtarı, negatif olmayan double önceliğin bit
+ * desenidir (sıralaması değerle aynıdır), böylece TIME modunda da maliyetler yuvarlanmaz.
+ *
+ * SINIRLAR:
+ * TIME modu hız limitlerine göre (araba) en hızlı rotayı arar; araç tipi sadece süre raporunu etkiler.
+ *
+ * ÖRNEK:
+ * IRouteStrategy strategy = new AStarStrategy(CityMap.getInstance(), AStarStrategy.Heuristic.DISTANCE);
+ * RouteCalculationResult result = strategy.calculateRoute(istanbul, izmir, VehicleType.CAR);
+ */
+public class AStarStrategy implements IRouteStrategy {
+
+    /**
+     * Aramanın en küçüklediği maliyet ve buna uygun sezgisel
+     */
+    public enum Heuristic {
+        DISTANCE,   // Metre; sezgisel: büyük daire mesafesi
+        TIME        // Saniye; sezgisel: büyük daire mesafesi / en yüksek hız limiti
+    }
+
+    // Ortalama dünya yarıçapı (metre)
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // Kayan nokta yuvarlamasına karşı sezgiseli çok az küçültür
+    private static final double ROUNDING_MARGIN = 1 - 1e-9;
+
+    // km/h → m/s (metre / (km/h) = 3.6 saniye)
+    private static final double SECONDS_PER_METER_AT_1_KMH = 3.6;
+
+    private final CityMap map;
+    private final Heuristic heuristic;
+    private final boolean verbose;
+
+    // Son kullanılan görüntünün sezgisel ayarı (görüntü değişince yeniden hesaplanır)
+    private volatile Calibration lastCalibration;
+
+    public AStarStrategy() {
+        this(CityMap.getInstance(), Heuristic.DISTANCE, true);
+    }
+
+    public AStarStrategy(CityMap map, Heuristic heuristic) {
+        this(map, heuristic, true);
+    }
+
+    public AStarStrategy(CityMap map, Heuristic heuristic, boolean verbose) {
+        if (map == null || heuristic == null) {
+            throw new IllegalArgumentException("Harita ve sezgisel boş olamaz!");
+        }
+        this.map = map;
+        this.heuristic = heuristic;
+        this.verbose = verbose;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * Rota hesapla - A* (hedefe yönelik arama)
+     */
+    @Override
+    public RouteCalculationResult calculateRoute(Node startNode, Node endNode, VehicleType vehicle) {
+        if (startNode == null || endNode == null) {
+            System.err.println("[A*] HATA: Başlangıç ve Bitiş noktası boş olamaz!");
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        if (verbose) {
+            System.out.println("\n[A*] Rota hesaplanıyor (" + heuristic + ")...");
+            System.out.println("[A*] Başlangıç: " + startNode.getName());
+            System.out.println("[A*] Hedef: " + endNode.getName());
+            System.out.println("[A*] Araç tipi: " + vehicle);
+        }
+
+        // 1. Sorgu boyunca kullanılacak görüntüyü sabitle
+        IRoadGraph graph = map.getGraph();
+
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[A*] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı sonuç)
+        if (startId == endId) {
+            if (verbose) {
+                System.out.println("[A*] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        Calibration calibration = calibrationOf(graph);
+
+        // Sezgisel: hedefe büyük daire mesafesi × çarpan (konumlar eksikse çarpan 0)
+        double factor = calibration.complete ? calibration.scale * ROUNDING_MARGIN : 0;
+        if (heuristic == Heuristic.TIME) {
+            factor = calibration.maxSpeed > 0 ? factor * SECONDS_PER_METER_AT_1_KMH / calibration.maxSpeed : 0;
+        }
+        double[] points = calibration.points;
+        double targetX = factor == 0 ? 0 : points[3 * endId];
+        double targetY = factor == 0 ? 0 : points[3 * endId + 1];
+        double targetZ = factor == 0 ? 0 : points[3 * endId + 2];
+
+        // Algoritma Değişkenleri: iş parçacığının arama alanı (costs: başlangıçtan maliyet, metre ya da
+        // saniye; estimates: hedefe sezgisel). Ulaşılmış ama kuyrukta olmayan şehir kesinleşmiştir.
+        SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT);
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        double[] costs = ws.costs();
+        double[] estimates = ws.estimates();
+        int settled = 0;
+        boolean found = false;
+
+        ws.reach(startId, 0, -1, -1);
+        costs[startId] = 0;
+        estimates[startId] = 0;
+        queue.update(startId, key(0));
+
+        // 2. A* Algoritması
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            settled++;
+
+            if (current == endId) {
+                if (verbose) {
+                    System.out.println("[A*] Hedef node'a ulaşıldı!");
+                }
+                found = true;
+                break;
+            }
+
+            double cost = costs[current];
+            int begin = graph.outBegin(current);
+            int degree = graph.outEnd(current) - begin;
+            int[] targets = ws.loadTargets(graph, current, degree);
+            for (int i = 0; i < degree; i++) {
+                int slot = begin + i;
+                if (!graph.isOpen(slot)) {
+                    continue;
+                }
+                double weight = edgeCost(graph, slot);
+                if (weight == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int neighbour = targets[i];
+                double newCost = cost + weight;
+                if (!ws.isReached(neighbour)) {
+                    // İlk ulaşma: sezgisel şehir başına bir kez
+                    estimates[neighbour] = factor == 0 ? 0
+                            : factor * chord(points, neighbour, targetX, targetY, targetZ);
+                } else if (!queue.contains(neighbour) || newCost >= costs[neighbour]) {
+                    continue;       // Kesinleşmiş ya da iyileşmiyor
+                }
+                ws.reach(neighbour, 0, current, slot);
+                costs[neighbour] = newCost;
+                queue.update(neighbour, key(newCost + estimates[neighbour]));
+            }
+        }
+
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        return buildResult(graph, ws, startId, found ? endId : -1, vehicle, settled);
+    }
+
+    // Negatif olmayan double öncelik → aynı sırada long kuyruk anahtarı
+    private static long key(double priority) {
+        return Double.doubleToRawLongBits(priority);
+    }
+
+    // Yolun maliyeti: DISTANCE → metre, TIME → saniye (hız limiti 0 ise geçilemez)
+    private double edgeCost(IRoadGraph graph, int slot) {
+        int meters = graph.getDistanceMeters(slot);
+        if (heuristic == Heuristic.DISTANCE) {
+            return meters;
+        }
+        int speedLimit = graph.getSpeedLimit(slot);
+        return speedLimit > 0 ? meters * SECONDS_PER_METER_AT_1_KMH / speedLimit : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Sonuç oluştur - rota mesafesi geçilen slotlardan toplanır (TIME modunda maliyet süredir)
+     */
+    private RouteCalculationResult buildResult(IRoadGraph graph, SearchWorkspace ws, int startId, int endId,
+                                               VehicleType vehicle, int settled) {
+        if (endId < 0) {
+            if (verbose) {
+                System.out.println("[A*] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0, settled);
+        }
+
+        // Hedeften geri sarılır, slotlar kökten hedefe sıralı gelir
+        int count = ws.unwind(endId);
+        int[] slots = ws.routeSlots();
+        List<Node> path = new ArrayList<>(count + 1);
+        path.add(graph.getNode(startId));
+        long meters = 0;
+        for (int i = 0; i < count; i++) {
+            path.add(graph.getNode(graph.getTarget(slots[i])));
+            meters += graph.getDistanceMeters(slots[i]);
+        }
+
+        double totalDistance = EdgeTable.toKilometers(meters);
+        double totalDuration = DijkstraStrategy.calculateDuration(graph, path, slots, vehicle, "[A*]", verbose);
+
+        if (verbose) {
+            System.out.println(String.format("[A*] ✓ Rota bulundu: %.1f km, %.1f dk (%s), %d şehir gezildi\n",
+                    totalDistance, totalDuration, vehicle, settled));
+        }
+        return new RouteCalculationResult(path, totalDistance, totalDuration, settled);
+    }
+
+    // --- Sezgisel ---
+
+    /**
+     * İki konum arasındaki büyük daire mesafesi (metre, haversine formülü)
+     */
+    public static double greatCircleMeters(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        return haversine(phi1, Math.toRadians(lon1), Math.cos(phi1), phi2, Math.toRadians(lon2), Math.cos(phi2));
+    }
+
+    // Şehirden hedefe kiriş mesafesi (metre): birim küre koordinatları arası düz çizgi × dünya yarıçapı
+    private static double chord(double[] points, int id, double targetX, double targetY, double targetZ) {
+        double dx = points[3 * id] - targetX;
+        double dy = points[3 * id + 1] - targetY;
+        double dz = points[3 * id + 2] - targetZ;
+        return EARTH_RADIUS_METERS * Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private static double haversine(double lat1, double lon1, double cos1, double lat2, double lon2, double cos2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinLat * sinLat + cos1 * cos2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Görüntünün sezgisel ayarı; aynı görüntü için önbellekten döner
+    private Calibration calibrationOf(IRoadGraph graph) {
+        Calibration cached = lastCalibration;
+        if (cached != null && cached.graph == graph) {
+            return cached;
+        }
+        Calibration calibration = Calibration.measure(graph);
+        lastCalibration = calibration;
+        return calibration;
+    }
+
+    /**
+     * Bir görüntü için sezgiselin kabul edilebilir kalmasını sağlayan değerler
+     */
+    private static final class Calibration {
+        private final IRoadGraph graph;
+        private final boolean complete;     // Tüm şehirlerin konumu var mı?
+        private final double scale;         // min(1, yol mesafesi / kiriş mesafesi)
+        private final int maxSpeed;         // En yüksek hız limiti (km/h)
+        private final double[] points;      // Şehir başına birim küre koordinatları (x, y, z); konum eksikse boş
+
+        private Calibration(IRoadGraph graph, boolean complete, double scale, int maxSpeed, double[] points) {
+            this.graph = graph;
+            this.complete = complete;
+            this.scale = scale;
+            this.maxSpeed = maxSpeed;
+            this.points = points;
+        }
+
+        static Calibration measure(IRoadGraph graph) {
+            int nodeCount = graph.getNodeCount();
+            double[] points = new double[3 * nodeCount];
+            for (int id = 0; id < nodeCount; id++) {
+                double lat = graph.getLatitude(id);
+                double lon = graph.getLongitude(id);
+                if (Double.isNaN(lat) || Double.isNaN(lon)) {
+                    return new Calibration(graph, false, 0, maxSpeed(graph), new double[0]);
+                }
+                double phi = Math.toRadians(lat);
+                double lambda = Math.toRadians(lon);
+                points[3 * id] = Math.cos(phi) * Math.cos(lambda);
+                points[3 * id + 1] = Math.cos(phi) * Math.sin(lambda);
+                points[3 * id + 2] = Math.sin(phi);
+            }
+
+            // Kapalı yollar da dahil edilir: durum değişince ölçek yeniden hesaplanmak zorunda kalmaz
+            double scale = 1;
+            int maxSpeed = 0;
+            for (int source = 0; source < nodeCount; source++) {
+                int end = graph.outEnd(source);
+                for (int slot = graph.outBegin(source); slot < end; slot++) {
+                    maxSpeed = Math.max(maxSpeed, graph.getSpeedLimit(slot));
+                    int target = graph.getTarget(slot);
+                    double straight = chord(points, source, points[3 * target], points[3 * target + 1],
+                            points[3 * target + 2]);
+                    if (straight > 0 && graph.getDistanceMeters(slot) < straight * scale) {
+                        scale = graph.getDistanceMeters(slot) / straight;
+                    }
+                }
+            }
+            return new Calibration(graph, true, scale, maxSpeed, points);
+        }
+
+        private static int maxSpeed(IRoadGraph graph) {
+            int maxSpeed = 0;
+            for (int slot = 0; slot < graph.getEdgeCount(); slot++) {
+                maxSpeed = Math.max(maxSpeed, graph.getSpeedLimit(slot));
+            }
+            return maxSpeed;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * AlternativeRouteMethod - Alternatif Rota Üretme Yöntemi
+ *
+ * AMAÇ:
+ * AlternativeRoutesCalculator'ın aday rotaları nasıl ürettiğini seçer.
+ *
+ * DEĞERLER:
+ * - PLATEAU: ileri ve geri en kısa yol ağaçları bir kez kurulur; iki ağaçta da bulunan yol
+ *   zincirleri (plato) aday verir. Ek arama yapılmaz (~3 Dijkstra sorgusu kadar).
+ * - PENALTY: bulunan rotaların yolları cezalandırılıp Dijkstra tekrar çalıştırılır; her tur
+ *   bir sorgu daha demektir, plato bulunmayan haritalarda da aday üretir.
+ * - PLATEAU_THEN_PENALTY (varsayılan): önce plato; istenen sayıya ulaşılamazsa ceza turları
+ *
+ * İLİŞKİLİ SINIFLAR: AlternativeRoutesCalculator
+ */
+public enum AlternativeRouteMethod {
+    PLATEAU,
+    PENALTY,
+    PLATEAU_THEN_PENALTY
+}
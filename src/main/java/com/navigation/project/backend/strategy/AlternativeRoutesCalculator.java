@@ -0,0 +1,481 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * AlternativeRoutesCalculator - Anlamlı Alternatif Rotalar (Plato ve Ceza Yöntemleri)
+ *
+ * AMAÇ:
+ * Arayüzde gösterilecek, birbirinden belirgin şekilde farklı 2-3 rota üretir. Yen (k en kısa
+ * rota) hem yavaştır hem de sonuçları neredeyse aynı rotalardır (bir iki sokak farkı).
+ *
+ * NE İŞE YARAR:
+ * - İleri ağaç (başlangıçtan) ve geri ağaç (hedefe) bir kez kurulur; ikisi de en kısa rota
+ *   maliyetinin (1 + maxStretch) katıyla sınırlıdır
+ * - Plato: iki ağaçta da bulunan yol zinciri. Platonun başındaki şehir a için aday rota
+ *   "ileri ağaçta başlangıç → a" + "geri ağaçta a → hedef"tir; plato boyunca rota yerel olarak en kısadır
+ * - Ceza (PENALTY): seçilen rotaların yolları (1 + PENALTY_FACTOR) ile ağırlaştırılıp Dijkstra
+ *   tekrar çalıştırılır; bulunan rota gerçek maliyetiyle değerlendirilir
+ * - Adaylar maliyet sırasıyla süzülür (kabul edilebilirlik):
+ *   · uzama (stretch): maliyet ≤ (1 + maxStretch) x en kısa
+ *   · paylaşım (overlap): seçilmiş her rota ile ortak yolların maliyeti ≤ maxSharing x en kısa
+ *   · yerel en iyilik: plato uzunluğu ≥ minLocalOptimality x en kısa (ceza rotaları için: rota
+ *     cezalı ağırlıklarla en kısadır, bu test uygulanmaz)
+ *   · döngüsüzlük: aynı şehirden iki kez geçen aday atılır
+ *
+ * SONUÇ:
+ * İlk eleman en kısa rotadır, sonra kabul edilen alternatifler (en fazla count rota).
+ * Her sonuç kendi mesafe ve süresini (DijkstraStrategy.calculateDuration) taşır.
+ *
+ * MALİYET (RouteObjective):
+ * SHORTEST: mesafe (metre), FASTEST: araç tipinin süresi (milisaniye, EdgeWeights); sadece OPEN yollar
+ *
+ * İLİŞKİLİ SINIFLAR: AlternativeRouteMethod, SearchWorkspace, KShortestPathsCalculator, RouteCalculationResult
+ *
+ * ÖRNEK:
+ * AlternativeRoutesCalculator calculator = new AlternativeRoutesCalculator(map);
+ * List<RouteCalculationResult> routes = calculator.calculateRoutes(start, end, VehicleType.CAR, 3);
+ */
+public class AlternativeRoutesCalculator {
+
+    public static final double DEFAULT_MAX_STRETCH = 0.25;
+    public static final double DEFAULT_MAX_SHARING = 0.6;
+    public static final double DEFAULT_MIN_LOCAL_OPTIMALITY = 0.2;
+
+    // Ceza yöntemi: seçilen rotadaki yolun ağırlığı her seçimde bu oranda artar; en fazla tur sayısı
+    private static final double PENALTY_FACTOR = 0.5;
+    private static final int PENALTY_ROUNDS = 4;
+
+    private final CityMap map;
+    private final RouteObjective objective;
+    private final AlternativeRouteMethod method;
+    private final double maxStretch;
+    private final double maxSharing;
+    private final double minLocalOptimality;
+
+    // FASTEST: araç tipi başına son görüntünün süre ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public AlternativeRoutesCalculator(CityMap map) {
+        this(map, RouteObjective.SHORTEST, AlternativeRouteMethod.PLATEAU_THEN_PENALTY);
+    }
+
+    public AlternativeRoutesCalculator(CityMap map, RouteObjective objective, AlternativeRouteMethod method) {
+        this(map, objective, method, DEFAULT_MAX_STRETCH, DEFAULT_MAX_SHARING, DEFAULT_MIN_LOCAL_OPTIMALITY);
+    }
+
+    public AlternativeRoutesCalculator(CityMap map, RouteObjective objective, AlternativeRouteMethod method,
+                                       double maxStretch, double maxSharing, double minLocalOptimality) {
+        if (map == null || objective == null || method == null) {
+            throw new IllegalArgumentException("Harita, amaç ve yöntem boş olamaz!");
+        }
+        if (!(maxStretch >= 0) || !(maxSharing >= 0 && maxSharing <= 1)
+                || !(minLocalOptimality >= 0 && minLocalOptimality <= 1)) {
+            throw new IllegalArgumentException("Süzgeç oranları geçersiz: " + maxStretch + ", " + maxSharing
+                    + ", " + minLocalOptimality);
+        }
+        this.map = map;
+        this.objective = objective;
+        this.method = method;
+        this.maxStretch = maxStretch;
+        this.maxSharing = maxSharing;
+        this.minLocalOptimality = minLocalOptimality;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    public AlternativeRouteMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * En kısa rota + en fazla count - 1 alternatif. Yol yoksa ya da başlangıç = hedef ise boş liste.
+     */
+    public List<RouteCalculationResult> calculateRoutes(Node startNode, Node endNode, VehicleType vehicle,
+                                                        int count) {
+        if (startNode == null || endNode == null || vehicle == null) {
+            throw new IllegalArgumentException("Başlangıç, hedef ve araç tipi boş olamaz!");
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("Rota sayısı en az 1 olmalı: " + count);
+        }
+
+        // Sorgu boyunca tek görüntü
+        IRoadGraph graph = map.getGraph();
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0 || startId == endId) {
+            return Collections.emptyList();
+        }
+        int[] weights = objective == RouteObjective.FASTEST
+                ? EdgeWeights.travelTime(profiles, graph, vehicle).weights : null;
+
+        // 1. İleri ağaç: hedef kesinleşince sınır (1 + maxStretch) x en kısa olur
+        SearchWorkspace forward = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT, 0);
+        boolean plateau = method != AlternativeRouteMethod.PENALTY;
+        Tree tree = growForward(graph, weights, forward, startId, endId, plateau);
+        if (tree == null) {
+            return Collections.emptyList();
+        }
+        long shortest = tree.shortest;
+        long bound = tree.bound;
+
+        List<Route> selected = new ArrayList<>(count);
+        int shortestCount = forward.unwind(endId);
+        selected.add(new Route(Arrays.copyOf(forward.routeSlots(), shortestCount), shortest));
+        int settled = tree.settled;
+
+        // 2. Plato adayları
+        if (plateau && count > 1) {
+            SearchWorkspace backward = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT, 1);
+            settled += growBackward(graph, weights, backward, endId, bound);
+            List<Route> candidates = plateauCandidates(graph, weights, forward, backward, tree, startId, endId);
+            candidates.sort((a, b) -> Long.compare(a.cost, b.cost));
+            for (Route candidate : candidates) {
+                if (selected.size() == count) {
+                    break;
+                }
+                if (isAdmissible(graph, weights, candidate, selected, shortest, bound)) {
+                    selected.add(candidate);
+                }
+            }
+        }
+
+        // 3. Ceza turları
+        if (method != AlternativeRouteMethod.PLATEAU && selected.size() < count) {
+            Map<Integer, Integer> penalties = new HashMap<>();
+            for (Route route : selected) {
+                penalize(route, penalties);
+            }
+            for (int round = 0; round < PENALTY_ROUNDS && selected.size() < count; round++) {
+                Route candidate = penalizedRoute(graph, weights, forward, startId, endId, penalties);
+                if (candidate == null) {
+                    break;
+                }
+                settled += candidate.settled;
+                if (candidate.cost <= bound && isAdmissible(graph, weights, candidate, selected, shortest, bound)) {
+                    selected.add(candidate);
+                }
+                penalize(candidate, penalties);
+            }
+        }
+
+        List<RouteCalculationResult> routes = new ArrayList<>(selected.size());
+        for (Route route : selected) {
+            routes.add(toResult(graph, startId, route, vehicle, settled));
+        }
+        return routes;
+    }
+
+    /**
+     * Başlangıçtan Dijkstra. Hedef kesinleşince sınır belirlenir; plato isteniyorsa arama sınıra
+     * kadar sürer (kesinleşen şehirler sırayla tutulur), istenmiyorsa hedefte durur.
+     * Hedefe yol yoksa null.
+     */
+    private Tree growForward(IRoadGraph graph, int[] weights, SearchWorkspace ws, int startId, int endId,
+                             boolean untilBound) {
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        ws.reach(startId, 0, -1, -1);
+        queue.update(startId, 0);
+        Tree tree = new Tree();
+        long bound = Long.MAX_VALUE;
+
+        while (!queue.isEmpty()) {
+            long cost = queue.minKey();
+            if (cost > bound) {
+                break;
+            }
+            int current = queue.pop();
+            tree.add(current);
+            if (current == endId) {
+                tree.shortest = cost;
+                bound = cost + (long) Math.floor(cost * maxStretch);
+                if (!untilBound) {
+                    break;
+                }
+            }
+            int begin = graph.outBegin(current);
+            int degree = graph.outEnd(current) - begin;
+            int[] targets = ws.loadTargets(graph, current, degree);
+            for (int i = 0; i < degree; i++) {
+                int slot = begin + i;
+                int weight = weight(graph, weights, slot);
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                long newCost = cost + weight;
+                if (newCost <= bound && newCost < ws.distance(targets[i])) {
+                    ws.reach(targets[i], newCost, current, slot);
+                    queue.update(targets[i], newCost);
+                }
+            }
+        }
+        if (bound == Long.MAX_VALUE) {
+            return null;
+        }
+        tree.bound = bound;
+        tree.settled = tree.size;
+        return tree;
+    }
+
+    /**
+     * Hedeften gelen yollar üzerinden sınırlı Dijkstra. previous[u]: hedefe doğru sonraki şehir,
+     * slots[u]: u → previous[u] yolunun slotu. Kesinleşen şehir sayısını döner.
+     */
+    private static int growBackward(IRoadGraph graph, int[] weights, SearchWorkspace ws, int endId, long bound) {
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        ws.reach(endId, 0, -1, -1);
+        queue.update(endId, 0);
+        int settled = 0;
+        while (!queue.isEmpty()) {
+            long cost = queue.minKey();
+            if (cost > bound) {
+                break;
+            }
+            int current = queue.pop();
+            settled++;
+            int end = graph.inEnd(current);
+            for (int position = graph.inBegin(current); position < end; position++) {
+                int slot = graph.getInSlot(position);
+                int weight = weight(graph, weights, slot);
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                int source = graph.getInSource(position);
+                long newCost = cost + weight;
+                if (newCost <= bound && newCost < ws.distance(source)) {
+                    ws.reach(source, newCost, current, slot);
+                    queue.update(source, newCost);
+                }
+            }
+        }
+        return settled;
+    }
+
+    /**
+     * Platolar: u → v yolu (slot e) ileri ağaçta v'nin giriş yolu ve geri ağaçta u'nun çıkış yolu
+     * ise iki ağaçta da vardır. Plato başı a: girişi plato olmayan şehir. Aday = ileri(s → a) + geri(a → t).
+     * Sınırın altındaki şehirler iki aramada da kesinleşmiştir (etiketler kesin).
+     */
+    private List<Route> plateauCandidates(IRoadGraph graph, int[] weights, SearchWorkspace forward,
+                                          SearchWorkspace backward, Tree tree, int startId, int endId) {
+        List<Route> candidates = new ArrayList<>();
+        long minPlateau = (long) Math.ceil(tree.shortest * minLocalOptimality);
+        for (int i = 0; i < tree.size; i++) {
+            int start = tree.nodes[i];
+            if (!backward.isReached(start) || !isPlateauEdge(forward, backward, start)) {
+                continue;
+            }
+            long cost = forward.distances[start] + backward.distances[start];
+            if (cost > tree.bound) {
+                continue;
+            }
+            // Girişi de platodaysa başlangıç değildir
+            int before = forward.previous[start];
+            if (before >= 0 && backward.isReached(before) && backward.previous[before] == start
+                    && backward.slots[before] == forward.slots[start]) {
+                continue;
+            }
+            // Plato sonu ve uzunluğu
+            int end = start;
+            while (end != endId && isPlateauEdge(forward, backward, end)) {
+                end = backward.previous[end];
+            }
+            long length = forward.distances[end] - forward.distances[start];
+            if (length < minPlateau || (start == startId && end == endId)) {
+                continue;   // Çok kısa plato ya da en kısa rotanın kendisi
+            }
+            int rootCount = forward.unwind(start);
+            int[] slots = Arrays.copyOf(forward.routeSlots(), rootCount + backwardLength(backward, start));
+            int index = rootCount;
+            for (int node = start; node != endId; node = backward.previous[node]) {
+                slots[index++] = backward.slots[node];
+            }
+            candidates.add(new Route(slots, cost));
+        }
+        return candidates;
+    }
+
+    // u'nun geri ağaçtaki çıkış yolu ileri ağaçta da hedefinin giriş yolu mu?
+    private static boolean isPlateauEdge(SearchWorkspace forward, SearchWorkspace backward, int node) {
+        if (!backward.isReached(node) || backward.previous[node] < 0) {
+            return false;
+        }
+        int next = backward.previous[node];
+        return forward.isReached(next) && forward.previous[next] == node && forward.slots[next] == backward.slots[node];
+    }
+
+    private static int backwardLength(SearchWorkspace backward, int node) {
+        int length = 0;
+        for (int step = node; backward.previous[step] >= 0; step = backward.previous[step]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Uzama, paylaşım ve döngüsüzlük testleri (plato uzunluğu aday üretilirken test edilir)
+     */
+    private boolean isAdmissible(IRoadGraph graph, int[] weights, Route candidate, List<Route> selected,
+                                 long shortest, long bound) {
+        if (candidate.cost > bound) {
+            return false;
+        }
+        Set<Integer> nodes = new HashSet<>();
+        for (int slot : candidate.slots) {
+            if (!nodes.add(graph.getTarget(slot))) {
+                return false;
+            }
+        }
+        long maxShared = (long) Math.floor(shortest * maxSharing);
+        for (Route route : selected) {
+            long shared = 0;
+            Set<Integer> slots = route.slotSet();
+            for (int slot : candidate.slots) {
+                if (slots.contains(slot)) {
+                    shared += weight(graph, weights, slot);
+                }
+            }
+            if (shared > maxShared) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cezalı ağırlıklarla başlangıçtan hedefe Dijkstra; rota gerçek maliyetiyle döner (yoksa null)
+     */
+    private static Route penalizedRoute(IRoadGraph graph, int[] weights, SearchWorkspace ws, int startId, int endId,
+                                        Map<Integer, Integer> penalties) {
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        ws.reach(startId, 0, -1, -1);
+        queue.update(startId, 0);
+        int settled = 0;
+        while (!queue.isEmpty()) {
+            long cost = queue.minKey();
+            int current = queue.pop();
+            settled++;
+            if (current == endId) {
+                int count = ws.unwind(endId);
+                int[] slots = Arrays.copyOf(ws.routeSlots(), count);
+                long real = 0;
+                for (int slot : slots) {
+                    real += weight(graph, weights, slot);
+                }
+                Route route = new Route(slots, real);
+                route.settled = settled;
+                return route;
+            }
+            int begin = graph.outBegin(current);
+            int degree = graph.outEnd(current) - begin;
+            int[] targets = ws.loadTargets(graph, current, degree);
+            for (int i = 0; i < degree; i++) {
+                int slot = begin + i;
+                int weight = weight(graph, weights, slot);
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                Integer hits = penalties.get(slot);
+                long penalized = hits == null ? weight : (long) Math.ceil(weight * (1 + PENALTY_FACTOR * hits));
+                long newCost = cost + penalized;
+                if (newCost < ws.distance(targets[i])) {
+                    ws.reach(targets[i], newCost, current, slot);
+                    queue.update(targets[i], newCost);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void penalize(Route route, Map<Integer, Integer> penalties) {
+        for (int slot : route.slots) {
+            penalties.merge(slot, 1, Integer::sum);
+        }
+    }
+
+    // Yolun arama ağırlığı; kapalı yol (ya da geçilemeyen) INFINITE
+    private static int weight(IRoadGraph graph, int[] weights, int slot) {
+        if (weights != null) {
+            return weights[slot];
+        }
+        return graph.isOpen(slot) ? graph.getDistanceMeters(slot) : EdgeMetric.INFINITE;
+    }
+
+    private static RouteCalculationResult toResult(IRoadGraph graph, int startId, Route route, VehicleType vehicle,
+                                                   int settled) {
+        List<Node> path = new ArrayList<>(route.slots.length + 1);
+        path.add(graph.getNode(startId));
+        long meters = 0;
+        for (int slot : route.slots) {
+            path.add(graph.getNode(graph.getTarget(slot)));
+            meters += graph.getDistanceMeters(slot);
+        }
+        double duration = DijkstraStrategy.calculateDuration(graph, path, route.slots, vehicle, "[Alternatif]", false);
+        return new RouteCalculationResult(path, EdgeTable.toKilometers(meters), duration, settled);
+    }
+
+    // İleri ağacın kesinleşen şehirleri (sırayla), en kısa maliyet ve sınır
+    private static final class Tree {
+        private int[] nodes = new int[256];
+        private int size;
+        private long shortest;
+        private long bound;
+        private int settled;
+
+        void add(int node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            nodes[size++] = node;
+        }
+    }
+
+    // Aday / seçilmiş rota: başlangıçtan hedefe slotlar ve gerçek maliyet
+    private static final class Route {
+        private final int[] slots;
+        private final long cost;
+        private int settled;
+        private Set<Integer> slotSet;
+
+        private Route(int[] slots, long cost) {
+            this.slots = slots;
+            this.cost = cost;
+        }
+
+        // Paylaşım testi için (ilk kullanımda kurulur)
+        Set<Integer> slotSet() {
+            if (slotSet == null) {
+                slotSet = new HashSet<>(slots.length * 2);
+                for (int slot : slots) {
+                    slotSet.add(slot);
+                }
+            }
+            return slotSet;
+        }
+    }
+}
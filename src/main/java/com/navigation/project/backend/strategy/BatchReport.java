@@ -0,0 +1,68 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * BatchReport - Toplu Rota Hesabı Özeti
+ *
+ * AMAÇ:
+ * Bir BatchRouteCalculator çağrısının istek, bulunan rota, arama (grup) sayısını ve toplam
+ * süresini tutar; saniyedeki rota sayısını (throughput) verir.
+ *
+ * İLİŞKİLİ SINIFLAR: BatchRouteCalculator, BatchRouteResult
+ *
+ * ÖRNEK:
+ * BatchReport report = calculator.stream(requests, listener);
+ * double rate = report.getRoutesPerSecond();
+ */
+public class BatchReport {
+    private final int requestCount;
+    private final int routeCount;           // Yol bulunan istek sayısı
+    private final int searchCount;          // Çalışan arama (başlangıç grubu) sayısı
+    private final long settledNodes;        // Aramaların toplam kesinleşen şehir sayısı
+    private final long elapsedNanos;
+    private final int threads;
+
+    public BatchReport(int requestCount, int routeCount, int searchCount, long settledNodes, long elapsedNanos,
+                       int threads) {
+        this.requestCount = requestCount;
+        this.routeCount = routeCount;
+        this.searchCount = searchCount;
+        this.settledNodes = settledNodes;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    public int getSearchCount() {
+        return searchCount;
+    }
+
+    public long getSettledNodes() {
+        return settledNodes;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    // Saniyede hesaplanan istek sayısı
+    public double getRoutesPerSecond() {
+        return elapsedNanos == 0 ? 0 : requestCount / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Toplu rota => %d istek, %d rota, %d arama, %.2f sn, %.0f rota/sn (%d iş parçacığı)",
+                requestCount, routeCount, searchCount, getElapsedSeconds(), getRoutesPerSecond(), threads);
+    }
+}
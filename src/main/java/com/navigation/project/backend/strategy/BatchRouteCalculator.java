@@ -0,0 +1,311 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+/**
+ * BatchRouteCalculator - Toplu (Gece İşi) Rota Hesabı
+ *
+ * AMAÇ:
+ * Yüz binlerce (başlangıç, hedef, araç tipi) isteğini NavigationFacade.calculateRoute'u tek tek
+ * çağırmadan (her çağrı TripAlgorithm kurar ve konsola fiş yazar) hesaplar.
+ *
+ * NE İŞE YARAR:
+ * - İstekler başlangıç şehrine göre gruplanır: grup başına tek bir Dijkstra, gruptaki tüm
+ *   hedefler kesinleşince durur (arama ağacı paylaşılır)
+ * - Gruplar iş parçacığı havuzunda çalışır (büyük gruplar önce)
+ * - calculate(): sonuçlar istek sırasıyla (BatchRouteResult)
+ * - stream(): istekler akıştan CHUNK_SIZE'lık parçalar halinde okunur, sonuçlar hesaplandıkça
+ *   IRouteResultListener'a verilir (bellek parça boyutuyla sınırlı)
+ * - Konsola yazmaz; özet (rota/sn) BatchReport ile döner
+ *
+ * METRİK:
+ * Rotalar DijkstraStrategy ile aynıdır (ortak DijkstraStrategy.settle döngüsü): SHORTEST en kısa mesafe,
+ * FASTEST araç tipinin en kısa süresi; sadece OPEN yollar. Süre DijkstraStrategy.calculateDuration
+ * kurallarıyla hesaplanır. SHORTEST'te rota araç tipinden bağımsız olduğu için farklı araç tipli
+ * aynı başlangıçlı istekler tek grupta toplanır; FASTEST'te grup (başlangıç, araç tipi)'dir.
+ * Haritada olmayan şehirli ya da yolu olmayan isteğin sonucunun path'i boştur.
+ *
+ * İLİŞKİLİ SINIFLAR: RouteRequest, IRouteResultListener, BatchRouteResult, BatchReport, DijkstraStrategy
+ *
+ * ÖRNEK:
+ * BatchRouteCalculator calculator = new BatchRouteCalculator(map);
+ * BatchRouteResult batch = calculator.calculate(requests);
+ * System.out.println(batch.getReport());   // ... rota/sn
+ */
+public class BatchRouteCalculator {
+
+    // stream(): akıştan bir seferde okunan istek sayısı
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    private final CityMap map;
+    private final RouteObjective objective;
+    private final int threads;
+
+    // FASTEST: araç tipi başına son görüntünün süre ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public BatchRouteCalculator(CityMap map) {
+        this(map, RouteObjective.SHORTEST, Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public BatchRouteCalculator(CityMap map, RouteObjective objective, int threads) {
+        if (map == null || objective == null) {
+            throw new IllegalArgumentException("Harita ve amaç boş olamaz!");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalı: " + threads);
+        }
+        this.map = map;
+        this.objective = objective;
+        this.threads = threads;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Tüm istekler; sonuçlar istek sırasıyla
+     */
+    public BatchRouteResult calculate(List<RouteRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("İstek listesi boş olamaz!");
+        }
+        RouteCalculationResult[] results = new RouteCalculationResult[requests.size()];
+        BatchReport report = stream(requests.stream(), (index, request, result) -> results[index] = result);
+        return new BatchRouteResult(Arrays.asList(results), report);
+    }
+
+    /**
+     * Akıştaki istekler; sonuçlar hesaplandıkça listener'a (tamamlanma sırasıyla). Akış bitince döner.
+     */
+    public BatchReport stream(Stream<RouteRequest> requests, IRouteResultListener listener) {
+        if (requests == null || listener == null) {
+            throw new IllegalArgumentException("İstek akışı ve dinleyici boş olamaz!");
+        }
+        long start = System.nanoTime();
+        Batch batch = new Batch(listener);
+        ExecutorService pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "batch-router");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Iterator<RouteRequest> iterator = requests.iterator();
+            List<RouteRequest> chunk = new ArrayList<>();
+            int base = 0;
+            while (iterator.hasNext()) {
+                chunk.clear();
+                while (iterator.hasNext() && chunk.size() < CHUNK_SIZE) {
+                    RouteRequest request = iterator.next();
+                    if (request == null) {
+                        throw new IllegalArgumentException("İstek boş olamaz (sıra " + (base + chunk.size()) + ")");
+                    }
+                    chunk.add(request);
+                }
+                batch.run(chunk, base, pool);
+                base += chunk.size();
+            }
+            return new BatchReport(base, batch.routes.get(), batch.searches.get(), batch.settled.get(),
+                    System.nanoTime() - start, threads);
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Bir stream() çağrısının durumu: sayaçlar ve sıralı teslim
+     */
+    private final class Batch {
+        private final IRouteResultListener listener;
+        private final AtomicInteger routes = new AtomicInteger();
+        private final AtomicInteger searches = new AtomicInteger();
+        private final AtomicLong settled = new AtomicLong();
+
+        Batch(IRouteResultListener listener) {
+            this.listener = listener;
+        }
+
+        // Bir parçayı gruplar ve grupları (büyükten küçüğe) havuzda çalıştırır
+        void run(List<RouteRequest> chunk, int base, ExecutorService pool) {
+            // Parça boyunca tek görüntü
+            IRoadGraph graph = map.getGraph();
+            boolean fastest = objective == RouteObjective.FASTEST;
+            int vehicles = VehicleType.values().length;
+
+            Map<Long, Group> groups = new LinkedHashMap<>();
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                RouteRequest request = chunk.get(i);
+                int startId = graph.idOf(request.getStart());
+                if (startId < 0 || graph.idOf(request.getEnd()) < 0) {
+                    missing.add(i);
+                    continue;
+                }
+                long key = fastest ? (long) startId * vehicles + request.getVehicle().ordinal() : startId;
+                groups.computeIfAbsent(key, k -> new Group(startId, request.getVehicle())).add(i);
+            }
+            if (!missing.isEmpty()) {
+                int[] indices = new int[missing.size()];
+                RouteCalculationResult[] results = new RouteCalculationResult[indices.length];
+                for (int i = 0; i < indices.length; i++) {
+                    indices[i] = missing.get(i);
+                    results[i] = empty();
+                }
+                deliver(chunk, base, indices, results);
+            }
+
+            List<Group> ordered = new ArrayList<>(groups.values());
+            ordered.sort((a, b) -> Integer.compare(b.size, a.size));
+            if (pool == null) {
+                for (Group group : ordered) {
+                    search(graph, chunk, base, group);
+                }
+                return;
+            }
+            List<Future<?>> futures = new ArrayList<>(ordered.size());
+            for (Group group : ordered) {
+                futures.add(pool.submit(() -> search(graph, chunk, base, group)));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Toplu rota hesabı kesildi", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Toplu rota hesabı başarısız: " + e.getCause(), e.getCause());
+            }
+        }
+
+        /**
+         * Grubun başlangıcından Dijkstra (DijkstraStrategy.settle); gruptaki tüm hedefler
+         * kesinleşince durur. Rota hedef kesinleştiği anda çıkarılır.
+         */
+        private void search(IRoadGraph graph, List<RouteRequest> chunk, int base, Group group) {
+            int[] weights = DijkstraStrategy.searchWeights(profiles, graph, objective, group.vehicle);
+
+            // Hedef şehir → gruptaki istekler (parça içi sıra)
+            Map<Integer, List<Integer>> pending = new HashMap<>();
+            for (int i = 0; i < group.size; i++) {
+                int index = group.indices[i];
+                int endId = graph.idOf(chunk.get(index).getEnd());
+                pending.computeIfAbsent(endId, k -> new ArrayList<>(1)).add(index);
+            }
+            RouteCalculationResult[] results = new RouteCalculationResult[group.size];
+            int[] indices = new int[group.size];
+            int[] done = {0};
+
+            SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT);
+            int settledNodes = DijkstraStrategy.settle(graph, ws, group.startId, -1, weights, (node, settledSoFar) -> {
+                List<Integer> waiting = pending.remove(node);
+                if (waiting != null) {
+                    done[0] = collect(graph, chunk, ws, group.startId, node, waiting, settledSoFar, results,
+                            indices, done[0]);
+                }
+                return !pending.isEmpty();
+            }, "[Toplu]", false);
+
+            // Ulaşılamayan hedefler
+            for (List<Integer> waiting : pending.values()) {
+                for (int index : waiting) {
+                    indices[done[0]] = index;
+                    results[done[0]++] = empty();
+                }
+            }
+            searches.incrementAndGet();
+            settled.addAndGet(settledNodes);
+            deliver(chunk, base, indices, results);
+        }
+
+        // Kesinleşen hedefin rotası; aynı hedefli istekler rotayı paylaşır, süre araç tipine göre
+        private int collect(IRoadGraph graph, List<RouteRequest> chunk, SearchWorkspace ws, int startId, int endId,
+                            List<Integer> waiting, int settledNodes, RouteCalculationResult[] results, int[] indices,
+                            int done) {
+            VehicleType first = chunk.get(waiting.get(0)).getVehicle();
+            RouteCalculationResult route = DijkstraStrategy.route(graph, ws, startId, endId, first, settledNodes,
+                    "[Toplu]", false);
+            if (route == null) {
+                // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı)
+                for (int index : waiting) {
+                    indices[done] = index;
+                    results[done++] = empty();
+                }
+                return done;
+            }
+            for (int index : waiting) {
+                VehicleType vehicle = chunk.get(index).getVehicle();
+                indices[done] = index;
+                results[done++] = vehicle == first ? route : new RouteCalculationResult(route.getPath(),
+                        route.getTotalDistance(), DijkstraStrategy.calculateDuration(graph, route.getPath(),
+                        ws.routeSlots(), vehicle, "[Toplu]", false), settledNodes);
+                routes.incrementAndGet();
+            }
+            return done;
+        }
+
+        // Sonuçları listener'a verir; çağrılar sıralanır
+        private void deliver(List<RouteRequest> chunk, int base, int[] indices, RouteCalculationResult[] results) {
+            synchronized (this) {
+                for (int i = 0; i < indices.length; i++) {
+                    listener.onRouteCalculated(base + indices[i], chunk.get(indices[i]), results[i]);
+                }
+            }
+        }
+    }
+
+    private static RouteCalculationResult empty() {
+        return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+    }
+
+    // Aynı başlangıçlı (FASTEST'te aynı araç tipli) istekler
+    private static final class Group {
+        private final int startId;
+        private final VehicleType vehicle;
+        private int[] indices = new int[4];
+        private int size;
+
+        Group(int startId, VehicleType vehicle) {
+            this.startId = startId;
+            this.vehicle = vehicle;
+        }
+
+        void add(int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.navigation.project.backend.strategy;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BatchRouteResult - İstek Sırasıyla Toplu Rota Sonuçları
+ *
+ * AMAÇ:
+ * BatchRouteCalculator.calculate() sonuçlarını istek listesiyle aynı sırada ve hesabın
+ * özetini (BatchReport) immutable olarak tutar.
+ *
+ * İLİŞKİLİ SINIFLAR: BatchRouteCalculator, BatchReport, RouteCalculationResult
+ *
+ * ÖRNEK:
+ * BatchRouteResult batch = calculator.calculate(requests);
+ * RouteCalculationResult first = batch.getResult(0);
+ * double rate = batch.getReport().getRoutesPerSecond();
+ */
+public class BatchRouteResult {
+    private final List<RouteCalculationResult> results;     // İstek sırasıyla
+    private final BatchReport report;
+
+    public BatchRouteResult(List<RouteCalculationResult> results, BatchReport report) {
+        this.results = Collections.unmodifiableList(results);
+        this.report = report;
+    }
+
+    public List<RouteCalculationResult> getResults() {
+        return results;
+    }
+
+    public RouteCalculationResult getResult(int index) {
+        return results.get(index);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public BatchReport getReport() {
+        return report;
+    }
+}
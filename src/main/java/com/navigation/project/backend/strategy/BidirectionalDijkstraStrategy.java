@@ -0,0 +1,233 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.*;
+
+/**
+ * BidirectionalDijkstraStrategy - Çift Yönlü Dijkstra İmplementasyonu
+ *
+ * AMAÇ:
+ * Başlangıçtan ileri (çıkış yolları) ve hedeften geri (giriş yolları) iki Dijkstra aramasını
+ * aynı anda büyütür. Tek yönlü aramanın tek büyük arama dairesi yerine iki küçük daire oluşur;
+ * yol ağına benzeyen haritalarda gezilen şehir sayısı kabaca yarıya iner.
+ *
+ * NE İŞE YARAR:
+ * - İleri arama CSR çıkış komşuluğunu, geri arama ters CSR'yi (giriş komşuluğu) kullanır
+ * - OPEN olmayan yollar iki yönde de kullanılmaz (DijkstraStrategy ile aynı kural)
+ * - Her adımda kuyruğunun en küçük anahtarı daha küçük olan yön ilerletilir
+ * - Bir yön karşı yönün ulaştığı bir şehre vardığında en iyi buluşma mesafesi (mu) güncellenir
+ * - Araç tipine göre süre DijkstraStrategy ile aynı kurallarla hesaplanır
+ *
+ * PATTERN: Strategy Pattern
+ * İLİŞKİLİ SINIFLAR: IRouteStrategy, DijkstraStrategy, CityMap, IRoadGraph, RouteCalculationResult
+ *
+ * DURMA KOŞULU:
+ * İlk buluşma rotası en kısa olmak zorunda değildir. Arama, iki kuyruğun en küçük anahtarlarının
+ * toplamı mu'ya ulaşınca (topF + topB >= mu) durur; bu noktadan sonra hiçbir rota mu'dan kısa olamaz.
+ *
+ * KARMAŞIKLIK: O((V+E) log V), pratikte tek yönlünün yaklaşık yarısı kadar şehir gezilir
+ *
+ * ARAMA ALANI:
+ * İki yönün dizileri ve kuyrukları iş parçacığı başına bir kez ayrılır (SearchWorkspace, lane 0 / 1);
+ * kuyruk INodeQueue'dur (anahtar küçültme, eskimiş girdi yok). Kısa sorgular O(V) ayırma ya da
+ * temizlik yapmaz.
+ *
+ * ÖRNEK:
+ * IRouteStrategy strategy = new BidirectionalDijkstraStrategy(CityMap.getInstance());
+ * facade.setRouteStrategy(strategy);
+ */
+public class BidirectionalDijkstraStrategy implements IRouteStrategy {
+
+    private final CityMap map;
+    private final boolean verbose;
+
+    public BidirectionalDijkstraStrategy() {
+        this(CityMap.getInstance(), true);
+    }
+
+    public BidirectionalDijkstraStrategy(CityMap map) {
+        this(map, true);
+    }
+
+    public BidirectionalDijkstraStrategy(CityMap map, boolean verbose) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        this.map = map;
+        this.verbose = verbose;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    /**
+     * Rota hesapla - iki yönlü arama, buluşma şehrinde birleştirilir
+     */
+    @Override
+    public RouteCalculationResult calculateRoute(Node startNode, Node endNode, VehicleType vehicle) {
+        if (startNode == null || endNode == null) {
+            System.err.println("[Çift Yönlü] HATA: Başlangıç ve Bitiş noktası boş olamaz!");
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        if (verbose) {
+            System.out.println("\n[Çift Yönlü] Rota hesaplanıyor...");
+            System.out.println("[Çift Yönlü] Başlangıç: " + startNode.getName());
+            System.out.println("[Çift Yönlü] Hedef: " + endNode.getName());
+            System.out.println("[Çift Yönlü] Araç tipi: " + vehicle);
+        }
+
+        // 1. Sorgu boyunca kullanılacak görüntüyü sabitle
+        IRoadGraph graph = map.getGraph();
+
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[Çift Yönlü] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı sonuç)
+        if (startId == endId) {
+            if (verbose) {
+                System.out.println("[Çift Yönlü] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Algoritma Değişkenleri: her yön için iş parçacığının arama alanı (ileri: lane 0, geri: lane 1).
+        // İleride previous rotada bir önceki şehir, geride bir sonraki şehirdir; slot iki yönde de
+        // rotadaki yolun kendisidir. Ulaşılmış ama kuyrukta olmayan şehir kesinleşmiştir.
+        int nodeCount = graph.getNodeCount();
+        SearchWorkspace forward = SearchWorkspace.forThread(nodeCount, NodeQueueType.DEFAULT, 0);
+        SearchWorkspace backward = SearchWorkspace.forThread(nodeCount, NodeQueueType.DEFAULT, 1);
+        forward.reset();
+        backward.reset();
+        INodeQueue forwardQueue = forward.queue;
+        INodeQueue backwardQueue = backward.queue;
+        int settled = 0;
+
+        forward.reach(startId, 0, -1, -1);
+        forwardQueue.update(startId, 0);
+        backward.reach(endId, 0, -1, -1);
+        backwardQueue.update(endId, 0);
+
+        // En iyi buluşma: mesafe (mu) ve şehir
+        long best = Long.MAX_VALUE;
+        int meeting = -1;
+
+        // 2. Çift Yönlü Dijkstra
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            long forwardTop = forwardQueue.minKey();
+            long backwardTop = backwardQueue.minKey();
+
+            // Durma koşulu: kalan her rota en az topF + topB uzunluğundadır
+            if (best != Long.MAX_VALUE && forwardTop + backwardTop >= best) {
+                break;
+            }
+
+            if (forwardTop <= backwardTop) {
+                int current = forwardQueue.pop();
+                long distance = forward.distances[current];
+                settled++;
+
+                int end = graph.outEnd(current);
+                for (int slot = graph.outBegin(current); slot < end; slot++) {
+                    if (!graph.isOpen(slot)) {
+                        continue;
+                    }
+                    int neighbour = graph.getTarget(slot);
+                    long newDist = distance + graph.getDistanceMeters(slot);
+                    if (newDist < forward.distance(neighbour)) {
+                        forward.reach(neighbour, newDist, current, slot);
+                        forwardQueue.update(neighbour, newDist);
+                    }
+                    // Geri arama bu şehre ulaştıysa buluşma adayı
+                    long other = backward.distance(neighbour);
+                    if (other != Long.MAX_VALUE && forward.distances[neighbour] + other < best) {
+                        best = forward.distances[neighbour] + other;
+                        meeting = neighbour;
+                    }
+                }
+            } else {
+                int current = backwardQueue.pop();
+                long distance = backward.distances[current];
+                settled++;
+
+                int end = graph.inEnd(current);
+                for (int position = graph.inBegin(current); position < end; position++) {
+                    int slot = graph.getInSlot(position);
+                    if (!graph.isOpen(slot)) {
+                        continue;
+                    }
+                    int neighbour = graph.getInSource(position);
+                    long newDist = distance + graph.getDistanceMeters(slot);
+                    if (newDist < backward.distance(neighbour)) {
+                        backward.reach(neighbour, newDist, current, slot);
+                        backwardQueue.update(neighbour, newDist);
+                    }
+                    long other = forward.distance(neighbour);
+                    if (other != Long.MAX_VALUE && other + backward.distances[neighbour] < best) {
+                        best = other + backward.distances[neighbour];
+                        meeting = neighbour;
+                    }
+                }
+            }
+        }
+
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        if (meeting < 0) {
+            if (verbose) {
+                System.out.println("[Çift Yönlü] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0, settled);
+        }
+        if (verbose) {
+            System.out.println("[Çift Yönlü] Aramalar buluştu: " + graph.getNodeName(meeting));
+        }
+        return buildResult(graph, forward, backward, startId, meeting, best, vehicle, settled);
+    }
+
+    /**
+     * Sonuç oluştur: başlangıç → buluşma (ileri zincir) + buluşma → hedef (geri zincir)
+     */
+    private RouteCalculationResult buildResult(IRoadGraph graph, SearchWorkspace forward, SearchWorkspace backward,
+                                               int startId, int meeting, long meters, VehicleType vehicle,
+                                               int settled) {
+        // İleri yarı: buluşmadan köke geri sarılır, slotlar başlangıçtan buluşmaya sıralı gelir
+        int count = forward.unwind(meeting);
+        int total = count;
+        for (int step = meeting; backward.previous[step] >= 0; step = backward.previous[step]) {
+            total++;
+        }
+        int[] slots = Arrays.copyOf(forward.routeSlots(), total);
+        List<Node> path = new ArrayList<>(total + 1);
+        path.add(graph.getNode(startId));
+        for (int i = 0; i < count; i++) {
+            path.add(graph.getNode(graph.getTarget(slots[i])));
+        }
+
+        // Geri yarı zaten rota sırasındadır
+        for (int step = meeting; backward.previous[step] >= 0; step = backward.previous[step]) {
+            slots[count++] = backward.slots[step];
+            path.add(graph.getNode(backward.previous[step]));
+        }
+
+        double totalDistance = EdgeTable.toKilometers(meters);
+        double totalDuration = DijkstraStrategy.calculateDuration(graph, path, slots, vehicle, "[Çift Yönlü]", verbose);
+
+        if (verbose) {
+            System.out.println(String.format("[Çift Yönlü] ✓ Rota bulundu: %.1f km, %.1f dk (%s), %d şehir gezildi\n",
+                    totalDistance, totalDuration, vehicle, settled));
+        }
+        return new RouteCalculationResult(path, totalDistance, totalDuration, settled);
+    }
+}
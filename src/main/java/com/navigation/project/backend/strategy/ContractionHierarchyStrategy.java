@@ -0,0 +1,212 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ContractionHierarchyStrategy - Kısayol Hiyerarşisi ile Rota Stratejisi
+ *
+ * AMAÇ:
+ * Haritanın ön işlenmiş ContractionHierarchy'si üzerinden noktadan noktaya sorguları
+ * milisaniyenin altında cevaplar. Sonuç DijkstraStrategy ile aynıdır (en kısa mesafe, OPEN yollar).
+ *
+ * NE İŞE YARAR:
+ * - prepare(): hiyerarşiyi haritanın güncel görüntüsü için kurar (bir kez, sorgulardan önce)
+ * - Sorgu hiyerarşinin bağlı olduğu görüntü ile yapılır; kısayollar orijinal yollara açılır
+ * - Harita değiştiyse (BlockRoadCommand, SetSpeedLimitCommand, yeni yol...) hiyerarşi eskir:
+ *   o sırada sorgular DijkstraStrategy'ye düşer, arka planda hiyerarşi yenilenir
+ * - Sadece hız limiti değiştiyse mesafe metriği aynıdır; hiyerarşi yeniden kurulmadan
+ *   yeni görüntüye bağlanır (ContractionHierarchy.rebind)
+ *
+ * PATTERN: Strategy Pattern
+ * İLİŞKİLİ SINIFLAR: ContractionHierarchy, IRouteStrategy, DijkstraStrategy, CityMap
+ *
+ * ÖRNEK:
+ * ContractionHierarchyStrategy strategy = new ContractionHierarchyStrategy(map);
+ * strategy.prepare();
+ * facade.setRouteStrategy(strategy);
+ */
+public class ContractionHierarchyStrategy implements IRouteStrategy {
+
+    private final CityMap map;
+    private final boolean verbose;
+    private final boolean rebuildOnChange;
+    private final int threads;
+    private final DijkstraStrategy fallback;
+
+    private volatile ContractionHierarchy hierarchy;
+
+    // Arka planda yenilenen görüntü ve işi (this ile korunur)
+    private IRoadGraph pendingGraph;
+    private CompletableFuture<ContractionHierarchy> pending;
+
+    public ContractionHierarchyStrategy(CityMap map) {
+        this(map, true, true);
+    }
+
+    public ContractionHierarchyStrategy(CityMap map, boolean verbose, boolean rebuildOnChange) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        this.map = map;
+        this.verbose = verbose;
+        this.rebuildOnChange = rebuildOnChange;
+        this.threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        this.fallback = new DijkstraStrategy(map, verbose);
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    // Hiyerarşiyi haritanın güncel görüntüsü için hazırlar (gerekirse kurar) ve döner
+    public ContractionHierarchy prepare() {
+        IRoadGraph graph = map.getGraph();
+        ContractionHierarchy prepared = prepareFor(graph);
+        hierarchy = prepared;
+        return prepared;
+    }
+
+    // Hiyerarşi haritanın güncel görüntüsüne mi bağlı?
+    public boolean isReady() {
+        ContractionHierarchy current = hierarchy;
+        return current != null && current.getGraph() == map.getGraph();
+    }
+
+    public ContractionHierarchy getHierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * Güncel görüntü için hiyerarşiyi arka planda yeniler; aynı görüntü için tek iş çalışır.
+     * Hiyerarşi zaten güncelse tamamlanmış future döner.
+     */
+    public synchronized CompletableFuture<ContractionHierarchy> refreshAsync() {
+        IRoadGraph graph = map.getGraph();
+        ContractionHierarchy current = hierarchy;
+        if (current != null && current.getGraph() == graph) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (pendingGraph == graph) {
+            return pending;
+        }
+        pendingGraph = graph;
+        pending = CompletableFuture.supplyAsync(() -> prepareFor(graph))
+                .thenApply(prepared -> {
+                    publish(prepared);
+                    return prepared;
+                });
+        return pending;
+    }
+
+    // Daha yeni bir görüntünün hiyerarşisi yayınlanmışsa eskisiyle ezilmez
+    private synchronized void publish(ContractionHierarchy prepared) {
+        ContractionHierarchy current = hierarchy;
+        if (current == null || current.getGraph().getVersion() <= prepared.getGraph().getVersion()) {
+            hierarchy = prepared;
+        }
+    }
+
+    private ContractionHierarchy prepareFor(IRoadGraph graph) {
+        ContractionHierarchy current = hierarchy;
+        if (current != null) {
+            ContractionHierarchy rebound = current.rebind(graph);
+            if (rebound != null) {
+                if (verbose) {
+                    System.out.println("[CH] Mesafe metriği değişmedi, hiyerarşi yeni görüntüye bağlandı");
+                }
+                return rebound;
+            }
+        }
+        long start = System.nanoTime();
+        ContractionHierarchy built = ContractionHierarchy.build(graph, threads);
+        if (verbose) {
+            System.out.println(String.format("[CH] Hiyerarşi kuruldu: %d şehir, %d kısayol, %.1f sn",
+                    graph.getNodeCount(), built.getShortcutCount(), (System.nanoTime() - start) / 1e9));
+        }
+        return built;
+    }
+
+    /**
+     * Rota hesapla - hiyerarşi güncelse çift yönlü yukarı arama, değilse Dijkstra
+     */
+    @Override
+    public RouteCalculationResult calculateRoute(Node startNode, Node endNode, VehicleType vehicle) {
+        if (startNode == null || endNode == null) {
+            System.err.println("[CH] HATA: Başlangıç ve Bitiş noktası boş olamaz!");
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // 1. Hiyerarşi güncel görüntüye bağlı değilse Dijkstra'ya düş
+        IRoadGraph graph = map.getGraph();
+        ContractionHierarchy current = hierarchy;
+        if (current == null || current.getGraph() != graph) {
+            if (verbose) {
+                System.out.println("[CH] Hiyerarşi güncel değil, Dijkstra kullanılıyor");
+            }
+            if (rebuildOnChange) {
+                refreshAsync();
+            }
+            return fallback.calculateRoute(startNode, endNode, vehicle);
+        }
+
+        if (verbose) {
+            System.out.println("\n[CH] Rota hesaplanıyor...");
+            System.out.println("[CH] Başlangıç: " + startNode.getName());
+            System.out.println("[CH] Hedef: " + endNode.getName());
+            System.out.println("[CH] Araç tipi: " + vehicle);
+        }
+
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[CH] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı sonuç)
+        if (startId == endId) {
+            if (verbose) {
+                System.out.println("[CH] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // 2. Hiyerarşi sorgusu
+        ContractionHierarchy.Route route = current.query(startId, endId);
+        if (!route.isFound()) {
+            if (verbose) {
+                System.out.println("[CH] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0, route.getSettledNodes());
+        }
+
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        List<Node> path = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        path.add(graph.getNode(startId));
+        for (int slot : route.getSlots()) {
+            slots.add(slot);
+            path.add(graph.getNode(graph.getTarget(slot)));
+        }
+
+        double totalDistance = EdgeTable.toKilometers(route.getDistanceMeters());
+        double totalDuration = DijkstraStrategy.calculateDuration(graph, path, slots, vehicle, "[CH]", verbose);
+
+        if (verbose) {
+            System.out.println(String.format("[CH] ✓ Rota bulundu: %.1f km, %.1f dk (%s), %d şehir gezildi\n",
+                    totalDistance, totalDuration, vehicle, route.getSettledNodes()));
+        }
+        return new RouteCalculationResult(path, totalDistance, totalDuration, route.getSettledNodes());
+    }
+}
@@ -0,0 +1,246 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.data.MapRegistry;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CrossRegionRouter - Bölgeler Arası Rota
+ *
+ * AMAÇ:
+ * Farklı bölgesel haritalardaki (MapRegistry) iki şehir arasında rota hesaplar.
+ * Rota iki bölgenin ortak sınır şehirlerinde birleştirilir.
+ *
+ * NE İŞE YARAR:
+ * - Sınır şehirleri: iki bölgede de aynı isimle bulunan şehirler
+ * - Başlangıç bölgesinde başlangıçtan tüm şehirlere, hedef bölgede tüm şehirlerden hedefe
+ *   (ters CSR) en kısa mesafeler hesaplanır; iki arama farklı çekirdeklerde paralel çalışır.
+ *   Aramalar iş parçacığının SearchWorkspace'inde koşar, sadece sınır şehirlerinin mesafeleri kopyalanır
+ * - Toplamı en küçük olan sınır şehri seçilir, iki bacak DijkstraStrategy ile hesaplanıp birleştirilir
+ * - Aynı bölge verilirse doğrudan o bölgenin DijkstraStrategy'si kullanılır
+ *
+ * İLİŞKİLİ SINIFLAR: MapRegistry, CityMap, IRoadGraph, DijkstraStrategy, RouteCalculationResult
+ *
+ * SINIRLAR:
+ * İki bölge arasındaki rota bir kez sınır geçer (A → sınır → B). Rota ara bir bölgeden geçmez.
+ *
+ * ÖRNEK:
+ * CrossRegionRouter router = new CrossRegionRouter(MapRegistry.shared());
+ * RouteCalculationResult result = router.calculateRoute("marmara", "İstanbul", "ege", "İzmir", VehicleType.CAR);
+ */
+public class CrossRegionRouter {
+
+    private final MapRegistry registry;
+    private final boolean verbose;
+
+    // Son kullanılan bölge çiftinin sınır şehirleri (aynı görüntüler için tekrar hesaplanmaz)
+    private volatile Boundary lastBoundary;
+
+    public CrossRegionRouter(MapRegistry registry) {
+        this(registry, true);
+    }
+
+    public CrossRegionRouter(MapRegistry registry, boolean verbose) {
+        this.registry = registry;
+        this.verbose = verbose;
+    }
+
+    /**
+     * Başlangıç bölgesindeki şehirden hedef bölgedeki şehre rota
+     */
+    public RouteCalculationResult calculateRoute(String startRegion, String startName,
+                                                 String endRegion, String endName, VehicleType vehicle) {
+        CityMap startMap = registry.require(startRegion);
+        CityMap endMap = registry.require(endRegion);
+
+        if (startMap == endMap) {
+            return new DijkstraStrategy(startMap, verbose)
+                    .calculateRoute(startMap.findNode(startName), startMap.findNode(endName), vehicle);
+        }
+
+        IRoadGraph startGraph = startMap.getGraph();
+        IRoadGraph endGraph = endMap.getGraph();
+        int startId = startGraph.idOf(startName);
+        int endId = endGraph.idOf(endName);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[Bölgeler] UYARI: Başlangıç veya hedef bölgesinde yok!");
+            }
+            return emptyResult();
+        }
+
+        Boundary boundary = boundaryOf(startGraph, endGraph);
+        if (boundary.size() == 0) {
+            if (verbose) {
+                System.out.println("[Bölgeler] UYARI: " + startRegion + " ile " + endRegion + " arasında sınır şehri yok!");
+            }
+            return emptyResult();
+        }
+
+        // İki bölgenin aramaları birbirinden bağımsızdır: başlangıç bölgesi ayrı çekirdekte çalışır
+        CompletableFuture<long[]> fromStart = CompletableFuture.supplyAsync(
+                () -> distancesFrom(startGraph, startId, boundary.startIds));
+        long[] toEnd = distancesTo(endGraph, endId, boundary.endIds);
+        long[] fromStartDistances = fromStart.join();
+
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int i = 0; i < boundary.size(); i++) {
+            long first = fromStartDistances[i];
+            long second = toEnd[i];
+            if (first != Long.MAX_VALUE && second != Long.MAX_VALUE && first + second < bestDistance) {
+                bestDistance = first + second;
+                best = i;
+            }
+        }
+        if (best < 0) {
+            if (verbose) {
+                System.out.println("[Bölgeler] UYARI: Sınırdan geçen uygun bir yol bulunamadı!");
+            }
+            return emptyResult();
+        }
+
+        Node startNode = startGraph.getNode(startId);
+        Node endNode = endGraph.getNode(endId);
+        Node borderInStart = startGraph.getNode(boundary.startIds[best]);
+        Node borderInEnd = endGraph.getNode(boundary.endIds[best]);
+        if (verbose) {
+            System.out.println("[Bölgeler] Sınır şehri: " + borderInStart.getName());
+        }
+
+        RouteCalculationResult first = leg(startMap, startNode, borderInStart, vehicle);
+        RouteCalculationResult second = leg(endMap, borderInEnd, endNode, vehicle);
+        if (first.getPath().isEmpty() || second.getPath().isEmpty()) {
+            // Görüntüler bu arada değiştiyse bacaklardan biri artık bulunamayabilir
+            return emptyResult();
+        }
+
+        // Sınır şehri iki bacakta da var; rotada bir kez yer alır
+        List<Node> path = new ArrayList<>(first.getPath().size() + second.getPath().size() - 1);
+        path.addAll(first.getPath());
+        path.addAll(second.getPath().subList(1, second.getPath().size()));
+        return new RouteCalculationResult(path,
+                first.getTotalDistance() + second.getTotalDistance(),
+                first.getTotalDuration() + second.getTotalDuration());
+    }
+
+    // Bölge içi bacak; başlangıç sınır şehrinin kendisiyse boş bacak
+    private RouteCalculationResult leg(CityMap map, Node from, Node to, VehicleType vehicle) {
+        if (from.getName().equals(to.getName())) {
+            return new RouteCalculationResult(Collections.singletonList(from), 0, 0);
+        }
+        return new DijkstraStrategy(map, verbose).calculateRoute(from, to, vehicle);
+    }
+
+    // İki görüntüde aynı isimli şehirler (küçük olan görüntü gezilir)
+    private Boundary boundaryOf(IRoadGraph startGraph, IRoadGraph endGraph) {
+        Boundary cached = lastBoundary;
+        if (cached != null && cached.startGraph == startGraph && cached.endGraph == endGraph) {
+            return cached;
+        }
+
+        boolean scanStart = startGraph.getNodeCount() <= endGraph.getNodeCount();
+        IRoadGraph scanned = scanStart ? startGraph : endGraph;
+        IRoadGraph other = scanStart ? endGraph : startGraph;
+        int[] startIds = new int[16];
+        int[] endIds = new int[16];
+        int count = 0;
+        for (int id = 0; id < scanned.getNodeCount(); id++) {
+            int otherId = other.idOf(scanned.getNodeName(id));
+            if (otherId < 0) {
+                continue;
+            }
+            if (count == startIds.length) {
+                startIds = Arrays.copyOf(startIds, count * 2);
+                endIds = Arrays.copyOf(endIds, count * 2);
+            }
+            startIds[count] = scanStart ? id : otherId;
+            endIds[count] = scanStart ? otherId : id;
+            count++;
+        }
+
+        Boundary boundary = new Boundary(startGraph, endGraph,
+                Arrays.copyOf(startIds, count), Arrays.copyOf(endIds, count));
+        lastBoundary = boundary;
+        return boundary;
+    }
+
+    // Başlangıçtan sınır şehirlerine en kısa mesafe (metre, ulaşılamayan: Long.MAX_VALUE)
+    private static long[] distancesFrom(IRoadGraph graph, int source, int[] boundaryIds) {
+        return shortestDistances(graph, source, false, boundaryIds, 0);
+    }
+
+    // Sınır şehirlerinden hedefe en kısa mesafe (ters CSR üzerinden)
+    private static long[] distancesTo(IRoadGraph graph, int target, int[] boundaryIds) {
+        return shortestDistances(graph, target, true, boundaryIds, 1);
+    }
+
+    // Tek kaynaklı Dijkstra iş parçacığının arama alanında (iki yön farklı şeritte) çalışır;
+    // sadece sınır şehirlerinin mesafeleri kopyalanıp döner
+    private static long[] shortestDistances(IRoadGraph graph, int origin, boolean reverse, int[] boundaryIds,
+                                            int lane) {
+        SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT, lane);
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        ws.reach(origin, 0, -1, -1);
+        queue.update(origin, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            long distance = ws.distances[current];
+            int begin = reverse ? graph.inBegin(current) : graph.outBegin(current);
+            int end = reverse ? graph.inEnd(current) : graph.outEnd(current);
+            for (int i = begin; i < end; i++) {
+                int slot = reverse ? graph.getInSlot(i) : i;
+                if (!graph.isOpen(slot)) {
+                    continue;
+                }
+                int neighbour = reverse ? graph.getInSource(i) : graph.getTarget(slot);
+                long newDist = distance + graph.getDistanceMeters(slot);
+                if (newDist < ws.distance(neighbour)) {
+                    ws.reach(neighbour, newDist, current, slot);
+                    queue.update(neighbour, newDist);
+                }
+            }
+        }
+
+        long[] distances = new long[boundaryIds.length];
+        for (int i = 0; i < boundaryIds.length; i++) {
+            distances[i] = ws.distance(boundaryIds[i]);
+        }
+        return distances;
+    }
+
+    private static RouteCalculationResult emptyResult() {
+        return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+    }
+
+    /**
+     * Bir bölge çiftinin sınır şehirleri: i. sınır şehrinin iki bölgedeki id'leri
+     */
+    private static final class Boundary {
+        private final IRoadGraph startGraph;
+        private final IRoadGraph endGraph;
+        private final int[] startIds;
+        private final int[] endIds;
+
+        private Boundary(IRoadGraph startGraph, IRoadGraph endGraph, int[] startIds, int[] endIds) {
+            this.startGraph = startGraph;
+            this.endGraph = endGraph;
+            this.startIds = startIds;
+            this.endIds = endIds;
+        }
+
+        private int size() {
+            return startIds.length;
+        }
+    }
+}
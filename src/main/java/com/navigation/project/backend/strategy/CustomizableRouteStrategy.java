@@ -0,0 +1,255 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CustomizableRouteStrategy - Özelleştirilebilir Rota Planlama (CRP) Stratejisi
+ *
+ * AMAÇ:
+ * Gün içinde sık sık hız limiti değişen / yol kapanan haritalarda ön işlemeli hızlı sorgu.
+ * ContractionHierarchyStrategy'den farkı: değişiklikten sonra yeniden kurulum yok, sadece
+ * değişen yolun hücreleri yeniden özelleştirilir (milisaniyeler).
+ *
+ * NE İŞE YARAR:
+ * - prepare(): bölümleme (OverlayPartition, metrikten bağımsız) + tam özelleştirme (CustomizedOverlay)
+ * - Her sorgu başında katman haritanın güncel görüntüsüne getirilir: SetSpeedLimitCommand,
+ *   BlockRoadCommand, MapManager.changeSpeed... sonrasında sadece etkilenen hücreler hesaplanır
+ * - Şehir/yol eklenip çıkarıldıysa bölümleme geçersizdir: arka planda yeniden kurulur, o sırada
+ *   sorgular hücresiz (düz çift yönlü Dijkstra) katmanla aynı metrikte cevaplanır
+ *
+ * METRİK:
+ * EdgeMetric.DISTANCE (varsayılan, DijkstraStrategy ile aynı sonuç) ya da bir süre metriği
+ * (EdgeMetric.travelTimeOf(vehicle): araç tipine göre en hızlı rota). Süre her durumda araç
+ * tipine göre hesaplanır.
+ *
+ * PATTERN: Strategy Pattern
+ * İLİŞKİLİ SINIFLAR: OverlayPartition, CustomizedOverlay, EdgeMetric, IRouteStrategy, CityMap
+ *
+ * ÖRNEK:
+ * CustomizableRouteStrategy strategy = new CustomizableRouteStrategy(map, EdgeMetric.TRAVEL_TIME, false);
+ * strategy.prepare();
+ * facade.setRouteStrategy(strategy);
+ */
+public class CustomizableRouteStrategy implements IRouteStrategy {
+
+    private final CityMap map;
+    private final EdgeMetric metric;
+    private final boolean verbose;
+    private final int threads;
+
+    private volatile CustomizedOverlay overlay;
+
+    // Bölümleme geçersizken kullanılan hücresiz katman
+    private volatile CustomizedOverlay flatOverlay;
+
+    // Arka planda yeniden kurulan görüntü ve işi (this ile korunur)
+    private IRoadGraph pendingGraph;
+    private CompletableFuture<CustomizedOverlay> pending;
+
+    public CustomizableRouteStrategy(CityMap map) {
+        this(map, EdgeMetric.DISTANCE, true);
+    }
+
+    public CustomizableRouteStrategy(CityMap map, EdgeMetric metric, boolean verbose) {
+        if (map == null || metric == null) {
+            throw new IllegalArgumentException("Harita ve metrik boş olamaz!");
+        }
+        this.map = map;
+        this.metric = metric;
+        this.verbose = verbose;
+        this.threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public EdgeMetric getMetric() {
+        return metric;
+    }
+
+    public CustomizedOverlay getOverlay() {
+        return overlay;
+    }
+
+    // Katman haritanın güncel görüntüsüne mi bağlı?
+    public boolean isReady() {
+        CustomizedOverlay current = overlay;
+        return current != null && current.getGraph() == map.getGraph();
+    }
+
+    // Bölümlemeyi ve tam özelleştirmeyi haritanın güncel görüntüsü için yapar
+    public CustomizedOverlay prepare() {
+        IRoadGraph graph = map.getGraph();
+        CustomizedOverlay built = build(graph);
+        publish(built);
+        return built;
+    }
+
+    /**
+     * Katmanı güncel görüntüye getirir: bölümleme geçerliyse sadece değişen hücreler hesaplanır.
+     * Bölümleme geçersizse (ya da hiç hazırlanmadıysa) null döner.
+     */
+    public synchronized CustomizedOverlay customize() {
+        IRoadGraph graph = map.getGraph();
+        CustomizedOverlay current = overlay;
+        if (current == null) {
+            return null;
+        }
+        if (current.getGraph() == graph) {
+            return current;
+        }
+        long start = System.nanoTime();
+        CustomizedOverlay updated = current.recustomize(graph, threads);
+        if (updated == null) {
+            return null;
+        }
+        overlay = updated;
+        if (verbose) {
+            System.out.println(String.format("[CRP] Katman güncellendi: %d hücre, %.2f ms",
+                    updated.getCustomizedCells(), (System.nanoTime() - start) / 1e6));
+        }
+        return updated;
+    }
+
+    /**
+     * Bölümlemeyi güncel görüntü için arka planda yeniden kurar; aynı görüntü için tek iş çalışır
+     */
+    public synchronized CompletableFuture<CustomizedOverlay> refreshAsync() {
+        IRoadGraph graph = map.getGraph();
+        CustomizedOverlay current = overlay;
+        if (current != null && current.getGraph() == graph) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (pendingGraph == graph) {
+            return pending;
+        }
+        pendingGraph = graph;
+        pending = CompletableFuture.supplyAsync(() -> build(graph))
+                .thenApply(built -> {
+                    publish(built);
+                    return built;
+                });
+        return pending;
+    }
+
+    // Daha yeni bir görüntünün katmanı yayınlanmışsa eskisiyle ezilmez
+    private synchronized void publish(CustomizedOverlay built) {
+        CustomizedOverlay current = overlay;
+        if (current == null || current.getGraph().getVersion() <= built.getGraph().getVersion()) {
+            overlay = built;
+        }
+    }
+
+    private CustomizedOverlay build(IRoadGraph graph) {
+        long start = System.nanoTime();
+        OverlayPartition partition = OverlayPartition.build(graph, threads);
+        double partitionSeconds = (System.nanoTime() - start) / 1e9;
+        start = System.nanoTime();
+        CustomizedOverlay built = CustomizedOverlay.customize(partition, graph, metric, threads);
+        if (verbose) {
+            System.out.println(String.format("[CRP] Bölümleme: %d şehir, %d seviye, %.1f sn | Özelleştirme (%s): %.1f sn",
+                    graph.getNodeCount(), partition.getLevelCount(), partitionSeconds, metric,
+                    (System.nanoTime() - start) / 1e9));
+        }
+        return built;
+    }
+
+    // Yapı değiştiyse: güncel görüntü için hücresiz katman (bir kez kurulur)
+    private CustomizedOverlay flatFor(IRoadGraph graph) {
+        CustomizedOverlay flat = flatOverlay;
+        if (flat == null || flat.getGraph() != graph) {
+            flat = CustomizedOverlay.customize(OverlayPartition.flat(graph), graph, metric, 1);
+            flatOverlay = flat;
+        }
+        return flat;
+    }
+
+    /**
+     * Rota hesapla - katman güncel görüntüye getirilir, sonra hücre katmanı üzerinden çift yönlü arama
+     */
+    @Override
+    public RouteCalculationResult calculateRoute(Node startNode, Node endNode, VehicleType vehicle) {
+        if (startNode == null || endNode == null) {
+            System.err.println("[CRP] HATA: Başlangıç ve Bitiş noktası boş olamaz!");
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        if (verbose) {
+            System.out.println("\n[CRP] Rota hesaplanıyor...");
+            System.out.println("[CRP] Başlangıç: " + startNode.getName());
+            System.out.println("[CRP] Hedef: " + endNode.getName());
+            System.out.println("[CRP] Araç tipi: " + vehicle);
+        }
+
+        // 1. Sorgu boyunca kullanılacak katmanı sabitle (görüntü katmandan okunur)
+        CustomizedOverlay current = overlay;
+        IRoadGraph graph = map.getGraph();
+        if (current == null || current.getGraph() != graph) {
+            current = customize();
+            if (current == null) {
+                if (verbose) {
+                    System.out.println("[CRP] Bölümleme bu harita için hazır değil, hücresiz aranıyor");
+                }
+                refreshAsync();
+                current = flatFor(graph);
+            }
+        }
+        graph = current.getGraph();
+
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[CRP] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı sonuç)
+        if (startId == endId) {
+            if (verbose) {
+                System.out.println("[CRP] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // 2. Katman sorgusu
+        CustomizedOverlay.Route route = current.query(startId, endId);
+        if (!route.isFound()) {
+            if (verbose) {
+                System.out.println("[CRP] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0, route.getSettledNodes());
+        }
+
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        List<Node> path = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        long meters = 0;
+        path.add(graph.getNode(startId));
+        for (int slot : route.getSlots()) {
+            slots.add(slot);
+            meters += graph.getDistanceMeters(slot);
+            path.add(graph.getNode(graph.getTarget(slot)));
+        }
+
+        double totalDistance = EdgeTable.toKilometers(meters);
+        double totalDuration = DijkstraStrategy.calculateDuration(graph, path, slots, vehicle, "[CRP]", verbose);
+
+        if (verbose) {
+            System.out.println(String.format("[CRP] ✓ Rota bulundu: %.1f km, %.1f dk (%s), %d şehir gezildi\n",
+                    totalDistance, totalDuration, vehicle, route.getSettledNodes()));
+        }
+        return new RouteCalculationResult(path, totalDistance, totalDuration, route.getSettledNodes());
+    }
+}
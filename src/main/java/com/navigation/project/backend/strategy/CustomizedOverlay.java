@@ -0,0 +1,668 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+/**
+ * CustomizedOverlay - Özelleştirilmiş Hücre Katmanı (CRP, metriğe bağlı kısım)
+ *
+ * AMAÇ:
+ * OverlayPartition'ın her hücresi için sınır şehirleri arasındaki en kısa mesafeleri
+ * (klik matrisi) bir EdgeMetric'e göre hesaplar ve noktadan noktaya sorguları bu katman
+ * üzerinden cevaplar. Hız limiti değişince ya da yol kapanınca sadece o yolun hücreleri
+ * yeniden hesaplanır (recustomize); bölümleme aynı kalır.
+ *
+ * NE İŞE YARAR:
+ * - Özelleştirme: seviye 1 hücresinde her sınır şehrinden hücre içi Dijkstra; seviye j'de
+ *   alt hücrelerin klikleri ve alt hücreler arası yollar üzerinden Dijkstra. Hücreler (ve
+ *   büyük hücrelerde satırlar) iş parçacıklarında paralel hesaplanır.
+ * - Yeniden özelleştirme: yeni görüntüde ağırlığı değişen yollar bulunur, yolu içeren en küçük
+ *   hücreden başlanarak yukarı doğru sadece o hücreler hesaplanır. Hücrenin matrisi
+ *   değişmediyse üst seviyeye çıkılmaz. Değişmeyen hücrelerin matrisleri eski katmanla paylaşılır.
+ * - Sorgu: çift yönlü Dijkstra. Bir şehir, başlangıç ve hedefin hücrelerinin dışında kalan en
+ *   yüksek seviyede aranır: o seviyenin kliği ve hücreden çıkan yollar gezilir.
+ *   Başlangıç ve hedefin seviye 1 hücrelerinde orijinal yollar kullanılır.
+ * - Klik yolları sorgu sonunda alt seviyelerde hücre içi aramalarla orijinal slotlara açılır
+ *
+ * DEĞİŞTİRİLEMEZLİK:
+ * Katman oluşturulduktan sonra değişmez; recustomize yeni bir katman döner. O an çalışan
+ * sorgular eski katmanla bitirir (GraphSnapshot ile aynı yaklaşım).
+ *
+ * İLİŞKİLİ SINIFLAR: OverlayPartition, EdgeMetric, CustomizableRouteStrategy, IndexedMinHeap
+ *
+ * SINIRLAR:
+ * Klik ağırlıkları int tutulur (DISTANCE: ~2.147 km, TRAVEL_TIME: ~24 gün).
+ *
+ * ÖRNEK:
+ * CustomizedOverlay overlay = CustomizedOverlay.customize(partition, graph, EdgeMetric.TRAVEL_TIME, 4);
+ * overlay = overlay.recustomize(map.getGraph(), 4);   // hız limiti değişikliğinden sonra
+ * CustomizedOverlay.Route route = overlay.query(startId, endId);
+ */
+public final class CustomizedOverlay {
+
+    private static final int INFINITE = EdgeMetric.INFINITE;
+    private static final long UNREACHED = Long.MAX_VALUE / 4;
+
+    // Önceki şehre klik ile gelindi / kök
+    private static final int CLIQUE = -1;
+    private static final int ROOT = -2;
+
+    // Sorgu ve hücre araması çalışma alanı (iş parçacığı başına, şehir sayısı değişince yenilenir)
+    private static final ThreadLocal<Workspace> WORKSPACES = new ThreadLocal<>();
+
+    private final OverlayPartition partition;
+    private final IRoadGraph graph;
+    private final EdgeMetric metric;
+
+    // İç yol no → ağırlık
+    private final int[] weights;
+
+    // [seviye][hücre] → B x B matris: cliques satır = kaynak, transposed satır = hedef (geri arama)
+    private final int[][][] cliques;
+    private final int[][][] transposed;
+
+    // Bu katman üretilirken hesaplanan hücre sayısı
+    private final int customizedCells;
+
+    private CustomizedOverlay(OverlayPartition partition, IRoadGraph graph, EdgeMetric metric, int[] weights,
+                              int[][][] cliques, int[][][] transposed, int customizedCells) {
+        this.partition = partition;
+        this.graph = graph;
+        this.metric = metric;
+        this.weights = weights;
+        this.cliques = cliques;
+        this.transposed = transposed;
+        this.customizedCells = customizedCells;
+    }
+
+    /**
+     * Tüm hücreleri görüntünün ağırlıklarıyla hesaplar
+     */
+    public static CustomizedOverlay customize(OverlayPartition partition, IRoadGraph graph, EdgeMetric metric,
+                                              int threads) {
+        if (!partition.isValidFor(graph)) {
+            throw new IllegalArgumentException("Bölümleme bu görüntüye ait değil");
+        }
+        int[] weights = new int[partition.outSlots.length];
+        for (int edge = 0; edge < weights.length; edge++) {
+            weights[edge] = metric.weight(graph, partition.outSlots[edge]);
+        }
+
+        int levels = partition.levelCount;
+        int[][][] cliques = new int[levels + 1][][];
+        int[][][] transposed = new int[levels + 1][][];
+        CustomizedOverlay building = new CustomizedOverlay(partition, graph, metric, weights, cliques, transposed, 0);
+        int customized = 0;
+        for (int level = 1; level <= levels; level++) {
+            int cellCount = partition.cellCounts[level];
+            cliques[level] = new int[cellCount][];
+            transposed[level] = new int[cellCount][];
+            int[] cells = new int[cellCount];
+            for (int cell = 0; cell < cellCount; cell++) {
+                cells[cell] = cell;
+            }
+            customized += building.computeCells(level, cells, cellCount, threads, null);
+        }
+        return new CustomizedOverlay(partition, graph, metric, weights, cliques, transposed, customized);
+    }
+
+    /**
+     * Yeni görüntü için katman: sadece ağırlığı değişen yolların hücreleri yeniden hesaplanır.
+     * Şehir/yol eklenip çıkarıldıysa (bölümleme geçersiz) null döner.
+     */
+    public CustomizedOverlay recustomize(IRoadGraph newer, int threads) {
+        if (newer == graph) {
+            return this;
+        }
+        if (!partition.isValidFor(newer)) {
+            return null;
+        }
+
+        // 1. Ağırlığı değişen yollar
+        int[] newWeights = weights;
+        int levels = partition.levelCount;
+        boolean[][] dirty = new boolean[levels + 2][];
+        for (int level = 1; level <= levels; level++) {
+            dirty[level] = new boolean[partition.cellCounts[level]];
+        }
+        // Yapı aynı olduğundan slotlar iki görüntüde aynı yolu gösterir: sadece özniteliği değişen
+        // slotların ağırlığı yeniden hesaplanır
+        int[] slotEdges = partition.slotEdges;
+        for (int slot = newer.nextAttributeChange(graph, 0); slot >= 0;
+             slot = slot + 1 < slotEdges.length ? newer.nextAttributeChange(graph, slot + 1) : -1) {
+            int edge = slotEdges[slot];
+            int weight = metric.weight(newer, slot);
+            if (weight != newWeights[edge]) {
+                if (newWeights == weights) {
+                    newWeights = weights.clone();
+                }
+                newWeights[edge] = weight;
+                // Yolu tamamen içeren en küçük hücre (kestiği seviyenin bir üstü)
+                int level = partition.crossLevels[edge] + 1;
+                if (level <= levels) {
+                    dirty[level][partition.cellOf(level, partition.outTargets[edge])] = true;
+                }
+            }
+        }
+        if (newWeights == weights) {
+            return new CustomizedOverlay(partition, newer, metric, weights, cliques, transposed, 0);
+        }
+
+        // 2. Etkilenen hücreler aşağıdan yukarı; değişmeyen hücrenin üstüne çıkılmaz
+        int[][][] newCliques = new int[levels + 1][][];
+        int[][][] newTransposed = new int[levels + 1][][];
+        for (int level = 1; level <= levels; level++) {
+            newCliques[level] = cliques[level].clone();
+            newTransposed[level] = transposed[level].clone();
+        }
+        CustomizedOverlay updated = new CustomizedOverlay(partition, newer, metric, newWeights,
+                newCliques, newTransposed, 0);
+        int customized = 0;
+        for (int level = 1; level <= levels; level++) {
+            int[] cells = new int[partition.cellCounts[level]];
+            int count = 0;
+            for (int cell = 0; cell < cells.length; cell++) {
+                if (dirty[level][cell]) {
+                    cells[count++] = cell;
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+            boolean[] changed = new boolean[count];
+            customized += updated.computeCells(level, cells, count, threads, changed);
+            if (level < levels) {
+                int shift = partition.shifts[level + 1] - partition.shifts[level];
+                for (int i = 0; i < count; i++) {
+                    if (changed[i]) {
+                        dirty[level + 1][cells[i] >> shift] = true;
+                    }
+                }
+            }
+        }
+        return new CustomizedOverlay(partition, newer, metric, newWeights, newCliques, newTransposed, customized);
+    }
+
+    /**
+     * Seviyedeki hücrelerin matrislerini hesaplayıp cliques/transposed dizilerine yazar.
+     * changed null değilse eski matristen farklı olan hücreler işaretlenir. Hesaplanan hücre sayısını döner.
+     */
+    private int computeCells(int level, int[] cells, int count, int threads, boolean[] changed) {
+        // Her satır (hücre, sınır şehri) ayrı iş: tek büyük hücre de paralel hesaplanır
+        int[] rowOffsets = new int[count + 1];
+        int[][] matrices = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int size = partition.boundarySize(level, cells[i]);
+            rowOffsets[i + 1] = rowOffsets[i] + size;
+            matrices[i] = new int[size * size];
+        }
+        int[] rowCells = new int[rowOffsets[count]];
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(rowCells, rowOffsets[i], rowOffsets[i + 1], i);
+        }
+        parallelFor(rowCells.length, threads, row -> {
+            int i = rowCells[row];
+            computeRow(level, cells[i], row - rowOffsets[i], matrices[i], workspace().local);
+        });
+
+        for (int i = 0; i < count; i++) {
+            int cell = cells[i];
+            int size = rowOffsets[i + 1] - rowOffsets[i];
+            int[] matrix = matrices[i];
+            int[] columns = new int[matrix.length];
+            for (int from = 0; from < size; from++) {
+                for (int to = 0; to < size; to++) {
+                    columns[to * size + from] = matrix[from * size + to];
+                }
+            }
+            if (changed != null) {
+                changed[i] = !Arrays.equals(matrix, cliques[level][cell]);
+            }
+            cliques[level][cell] = matrix;
+            transposed[level][cell] = columns;
+        }
+        return count;
+    }
+
+    // Hücrenin row. sınır şehrinden diğer sınır şehirlerine hücre içi mesafeler
+    private void computeRow(int level, int cell, int row, int[] matrix, SearchSpace space) {
+        int base = partition.boundaryOffsets[level][cell];
+        int size = partition.boundarySize(level, cell);
+        int[] boundary = partition.boundaryNodes[level];
+        cellSearch(level, boundary[base + row], -1, size, space);
+        int offset = row * size;
+        for (int k = 0; k < size; k++) {
+            int node = boundary[base + k];
+            long distance = space.isReached(node) ? space.distances[node] : UNREACHED;
+            matrix[offset + k] = distance >= INFINITE ? INFINITE : (int) distance;
+        }
+    }
+
+    /**
+     * Seviye j hücresi içinde Dijkstra: j = 1 ise hücre içi orijinal yollar, değilse alt hücrelerin
+     * klikleri ve alt hücreler arası yollar. target >= 0 ise hedef kesinleşince, değilse
+     * hücrenin boundaryCount sınır şehri kesinleşince durur.
+     */
+    private void cellSearch(int level, int source, int target, int boundaryCount, SearchSpace space) {
+        OverlayPartition p = partition;
+        int sub = level - 1;
+        int[] levelIndex = p.boundaryIndex[level];
+        space.reset();
+        space.relax(source, 0, -1, ROOT);
+        int settledBoundary = 0;
+        while (!space.heap.isEmpty()) {
+            int node = space.heap.pop();
+            if (node == target) {
+                return;
+            }
+            if (target < 0 && levelIndex[node] >= 0 && ++settledBoundary == boundaryCount) {
+                return;
+            }
+            long distance = space.distances[node];
+            if (sub >= 1) {
+                int subCell = p.cellOf(sub, node);
+                int base = p.boundaryOffsets[sub][subCell];
+                int size = p.boundaryOffsets[sub][subCell + 1] - base;
+                int index = p.boundaryIndex[sub][node];
+                int[] matrix = cliques[sub][subCell];
+                int[] boundary = p.boundaryNodes[sub];
+                int offset = index * size;
+                for (int k = 0; k < size; k++) {
+                    int weight = matrix[offset + k];
+                    if (weight != INFINITE && k != index) {
+                        space.relax(boundary[base + k], distance + weight, node, CLIQUE);
+                    }
+                }
+            }
+            int end = p.outOffsets[node + 1];
+            for (int edge = p.outOffsets[node]; edge < end; edge++) {
+                int weight = weights[edge];
+                if (weight != INFINITE && p.crossLevels[edge] == sub) {
+                    space.relax(p.outTargets[edge], distance + weight, node, edge);
+                }
+            }
+        }
+    }
+
+    // --- Sorgu ---
+
+    /**
+     * Görüntüdeki şehir id'leri arasında en kısa yol (metriğe göre)
+     */
+    public Route query(int sourceId, int targetId) {
+        OverlayPartition p = partition;
+        int source = p.toInternal[sourceId];
+        int target = p.toInternal[targetId];
+        if (source == target) {
+            return new Route(0, new int[0], 1);
+        }
+
+        Workspace ws = workspace();
+        SearchSpace forward = ws.forward;
+        SearchSpace backward = ws.backward;
+        forward.reset();
+        backward.reset();
+        forward.relax(source, 0, -1, ROOT);
+        backward.relax(target, 0, -1, ROOT);
+
+        long best = UNREACHED;
+        int meeting = -1;
+        int settled = 0;
+        while (true) {
+            long forwardKey = forward.heap.isEmpty() ? UNREACHED : forward.heap.minKey();
+            long backwardKey = backward.heap.isEmpty() ? UNREACHED : backward.heap.minKey();
+            if (forwardKey + backwardKey >= best || (forwardKey == UNREACHED && backwardKey == UNREACHED)) {
+                break;
+            }
+            settled++;
+            boolean isForward = forwardKey <= backwardKey;
+            SearchSpace space = isForward ? forward : backward;
+            SearchSpace other = isForward ? backward : forward;
+            int node = space.heap.pop();
+            long distance = space.distances[node];
+            int level = queryLevel(node, source, target);
+
+            // 1. Klik (şehrin seviyesindeki hücresi)
+            if (level >= 1) {
+                int cell = p.cellOf(level, node);
+                int base = p.boundaryOffsets[level][cell];
+                int size = p.boundaryOffsets[level][cell + 1] - base;
+                int index = p.boundaryIndex[level][node];
+                int[] matrix = index < 0 ? null : (isForward ? cliques : transposed)[level][cell];
+                int[] boundary = p.boundaryNodes[level];
+                int offset = index * size;
+                for (int k = 0; matrix != null && k < size; k++) {
+                    int weight = matrix[offset + k];
+                    if (weight == INFINITE || k == index) {
+                        continue;
+                    }
+                    int next = boundary[base + k];
+                    if (space.relax(next, distance + weight, node, CLIQUE) && other.isReached(next)) {
+                        long total = space.distances[next] + other.distances[next];
+                        if (total < best) {
+                            best = total;
+                            meeting = next;
+                        }
+                    }
+                }
+            }
+
+            // 2. Orijinal yollar: seviye 0'da hepsi, değilse hücreden çıkanlar
+            if (isForward) {
+                int end = p.outOffsets[node + 1];
+                for (int edge = p.outOffsets[node]; edge < end; edge++) {
+                    int weight = weights[edge];
+                    if (weight == INFINITE || p.crossLevels[edge] < level) {
+                        continue;
+                    }
+                    int next = p.outTargets[edge];
+                    if (space.relax(next, distance + weight, node, edge) && other.isReached(next)) {
+                        long total = space.distances[next] + other.distances[next];
+                        if (total < best) {
+                            best = total;
+                            meeting = next;
+                        }
+                    }
+                }
+            } else {
+                int end = p.inOffsets[node + 1];
+                for (int position = p.inOffsets[node]; position < end; position++) {
+                    int edge = p.inEdges[position];
+                    int weight = weights[edge];
+                    if (weight == INFINITE || p.crossLevels[edge] < level) {
+                        continue;
+                    }
+                    int next = p.inSources[position];
+                    if (space.relax(next, distance + weight, node, edge) && other.isReached(next)) {
+                        long total = space.distances[next] + other.distances[next];
+                        if (total < best) {
+                            best = total;
+                            meeting = next;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            return new Route(0, null, settled);
+        }
+        return new Route(best, unpackRoute(ws, source, target, meeting), settled);
+    }
+
+    /**
+     * Şehrin sorgudaki seviyesi: başlangıç ve hedefin hücrelerinin dışında kaldığı en yüksek seviye
+     */
+    private int queryLevel(int node, int source, int target) {
+        OverlayPartition p = partition;
+        for (int level = p.levelCount; level >= 1; level--) {
+            int shift = p.shifts[level];
+            int cell = p.leaves[node] >> shift;
+            if (cell != (p.leaves[source] >> shift) && cell != (p.leaves[target] >> shift)) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    // Buluşma şehrinden iki yöne zinciri izler, klikleri açar; görüntüdeki slotları döner
+    private int[] unpackRoute(Workspace ws, int source, int target, int meeting) {
+        IntList hops = new IntList();
+        for (int node = meeting; ws.forward.parents[node] >= 0; node = ws.forward.parents[node]) {
+            hops.add(ws.forward.parentEdges[node]);
+            hops.add(node);
+            hops.add(ws.forward.parents[node]);
+        }
+        hops.reverseTriples();
+        for (int node = meeting; ws.backward.parents[node] >= 0; node = ws.backward.parents[node]) {
+            hops.add(node);
+            hops.add(ws.backward.parents[node]);
+            hops.add(ws.backward.parentEdges[node]);
+        }
+
+        // hops: (from, to, edge) üçlüleri; ileri zincir ters çevrilince (edge, to, from) → (from, to, edge)
+        IntList slots = new IntList();
+        for (int i = 0; i < hops.size(); i += 3) {
+            int from = hops.get(i);
+            int to = hops.get(i + 1);
+            int edge = hops.get(i + 2);
+            if (edge >= 0) {
+                slots.add(partition.outSlots[edge]);
+            } else {
+                unpack(queryLevel(from, source, target), from, to, ws.local, slots);
+            }
+        }
+        return slots.toArray();
+    }
+
+    // Seviye j kliğini (from → to) bir alt seviyede hücre içi arama ile açar
+    private void unpack(int level, int from, int to, SearchSpace space, IntList slots) {
+        cellSearch(level, from, to, 0, space);
+        IntList chain = new IntList();
+        for (int node = to; node != from; node = space.parents[node]) {
+            chain.add(space.parentEdges[node]);
+            chain.add(node);
+            chain.add(space.parents[node]);
+        }
+        // Zincir hedeften kaynağa; arama alanı özyinelemede tekrar kullanılacağı için önce kopyalandı
+        for (int i = chain.size() - 3; i >= 0; i -= 3) {
+            int edge = chain.get(i);
+            int next = chain.get(i + 1);
+            int previous = chain.get(i + 2);
+            if (edge >= 0) {
+                slots.add(partition.outSlots[edge]);
+            } else {
+                unpack(level - 1, previous, next, space, slots);
+            }
+        }
+    }
+
+    // --- Erişim ---
+
+    public OverlayPartition getPartition() {
+        return partition;
+    }
+
+    public IRoadGraph getGraph() {
+        return graph;
+    }
+
+    public EdgeMetric getMetric() {
+        return metric;
+    }
+
+    public int getCustomizedCells() {
+        return customizedCells;
+    }
+
+    // Tüm seviyelerdeki klik matrislerinin toplam girdi sayısı
+    public long getCliqueEntries() {
+        long entries = 0;
+        for (int level = 1; level <= partition.levelCount; level++) {
+            for (int[] matrix : cliques[level]) {
+                entries += matrix.length;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Sorgu sonucu: metrik maliyeti, rotanın geçtiği slotlar (başlangıçtan hedefe), kesinleşen şehir sayısı
+     */
+    public static final class Route {
+        private final long cost;
+        private final int[] slots;
+        private final int settledNodes;
+
+        private Route(long cost, int[] slots, int settledNodes) {
+            this.cost = cost;
+            this.slots = slots;
+            this.settledNodes = settledNodes;
+        }
+
+        public boolean isFound() {
+            return slots != null;
+        }
+
+        public long getCost() {
+            return cost;
+        }
+
+        public int[] getSlots() {
+            return slots;
+        }
+
+        public int getSettledNodes() {
+            return settledNodes;
+        }
+    }
+
+    // --- Yardımcı Yapılar ---
+
+    private Workspace workspace() {
+        int nodeCount = partition.getNodeCount();
+        Workspace ws = WORKSPACES.get();
+        if (ws == null || ws.local.distances.length != nodeCount) {
+            ws = new Workspace(nodeCount);
+            WORKSPACES.set(ws);
+        }
+        return ws;
+    }
+
+    private static final class Workspace {
+        private final SearchSpace forward;
+        private final SearchSpace backward;
+        private final SearchSpace local;
+
+        private Workspace(int nodeCount) {
+            forward = new SearchSpace(nodeCount);
+            backward = new SearchSpace(nodeCount);
+            local = new SearchSpace(nodeCount);
+        }
+    }
+
+    /**
+     * Sorgu başına sıfırlanmayan diziler: nesil damgası eşleşmeyen şehir "ulaşılmamış" sayılır
+     */
+    private static final class SearchSpace {
+        private final long[] distances;
+        private final int[] parents;
+        private final int[] parentEdges;
+        private final int[] stamps;
+        private final IndexedMinHeap heap;
+        private int generation;
+
+        private SearchSpace(int nodeCount) {
+            distances = new long[nodeCount];
+            parents = new int[nodeCount];
+            parentEdges = new int[nodeCount];
+            stamps = new int[nodeCount];
+            heap = new IndexedMinHeap(nodeCount);
+        }
+
+        private void reset() {
+            heap.clear();
+            if (++generation == 0) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+
+        private boolean isReached(int node) {
+            return stamps[node] == generation;
+        }
+
+        // Daha kısa mesafe bulunduysa günceller ve heap'e ekler
+        private boolean relax(int node, long distance, int parent, int edge) {
+            if (stamps[node] == generation && distances[node] <= distance) {
+                return false;
+            }
+            stamps[node] = generation;
+            distances[node] = distance;
+            parents[node] = parent;
+            parentEdges[node] = edge;
+            heap.update(node, distance);
+            return true;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        // Üçlülerin sırasını ve her üçlünün içini ters çevirir
+        void reverseTriples() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // Satırları havuzda paralel hesaplar (tek iş parçacığı ya da az iş varsa sırayla)
+    private static void parallelFor(int count, int threads, IntConsumer body) {
+        if (threads == 1 || count < 2) {
+            for (int i = 0; i < count; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "overlay-customizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int chunks = Math.min(count, threads * 4);
+            int chunkSize = (count + chunks - 1) / chunks;
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int begin = 0; begin < count; begin += chunkSize) {
+                int from = begin;
+                int to = Math.min(count, begin + chunkSize);
+                futures.add(pool.submit(() -> {
+                    for (int i = from; i < to; i++) {
+                        body.accept(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Özelleştirme kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Özelleştirme başarısız: " + e.getCause(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
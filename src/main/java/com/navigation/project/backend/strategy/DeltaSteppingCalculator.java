@@ -0,0 +1,438 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * DeltaSteppingCalculator - Paralel Tek Kaynaklı En Kısa Yollar (Delta-Stepping)
+ *
+ * AMAÇ:
+ * Bir kaynaktan haritadaki tüm şehirlere en kısa yol ağacını, 1M+ şehirli haritalarda birden
+ * fazla çekirdek kullanarak hesaplar. DijkstraStrategy tek iş parçacıklıdır ve tek hedef içindir.
+ *
+ * NE İŞE YARAR:
+ * - Şehirler maliyet aralıklarına (kova, genişlik delta) ayrılır; en küçük dolu kovadaki tüm
+ *   şehirler aynı anda, iş parçacıklarına bölünerek işlenir
+ * - Hafif yollar (ağırlık ≤ delta) kova boşalana kadar tekrar tekrar gevşetilir; ağır yollar
+ *   (> delta) kova kesinleşince bir kez gevşetilir (sonraki kovalara düşerler)
+ * - Maliyet güncellemesi atomiktir (compareAndSet ile minimum); kovalar iş parçacığı başınadır,
+ *   kilit yoktur
+ * - Öncüller arama bittikten sonra paralel bir geçişle seçilir (maliyeti tutan ilk giriş yolu);
+ *   bu yüzden sonuç iş parçacığı sayısından bağımsızdır
+ * - Küçük kovalar (PARALLEL_THRESHOLD altında) çağıran iş parçacığında işlenir
+ *
+ * DELTA:
+ * 0 verilirse açık yolların ortalama ağırlığının DEFAULT_DELTA_FACTOR katı alınır. Küçük delta
+ * Dijkstra'ya yaklaşır (az tekrar, az paralellik), büyük delta Bellman-Ford'a (çok paralellik, çok tekrar).
+ *
+ * MALİYET (RouteObjective):
+ * SHORTEST: mesafe (metre), FASTEST: araç tipinin süresi (milisaniye, EdgeWeights); sadece OPEN yollar
+ *
+ * İLİŞKİLİ SINIFLAR: ShortestPathTree, EdgeWeights, IsochroneCalculator, DijkstraStrategy
+ *
+ * ÖRNEK:
+ * DeltaSteppingCalculator calculator = new DeltaSteppingCalculator(map, 8, 0);
+ * ShortestPathTree tree = calculator.calculate(ankara, VehicleType.CAR, RouteObjective.FASTEST);
+ * long[] millis = tree.getDistances();
+ */
+public class DeltaSteppingCalculator {
+
+    public static final double DEFAULT_DELTA_FACTOR = 2.0;
+
+    // Bu sayıdan az şehirli kova ya da geçiş sırayla işlenir; iş parçacıkları bu boyutta bloklar alır
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int BLOCK_SIZE = 128;
+
+    // Döngüsel kova dizisinin üst sınırı (delta buna göre büyütülür)
+    private static final int MAX_BUCKETS = 1 << 16;
+
+    private final CityMap map;
+    private final int threads;
+    private final long delta;       // 0: otomatik
+
+    // FASTEST: araç tipi başına son görüntünün süre ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public DeltaSteppingCalculator(CityMap map) {
+        this(map, Math.max(1, Runtime.getRuntime().availableProcessors()), 0);
+    }
+
+    public DeltaSteppingCalculator(CityMap map, int threads, long delta) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalı: " + threads);
+        }
+        if (delta < 0) {
+            throw new IllegalArgumentException("Delta negatif olamaz: " + delta);
+        }
+        this.map = map;
+        this.threads = threads;
+        this.delta = delta;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Kaynaktan tüm şehirlere en kısa yol ağacı. Kaynak haritada yoksa null.
+     */
+    public ShortestPathTree calculate(Node source, VehicleType vehicle, RouteObjective objective) {
+        if (source == null || vehicle == null || objective == null) {
+            throw new IllegalArgumentException("Kaynak, araç tipi ve amaç boş olamaz!");
+        }
+
+        // Hesap boyunca tek görüntü
+        IRoadGraph graph = map.getGraph();
+        int sourceId = graph.idOf(source);
+        if (sourceId < 0) {
+            return null;
+        }
+        int[] weights = objective == RouteObjective.FASTEST
+                ? EdgeWeights.travelTime(profiles, graph, vehicle).weights : null;
+
+        ExecutorService pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "delta-stepping");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Search search = new Search(graph, weights, pool);
+            search.run(sourceId);
+            int[] predecessors = search.predecessors(sourceId);
+            long[] distances = new long[graph.getNodeCount()];
+            int reached = 0;
+            for (int node = 0; node < distances.length; node++) {
+                distances[node] = search.distances.get(node);
+                if (distances[node] != Long.MAX_VALUE) {
+                    reached++;
+                }
+            }
+            return new ShortestPathTree(graph, sourceId, vehicle, objective, distances, predecessors, reached);
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    // Yolun arama ağırlığı; kapalı yol (ya da geçilemeyen) INFINITE
+    private static int weight(IRoadGraph graph, int[] weights, int slot) {
+        if (weights != null) {
+            return weights[slot];
+        }
+        return graph.isOpen(slot) ? graph.getDistanceMeters(slot) : EdgeMetric.INFINITE;
+    }
+
+    /**
+     * Tek bir hesabın durumu: atomik maliyetler, iş parçacığı başına döngüsel kovalar
+     */
+    private final class Search {
+        private final IRoadGraph graph;
+        private final int[] weights;
+        private final ExecutorService pool;
+        private final int workers;
+        private final long width;               // delta
+        private final int cycle;                // döngüsel kova sayısı
+        private final AtomicLongArray distances;
+        private final IntList[][] buckets;      // [iş parçacığı][kova % cycle], ilk kullanımda kurulur
+
+        // Kova toplama (sırayla): aynı geçişte tekrar eden ve kovada zaten kesinleşen şehirler
+        private final int[] frontierStamps;
+        private final int[] settledStamps;
+        private int stamp;
+        private int[] frontier = new int[PARALLEL_THRESHOLD];
+        private final IntList settled = new IntList();
+
+        Search(IRoadGraph graph, int[] weights, ExecutorService pool) {
+            this.graph = graph;
+            this.weights = weights;
+            this.pool = pool;
+            this.workers = pool == null ? 1 : threads;
+
+            long total = 0;
+            long open = 0;
+            long max = 1;
+            for (int slot = 0; slot < graph.getEdgeCount(); slot++) {
+                int w = weight(graph, weights, slot);
+                if (w != EdgeMetric.INFINITE) {
+                    total += w;
+                    open++;
+                    max = Math.max(max, w);
+                }
+            }
+            long chosen = delta > 0 ? delta
+                    : Math.max(1, (long) (DEFAULT_DELTA_FACTOR * total / Math.max(1, open)));
+            // Bir gevşetme en fazla max / delta + 1 kova ileri yazar
+            this.width = Math.max(chosen, (max + MAX_BUCKETS - 3) / (MAX_BUCKETS - 2));
+            this.cycle = (int) (max / width) + 2;
+
+            int nodeCount = graph.getNodeCount();
+            this.distances = new AtomicLongArray(nodeCount);
+            for (int node = 0; node < nodeCount; node++) {
+                distances.set(node, Long.MAX_VALUE);
+            }
+            this.buckets = new IntList[workers][cycle];
+            this.frontierStamps = new int[nodeCount];
+            this.settledStamps = new int[nodeCount];
+        }
+
+        void run(int sourceId) {
+            distances.set(sourceId, 0);
+            bucket(0, 0).add(sourceId);
+            for (long current = nextBucket(0); current >= 0; current = nextBucket(current + 1)) {
+                settled.clear();
+                stamp++;
+                int settledStamp = stamp;
+                // Hafif yollar: kova boşalana kadar
+                for (int count = gather(current, settledStamp); count > 0; count = gather(current, settledStamp)) {
+                    relaxAll(frontier, count, true);
+                }
+                // Ağır yollar: kovada kesinleşen her şehirden bir kez
+                relaxAll(settled.array(), settled.size(), false);
+            }
+        }
+
+        /**
+         * current ve sonrasındaki ilk dolu kova; hiç yoksa -1. Gevşetmeler en fazla cycle - 1 kova
+         * ileri yazdığından döngüsel indeks tektir.
+         */
+        private long nextBucket(long current) {
+            for (long index = current; index < current + cycle; index++) {
+                int slot = (int) (index % cycle);
+                for (int worker = 0; worker < workers; worker++) {
+                    IntList list = buckets[worker][slot];
+                    if (list != null && list.size() > 0) {
+                        return index;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Kovanın tüm iş parçacıklarındaki şehirlerini frontier'a toplar ve kovaları boşaltır.
+         * Eskimiş kayıtlar (maliyeti daha düşük kovaya inmiş) ve tekrarlar atlanır.
+         */
+        private int gather(long current, int settledStamp) {
+            int slot = (int) (current % cycle);
+            stamp++;
+            int count = 0;
+            for (int worker = 0; worker < workers; worker++) {
+                IntList list = buckets[worker][slot];
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size(); i++) {
+                    int node = list.get(i);
+                    if (frontierStamps[node] == stamp || distances.get(node) / width != current) {
+                        continue;
+                    }
+                    frontierStamps[node] = stamp;
+                    if (count == frontier.length) {
+                        frontier = Arrays.copyOf(frontier, count * 2);
+                    }
+                    frontier[count++] = node;
+                    if (settledStamps[node] != settledStamp) {
+                        settledStamps[node] = settledStamp;
+                        settled.add(node);
+                    }
+                }
+                list.clear();
+            }
+            return count;
+        }
+
+        private void relaxAll(int[] nodes, int count, boolean light) {
+            if (pool == null || count < PARALLEL_THRESHOLD) {
+                for (int i = 0; i < count; i++) {
+                    relax(0, nodes[i], light);
+                }
+                return;
+            }
+            AtomicInteger cursor = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                int self = worker;
+                futures.add(pool.submit(() -> {
+                    for (int begin = cursor.getAndAdd(BLOCK_SIZE); begin < count;
+                         begin = cursor.getAndAdd(BLOCK_SIZE)) {
+                        int end = Math.min(count, begin + BLOCK_SIZE);
+                        for (int i = begin; i < end; i++) {
+                            relax(self, nodes[i], light);
+                        }
+                    }
+                }));
+            }
+            await(futures);
+        }
+
+        // Şehrin hafif ya da ağır çıkış yollarını gevşetir; iyileşen hedef iş parçacığının kovasına girer
+        private void relax(int worker, int node, boolean light) {
+            long cost = distances.get(node);
+            int end = graph.outEnd(node);
+            for (int slot = graph.outBegin(node); slot < end; slot++) {
+                int w = weight(graph, weights, slot);
+                if (w == EdgeMetric.INFINITE || (w <= width) != light) {
+                    continue;
+                }
+                int target = graph.getTarget(slot);
+                long newCost = cost + w;
+                long old = distances.get(target);
+                while (newCost < old) {
+                    if (distances.compareAndSet(target, old, newCost)) {
+                        bucket(worker, newCost / width).add(target);
+                        break;
+                    }
+                    old = distances.get(target);
+                }
+            }
+        }
+
+        private IntList bucket(int worker, long index) {
+            int slot = (int) (index % cycle);
+            IntList list = buckets[worker][slot];
+            if (list == null) {
+                list = new IntList();
+                buckets[worker][slot] = list;
+            }
+            return list;
+        }
+
+        /**
+         * Öncüller: maliyeti tutan (d[u] + w = d[v]) ilk pozitif ağırlıklı giriş yolu; paralel geçiş.
+         * Sadece 0 ağırlıklı yolla tutan şehirler sonra sırayla, öncülü belli şehirlerden bağlanır
+         * (eşit maliyetli döngü oluşmaması için).
+         */
+        int[] predecessors(int sourceId) {
+            int nodeCount = graph.getNodeCount();
+            int[] predecessors = new int[nodeCount];
+            int chunks = Math.max(1, Math.min(workers * 4, nodeCount / PARALLEL_THRESHOLD));
+            int chunkSize = (nodeCount + chunks - 1) / chunks;
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int begin = 0; begin < nodeCount; begin += chunkSize) {
+                int from = begin;
+                int to = Math.min(nodeCount, begin + chunkSize);
+                Runnable body = () -> {
+                    for (int node = from; node < to; node++) {
+                        predecessors[node] = tightPredecessor(node, sourceId, true, predecessors);
+                    }
+                };
+                if (pool == null) {
+                    body.run();
+                } else {
+                    futures.add(pool.submit(body));
+                }
+            }
+            await(futures);
+
+            IntList unresolved = new IntList();
+            for (int node = 0; node < nodeCount; node++) {
+                if (predecessors[node] == -2) {
+                    unresolved.add(node);
+                }
+            }
+            boolean progress = true;
+            while (unresolved.size() > 0 && progress) {
+                progress = false;
+                IntList remaining = new IntList();
+                for (int i = 0; i < unresolved.size(); i++) {
+                    int node = unresolved.get(i);
+                    int predecessor = tightPredecessor(node, sourceId, false, predecessors);
+                    if (predecessor >= 0) {
+                        predecessors[node] = predecessor;
+                        progress = true;
+                    } else {
+                        remaining.add(node);
+                    }
+                }
+                unresolved = remaining;
+            }
+            return predecessors;
+        }
+
+        // positive: sadece pozitif ağırlıklı yollar (bulunamazsa -2); değilse öncülü belli 0 ağırlıklı yollar (yoksa -2)
+        private int tightPredecessor(int node, int sourceId, boolean positive, int[] predecessors) {
+            long cost = distances.get(node);
+            if (node == sourceId || cost == Long.MAX_VALUE) {
+                return -1;
+            }
+            int end = graph.inEnd(node);
+            for (int position = graph.inBegin(node); position < end; position++) {
+                int w = weight(graph, weights, graph.getInSlot(position));
+                if (w == EdgeMetric.INFINITE || (w > 0) != positive) {
+                    continue;
+                }
+                int source = graph.getInSource(position);
+                long sourceCost = distances.get(source);
+                if (sourceCost != Long.MAX_VALUE && sourceCost + w == cost
+                        && (positive || source == sourceId || predecessors[source] >= 0)) {
+                    return source;
+                }
+            }
+            return -2;
+        }
+
+        private void await(List<Future<?>> futures) {
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Delta-stepping kesildi", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Delta-stepping başarısız: " + e.getCause(), e.getCause());
+            }
+        }
+    }
+
+    // Büyüyen int dizisi (kovalar ve kesinleşen şehirler)
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] array() {
+            return values;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
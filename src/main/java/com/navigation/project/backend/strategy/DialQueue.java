@@ -0,0 +1,181 @@
+package com.navigation.project.backend.strategy;
+
+import java.util.Arrays;
+
+/**
+ * DialQueue - Kova Kuyruğu (Dial Algoritması)
+ *
+ * AMAÇ:
+ * Yol ağırlıkları küçük tam sayılarken (metre mesafe) her anahtar değeri için bir kova tutar:
+ * ekleme ve decrease-key O(1), çıkarma imlecin boş kovaları geçmesi kadardır.
+ *
+ * YAPI:
+ * - Dairesel 2^k kova; kova anahtar & (2^k - 1) ile seçilir. Kovalar şehir id'leriyle çift
+ *   yönlü bağlı listelerdir (next/previous dizileri).
+ * - Pencere: [base, limit) aralığındaki anahtarlar kovalardadır, limit - base ≤ 2^k olduğundan
+ *   aynı kovadaki anahtarlar eşittir. limit ve üstü "uzak" listede bekler.
+ * - Kovalar boşalınca pencere uzak listenin en küçük anahtarından yeniden kurulur. Böylece en
+ *   büyük yol ağırlığının önceden bilinmesi gerekmez (büyük ağırlıklarda sadece yavaşlar).
+ *
+ * SÖZLEŞME: update() anahtarı son çıkarılan anahtardan küçük olamaz (IllegalArgumentException).
+ *
+ * KARMAŞIKLIK: update O(1), pop imleç ilerlemesi kadar (toplam O(V + en büyük anahtar))
+ *
+ * İLİŞKİLİ SINIFLAR: INodeQueue, NodeQueueType, RadixHeap
+ */
+final class DialQueue implements INodeQueue {
+    private static final int NONE = -1;
+    private static final int FAR = -2;     // Uzak listede
+    private static final int ABSENT = -3;  // Kuyrukta değil
+
+    private final int mask;
+    private final int[] heads;
+    private final long[] keys;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] slots;             // Şehrin kovası, FAR ya da ABSENT
+
+    private int farHead = NONE;
+    private long base;                     // İmlecin gösterdiği anahtar (son çıkarılan ≤ base)
+    private long limit;                    // Pencere sonu: bu ve üstü uzak listeye
+    private int inBuckets;
+    private int size;
+
+    DialQueue(int nodeCount, int bucketBits) {
+        int bucketCount = 1 << bucketBits;
+        mask = bucketCount - 1;
+        heads = new int[bucketCount];
+        Arrays.fill(heads, NONE);
+        keys = new long[nodeCount];
+        next = new int[nodeCount];
+        previous = new int[nodeCount];
+        slots = new int[nodeCount];
+        Arrays.fill(slots, ABSENT);
+        limit = bucketCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long minKey() {
+        settle();
+        return base;
+    }
+
+    @Override
+    public boolean contains(int node) {
+        return slots[node] != ABSENT;
+    }
+
+    @Override
+    public void clear() {
+        for (int bucket = 0; bucket <= mask && inBuckets > 0; bucket++) {
+            for (int node = heads[bucket]; node != NONE; node = next[node]) {
+                slots[node] = ABSENT;
+                inBuckets--;
+            }
+            heads[bucket] = NONE;
+        }
+        for (int node = farHead; node != NONE; node = next[node]) {
+            slots[node] = ABSENT;
+        }
+        farHead = NONE;
+        inBuckets = 0;
+        size = 0;
+        base = 0;
+        limit = mask + 1L;
+    }
+
+    @Override
+    public void update(int node, long key) {
+        if (key < base) {
+            throw new IllegalArgumentException("DialQueue anahtarı son çıkarılandan küçük olamaz: " + key + " < " + base);
+        }
+        if (slots[node] == ABSENT) {
+            size++;
+        } else {
+            unlink(node);
+        }
+        keys[node] = key;
+        place(node);
+    }
+
+    @Override
+    public int pop() {
+        settle();
+        int bucket = (int) (base & mask);
+        int node = heads[bucket];
+        unlink(node);
+        slots[node] = ABSENT;
+        size--;
+        return node;
+    }
+
+    // İmleci ilk dolu kovaya getirir; kovalar boşsa pencereyi uzak listeden yeniden kurar
+    private void settle() {
+        if (inBuckets == 0) {
+            long min = Long.MAX_VALUE;
+            for (int node = farHead; node != NONE; node = next[node]) {
+                min = Math.min(min, keys[node]);
+            }
+            base = min;
+            limit = min + mask + 1;
+            int node = farHead;
+            farHead = NONE;
+            while (node != NONE) {
+                int following = next[node];
+                place(node);
+                node = following;
+            }
+        }
+        while (heads[(int) (base & mask)] == NONE) {
+            base++;
+        }
+    }
+
+    private void place(int node) {
+        long key = keys[node];
+        if (key < limit) {
+            int bucket = (int) (key & mask);
+            link(node, bucket, heads[bucket]);
+            heads[bucket] = node;
+            inBuckets++;
+        } else {
+            link(node, FAR, farHead);
+            farHead = node;
+        }
+    }
+
+    private void link(int node, int slot, int head) {
+        next[node] = head;
+        previous[node] = NONE;
+        if (head != NONE) {
+            previous[head] = node;
+        }
+        slots[node] = slot;
+    }
+
+    private void unlink(int node) {
+        int slot = slots[node];
+        int before = previous[node];
+        int after = next[node];
+        if (before == NONE) {
+            if (slot == FAR) {
+                farHead = after;
+            } else {
+                heads[slot] = after;
+            }
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+        if (slot != FAR) {
+            inBuckets--;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.navigation.project.backend.strategy;
 
 import com.navigation.project.backend.data.CityMap;
-import com.navigation.project.backend.model.Edge;
-import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
 import com.navigation.project.backend.model.Node;
 import com.navigation.project.backend.model.VehicleType;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * DijkstraStrategy - Dijkstra Algoritması İmplementasyonu
@@ -19,7 +20,7 @@ import java.util.*;
  * - Weighted graph'te en kısa yolu bulur
  * - OPEN olmayan yolları kullanmaz
  * - Araç tipine göre hız ve süre hesaplar
- * - Priority Queue kullanarak optimize eder
+ * - Öncelik kuyruğu (INodeQueue) kullanarak optimize eder
  *
  * PATTERN: Strategy Pattern
  * İLİŞKİLİ SINIFLAR: CityMap, Node, Edge, RouteCalculationResult
@@ -27,13 +28,13 @@ import java.util.*;
  * ALGORİTMA ADIMLARI:
  * 1. Başlangıç node'unun mesafesini 0 yap
  * 2. Diğer tüm node'ların mesafesini sonsuz yap
- * 3. Priority Queue kullan (en yakın node önce)
+ * 3. Öncelik kuyruğu kullan (en yakın node önce; daha kısa yol bulununca anahtarı küçültülür)
  * 4. Her node için:
  *    - Komşuları gez
  *    - Sadece OPEN yolları kullan
  *    - Daha kısa yol varsa güncelle
  * 5. Hedefe ulaşınca dur
- * 6. Previous map'inden yolu geri sar
+ * 6. Previous dizisinden yolu geri sar
  * 7. Araç tipine göre süre hesapla
  *
  * SÜRE HESAPLAMA:
@@ -42,13 +43,35 @@ import java.util.*;
  * - WALK: Sabit 5 km/h
  * - Formül: time = (distance / effectiveSpeed) * 60 (dakika)
  *
+ * AMAÇ FONKSİYONU (RouteObjective):
+ * - SHORTEST (varsayılan): en kısa mesafe aranır, süre sonradan hesaplanır
+ * - FASTEST: her araç tipi kendi süresiyle aranır (CAR hız limiti, BUS 80 km/h sınırı ve durak
+ *   bekleme, WALK 5 km/h). Ağırlıklar araç tipi başına görüntüyle birlikte bir kez hesaplanan
+ *   EdgeWeights dizilerinden okunur; döngüde switch ya da bölme yoktur. Hız/durum değişince
+ *   dizi sadece değişen yollar için güncellenir (EdgeWeights.derive).
+ *
  * TEMEL METODLAR:
  * - calculateRoute(start, end): Varsayılan (CAR)
  * - calculateRoute(start, end, vehicle): Araç tipine göre
- * - buildResult(): Sonuç nesnesini oluşturur
- * - calculateDuration(): Toplam süreyi hesaplar
- * - findEdge(): İki node arası edge bulur
- * - getOutgoingEdges(): Bir node'dan çıkan edge'leri döner
+ * - settle(): Tek kaynaklı arama döngüsü (BatchRouteCalculator ile ortak)
+ * - route(): Kesinleşen hedefin sonuç nesnesini oluşturur
+ * - calculateDuration(): Toplam süreyi hesaplar (rotanın geçtiği yol slotlarından)
+ *
+ * HARİTA:
+ * Strateji oluşturulurken bir haritaya bağlanır (varsayılan: CityMap.getInstance()).
+ * Farklı bölgelerin stratejileri birbirinden bağımsız, paralel çalışır (bkz. MapRegistry).
+ *
+ * KOMŞULUK:
+ * Her sorgu başında bağlı haritanın getGraph() metodu ile değiştirilemez bir IRoadGraph alınır
+ * (heap'teki GraphSnapshot, bellek eşlemeli MappedGraphStore ya da sıkıştırılmış CompressedGraph).
+ * Komşular bu görüntünün CSR (offset + slot) yapısından okunur.
+ * Mesafe, önceki node ve ziyaret bilgisi node id'si ile adreslenen düz dizilerde tutulur.
+ * Yol mesafeleri tam sayı metre olarak okunur ve long dizide toplanır (km'ye sadece sonuçta çevrilir);
+ * döngüde Edge nesnesi ya da double dönüşümü yoktur.
+ *
+ * KUYRUK (NodeQueueType):
+ * Varsayılan NodeQueueType.DEFAULT; kuyruk ilkel long anahtar + int id tutar, decrease-key
+ * kuyruktaki şehrin konumunu günceller (PriorityQueue.remove gibi doğrusal tarama yoktur).
  *
  * KARMAŞIKLIK: O((V+E) log V)
  * - V: Node sayısı
@@ -56,6 +79,73 @@ import java.util.*;
  */
 public class DijkstraStrategy implements IRouteStrategy {
 
+    // Rotaların hesaplandığı harita
+    private final CityMap map;
+
+    // Konsola adım adım log yazılsın mı? (Benchmark ve toplu işlerde kapatılır)
+    private final boolean verbose;
+
+    // Mesafe mi süre mi en aza indirilir?
+    private final RouteObjective objective;
+
+    // Sorgunun öncelik kuyruğu
+    private final NodeQueueType queueType;
+
+    // FASTEST: araç tipi başına son görüntünün ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public DijkstraStrategy() {
+        this(true);
+    }
+
+    public DijkstraStrategy(boolean verbose) {
+        this(CityMap.getInstance(), verbose);
+    }
+
+    public DijkstraStrategy(CityMap map) {
+        this(map, true);
+    }
+
+    public DijkstraStrategy(CityMap map, boolean verbose) {
+        this(map, RouteObjective.SHORTEST, verbose);
+    }
+
+    public DijkstraStrategy(CityMap map, RouteObjective objective, boolean verbose) {
+        this(map, objective, NodeQueueType.DEFAULT, verbose);
+    }
+
+    public DijkstraStrategy(CityMap map, RouteObjective objective, NodeQueueType queueType, boolean verbose) {
+        if (map == null || objective == null || queueType == null) {
+            throw new IllegalArgumentException("Harita, amaç ve kuyruk tipi boş olamaz!");
+        }
+        this.map = map;
+        this.objective = objective;
+        this.queueType = queueType;
+        this.verbose = verbose;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    public NodeQueueType getQueueType() {
+        return queueType;
+    }
+
+    /**
+     * Aramanın yol ağırlıkları: FASTEST'te araç tipinin görüntü için süre ağırlıkları (milisaniye,
+     * önceki görüntünün dizisinden türetilir); SHORTEST'te null, mesafe okunur
+     */
+    static int[] searchWeights(AtomicReferenceArray<EdgeWeights> profiles, IRoadGraph graph,
+                               RouteObjective objective, VehicleType vehicle) {
+        return objective == RouteObjective.FASTEST ? EdgeWeights.travelTime(profiles, graph, vehicle).weights : null;
+    }
+
     /**
      * Rota hesapla (Varsayılan: Araba)
      * Geriye uyumluluk için
@@ -76,195 +166,228 @@ public class DijkstraStrategy implements IRouteStrategy {
             return new RouteCalculationResult(Collections.emptyList(), 0, 0);
         }
 
-        System.out.println("\n[Dijkstra] Rota hesaplanıyor...");
-        System.out.println("[Dijkstra] Başlangıç: " + startNode.getName());
-        System.out.println("[Dijkstra] Hedef: " + endNode.getName());
-        System.out.println("[Dijkstra] Araç tipi: " + vehicle);
+        if (verbose) {
+            System.out.println("\n[Dijkstra] Rota hesaplanıyor...");
+            System.out.println("[Dijkstra] Başlangıç: " + startNode.getName());
+            System.out.println("[Dijkstra] Hedef: " + endNode.getName());
+            System.out.println("[Dijkstra] Araç tipi: " + vehicle);
+        }
 
-        // 1. Singleton Haritayı al
-        CityMap map = CityMap.getInstance();
+        // 1. Bağlı haritanın sorgu boyunca kullanılacak görüntüsünü sabitle
+        // (Sorgu sürerken yapılan yönetici değişiklikleri bu sorguyu etkilemez)
+        IRoadGraph graph = map.getGraph();
 
-        // Algoritma Değişkenleri
-        Map<Node, Double> distances = new HashMap<>();
-        Map<Node, Node> previousNodes = new HashMap<>();
-        Set<Node> visited = new HashSet<>();
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[Dijkstra] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
 
-        // Öncelik Kuyruğu (Priority Queue)
-        PriorityQueue<Node> queue = new PriorityQueue<>(
-                Comparator.comparingDouble(distances::get)
-        );
+        // FASTEST: araç tipinin süre ağırlıkları (milisaniye); SHORTEST: null, mesafe okunur
+        int[] weights = searchWeights(profiles, graph, objective, vehicle);
 
-        // Başlangıç Ayarları
-        for (Node node : map.getNodes()) {
-            distances.put(node, Double.MAX_VALUE);
+        // 2. Dijkstra Algoritması: iş parçacığının yeniden kullanılan alanında, hedef kesinleşince durur
+        SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), queueType);
+        int settled = settle(graph, ws, startId, endId, weights, null, "[Dijkstra]", verbose);
+        if (verbose && ws.isReached(endId)) {
+            System.out.println("[Dijkstra] Hedef node'a ulaşıldı!");
         }
-        distances.put(startNode, 0.0);
-        queue.add(startNode);
 
-        // 2. Dijkstra Algoritması
-        while (!queue.isEmpty()) {
-            Node current = queue.poll();
-
-            // Zaten ziyaret edilmiş mi?
-            if (visited.contains(current)) {
-                continue;
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        RouteCalculationResult result = route(graph, ws, startId, endId, vehicle, settled, "[Dijkstra]", verbose);
+        if (result == null) {
+            if (verbose) {
+                System.out.println("[Dijkstra] UYARI: Hedefe giden uygun bir yol bulunamadı!");
             }
-            visited.add(current);
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+        if (verbose) {
+            System.out.println(String.format("[Dijkstra] ✓ Rota bulundu: %.1f km, %.1f dk (%s)\n",
+                    result.getTotalDistance(), result.getTotalDuration(), vehicle));
+        }
+        return result;
+    }
+
+    /**
+     * Kesinleşen şehirleri arama sırasında alan ziyaretçi (BatchRouteCalculator: gruptaki hedefler)
+     */
+    interface ISettleVisitor {
+
+        // settled: bu şehir dahil kesinleşen şehir sayısı; false dönerse arama durur
+        boolean onSettled(int node, int settled);
+    }
 
-            // Hedefe ulaştık mı?
-            if (current.equals(endNode)) {
-                System.out.println("[Dijkstra] Hedef node'a ulaşıldı!");
+    /**
+     * Tek kaynaklı Dijkstra döngüsü (calculateRoute ve BatchRouteCalculator ortak kullanır).
+     * Alan sıfırlanır; şehirler başlangıçtan artan maliyetle kesinleşir (kuyruk her şehri bir kez
+     * verir, decrease-key ile güncellenir). targetId kesinleşince ya da visitor false dönünce
+     * durur; o şehrin yolları gevşetilmez. Kesinleşen şehir sayısını döner.
+     * distances metre (weights verilmişse milisaniye); previous/slots rotayı tutar.
+     */
+    static int settle(IRoadGraph graph, SearchWorkspace ws, int startId, int targetId, int[] weights,
+                      ISettleVisitor visitor, String tag, boolean verbose) {
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        long[] distances = ws.distances;
+        int settled = 0;
+
+        // Başlangıç Ayarları
+        ws.reach(startId, 0, -1, -1);
+        queue.update(startId, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            settled++;
+
+            // Hedefe ulaştık mı? (ya da ziyaretçi yeterli mi?)
+            if (current == targetId || (visitor != null && !visitor.onSettled(current, settled))) {
                 break;
             }
 
-            // Komşuları kontrol et
-            for (Edge edge : getOutgoingEdges(map, current)) {
+            // Komşuları kontrol et (CSR: sadece bu node'un slot aralığı gezilir,
+            // hedefler tek seferde okunur; sıkıştırılmış görüntüde liste sırayla çözülür)
+            int begin = graph.outBegin(current);
+            int degree = graph.outEnd(current) - begin;
+            int[] targets = ws.loadTargets(graph, current, degree);
+            long distance = distances[current];
+            for (int i = 0; i < degree; i++) {
+                int slot = begin + i;
                 // Sadece AÇIK yolları kullan
-                if (edge.getStatus() != EdgeStatus.OPEN) {
-                    System.out.println("[Dijkstra]   Yol atlandı (" + edge.getStatus() + "): " +
-                            edge.getSource().getName() + " → " + edge.getDestination().getName());
+                if (!graph.isOpen(slot)) {
+                    if (verbose) {
+                        System.out.println(tag + "   Yol atlandı (" + graph.getStatus(slot) + "): " +
+                                graph.getNodeName(current) + " → " + graph.getNodeName(targets[i]));
+                    }
                     continue;
                 }
 
-                Node neighbour = edge.getDestination();
-                double newDist = distances.get(current) + edge.getDistance();
+                int neighbour = targets[i];
+                int weight = weights == null ? graph.getDistanceMeters(slot) : weights[slot];
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;   // Araç bu yoldan geçemez (hız 0 ya da altında)
+                }
+                long newDist = distance + weight;
 
                 // Daha kısa yol bulundu mu?
-                if (newDist < distances.get(neighbour)) {
-                    distances.put(neighbour, newDist);
-                    previousNodes.put(neighbour, current);
-                    queue.remove(neighbour);  // Eski önceliği kaldır
-                    queue.add(neighbour);      // Yeni öncelikle ekle
+                if (newDist < ws.distance(neighbour)) {
+                    ws.reach(neighbour, newDist, current, slot);
+                    queue.update(neighbour, newDist);  // Ekle ya da önceliği küçült
                 }
             }
         }
-
-        // 3. Rotayı Oluştur ve Süreyi Hesapla
-        return buildResult(previousNodes, distances, endNode, vehicle);
+        return settled;
     }
 
     /**
-     * Sonuç oluştur - SÜRE HESAPLAMASI DAHİL
+     * settle() ile kesinleşen hedefin rotası - SÜRE HESAPLAMASI DAHİL.
+     * Yol yoksa null (başlangıç = hedef de rota sayılmaz). Sadece rota listesi ve sonuç nesnesi
+     * ayrılır; slotlar alanın tamponunda kalır (ws.routeSlots(), bir sonraki unwind'a kadar geçerli).
      */
-    private RouteCalculationResult buildResult(
-            Map<Node, Node> previousNodes,
-            Map<Node, Double> distances,
-            Node endNode,
-            VehicleType vehicle) {
-
-        // Yol bulunamadı kontrolü
-        if (distances.get(endNode) == Double.MAX_VALUE || previousNodes.get(endNode) == null) {
-            System.out.println("[Dijkstra] UYARI: Hedefe giden uygun bir yol bulunamadı!");
-            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+    static RouteCalculationResult route(IRoadGraph graph, SearchWorkspace ws, int startId, int endId,
+                                        VehicleType vehicle, int settled, String tag, boolean verbose) {
+        if (!ws.isReached(endId) || ws.previous[endId] < 0) {
+            return null;
         }
 
-        // Rotayı oluştur (tersten geri sar)
-        List<Node> path = new ArrayList<>();
-        Node step = endNode;
-
-        while (step != null) {
-            path.add(step);
-            step = previousNodes.get(step);
+        // Rotayı oluştur (hedeften geri sarılır, slotlar kökten hedefe sıralı gelir)
+        int count = ws.unwind(endId);
+        int[] slots = ws.routeSlots();
+        List<Node> path = new ArrayList<>(count + 1);
+        path.add(graph.getNode(startId));
+        long meters = 0;
+        for (int i = 0; i < count; i++) {
+            path.add(graph.getNode(graph.getTarget(slots[i])));
+            meters += graph.getDistanceMeters(slots[i]);
         }
-        Collections.reverse(path);
 
-        // Mesafe
-        double totalDistance = distances.get(endNode);
+        // Mesafe (metre → km); FASTEST'te distances süre tuttuğu için slotlardan toplanır
+        double totalDistance = EdgeTable.toKilometers(meters);
 
         // Süreyi hesapla (Zaman = Mesafe / Hız)
-        double totalDuration = calculateDuration(path, vehicle);
-
-        System.out.println(String.format("[Dijkstra] ✓ Rota bulundu: %.1f km, %.1f dk (%s)\n",
-                totalDistance, totalDuration, vehicle));
+        double totalDuration = calculateDuration(graph, path, slots, vehicle, tag, verbose);
 
-        return new RouteCalculationResult(path, totalDistance, totalDuration);
+        return new RouteCalculationResult(path, totalDistance, totalDuration, settled);
     }
 
     /**
      * SÜRE HESAPLAMA - ARAÇ TİPİNE GÖRE
      * Zaman = Mesafe / Hız (dakika)
+     * Segment bilgileri sorgunun kullandığı görüntüden, rotanın geçtiği slotlardan okunur.
+     * Diğer stratejiler de (AStarStrategy) aynı süre kurallarını kullanır; log satırları tag ile başlar.
      */
-    private double calculateDuration(List<Node> path, VehicleType vehicle) {
+    static double calculateDuration(IRoadGraph graph, List<Node> path, List<Integer> slots, VehicleType vehicle,
+                                    String tag, boolean verbose) {
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return calculateDuration(graph, path, slotArray, vehicle, tag, verbose);
+    }
+
+    // slots[i]: path[i] → path[i + 1] yolu (dizi rotadan uzun olabilir, path.size() - 1 kadarı okunur)
+    static double calculateDuration(IRoadGraph graph, List<Node> path, int[] slots, VehicleType vehicle,
+                                    String tag, boolean verbose) {
         if (path.size() < 2) {
             return 0;
         }
 
-        CityMap map = CityMap.getInstance();
         double totalTime = 0; // dakika
 
-        System.out.println("[Dijkstra] Süre hesaplanıyor:");
+        if (verbose) {
+            System.out.println(tag + " Süre hesaplanıyor:");
+        }
 
         for (int i = 0; i < path.size() - 1; i++) {
             Node from = path.get(i);
             Node to = path.get(i + 1);
 
-            Edge edge = findEdge(map, from, to);
-            if (edge != null) {
-                double distance = edge.getDistance();
-                int edgeSpeedLimit = edge.getSpeedLimit();
-                double effectiveSpeed;
-
-                switch (vehicle) {
-                    case CAR:
-                        // Araba: Edge'deki hız limitini kullanır
-                        effectiveSpeed = edgeSpeedLimit;
-                        break;
-
-                    case BUS:
-                        // Otobüs: Daha yavaş gider (max 80, genelde -10)
-                        if (edgeSpeedLimit <= 80) {
-                            effectiveSpeed = edgeSpeedLimit - 10;
-                        } else {
-                            effectiveSpeed = 80;
-                        }
-                        // Her segment için 30 dk durak bekleme
-                        totalTime += 30;
-                        break;
-
-                    case WALK:
-                        // Yürüyüş: Sabit 5 km/h
-                        effectiveSpeed = 5;
-                        break;
-
-                    default:
-                        effectiveSpeed = 100;
-                }
+            int slot = slots[i];
+            double distance = graph.getDistance(slot);
+            int edgeSpeedLimit = graph.getSpeedLimit(slot);
+            double effectiveSpeed = effectiveSpeed(vehicle, edgeSpeedLimit);
+            totalTime += stopMinutes(vehicle);
 
-                // Zaman = Mesafe / Hız (saat) * 60 = dakika
-                double segmentTime = (distance / effectiveSpeed) * 60;
-                totalTime += segmentTime;
+            // Zaman = Mesafe / Hız (saat) * 60 = dakika
+            double segmentTime = (distance / effectiveSpeed) * 60;
+            totalTime += segmentTime;
 
-                System.out.println(String.format("[Dijkstra]   %s → %s: %.1f km @ %.0f km/h = %.1f dk",
+            if (verbose) {
+                System.out.println(String.format("%s   %s → %s: %.1f km @ %.0f km/h = %.1f dk", tag,
                         from.getName(), to.getName(), distance, effectiveSpeed, segmentTime));
             }
         }
 
-        System.out.println(String.format("[Dijkstra] Toplam süre: %.1f dakika", totalTime));
+        if (verbose) {
+            System.out.println(String.format("%s Toplam süre: %.1f dakika", tag, totalTime));
+        }
         return totalTime;
     }
 
-    /**
-     * İki node arasındaki edge'i bul
-     */
-    private Edge findEdge(CityMap map, Node from, Node to) {
-        for (Edge edge : map.getEdges()) {
-            if (edge.getSource().equals(from) && edge.getDestination().equals(to)) {
-                return edge;
-            }
+    // Araç tipinin yoldaki hızı (km/h); RouteMatrixCalculator da aynı kuralı kullanır
+    static double effectiveSpeed(VehicleType vehicle, int edgeSpeedLimit) {
+        switch (vehicle) {
+            case CAR:
+                // Araba: Edge'deki hız limitini kullanır
+                return edgeSpeedLimit;
+
+            case BUS:
+                // Otobüs: Daha yavaş gider (max 80, genelde -10)
+                return edgeSpeedLimit <= 80 ? edgeSpeedLimit - 10 : 80;
+
+            case WALK:
+                // Yürüyüş: Sabit 5 km/h
+                return 5;
+
+            default:
+                return 100;
         }
-        return null;
     }
 
-    /**
-     * Node'dan çıkan tüm edge'leri bul
-     */
-    private List<Edge> getOutgoingEdges(CityMap map, Node source) {
-        List<Edge> result = new ArrayList<>();
-        for (Edge edge : map.getEdges()) {
-            if (edge.getSource().equals(source)) {
-                result.add(edge);
-            }
-        }
-        return result;
+    // Segment başına bekleme (dakika): otobüste her segment için 30 dk durak
+    static double stopMinutes(VehicleType vehicle) {
+        return vehicle == VehicleType.BUS ? 30 : 0;
     }
 }
\ No newline at end of file
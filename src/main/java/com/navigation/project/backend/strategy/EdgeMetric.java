@@ -0,0 +1,105 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.VehicleType;
+
+/**
+ * EdgeMetric - Özelleştirilebilir Yol Ağırlığı
+ *
+ * AMAÇ:
+ * CustomizedOverlay'in en kısa yolu hangi ölçüte göre aradığını tanımlar.
+ * Bölümleme (OverlayPartition) metrikten bağımsızdır; aynı bölümleme farklı metriklerle
+ * özelleştirilebilir.
+ *
+ * DEĞERLER:
+ * - DISTANCE: yol mesafesi (metre); DijkstraStrategy ile aynı sonucu verir
+ * - TRAVEL_TIME: arabayla geçiş süresi (milisaniye), hız limitinden; hız limiti değişince
+ *   ağırlık da değişir (SetSpeedLimitCommand / MapManager.changeSpeed)
+ * - BUS_TRAVEL_TIME: otobüs süresi (milisaniye): max 80 km/h (80 ve altında limit - 10) ve
+ *   segment başına 30 dk durak bekleme
+ * - WALK_TRAVEL_TIME: yürüyüş süresi (milisaniye), sabit 5 km/h
+ * Süre metrikleri DijkstraStrategy.calculateDuration ile aynı kuralları kullanır.
+ *
+ * Açık olmayan (CLOSED / UNDER_CONSTRUCTION) yolun ve hızı 0 ya da altına düşen yolun
+ * ağırlığı INFINITE'tir.
+ *
+ * İLİŞKİLİ SINIFLAR: CustomizedOverlay, CustomizableRouteStrategy, EdgeWeights, IRoadGraph
+ */
+public enum EdgeMetric {
+
+    DISTANCE {
+        @Override
+        public int weight(IRoadGraph graph, int slot) {
+            return graph.isOpen(slot) ? graph.getDistanceMeters(slot) : INFINITE;
+        }
+    },
+
+    TRAVEL_TIME {
+        @Override
+        public int weight(IRoadGraph graph, int slot) {
+            if (!graph.isOpen(slot)) {
+                return INFINITE;
+            }
+            return millis(graph.getDistanceMeters(slot), graph.getSpeedLimit(slot), 0);
+        }
+    },
+
+    BUS_TRAVEL_TIME {
+        @Override
+        public int weight(IRoadGraph graph, int slot) {
+            if (!graph.isOpen(slot)) {
+                return INFINITE;
+            }
+            // Otobüs: 80 ve altında limitte 10 km/h yavaş, üstünde 80 km/h
+            int speedLimit = graph.getSpeedLimit(slot);
+            int speed = speedLimit <= BUS_MAX_SPEED ? speedLimit - 10 : BUS_MAX_SPEED;
+            return millis(graph.getDistanceMeters(slot), speed, BUS_STOP_MILLIS);
+        }
+    },
+
+    WALK_TRAVEL_TIME {
+        @Override
+        public int weight(IRoadGraph graph, int slot) {
+            if (!graph.isOpen(slot)) {
+                return INFINITE;
+            }
+            return millis(graph.getDistanceMeters(slot), WALK_SPEED, 0);
+        }
+    };
+
+    // Kullanılamayan yol
+    public static final int INFINITE = Integer.MAX_VALUE;
+
+    // Süre kuralları (DijkstraStrategy.calculateDuration ile aynı)
+    private static final int BUS_MAX_SPEED = 80;
+    private static final int BUS_STOP_MILLIS = 30 * 60 * 1000;
+    private static final int WALK_SPEED = 5;
+
+    /**
+     * Görüntüdeki yolun ağırlığı (kullanılamıyorsa INFINITE)
+     */
+    public abstract int weight(IRoadGraph graph, int slot);
+
+    /**
+     * Araç tipinin süre metriği (en hızlı rota aramasında kullanılır)
+     */
+    public static EdgeMetric travelTimeOf(VehicleType vehicle) {
+        switch (vehicle) {
+            case BUS:
+                return BUS_TRAVEL_TIME;
+            case WALK:
+                return WALK_TRAVEL_TIME;
+            default:
+                return TRAVEL_TIME;
+        }
+    }
+
+    // metre / (km/h) * 3600 = milisaniye (+ sabit bekleme); hız 0 ya da altındaysa INFINITE
+    private static int millis(int meters, int speed, int penalty) {
+        if (speed <= 0) {
+            return INFINITE;
+        }
+        long millis = (long) meters * 3600 / speed + penalty;
+        return (int) Math.min(millis, INFINITE - 1L);
+    }
+}
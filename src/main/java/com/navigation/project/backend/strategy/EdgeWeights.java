@@ -0,0 +1,112 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EdgeWeights - Görüntü Başına Hesaplanmış Yol Ağırlıkları
+ *
+ * AMAÇ:
+ * Bir metriğin (EdgeMetric) ağırlıklarını görüntünün slot sırasıyla tek bir int dizide tutar.
+ * Arama döngüsü sadece weights[slot] okur: araç tipi switch'i, hız bölmesi ya da durum kontrolü
+ * döngüde yapılmaz (kapalı / kullanılamayan yol EdgeMetric.INFINITE'tir).
+ *
+ * NE İŞE YARAR:
+ * - of(): görüntünün tüm slotları için ağırlıkları hesaplar, O(E)
+ * - derive(): yeni görüntü aynı yapıyı paylaşıyorsa (sadece hız/durum değişti) eski dizi
+ *   kopyalanır ve sadece özniteliği değişen slotlar yeniden hesaplanır; yapı değiştiyse baştan
+ *
+ * DEĞİŞTİRİLEMEZLİK:
+ * Oluşturulduktan sonra dizi değişmez; birden fazla sorgu aynı nesneyi paylaşabilir.
+ *
+ * İLİŞKİLİ SINIFLAR: EdgeMetric, DijkstraStrategy, IsochroneCalculator, RouteObjective, IRoadGraph
+ *
+ * ÖRNEK:
+ * EdgeWeights weights = EdgeWeights.of(graph, EdgeMetric.travelTimeOf(VehicleType.BUS));
+ * long arrival = distances[current] + weights.get(slot);
+ */
+public final class EdgeWeights {
+
+    private final IRoadGraph graph;
+    private final EdgeMetric metric;
+
+    // Slot → ağırlık (arama döngüleri doğrudan okur)
+    final int[] weights;
+
+    private EdgeWeights(IRoadGraph graph, EdgeMetric metric, int[] weights) {
+        this.graph = graph;
+        this.metric = metric;
+        this.weights = weights;
+    }
+
+    /**
+     * Görüntünün tüm yolları için ağırlıkları hesaplar
+     */
+    public static EdgeWeights of(IRoadGraph graph, EdgeMetric metric) {
+        int[] weights = new int[graph.getEdgeCount()];
+        for (int slot = 0; slot < weights.length; slot++) {
+            weights[slot] = metric.weight(graph, slot);
+        }
+        return new EdgeWeights(graph, metric, weights);
+    }
+
+    /**
+     * Aynı metrikle daha yeni bir görüntünün ağırlıkları. Yapı paylaşılıyorsa sadece değişen
+     * slotlar hesaplanır; hiçbiri değişmediyse dizi de paylaşılır.
+     */
+    public EdgeWeights derive(IRoadGraph newer) {
+        if (newer == graph) {
+            return this;
+        }
+        if (!newer.sharesTopology(graph)) {
+            return of(newer, metric);
+        }
+        int[] updated = weights;
+        for (int slot = newer.nextAttributeChange(graph, 0); slot >= 0;
+             slot = slot + 1 < weights.length ? newer.nextAttributeChange(graph, slot + 1) : -1) {
+            int weight = metric.weight(newer, slot);
+            if (weight != updated[slot]) {
+                if (updated == weights) {
+                    updated = weights.clone();
+                }
+                updated[slot] = weight;
+            }
+        }
+        return new EdgeWeights(newer, metric, updated);
+    }
+
+    /**
+     * Araç tipi başına önbellekten (ordinal ile) görüntünün süre ağırlıkları; önbellekteki dizi
+     * eski bir görüntüye aitse ondan türetilir. Daha yeni bir görüntünün dizisi ezilmez.
+     */
+    static EdgeWeights travelTime(AtomicReferenceArray<EdgeWeights> profiles, IRoadGraph graph,
+                                  VehicleType vehicle) {
+        int index = vehicle.ordinal();
+        EdgeWeights cached = profiles.get(index);
+        if (cached != null && cached.getGraph() == graph) {
+            return cached;
+        }
+        EdgeWeights weights = cached == null
+                ? of(graph, EdgeMetric.travelTimeOf(vehicle))
+                : cached.derive(graph);
+        if (cached == null || cached.getGraph().getVersion() <= graph.getVersion()) {
+            profiles.compareAndSet(index, cached, weights);
+        }
+        return weights;
+    }
+
+    public IRoadGraph getGraph() {
+        return graph;
+    }
+
+    public EdgeMetric getMetric() {
+        return metric;
+    }
+
+    // Yolun ağırlığı (kullanılamıyorsa EdgeMetric.INFINITE)
+    public int get(int slot) {
+        return weights[slot];
+    }
+}
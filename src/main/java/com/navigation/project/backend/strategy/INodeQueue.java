@@ -0,0 +1,51 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * INodeQueue - Şehir Öncelik Kuyruğu Arayüzü
+ *
+ * AMAÇ:
+ * Rota aramalarının "en küçük anahtarlı şehri al / anahtarı küçült" işlemlerini tek bir
+ * arayüzde toplar. Anahtar long, şehir int id'dir (kutulama yok). Her şehir kuyrukta en fazla
+ * bir kez bulunur: update() var olan şehrin anahtarını küçültür (decrease-key), eskimiş girdi
+ * oluşmaz.
+ *
+ * İMPLEMENTASYONLAR (NodeQueueType ile seçilir):
+ * - IndexedMinHeap: ikili heap, O(log n)
+ * - QuaternaryHeap: 4'lü heap, O(log4 n) yukarı taşıma, daha sığ ağaç
+ * - RadixHeap: monoton tam sayı anahtarlar (Dijkstra), 65 kova, toplam O(log C)
+ * - DialQueue: küçük tam sayı ağırlıklar için kova kuyruğu, O(1) ekleme / küçültme
+ *
+ * SÖZLEŞME:
+ * - Anahtarlar negatif olmamalıdır
+ * - RadixHeap ve DialQueue monotondur: update() ile verilen anahtar son çıkarılan anahtardan
+ *   küçük olamaz (negatif olmayan ağırlıklı Dijkstra bunu sağlar)
+ * - clear() sadece kuyrukta kalan şehirleri sıfırlar; sorgular arasında O(V) temizlik gerekmez
+ *
+ * İLİŞKİLİ SINIFLAR: NodeQueueType, DijkstraStrategy, ContractionHierarchy, LandmarkStrategy
+ *
+ * ÖRNEK:
+ * INodeQueue queue = NodeQueueType.QUATERNARY_HEAP.create(graph.getNodeCount());
+ * queue.update(startId, 0);
+ * while (!queue.isEmpty()) {
+ *     long distance = queue.minKey();
+ *     int current = queue.pop();
+ * }
+ */
+public interface INodeQueue {
+
+    boolean isEmpty();
+
+    // En küçük anahtar (kuyruk boş değilken)
+    long minKey();
+
+    // En küçük anahtarlı şehri çıkarır
+    int pop();
+
+    // Şehri ekler ya da anahtarını küçültür (kuyruktaki şehre mevcut anahtarından büyük verilmemeli)
+    void update(int node, long key);
+
+    // Şehir şu an kuyrukta mı?
+    boolean contains(int node);
+
+    void clear();
+}
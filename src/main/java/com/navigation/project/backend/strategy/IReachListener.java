@@ -0,0 +1,31 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.model.Node;
+
+/**
+ * IReachListener - Erişilebilirlik Sonuçlarını Akış Halinde Alan Interface
+ *
+ * AMAÇ:
+ * IsochroneCalculator.stream() ile çok büyük erişim kümeleri bellekte toplanmadan işlenir
+ * (dosyaya yazma, harita katmanı, sayım...).
+ *
+ * SÖZLEŞME:
+ * - Şehirler maliyet sırasıyla (artan) ve her biri bir kez bildirilir; ilk şehir başlangıçtır (maliyet 0)
+ * - budgetIndex: şehrin girdiği en küçük bütçenin sıralı bütçe listesindeki yeri
+ *   (şehir bu ve daha büyük bütçelerin hepsinde erişilebilirdir)
+ * - Çağrı aramayı yapan iş parçacığında yapılır; uzun işler arama süresine eklenir
+ * - Dinleyici içinden rota sorgusu (DijkstraStrategy, AStarStrategy...) yapılabilir; süren arama
+ *   kendi alanında yürür. Aynı iş parçacığında iç içe stream/calculate IllegalStateException verir.
+ *
+ * İLİŞKİLİ SINIFLAR: IsochroneCalculator, Isochrone
+ *
+ * ÖRNEK:
+ * calculator.stream(origin, VehicleType.BUS, RouteObjective.FASTEST, new double[]{15, 30, 60},
+ *         (node, cost, budgetIndex) -> writer.println(node.getName() + ";" + cost));
+ */
+@FunctionalInterface
+public interface IReachListener {
+
+    // Şehre bütçe içinde ulaşıldığında çağırılır (cost: dakika ya da km)
+    void onReached(Node node, double cost, int budgetIndex);
+}
@@ -0,0 +1,20 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * IRouteResultListener - Toplu Rota Sonuç Dinleyicisi
+ *
+ * AMAÇ:
+ * BatchRouteCalculator.stream() sonuçlarını hesaplandıkça (tamamlanma sırasıyla) alır.
+ *
+ * NE İŞE YARAR:
+ * - index: isteğin akıştaki sırası (0'dan başlar); sonuçlar istek sırasıyla gelmez
+ * - Çağrılar sıralanır (aynı anda tek çağrı); dinleyicinin iş parçacığı güvenli olması gerekmez
+ * - Yol yoksa result'ın path'i boştur
+ *
+ * İLİŞKİLİ SINIFLAR: BatchRouteCalculator, RouteRequest, RouteCalculationResult
+ */
+@FunctionalInterface
+public interface IRouteResultListener {
+
+    void onRouteCalculated(int index, RouteRequest request, RouteCalculationResult result);
+}
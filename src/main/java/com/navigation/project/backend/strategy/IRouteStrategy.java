@@ -12,11 +12,13 @@ import com.navigation.project.backend.model.VehicleType;
  * NE İŞE YARAR:
  * - Algoritma değiştirilebilirliği sağlar
  * - Farklı rota algoritmaları implement edilebilir
- * - Runtime'da algoritma seçimi yapılabilir
+ * - Runtime'da algoritma seçimi yapılabilir (NavigationFacade.setRouteStrategy)
  *
  * PATTERN: Strategy Pattern
- * IMPLEMENTASYONLAR: DijkstraStrategy
- * GELECEKTEKİ: AStarStrategy, BellmanFordStrategy
+ * IMPLEMENTASYONLAR: DijkstraStrategy, AStarStrategy, BidirectionalDijkstraStrategy,
+ *                    ContractionHierarchyStrategy, LandmarkStrategy,
+ *                    CustomizableRouteStrategy
+ * GELECEKTEKİ: BellmanFordStrategy
  *
  * GEREKLI METODLAR:
  * - calculateRoute(start, end): Rota hesaplar ve sonuç döner
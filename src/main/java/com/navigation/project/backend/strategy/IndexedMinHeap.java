@@ -0,0 +1,103 @@
+package com.navigation.project.backend.strategy;
+
+import java.util.Arrays;
+
+/**
+ * IndexedMinHeap - Azaltılabilir Anahtarlı İkili Min-Heap
+ *
+ * AMAÇ:
+ * Her şehir heap'te en fazla bir kez bulunur; sorgu sadece kesinleşen şehirler kadar çıkarma
+ * yapar (eskimiş girdi yok). Konum dizisi heap dışındaki şehirler için -1 tutulur,
+ * clear() sadece kalan girdileri sıfırlar; böylece sorgular arasında O(V) temizlik gerekmez.
+ *
+ * İLİŞKİLİ SINIFLAR: INodeQueue, QuaternaryHeap, MinHeap, ContractionHierarchy, LandmarkStrategy
+ */
+final class IndexedMinHeap implements INodeQueue {
+    private final long[] keys;
+    private final int[] nodes;
+    private final int[] positions;
+    private int size;
+
+    IndexedMinHeap(int nodeCount) {
+        keys = new long[nodeCount];
+        nodes = new int[nodeCount];
+        positions = new int[nodeCount];
+        Arrays.fill(positions, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long minKey() {
+        return keys[0];
+    }
+
+    @Override
+    public boolean contains(int node) {
+        return positions[node] >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[nodes[i]] = -1;
+        }
+        size = 0;
+    }
+
+    // Şehri ekler ya da anahtarını küçültür
+    @Override
+    public void update(int node, long key) {
+        int i = positions[node];
+        if (i < 0) {
+            i = size++;
+        }
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            nodes[i] = nodes[parent];
+            positions[nodes[i]] = i;
+            i = parent;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+        positions[node] = i;
+    }
+
+    // En küçük anahtarlı şehri çıkarır
+    @Override
+    public int pop() {
+        int top = nodes[0];
+        positions[top] = -1;
+        if (--size == 0) {
+            return top;
+        }
+        long key = keys[size];
+        int node = nodes[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            nodes[i] = nodes[child];
+            positions[nodes[i]] = i;
+            i = child;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+        positions[node] = i;
+        return top;
+    }
+}
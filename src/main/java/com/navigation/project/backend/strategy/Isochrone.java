@@ -0,0 +1,101 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Isochrone - Erişilebilirlik (İzokron) Sonucu
+ *
+ * AMAÇ:
+ * Bir başlangıç şehrinden verilen bütçeler (süre ya da mesafe) içinde ulaşılabilen şehirleri
+ * ve varış maliyetlerini immutable olarak tutar.
+ *
+ * NE İŞE YARAR:
+ * - Şehirler varış maliyetine göre artan sırada tutulur; bu yüzden her bütçenin erişim kümesi
+ *   listenin bir ön ekidir: getReachable(b) = ilk getReachableCount(b) şehir
+ * - Maliyet birimi: FASTEST → dakika, SHORTEST → km (getObjective())
+ *
+ * İLİŞKİLİ SINIFLAR: IsochroneCalculator, IReachListener, RouteObjective
+ *
+ * ÖRNEK:
+ * Isochrone isochrone = calculator.calculate(origin, VehicleType.BUS, RouteObjective.FASTEST, 15, 30, 60);
+ * List<Node> in30 = isochrone.getReachable(1);
+ * double minutes = isochrone.getCost(5);
+ */
+public class Isochrone {
+    private final Node origin;
+    private final VehicleType vehicle;
+    private final RouteObjective objective;
+    private final double[] budgets;         // Artan sırada
+    private final List<Node> nodes;         // Maliyete göre artan sırada
+    private final double[] costs;           // nodes ile aynı sırada
+    private final int[] counts;             // Bütçe başına erişilen şehir sayısı (ön ek uzunluğu)
+
+    public Isochrone(Node origin, VehicleType vehicle, RouteObjective objective, double[] budgets, List<Node> nodes,
+                     double[] costs, int[] counts) {
+        if (costs.length != nodes.size() || counts.length != budgets.length) {
+            throw new IllegalArgumentException("İzokron dizilerinin boyutları uyuşmuyor!");
+        }
+        this.origin = origin;
+        this.vehicle = vehicle;
+        this.objective = objective;
+        this.budgets = budgets.clone();
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.costs = costs;
+        this.counts = counts.clone();
+    }
+
+    public Node getOrigin() {
+        return origin;
+    }
+
+    public VehicleType getVehicle() {
+        return vehicle;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    public int getBudgetCount() {
+        return budgets.length;
+    }
+
+    public double getBudget(int budgetIndex) {
+        return budgets[budgetIndex];
+    }
+
+    // En büyük bütçe içinde erişilen tüm şehirler (maliyete göre artan)
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    // nodes listesindeki i. şehrin varış maliyeti (dakika ya da km)
+    public double getCost(int index) {
+        return costs[index];
+    }
+
+    public int getReachableCount(int budgetIndex) {
+        return counts[budgetIndex];
+    }
+
+    public List<Node> getReachable(int budgetIndex) {
+        return nodes.subList(0, counts[budgetIndex]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("İzokron => " + (origin == null ? "-" : origin.getName())
+                + " (" + vehicle + ", " + objective + "):");
+        for (int b = 0; b < budgets.length; b++) {
+            text.append(' ').append(budgets[b]).append(" → ").append(counts[b]).append(" şehir");
+            if (b + 1 < budgets.length) {
+                text.append(',');
+            }
+        }
+        return text.toString();
+    }
+}
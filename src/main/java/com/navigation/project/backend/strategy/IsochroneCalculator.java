@@ -0,0 +1,199 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * IsochroneCalculator - Bütçeli Erişilebilirlik (İzokron) Sorguları
+ *
+ * AMAÇ:
+ * "X'ten otobüsle 30 dakikada hangi şehirlere gidilebilir?" sorusunu, her şehir için ayrı
+ * calculateRoute çağırmadan, tek bir sınırlı Dijkstra (one-to-all) ile cevaplar.
+ *
+ * NE İŞE YARAR:
+ * - Arama en büyük bütçeyi aşan ilk şehirde durur; sadece bütçe içindeki şehirler gezilir
+ * - Birden fazla bütçe (örn. 15, 30, 60 dk) tek geçişte: şehirler artan maliyetle kesinleştiği
+ *   için her bütçenin kümesi kesinleşme sırasının bir ön ekidir
+ * - calculate(): sonuçları Isochrone nesnesinde toplar
+ * - stream(): sonuçları IReachListener'a tek tek verir, bellekte toplamaz (çok büyük kümeler)
+ * - Dinleyici arama sürerken çağırılır; arama ayrı şeritte (SearchWorkspace.CALLBACK_LANE) yürüdüğü
+ *   için dinleyici içinden rota sorgusu yapılabilir, iç içe stream/calculate IllegalStateException verir
+ *
+ * MALİYET (RouteObjective):
+ * - FASTEST: süre bütçesi (dakika). DijkstraStrategy.calculateDuration kuralları (CAR hız limiti,
+ *   BUS 80 km/h sınırı + segment başına 30 dk durak, WALK 5 km/h); ağırlıklar FASTEST
+ *   Dijkstra ile aynı, milisaniyeye yuvarlanmış EdgeWeights dizileridir
+ * - SHORTEST: mesafe bütçesi (km), yol mesafesi (metre)
+ * - Sadece OPEN yollar kullanılır (EdgeStatus); hızı 0 ya da altına düşen yol geçilemez
+ *
+ * İLİŞKİLİ SINIFLAR: Isochrone, IReachListener, EdgeWeights, SearchWorkspace, DijkstraStrategy
+ *
+ * ÖRNEK:
+ * IsochroneCalculator calculator = new IsochroneCalculator(map);
+ * Isochrone isochrone = calculator.calculate(origin, VehicleType.BUS, RouteObjective.FASTEST, 15, 30, 60);
+ */
+public class IsochroneCalculator {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+    private static final double METERS_PER_KM = 1000.0;
+
+    private final CityMap map;
+
+    // Araç tipi başına son görüntünün süre ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public IsochroneCalculator(CityMap map) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        this.map = map;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    /**
+     * Bütçeler içinde erişilen şehirler (maliyete göre artan) ve varış maliyetleri
+     */
+    public Isochrone calculate(Node origin, VehicleType vehicle, RouteObjective objective, double... budgets) {
+        double[] sorted = sortedBudgets(budgets);
+        Collector collector = new Collector(sorted.length);
+        stream(origin, vehicle, objective, sorted, collector);
+        // Bütçe başına sayılar birikimli yapılır (her küme bir öncekini içerir)
+        int[] counts = collector.counts;
+        for (int b = 1; b < counts.length; b++) {
+            counts[b] += counts[b - 1];
+        }
+        return new Isochrone(origin, vehicle, objective, sorted, collector.nodes,
+                Arrays.copyOf(collector.costs, collector.nodes.size()), counts);
+    }
+
+    /**
+     * Bütçeler içinde erişilen şehirleri artan maliyetle listener'a verir; bildirilen şehir sayısını döner.
+     * Başlangıç haritada yoksa hiçbir şehir bildirilmez.
+     */
+    public int stream(Node origin, VehicleType vehicle, RouteObjective objective, double[] budgets,
+                      IReachListener listener) {
+        if (origin == null || vehicle == null || objective == null || listener == null) {
+            throw new IllegalArgumentException("Başlangıç, araç tipi, amaç ve dinleyici boş olamaz!");
+        }
+        double[] sorted = sortedBudgets(budgets);
+
+        // Sorgu boyunca tek görüntü
+        IRoadGraph graph = map.getGraph();
+        int originId = graph.idOf(origin);
+        if (originId < 0) {
+            return 0;
+        }
+
+        // Bütçeler arama biriminde (milisaniye ya da metre); sınır dahil
+        boolean fastest = objective == RouteObjective.FASTEST;
+        double unit = fastest ? MILLIS_PER_MINUTE : METERS_PER_KM;
+        long[] limits = new long[sorted.length];
+        for (int b = 0; b < sorted.length; b++) {
+            limits[b] = (long) Math.floor(sorted[b] * unit + 1e-6);
+        }
+        long limit = limits[limits.length - 1];
+        int[] weights = fastest ? EdgeWeights.travelTime(profiles, graph, vehicle).weights : null;
+
+        // Dinleyici arama sırasında çağırılır: arama kendi şeridinde, dinleyicinin rota sorguları
+        // (lane 0 / 1) bu aramayı bozmaz. Dinleyiciden iç içe stream/calculate hata verir.
+        SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT,
+                SearchWorkspace.CALLBACK_LANE);
+        ws.claim();
+        try {
+            ws.reset();
+            INodeQueue queue = ws.queue;
+            ws.reach(originId, 0, -1, -1);
+            queue.update(originId, 0);
+            int band = 0;
+            int reached = 0;
+
+            while (!queue.isEmpty()) {
+                long cost = queue.minKey();
+                if (cost > limit) {
+                    break;
+                }
+                int current = queue.pop();
+                while (cost > limits[band]) {
+                    band++;
+                }
+                reached++;
+                listener.onReached(graph.getNode(current),
+                        fastest ? cost / unit : EdgeTable.toKilometers(cost), band);
+
+                int begin = graph.outBegin(current);
+                int degree = graph.outEnd(current) - begin;
+                int[] targets = ws.loadTargets(graph, current, degree);
+                for (int i = 0; i < degree; i++) {
+                    int slot = begin + i;
+                    int weight;
+                    if (weights != null) {
+                        weight = weights[slot];     // Kapalı yol INFINITE
+                    } else {
+                        weight = graph.isOpen(slot) ? graph.getDistanceMeters(slot) : EdgeMetric.INFINITE;
+                    }
+                    if (weight == EdgeMetric.INFINITE) {
+                        continue;
+                    }
+                    long newCost = cost + weight;
+                    // Bütçeyi aşan şehirler kuyruğa hiç girmez
+                    if (newCost <= limit && newCost < ws.distance(targets[i])) {
+                        ws.reach(targets[i], newCost, current, slot);
+                        queue.update(targets[i], newCost);
+                    }
+                }
+            }
+            return reached;
+        } finally {
+            ws.release();
+        }
+    }
+
+    // Bütçelerin artan sıralı kopyası; boş, negatif ya da sayı olmayan bütçe kabul edilmez
+    private static double[] sortedBudgets(double[] budgets) {
+        if (budgets == null || budgets.length == 0) {
+            throw new IllegalArgumentException("En az bir bütçe verilmeli!");
+        }
+        for (double budget : budgets) {
+            if (!(budget >= 0) || Double.isInfinite(budget)) {
+                throw new IllegalArgumentException("Bütçeler negatif olmayan sonlu sayılar olmalı: "
+                        + Arrays.toString(budgets));
+            }
+        }
+        double[] sorted = budgets.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // calculate(): akıştaki şehirleri ve maliyetleri toplar
+    private static final class Collector implements IReachListener {
+        private final List<Node> nodes = new ArrayList<>();
+        private final int[] counts;
+        private double[] costs = new double[64];
+
+        private Collector(int budgetCount) {
+            counts = new int[budgetCount];
+        }
+
+        @Override
+        public void onReached(Node node, double cost, int budgetIndex) {
+            if (nodes.size() == costs.length) {
+                costs = Arrays.copyOf(costs, costs.length * 2);
+            }
+            costs[nodes.size()] = cost;
+            nodes.add(node);
+            counts[budgetIndex]++;
+        }
+    }
+}
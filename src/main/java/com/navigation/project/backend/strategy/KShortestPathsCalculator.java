@@ -0,0 +1,389 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * KShortestPathsCalculator - En Kısa k Rota (Yen Algoritması)
+ *
+ * AMAÇ:
+ * İki şehir arasındaki en iyi k döngüsüz (loopless) rotayı maliyet sırasıyla döner.
+ * DijkstraStrategy tek rota verir; planlayıcılar alternatifleri karşılaştırmak ister.
+ *
+ * NE İŞE YARAR (Yen):
+ * 1. En kısa rota A[0] bulunur
+ * 2. Her turda son kabul edilen rotanın her "sapma" (spur) şehri için: kök (başlangıç → sapma
+ *    şehri) sabit tutulur, kökteki şehirler ve aynı kökü paylaşan kabul edilmiş rotaların sapma
+ *    şehrinden gittiği sonraki şehirler yasaklanır; sapma şehrinden hedefe en kısa yol aranır
+ * 3. Kök + sapma yolu aday listesine eklenir (aynı rota bir kez); en ucuz aday A[i] olur
+ *
+ * PARALEL YOLLAR:
+ * Rota şehir dizisidir: aynı iki şehir arasındaki paralel yollar ayrı rota sayılmaz. Yasak
+ * sonraki şehre gider (tüm paralel yollar birlikte yasaklanır), adaylar şehir dizisine göre
+ * tekilleştirilir; aramalar iki şehir arasında hep amaca göre en ucuz yolu seçer.
+ *
+ * HIZLANDIRMALAR:
+ * - Bir turun sapma aramaları birbirinden bağımsızdır: ForkJoinPool'da paralel çalışır.
+ *   Görüntü salt okunur paylaşılır, her iş parçacığı kendi SearchWorkspace'ini kullanır.
+ * - Sorgu başında hedefe doğru tek bir geri Dijkstra (ters en kısa yol ağacı) çalışır. Sapma
+ *   aramaları bu mesafeleri A* sezgisi olarak kullanır: yasaklar sadece maliyeti artırdığı için
+ *   sezgi tutarlıdır ve her arama neredeyse sadece sapma yolunun çevresini gezer.
+ *   Hedefe ulaşamayan şehirler hiç kuyruğa girmez.
+ * - Lawler: bir rota ebeveyninden i. şehirde saptıysa, ondan önceki sapma şehirleri tekrar
+ *   denenmez (aynı adaylar zaten üretilmiştir)
+ *
+ * MALİYET (RouteObjective):
+ * - SHORTEST: mesafe (metre), FASTEST: araç tipinin süresi (milisaniye, EdgeWeights)
+ * - Sadece OPEN yollar; sonuçların süresi DijkstraStrategy.calculateDuration ile hesaplanır
+ *
+ * İLİŞKİLİ SINIFLAR: DijkstraStrategy, SearchWorkspace, EdgeWeights, RouteCalculationResult
+ *
+ * ÖRNEK:
+ * KShortestPathsCalculator calculator = new KShortestPathsCalculator(map);
+ * List<RouteCalculationResult> routes = calculator.calculateRoutes(start, end, VehicleType.CAR, 10);
+ */
+public class KShortestPathsCalculator {
+
+    private final CityMap map;
+    private final RouteObjective objective;
+    private final ForkJoinPool pool;
+
+    // FASTEST: araç tipi başına son görüntünün süre ağırlıkları (ordinal ile)
+    private final AtomicReferenceArray<EdgeWeights> profiles =
+            new AtomicReferenceArray<>(VehicleType.values().length);
+
+    public KShortestPathsCalculator(CityMap map) {
+        this(map, RouteObjective.SHORTEST);
+    }
+
+    public KShortestPathsCalculator(CityMap map, RouteObjective objective) {
+        this(map, objective, ForkJoinPool.commonPool());
+    }
+
+    public KShortestPathsCalculator(CityMap map, RouteObjective objective, ForkJoinPool pool) {
+        if (map == null || objective == null || pool == null) {
+            throw new IllegalArgumentException("Harita, amaç ve havuz boş olamaz!");
+        }
+        this.map = map;
+        this.objective = objective;
+        this.pool = pool;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    /**
+     * En iyi k döngüsüz rota, maliyete göre artan sırada (k'dan az rota varsa hepsi).
+     * Yol yoksa ya da başlangıç = hedef ise boş liste.
+     */
+    public List<RouteCalculationResult> calculateRoutes(Node startNode, Node endNode, VehicleType vehicle, int k) {
+        if (startNode == null || endNode == null || vehicle == null) {
+            throw new IllegalArgumentException("Başlangıç, hedef ve araç tipi boş olamaz!");
+        }
+        if (k < 1) {
+            throw new IllegalArgumentException("k en az 1 olmalı: " + k);
+        }
+
+        // Sorgu boyunca tek görüntü (paralel aramalar da aynısını okur)
+        IRoadGraph graph = map.getGraph();
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0 || startId == endId) {
+            return Collections.emptyList();
+        }
+        int[] weights = objective == RouteObjective.FASTEST
+                ? EdgeWeights.travelTime(profiles, graph, vehicle).weights : null;
+
+        // Hedefe kalan maliyet (ters en kısa yol ağacı): sapma aramalarının A* sezgisi
+        long[] toTarget = reverseCosts(graph, weights, endId);
+        if (toTarget[startId] == Long.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        List<Candidate> accepted = new ArrayList<>(k);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                Comparator.comparingLong((Candidate c) -> c.cost).thenComparingInt(c -> c.slots.length));
+        Set<Candidate> seen = new HashSet<>();
+
+        SpurSearch first = new SpurSearch(graph, weights, toTarget, startId, endId, new int[0], 0, new int[0]);
+        Candidate shortest = first.call();
+        accepted.add(shortest);
+        seen.add(shortest);
+
+        while (accepted.size() < k) {
+            Candidate last = accepted.get(accepted.size() - 1);
+            int[] nodes = nodesOf(graph, startId, last.slots);
+
+            // Lawler: sapma şehirleri ebeveynden ayrılınan yerden başlar
+            List<Callable<Candidate>> searches = new ArrayList<>();
+            long rootCost = 0;
+            for (int j = 0; j < last.slots.length; j++) {
+                if (j >= last.deviation) {
+                    searches.add(new SpurSearch(graph, weights, toTarget, nodes[j], endId,
+                            Arrays.copyOf(nodes, j), rootCost, blockedTargets(accepted, last, j)));
+                }
+                rootCost += weight(graph, weights, last.slots[j]);
+            }
+
+            for (Candidate spur : invokeAll(searches)) {
+                if (spur != null) {
+                    Candidate candidate = spur.withRoot(graph, last.slots, spur.rootLength);
+                    if (seen.add(candidate)) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.poll());
+        }
+
+        List<RouteCalculationResult> routes = new ArrayList<>(accepted.size());
+        for (Candidate candidate : accepted) {
+            routes.add(toResult(graph, startId, candidate, vehicle));
+        }
+        return routes;
+    }
+
+    // Aynı kökü (ilk j şehir) paylaşan kabul edilmiş rotaların sapma şehrinden gittiği şehirler yasak
+    private static int[] blockedTargets(List<Candidate> accepted, Candidate last, int j) {
+        int[] blocked = new int[accepted.size()];
+        int count = 0;
+        for (Candidate path : accepted) {
+            if (path.targets.length > j && Arrays.equals(path.targets, 0, j, last.targets, 0, j)) {
+                blocked[count++] = path.targets[j];
+            }
+        }
+        return Arrays.copyOf(blocked, count);
+    }
+
+    private List<Candidate> invokeAll(List<Callable<Candidate>> searches) {
+        List<Candidate> results = new ArrayList<>(searches.size());
+        try {
+            for (Future<Candidate> future : pool.invokeAll(searches)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Alternatif rota araması kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Alternatif rota araması başarısız: " + e.getCause(), e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Hedeften geriye (gelen yollar üzerinden) tam Dijkstra: şehir → hedefe kalan en küçük maliyet.
+     * Ulaşamayan şehirler Long.MAX_VALUE.
+     */
+    private static long[] reverseCosts(IRoadGraph graph, int[] weights, int endId) {
+        int nodeCount = graph.getNodeCount();
+        SearchWorkspace ws = SearchWorkspace.forThread(nodeCount, NodeQueueType.DEFAULT);
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        ws.reach(endId, 0, -1, -1);
+        queue.update(endId, 0);
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            long cost = ws.distances[current];
+            int end = graph.inEnd(current);
+            for (int position = graph.inBegin(current); position < end; position++) {
+                int weight = weight(graph, weights, graph.getInSlot(position));
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                int source = graph.getInSource(position);
+                long newCost = cost + weight;
+                if (newCost < ws.distance(source)) {
+                    ws.reach(source, newCost, current, -1);
+                    queue.update(source, newCost);
+                }
+            }
+        }
+        long[] costs = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            costs[node] = ws.distance(node);
+        }
+        return costs;
+    }
+
+    // Yolun arama ağırlığı; kapalı yol (ya da geçilemeyen) INFINITE
+    private static int weight(IRoadGraph graph, int[] weights, int slot) {
+        if (weights != null) {
+            return weights[slot];
+        }
+        return graph.isOpen(slot) ? graph.getDistanceMeters(slot) : EdgeMetric.INFINITE;
+    }
+
+    private static int[] nodesOf(IRoadGraph graph, int startId, int[] slots) {
+        int[] nodes = new int[slots.length + 1];
+        nodes[0] = startId;
+        for (int i = 0; i < slots.length; i++) {
+            nodes[i + 1] = graph.getTarget(slots[i]);
+        }
+        return nodes;
+    }
+
+    private static RouteCalculationResult toResult(IRoadGraph graph, int startId, Candidate candidate,
+                                                   VehicleType vehicle) {
+        List<Node> path = new ArrayList<>(candidate.slots.length + 1);
+        path.add(graph.getNode(startId));
+        long meters = 0;
+        for (int slot : candidate.slots) {
+            path.add(graph.getNode(graph.getTarget(slot)));
+            meters += graph.getDistanceMeters(slot);
+        }
+        double duration = DijkstraStrategy.calculateDuration(graph, path, candidate.slots, vehicle, "[Yen]", false);
+        return new RouteCalculationResult(path, EdgeTable.toKilometers(meters), duration, candidate.settled);
+    }
+
+    /**
+     * Aday rota: başlangıçtan hedefe slotlar, maliyet ve ebeveyninden saptığı konum.
+     * Eşitlik şehir dizisi ile (paralel yollar aynı rotayı iki kez aday yapmaz).
+     */
+    private static final class Candidate {
+        private final int[] slots;
+        private final int[] targets;        // Her slotun vardığı şehir (başlangıç hariç şehir dizisi)
+        private final long cost;
+        private final int deviation;
+        private final int rootLength;       // Sapma araması sonucu: kökün yol sayısı
+        private final int settled;
+        private final int hash;
+
+        private Candidate(IRoadGraph graph, int[] slots, long cost, int deviation, int rootLength, int settled) {
+            this.slots = slots;
+            this.targets = new int[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                targets[i] = graph.getTarget(slots[i]);
+            }
+            this.cost = cost;
+            this.deviation = deviation;
+            this.rootLength = rootLength;
+            this.settled = settled;
+            this.hash = Arrays.hashCode(targets);
+        }
+
+        // Sapma yolunun başına kökün slotlarını ekler
+        private Candidate withRoot(IRoadGraph graph, int[] rootSlots, int length) {
+            int[] full = new int[length + slots.length];
+            System.arraycopy(rootSlots, 0, full, 0, length);
+            System.arraycopy(slots, 0, full, length, slots.length);
+            return new Candidate(graph, full, cost, length, length, settled);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Candidate && Arrays.equals(targets, ((Candidate) other).targets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Sapma şehrinden hedefe A* (sezgi: ters ağaçtaki kalan maliyet). Kök şehirleri kullanılmaz,
+     * sapma şehrinden yasaklı şehirlere gidilmez. Sonuç sadece sapma yolunun slotlarını ve kök dahil toplam maliyeti tutar.
+     */
+    private static final class SpurSearch implements Callable<Candidate> {
+        private final IRoadGraph graph;
+        private final int[] weights;
+        private final long[] toTarget;
+        private final int spurId;
+        private final int endId;
+        private final int[] rootNodes;
+        private final long rootCost;
+        private final int[] blockedTargets;
+
+        private SpurSearch(IRoadGraph graph, int[] weights, long[] toTarget, int spurId, int endId, int[] rootNodes,
+                           long rootCost, int[] blockedTargets) {
+            this.graph = graph;
+            this.weights = weights;
+            this.toTarget = toTarget;
+            this.spurId = spurId;
+            this.endId = endId;
+            this.rootNodes = rootNodes;
+            this.rootCost = rootCost;
+            this.blockedTargets = blockedTargets;
+        }
+
+        @Override
+        public Candidate call() {
+            SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT);
+            ws.reset();
+            INodeQueue queue = ws.queue;
+
+            // Kök şehirleri "ulaşılmış, mesafe -1": hiçbir yol bunları iyileştiremez, kuyruğa girmezler
+            for (int node : rootNodes) {
+                ws.reach(node, -1, -1, -1);
+            }
+            ws.reach(spurId, 0, -1, -1);
+            queue.update(spurId, toTarget[spurId]);
+            int settled = 0;
+
+            while (!queue.isEmpty()) {
+                int current = queue.pop();
+                settled++;
+                if (current == endId) {
+                    int count = ws.unwind(endId);
+                    int[] slots = Arrays.copyOf(ws.routeSlots(), count);
+                    return new Candidate(graph, slots, rootCost + ws.distances[endId], 0, rootNodes.length, settled);
+                }
+                long cost = ws.distances[current];
+                int begin = graph.outBegin(current);
+                int degree = graph.outEnd(current) - begin;
+                int[] targets = ws.loadTargets(graph, current, degree);
+                for (int i = 0; i < degree; i++) {
+                    int slot = begin + i;
+                    int neighbour = targets[i];
+                    if (current == spurId && isBlocked(neighbour)) {
+                        continue;
+                    }
+                    int weight = weight(graph, weights, slot);
+                    if (weight == EdgeMetric.INFINITE || toTarget[neighbour] == Long.MAX_VALUE) {
+                        continue;
+                    }
+                    long newCost = cost + weight;
+                    if (newCost < ws.distance(neighbour)) {
+                        ws.reach(neighbour, newCost, current, slot);
+                        queue.update(neighbour, newCost + toTarget[neighbour]);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean isBlocked(int target) {
+            for (int blocked : blockedTargets) {
+                if (blocked == target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LandmarkIndex - ALT (A*, Landmarks, Triangle inequality) Mesafe Tabloları
+ *
+ * AMAÇ:
+ * Birkaç "işaret şehri" (landmark) seçer ve her şehrin bu şehirlere / bu şehirlerden en kısa
+ * mesafesini önceden hesaplar. Üçgen eşitsizliği ile herhangi iki şehir arasındaki mesafe için
+ * alt sınır verir; şehirlerde konum (enlem/boylam) olması gerekmez.
+ *
+ * NE İŞE YARAR:
+ * - Seçim: FARTHEST (seçilenlere en uzak şehir) ya da AVOID (alt sınırı en zayıf kalan bölgeye
+ *   doğru en kısa yol ağacında inilen yaprak, Goldberg & Werneck)
+ * - Tablolar: her landmark için ileri (landmark → şehir) ve geri (şehir → landmark) Dijkstra,
+ *   iş parçacıklarında paralel; şehir başına landmark değerleri yan yana tutulur
+ * - Alt sınır: d(v, t) >= max( d(L, t) - d(L, v), d(v, L) - d(t, L) )
+ *
+ * YOL DURUMLARI:
+ * Tablolar yolların durumuna (OPEN/CLOSED/...) bakmadan tüm yollar üzerinden hesaplanır.
+ * Yol kapatmak mesafeleri sadece uzatabilir, bu yüzden alt sınırlar BlockRoadCommand ve
+ * SetSpeedLimitCommand sonrasında da geçerlidir; tablo yeniden hesaplanmaz. Sadece şehir/yol
+ * eklenip çıkarılırsa (isValidFor() false) yeniden kurulum gerekir.
+ *
+ * İLİŞKİLİ SINIFLAR: LandmarkStrategy, IRoadGraph, AStarStrategy
+ *
+ * ÖRNEK:
+ * LandmarkIndex index = LandmarkIndex.build(map.getGraph(), 16, LandmarkIndex.Selection.AVOID, 4);
+ * long bound = index.lowerBound(fromId, toId);
+ */
+public final class LandmarkIndex {
+
+    // Landmark seçim yöntemi
+    public enum Selection {
+        FARTHEST,
+        AVOID
+    }
+
+    // Ulaşılamayan şehir
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final long SELECTION_SEED = 42;
+
+    private final IRoadGraph graph;
+    private final int[] landmarks;
+    private final int landmarkCount;
+
+    // Şehir başına k değer: fromLandmark[v * k + i] = d(L_i, v), toLandmark[v * k + i] = d(v, L_i)
+    private final int[] fromLandmark;
+    private final int[] toLandmark;
+
+    private LandmarkIndex(IRoadGraph graph, int[] landmarks, int[] fromLandmark, int[] toLandmark) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.landmarkCount = landmarks.length;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Landmark'ları seçer ve mesafe tablolarını verilen sayıda iş parçacığı ile hesaplar
+     */
+    public static LandmarkIndex build(IRoadGraph graph, int landmarkCount, Selection selection, int threads) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Landmark sayısı en az 1 olmalı: " + landmarkCount);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalı: " + threads);
+        }
+        int nodeCount = graph.getNodeCount();
+        if (nodeCount == 0) {
+            return new LandmarkIndex(graph, new int[0], new int[0], new int[0]);
+        }
+        int[] landmarks = selection == Selection.AVOID
+                ? selectAvoid(graph, Math.min(landmarkCount, nodeCount))
+                : selectFarthest(graph, Math.min(landmarkCount, nodeCount));
+        int k = landmarks.length;
+
+        // Her landmark için iki Dijkstra (ileri + geri), paralel
+        int[][] forward = new int[k][];
+        int[][] backward = new int[k][];
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "landmark-tables");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(2 * k);
+            for (int i = 0; i < k; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    forward[index] = distancesFrom(graph, landmarks[index], false, new MinHeap());
+                }));
+                futures.add(pool.submit(() -> {
+                    backward[index] = distancesFrom(graph, landmarks[index], true, new MinHeap());
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Landmark tabloları hesaplanırken kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Landmark tabloları hesaplanamadı: " + e.getCause(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Şehir başına yan yana: bir şehrin tüm landmark değerleri tek okumada gelir
+        int[] fromLandmark = new int[nodeCount * k];
+        int[] toLandmark = new int[nodeCount * k];
+        for (int i = 0; i < k; i++) {
+            for (int v = 0; v < nodeCount; v++) {
+                fromLandmark[v * k + i] = forward[i][v];
+                toLandmark[v * k + i] = backward[i][v];
+            }
+        }
+        return new LandmarkIndex(graph, landmarks, fromLandmark, toLandmark);
+    }
+
+    /**
+     * Tablolar yeni görüntü için de geçerli mi? Şehirler, yollar ve mesafeler aynıysa evet;
+     * durum ve hız limiti farkları önemsizdir (O(V + E) karşılaştırma).
+     */
+    public boolean isValidFor(IRoadGraph newer) {
+        if (newer == graph) {
+            return true;
+        }
+        if (newer.getNodeCount() != graph.getNodeCount() || newer.getEdgeCount() != graph.getEdgeCount()) {
+            return false;
+        }
+        for (int id = 0; id < graph.getNodeCount(); id++) {
+            if (newer.outBegin(id) != graph.outBegin(id)
+                    || (newer.getNode(id) != graph.getNode(id) && !newer.getNodeName(id).equals(graph.getNodeName(id)))) {
+                return false;
+            }
+        }
+        for (int slot = 0; slot < graph.getEdgeCount(); slot++) {
+            if (newer.getTarget(slot) != graph.getTarget(slot)
+                    || newer.getDistanceMeters(slot) != graph.getDistanceMeters(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public IRoadGraph getGraph() {
+        return graph;
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    // Landmark şehirlerinin id'leri (kopya)
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * from → to mesafesi için tüm landmark'lar üzerinden alt sınır (metre)
+     */
+    public long lowerBound(int from, int to) {
+        long best = 0;
+        for (int i = 0; i < landmarkCount; i++) {
+            best = Math.max(best, bound(i, from, to));
+        }
+        return best;
+    }
+
+    /**
+     * Sorgu için en güçlü alt sınırı veren landmark'ları seçer (başlangıç → hedef için).
+     * Seçilenler active dizisine yazılır, sayısı döner.
+     */
+    public int selectActive(int source, int target, int[] active) {
+        int limit = Math.min(active.length, landmarkCount);
+        long[] scores = new long[limit];
+        int count = 0;
+        for (int i = 0; i < landmarkCount; i++) {
+            long score = bound(i, source, target);
+            if (count < limit) {
+                active[count] = i;
+                scores[count++] = score;
+                continue;
+            }
+            int weakest = 0;
+            for (int j = 1; j < limit; j++) {
+                if (scores[j] < scores[weakest]) {
+                    weakest = j;
+                }
+            }
+            if (score > scores[weakest]) {
+                active[weakest] = i;
+                scores[weakest] = score;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sadece seçili landmark'lar ile alt sınır (A* potansiyeli)
+     */
+    public long lowerBound(int from, int to, int[] active, int activeCount) {
+        long best = 0;
+        for (int j = 0; j < activeCount; j++) {
+            best = Math.max(best, bound(active[j], from, to));
+        }
+        return best;
+    }
+
+    // Tek landmark ile üçgen eşitsizliği; mesafelerden biri bilinmiyorsa sınır yok (0)
+    private long bound(int landmark, int from, int to) {
+        int k = landmarkCount;
+        long best = 0;
+        int fromTarget = fromLandmark[to * k + landmark];
+        int fromSource = fromLandmark[from * k + landmark];
+        if (fromTarget != UNREACHABLE && fromSource != UNREACHABLE) {
+            best = (long) fromTarget - fromSource;
+        }
+        int toSource = toLandmark[from * k + landmark];
+        int toTarget = toLandmark[to * k + landmark];
+        if (toSource != UNREACHABLE && toTarget != UNREACHABLE) {
+            best = Math.max(best, (long) toSource - toTarget);
+        }
+        return best;
+    }
+
+    // --- Seçim ---
+
+    /**
+     * FARTHEST: rastgele bir şehre en uzak şehirle başlar, sonra seçilenlere en uzak şehri ekler
+     */
+    private static int[] selectFarthest(IRoadGraph graph, int count) {
+        int nodeCount = graph.getNodeCount();
+        MinHeap heap = new MinHeap();
+        int start = new Random(SELECTION_SEED).nextInt(nodeCount);
+        int[] nearest = distancesFrom(graph, start, false, heap);
+
+        int[] landmarks = new int[count];
+        boolean[] chosen = new boolean[nodeCount];
+        for (int i = 0; i < count; i++) {
+            int farthest = farthestFinite(nearest, chosen);
+            landmarks[i] = farthest;
+            chosen[farthest] = true;
+            int[] distances = distancesFrom(graph, farthest, false, heap);
+            if (i == 0) {
+                nearest = distances;
+            } else {
+                for (int v = 0; v < nodeCount; v++) {
+                    nearest[v] = Math.min(nearest[v], distances[v]);
+                }
+            }
+        }
+        return landmarks;
+    }
+
+    /**
+     * AVOID: rastgele bir kökten en kısa yol ağacı kurulur. Şehir ağırlığı = gerçek mesafe - mevcut
+     * alt sınır (sınırın ne kadar zayıf olduğu). Landmark içermeyen alt ağaçların toplam ağırlığı
+     * hesaplanır, en ağır alt ağacın kökünden her adımda en ağır çocuğa inilir; varılan yaprak
+     * yeni landmark olur.
+     */
+    private static int[] selectAvoid(IRoadGraph graph, int count) {
+        int nodeCount = graph.getNodeCount();
+        MinHeap heap = new MinHeap();
+        Random random = new Random(SELECTION_SEED);
+
+        int[] landmarks = new int[count];
+        int[][] tables = new int[count][];
+        boolean[] chosen = new boolean[nodeCount];
+        int[] parent = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        long[] rootDistances = new long[nodeCount];
+        long[] size = new long[nodeCount];
+        int[] heaviestChild = new int[nodeCount];
+
+        for (int i = 0; i < count; i++) {
+            int root = random.nextInt(nodeCount);
+            int settled = shortestPathTree(graph, root, heap, rootDistances, parent, order);
+
+            // Alt ağaç ağırlıkları, yapraklardan köke (kesinleşme sırasının tersi)
+            Arrays.fill(heaviestChild, -1);
+            for (int j = 0; j < settled; j++) {
+                size[order[j]] = 0;
+            }
+            for (int j = settled - 1; j >= 0; j--) {
+                int v = order[j];
+                if (chosen[v] || size[v] < 0) {
+                    // Landmark içeren alt ağaç: ağırlığı yok sayılır, ebeveyne de işaret geçer
+                    size[v] = -1;
+                } else {
+                    long bound = 0;
+                    for (int l = 0; l < i; l++) {
+                        int toV = tables[l][v];
+                        int toRoot = tables[l][root];
+                        if (toV != UNREACHABLE && toRoot != UNREACHABLE) {
+                            bound = Math.max(bound, (long) toV - toRoot);
+                        }
+                    }
+                    size[v] += rootDistances[v] - bound;
+                }
+                int p = parent[v];
+                if (p >= 0) {
+                    if (size[v] < 0) {
+                        size[p] = -1;
+                    } else if (size[p] >= 0) {
+                        size[p] += size[v];
+                        if (heaviestChild[p] < 0 || size[v] > size[heaviestChild[p]]) {
+                            heaviestChild[p] = v;
+                        }
+                    }
+                }
+            }
+
+            // En ağır landmark'sız alt ağacın kökünden en ağır çocuklar boyunca yaprağa in
+            int landmark = -1;
+            for (int j = 0; j < settled; j++) {
+                int v = order[j];
+                if (size[v] > 0 && (landmark < 0 || size[v] > size[landmark])) {
+                    landmark = v;
+                }
+            }
+            if (landmark >= 0) {
+                while (heaviestChild[landmark] >= 0) {
+                    landmark = heaviestChild[landmark];
+                }
+            }
+            if (landmark < 0 || chosen[landmark]) {
+                // Ağaç tamamen kapsanmış: köke en uzak seçilmemiş şehir
+                landmark = farthestSettled(rootDistances, order, settled, chosen);
+            }
+            landmarks[i] = landmark;
+            chosen[landmark] = true;
+            tables[i] = distancesFrom(graph, landmark, false, heap);
+        }
+        return landmarks;
+    }
+
+    private static int farthestSettled(long[] distances, int[] order, int settled, boolean[] chosen) {
+        int farthest = -1;
+        for (int j = 0; j < settled; j++) {
+            int v = order[j];
+            if (!chosen[v] && (farthest < 0 || distances[v] > distances[farthest])) {
+                farthest = v;
+            }
+        }
+        return farthest >= 0 ? farthest : firstUnchosen(chosen);
+    }
+
+    private static int farthestFinite(int[] distances, boolean[] chosen) {
+        int farthest = -1;
+        for (int v = 0; v < distances.length; v++) {
+            if (!chosen[v] && distances[v] != UNREACHABLE
+                    && (farthest < 0 || distances[v] > distances[farthest])) {
+                farthest = v;
+            }
+        }
+        return farthest >= 0 ? farthest : firstUnchosen(chosen);
+    }
+
+    // Seçilmemiş şehirlerin hepsi ulaşılamaz: ilk seçilmemiş şehir
+    private static int firstUnchosen(boolean[] chosen) {
+        for (int v = 0; v < chosen.length; v++) {
+            if (!chosen[v]) {
+                return v;
+            }
+        }
+        throw new IllegalStateException("Seçilecek şehir kalmadı");
+    }
+
+    // --- Dijkstra (tüm yollar, durum yok sayılır) ---
+
+    /**
+     * Kaynaktan (reverse ise kaynağa) tüm şehirlere en kısa mesafe (metre), ulaşılamazsa UNREACHABLE
+     */
+    static int[] distancesFrom(IRoadGraph graph, int source, boolean reverse, MinHeap heap) {
+        int nodeCount = graph.getNodeCount();
+        long[] distances = new long[nodeCount];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[source] = 0;
+        heap.clear();
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            long distance = heap.minKey();
+            int current = heap.pop();
+            if (distance > distances[current]) {
+                continue;
+            }
+            if (reverse) {
+                int end = graph.inEnd(current);
+                for (int position = graph.inBegin(current); position < end; position++) {
+                    int next = graph.getInSource(position);
+                    long newDist = distance + graph.getDistanceMeters(graph.getInSlot(position));
+                    if (newDist < distances[next]) {
+                        distances[next] = newDist;
+                        heap.push(newDist, next);
+                    }
+                }
+            } else {
+                int end = graph.outEnd(current);
+                for (int slot = graph.outBegin(current); slot < end; slot++) {
+                    int next = graph.getTarget(slot);
+                    long newDist = distance + graph.getDistanceMeters(slot);
+                    if (newDist < distances[next]) {
+                        distances[next] = newDist;
+                        heap.push(newDist, next);
+                    }
+                }
+            }
+        }
+        int[] result = new int[nodeCount];
+        for (int v = 0; v < nodeCount; v++) {
+            // Tablo int metre; ~2.147 km üstü mesafelerde sınır kullanılmaz
+            result[v] = distances[v] >= UNREACHABLE ? UNREACHABLE : (int) distances[v];
+        }
+        return result;
+    }
+
+    // Kökten en kısa yol ağacı: ebeveynler ve kesinleşme sırası; kesinleşen şehir sayısını döner
+    private static int shortestPathTree(IRoadGraph graph, int root, MinHeap heap, long[] distances,
+                                        int[] parent, int[] order) {
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        distances[root] = 0;
+        heap.clear();
+        heap.push(0, root);
+        int settled = 0;
+        while (!heap.isEmpty()) {
+            long distance = heap.minKey();
+            int current = heap.pop();
+            if (distance > distances[current]) {
+                continue;
+            }
+            order[settled++] = current;
+            int end = graph.outEnd(current);
+            for (int slot = graph.outBegin(current); slot < end; slot++) {
+                int next = graph.getTarget(slot);
+                long newDist = distance + graph.getDistanceMeters(slot);
+                if (newDist < distances[next]) {
+                    distances[next] = newDist;
+                    parent[next] = current;
+                    heap.push(newDist, next);
+                }
+            }
+        }
+        return settled;
+    }
+}
@@ -0,0 +1,340 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * LandmarkStrategy - ALT (A*, Landmarks, Triangle inequality) Rota Stratejisi
+ *
+ * AMAÇ:
+ * A* aramasında sezgisel olarak LandmarkIndex'in üçgen eşitsizliği alt sınırlarını kullanır.
+ * AStarStrategy'den farkı şehir konumlarına ihtiyaç duymaması; sonuç DijkstraStrategy ile
+ * aynıdır (en kısa mesafe, OPEN yollar).
+ *
+ * NE İŞE YARAR:
+ * - prepare(): landmark'ları seçer ve mesafe tablolarını hesaplar (bir kez)
+ * - Sorgu başına başlangıç → hedef için en güçlü alt sınırı veren birkaç landmark seçilir
+ *   (aktif landmark'lar); potansiyel sadece bunlarla hesaplanır
+ * - Potansiyel tutarlıdır (consistent): her şehir en fazla bir kez kesinleşir
+ *
+ * SIK DEĞİŞEN HARİTA:
+ * Tablolar yol durumuna bakmadan hesaplandığı için BlockRoadCommand / SetSpeedLimitCommand
+ * sonrasında yeniden hesaplama yapılmaz; sadece yapının aynı kaldığı (O(V + E)) bir kez kontrol edilir.
+ * Şehir/yol eklenirse tablolar arka planda yeniden kurulur; o sırada sorgular sezgiselsiz
+ * (Dijkstra gibi) çalışır ve sonuç yine doğrudur.
+ *
+ * PATTERN: Strategy Pattern
+ * İLİŞKİLİ SINIFLAR: LandmarkIndex, IRouteStrategy, AStarStrategy, DijkstraStrategy, CityMap
+ *
+ * ÖRNEK:
+ * LandmarkStrategy strategy = new LandmarkStrategy(map, 16, LandmarkIndex.Selection.AVOID, false);
+ * strategy.prepare();
+ * facade.setRouteStrategy(strategy);
+ */
+public class LandmarkStrategy implements IRouteStrategy {
+
+    private static final int DEFAULT_LANDMARKS = 16;
+
+    // Sorgu başına kullanılan landmark sayısı (potansiyel maliyeti ile sınır gücü arasında denge)
+    private static final int ACTIVE_LANDMARKS = 4;
+
+    private final CityMap map;
+    private final int landmarkCount;
+    private final LandmarkIndex.Selection selection;
+    private final boolean verbose;
+    private final int threads;
+
+    private volatile LandmarkIndex index;
+
+    // Tabloların geçerli olduğu doğrulanan son görüntü
+    private volatile IRoadGraph validatedGraph;
+
+    // Arka planda yeniden kurulan görüntü ve işi (this ile korunur)
+    private IRoadGraph pendingGraph;
+    private CompletableFuture<LandmarkIndex> pending;
+
+    // Sorgu çalışma alanı (iş parçacığı başına, şehir sayısı değişince yenilenir)
+    private final ThreadLocal<Workspace> workspaces = new ThreadLocal<>();
+
+    public LandmarkStrategy() {
+        this(CityMap.getInstance(), DEFAULT_LANDMARKS, LandmarkIndex.Selection.AVOID, true);
+    }
+
+    public LandmarkStrategy(CityMap map) {
+        this(map, DEFAULT_LANDMARKS, LandmarkIndex.Selection.AVOID, true);
+    }
+
+    public LandmarkStrategy(CityMap map, int landmarkCount, LandmarkIndex.Selection selection, boolean verbose) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        if (selection == null) {
+            throw new IllegalArgumentException("Landmark seçim yöntemi boş olamaz!");
+        }
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Landmark sayısı en az 1 olmalı: " + landmarkCount);
+        }
+        this.map = map;
+        this.landmarkCount = landmarkCount;
+        this.selection = selection;
+        this.verbose = verbose;
+        this.threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public LandmarkIndex getIndex() {
+        return index;
+    }
+
+    // Tablolar haritanın güncel görüntüsü için geçerli mi?
+    public boolean isReady() {
+        return indexFor(map.getGraph()) != null;
+    }
+
+    // Tabloları haritanın güncel görüntüsü için kurar
+    public LandmarkIndex prepare() {
+        IRoadGraph graph = map.getGraph();
+        LandmarkIndex built = build(graph);
+        index = built;
+        validatedGraph = graph;
+        return built;
+    }
+
+    /**
+     * Tablolar güncel görüntü için geçerli değilse arka planda yeniden kurar; aynı görüntü için tek iş çalışır
+     */
+    public synchronized CompletableFuture<LandmarkIndex> refreshAsync() {
+        IRoadGraph graph = map.getGraph();
+        LandmarkIndex current = indexFor(graph);
+        if (current != null) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (pendingGraph == graph) {
+            return pending;
+        }
+        pendingGraph = graph;
+        pending = CompletableFuture.supplyAsync(() -> build(graph))
+                .thenApply(built -> {
+                    publish(built);
+                    return built;
+                });
+        return pending;
+    }
+
+    // Daha yeni bir görüntünün tabloları yayınlanmışsa eskisiyle ezilmez
+    private synchronized void publish(LandmarkIndex built) {
+        LandmarkIndex current = index;
+        if (current == null || current.getGraph().getVersion() <= built.getGraph().getVersion()) {
+            index = built;
+            validatedGraph = built.getGraph();
+        }
+    }
+
+    private LandmarkIndex build(IRoadGraph graph) {
+        long start = System.nanoTime();
+        LandmarkIndex built = LandmarkIndex.build(graph, landmarkCount, selection, threads);
+        if (verbose) {
+            System.out.println(String.format("[ALT] %d landmark (%s) hazır: %d şehir, %.1f sn",
+                    built.getLandmarkCount(), selection, graph.getNodeCount(), (System.nanoTime() - start) / 1e9));
+        }
+        return built;
+    }
+
+    // Görüntü için geçerli tablolar; yapı değiştiyse null
+    private LandmarkIndex indexFor(IRoadGraph graph) {
+        LandmarkIndex current = index;
+        if (current == null) {
+            return null;
+        }
+        if (validatedGraph == graph) {
+            return current;
+        }
+        if (current.isValidFor(graph)) {
+            validatedGraph = graph;
+            return current;
+        }
+        return null;
+    }
+
+    /**
+     * Rota hesapla - alt sınır potansiyelli A*
+     */
+    @Override
+    public RouteCalculationResult calculateRoute(Node startNode, Node endNode, VehicleType vehicle) {
+        if (startNode == null || endNode == null) {
+            System.err.println("[ALT] HATA: Başlangıç ve Bitiş noktası boş olamaz!");
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        if (verbose) {
+            System.out.println("\n[ALT] Rota hesaplanıyor...");
+            System.out.println("[ALT] Başlangıç: " + startNode.getName());
+            System.out.println("[ALT] Hedef: " + endNode.getName());
+            System.out.println("[ALT] Araç tipi: " + vehicle);
+        }
+
+        // 1. Sorgu boyunca kullanılacak görüntüyü ve tabloları sabitle
+        IRoadGraph graph = map.getGraph();
+        LandmarkIndex current = indexFor(graph);
+        if (current == null) {
+            if (verbose) {
+                System.out.println("[ALT] Landmark tabloları bu harita için hazır değil, sezgiselsiz aranıyor");
+            }
+            refreshAsync();
+        }
+
+        int startId = graph.idOf(startNode);
+        int endId = graph.idOf(endNode);
+        if (startId < 0 || endId < 0) {
+            if (verbose) {
+                System.out.println("[ALT] UYARI: Başlangıç veya hedef haritada yok!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        // Başlangıç = hedef rota sayılmaz (DijkstraStrategy ile aynı sonuç)
+        if (startId == endId) {
+            if (verbose) {
+                System.out.println("[ALT] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0);
+        }
+
+        Workspace ws = workspaceFor(graph.getNodeCount());
+        ws.reset();
+        int activeCount = current == null ? 0 : current.selectActive(startId, endId, ws.active);
+
+        // 2. A*: anahtar = mesafe + alt sınır
+        ws.reach(startId, 0, -1, -1, potential(current, startId, endId, ws, activeCount));
+        ws.heap.update(startId, ws.potentials[startId]);
+        int settled = 0;
+        boolean found = false;
+
+        while (!ws.heap.isEmpty()) {
+            int node = ws.heap.pop();
+            settled++;
+            if (node == endId) {
+                found = true;
+                break;
+            }
+            long distance = ws.distances[node];
+            int end = graph.outEnd(node);
+            for (int slot = graph.outBegin(node); slot < end; slot++) {
+                if (!graph.isOpen(slot)) {
+                    continue;
+                }
+                int next = graph.getTarget(slot);
+                long newDist = distance + graph.getDistanceMeters(slot);
+                if (!ws.isReached(next)) {
+                    ws.reach(next, newDist, node, slot, potential(current, next, endId, ws, activeCount));
+                } else if (newDist < ws.distances[next]) {
+                    ws.improve(next, newDist, node, slot);
+                } else {
+                    continue;
+                }
+                ws.heap.update(next, newDist + ws.potentials[next]);
+            }
+        }
+
+        // 3. Rotayı Oluştur ve Süreyi Hesapla
+        if (!found) {
+            if (verbose) {
+                System.out.println("[ALT] UYARI: Hedefe giden uygun bir yol bulunamadı!");
+            }
+            return new RouteCalculationResult(Collections.emptyList(), 0, 0, settled);
+        }
+
+        List<Node> path = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        for (int step = endId; step >= 0; step = ws.previous[step]) {
+            path.add(graph.getNode(step));
+            if (ws.previous[step] >= 0) {
+                slots.add(ws.slots[step]);
+            }
+        }
+        Collections.reverse(path);
+        Collections.reverse(slots);
+
+        double totalDistance = EdgeTable.toKilometers(ws.distances[endId]);
+        double totalDuration = DijkstraStrategy.calculateDuration(graph, path, slots, vehicle, "[ALT]", verbose);
+
+        if (verbose) {
+            System.out.println(String.format("[ALT] ✓ Rota bulundu: %.1f km, %.1f dk (%s), %d şehir gezildi\n",
+                    totalDistance, totalDuration, vehicle, settled));
+        }
+        return new RouteCalculationResult(path, totalDistance, totalDuration, settled);
+    }
+
+    private static long potential(LandmarkIndex index, int node, int target, Workspace ws, int activeCount) {
+        return index == null ? 0 : index.lowerBound(node, target, ws.active, activeCount);
+    }
+
+    private Workspace workspaceFor(int nodeCount) {
+        Workspace ws = workspaces.get();
+        if (ws == null || ws.distances.length != nodeCount) {
+            ws = new Workspace(nodeCount);
+            workspaces.set(ws);
+        }
+        return ws;
+    }
+
+    /**
+     * Sorgu başına sıfırlanmayan diziler: nesil damgası eşleşmeyen şehir "ulaşılmamış" sayılır
+     */
+    private static final class Workspace {
+        private final long[] distances;
+        private final long[] potentials;
+        private final int[] previous;
+        private final int[] slots;
+        private final int[] stamps;
+        private final IndexedMinHeap heap;
+        private final int[] active = new int[ACTIVE_LANDMARKS];
+        private int generation;
+
+        private Workspace(int nodeCount) {
+            distances = new long[nodeCount];
+            potentials = new long[nodeCount];
+            previous = new int[nodeCount];
+            slots = new int[nodeCount];
+            stamps = new int[nodeCount];
+            heap = new IndexedMinHeap(nodeCount);
+        }
+
+        private void reset() {
+            heap.clear();
+            if (++generation == 0) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+
+        private boolean isReached(int node) {
+            return stamps[node] == generation;
+        }
+
+        // İlk ulaşma: potansiyel şehir başına bir kez hesaplanır
+        private void reach(int node, long distance, int from, int slot, long potential) {
+            stamps[node] = generation;
+            potentials[node] = potential;
+            improve(node, distance, from, slot);
+        }
+
+        private void improve(int node, long distance, int from, int slot) {
+            distances[node] = distance;
+            previous[node] = from;
+            slots[node] = slot;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * NodeQueueType - Öncelik Kuyruğu Seçimi
+ *
+ * AMAÇ:
+ * Rota aramasının kullandığı INodeQueue implementasyonunu seçer (Factory).
+ *
+ * DEĞERLER:
+ * - BINARY_HEAP: IndexedMinHeap
+ * - QUATERNARY_HEAP: QuaternaryHeap (varsayılan, NodeQueueBenchmark sonuçlarına göre)
+ * - RADIX_HEAP: RadixHeap, sadece monoton aramalar (Dijkstra)
+ * - DIAL_BUCKETS: DialQueue, 2^16 kova; küçük tam sayı ağırlıklar (metre mesafe) için
+ *
+ * İLİŞKİLİ SINIFLAR: INodeQueue, DijkstraStrategy
+ *
+ * ÖRNEK:
+ * new DijkstraStrategy(map, RouteObjective.SHORTEST, NodeQueueType.RADIX_HEAP, false);
+ */
+public enum NodeQueueType {
+
+    BINARY_HEAP {
+        @Override
+        public INodeQueue create(int nodeCount) {
+            return new IndexedMinHeap(nodeCount);
+        }
+    },
+
+    QUATERNARY_HEAP {
+        @Override
+        public INodeQueue create(int nodeCount) {
+            return new QuaternaryHeap(nodeCount);
+        }
+    },
+
+    RADIX_HEAP {
+        @Override
+        public INodeQueue create(int nodeCount) {
+            return new RadixHeap(nodeCount);
+        }
+    },
+
+    DIAL_BUCKETS {
+        @Override
+        public INodeQueue create(int nodeCount) {
+            return new DialQueue(nodeCount, DIAL_BUCKET_BITS);
+        }
+    };
+
+    public static final NodeQueueType DEFAULT = QUATERNARY_HEAP;
+
+    private static final int DIAL_BUCKET_BITS = 16;
+
+    /**
+     * Id'leri 0..nodeCount-1 olan şehirler için boş kuyruk
+     */
+    public abstract INodeQueue create(int nodeCount);
+}
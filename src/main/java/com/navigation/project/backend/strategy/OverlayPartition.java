@@ -0,0 +1,449 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+/**
+ * OverlayPartition - Çok Seviyeli Hücre Bölümlemesi (CRP, metrikten bağımsız kısım)
+ *
+ * AMAÇ:
+ * Haritayı iç içe hücrelere böler ve her seviyede hücrelerin sınır şehirlerini bulur.
+ * Sadece yapıya (şehirler ve yollar) bakar; mesafe, hız ve yol durumu kullanılmaz. Bu yüzden
+ * hız limiti değişince ya da yol kapanınca yeniden kurulmaz, sadece CustomizedOverlay
+ * etkilenen hücreleri yeniden özelleştirir.
+ *
+ * NE İŞE YARAR:
+ * - Bölümleme: özyinelemeli ikiye bölme. Her parçada iki BFS ile birbirine uzak iki şehir
+ *   (a, b) bulunur, şehirler (d(a) - d(b)) sırasına göre dizilip ortadan bölünür.
+ *   Seviye 1 hücreleri en derin parçalar, üst seviyeler onların birleşimidir.
+ * - Şehirler parça sırasına göre yeniden numaralanır: bir hücrenin şehirleri bellekte yan yanadır
+ * - Her yol için kestiği en yüksek seviye (crossLevel): uçları bu seviyeye kadar farklı hücrede
+ * - Sınır şehri: seviye j'de başka hücreye yolu (giriş ya da çıkış) olan şehir. Her hücrenin
+ *   sınır şehirleri listelenir; CustomizedOverlay bunlar arasındaki mesafe matrislerini tutar.
+ *
+ * İLİŞKİLİ SINIFLAR: CustomizedOverlay, CustomizableRouteStrategy, EdgeMetric
+ *
+ * SEVİYELER:
+ * Varsayılan hücre boyutları 2^8, 2^10, 2^12 şehirdir; harita o boyuttan küçükse seviye atlanır.
+ * Hiç seviye yoksa (flat) sorgu düz çift yönlü Dijkstra olur.
+ *
+ * ÖRNEK:
+ * OverlayPartition partition = OverlayPartition.build(map.getGraph(), 4);
+ * CustomizedOverlay overlay = CustomizedOverlay.customize(partition, map.getGraph(), EdgeMetric.TRAVEL_TIME, 4);
+ */
+public final class OverlayPartition {
+
+    // Seviye 1, 2, 3 hücrelerinin en fazla şehir sayısı
+    private static final int[] DEFAULT_CELL_SIZES = {1 << 8, 1 << 10, 1 << 12};
+
+    private final IRoadGraph graph;
+    private final int nodeCount;
+
+    // Seviye sayısı (L); seviye dizileri 1..L ile indekslenir (0 = orijinal yollar)
+    final int levelCount;
+
+    // Hücre no = leaves[şehir] >> shifts[seviye]
+    final int[] shifts;
+    final int[] cellCounts;
+    final int[] leaves;
+
+    // İç numara ↔ görüntüdeki şehir id'si
+    final int[] toOriginal;
+    final int[] toInternal;
+
+    // Çıkış yolları (iç numaralarla): hedef, görüntüdeki slot, kestiği en yüksek seviye
+    final int[] outOffsets;
+    final int[] outTargets;
+    final int[] outSlots;
+    final byte[] crossLevels;
+
+    // Görüntüdeki slot → iç yol no (yeniden özelleştirmede yollar slot sırasıyla taranır)
+    final int[] slotEdges;
+
+    // Giriş yolları: kaynak ve çıkış dizisindeki yol no
+    final int[] inOffsets;
+    final int[] inSources;
+    final int[] inEdges;
+
+    // Seviye başına: şehrin hücresindeki sınır sırası (-1: sınırda değil), hücre başına sınır listesi
+    final int[][] boundaryIndex;
+    final int[][] boundaryOffsets;
+    final int[][] boundaryNodes;
+
+    private OverlayPartition(IRoadGraph graph, int[] shifts, int[] leaves, int[] toOriginal) {
+        this.graph = graph;
+        this.nodeCount = graph.getNodeCount();
+        this.levelCount = shifts.length - 1;
+        this.shifts = shifts;
+        this.leaves = leaves;
+        this.toOriginal = toOriginal;
+
+        int maxLeaf = nodeCount == 0 ? 0 : leaves[nodeCount - 1];
+        cellCounts = new int[levelCount + 1];
+        for (int level = 1; level <= levelCount; level++) {
+            cellCounts[level] = (maxLeaf >> shifts[level]) + 1;
+        }
+
+        toInternal = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            toInternal[toOriginal[i]] = i;
+        }
+
+        // 1. Çıkış yolları iç numara sırasıyla
+        int edgeCount = graph.getEdgeCount();
+        outOffsets = new int[nodeCount + 1];
+        outTargets = new int[edgeCount];
+        outSlots = new int[edgeCount];
+        crossLevels = new byte[edgeCount];
+        slotEdges = new int[edgeCount];
+        int[] inDegrees = new int[nodeCount + 1];
+        int edge = 0;
+        for (int u = 0; u < nodeCount; u++) {
+            outOffsets[u] = edge;
+            int original = toOriginal[u];
+            int end = graph.outEnd(original);
+            for (int slot = graph.outBegin(original); slot < end; slot++) {
+                int target = toInternal[graph.getTarget(slot)];
+                outTargets[edge] = target;
+                outSlots[edge] = slot;
+                slotEdges[slot] = edge;
+                crossLevels[edge] = (byte) crossLevel(u, target);
+                inDegrees[target + 1]++;
+                edge++;
+            }
+        }
+        outOffsets[nodeCount] = edge;
+
+        // 2. Giriş yolları (ters CSR)
+        for (int v = 0; v < nodeCount; v++) {
+            inDegrees[v + 1] += inDegrees[v];
+        }
+        inOffsets = inDegrees;
+        inSources = new int[edge];
+        inEdges = new int[edge];
+        int[] fill = Arrays.copyOf(inOffsets, nodeCount);
+        int[] boundaryLevels = new int[nodeCount];
+        for (int u = 0; u < nodeCount; u++) {
+            for (int e = outOffsets[u]; e < outOffsets[u + 1]; e++) {
+                int target = outTargets[e];
+                int position = fill[target]++;
+                inSources[position] = u;
+                inEdges[position] = e;
+                boundaryLevels[u] = Math.max(boundaryLevels[u], crossLevels[e]);
+                boundaryLevels[target] = Math.max(boundaryLevels[target], crossLevels[e]);
+            }
+        }
+
+        // 3. Sınır şehirleri (iç numara sırası hücre sırasıdır)
+        boundaryIndex = new int[levelCount + 1][];
+        boundaryOffsets = new int[levelCount + 1][];
+        boundaryNodes = new int[levelCount + 1][];
+        for (int level = 1; level <= levelCount; level++) {
+            int[] index = new int[nodeCount];
+            int[] offsets = new int[cellCounts[level] + 1];
+            int count = 0;
+            for (int u = 0; u < nodeCount; u++) {
+                if (boundaryLevels[u] >= level) {
+                    offsets[(leaves[u] >> shifts[level]) + 1]++;
+                    count++;
+                }
+            }
+            for (int cell = 0; cell < cellCounts[level]; cell++) {
+                offsets[cell + 1] += offsets[cell];
+            }
+            int[] nodes = new int[count];
+            int position = 0;
+            for (int u = 0; u < nodeCount; u++) {
+                if (boundaryLevels[u] >= level) {
+                    index[u] = position - offsets[leaves[u] >> shifts[level]];
+                    nodes[position++] = u;
+                } else {
+                    index[u] = -1;
+                }
+            }
+            boundaryIndex[level] = index;
+            boundaryOffsets[level] = offsets;
+            boundaryNodes[level] = nodes;
+        }
+    }
+
+    /**
+     * Varsayılan hücre boyutlarıyla bölümler
+     */
+    public static OverlayPartition build(IRoadGraph graph, int threads) {
+        return build(graph, DEFAULT_CELL_SIZES, threads);
+    }
+
+    /**
+     * Verilen hücre boyutlarıyla (küçükten büyüğe, seviye başına en fazla şehir) bölümler
+     */
+    public static OverlayPartition build(IRoadGraph graph, int[] cellSizes, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalı: " + threads);
+        }
+        int nodeCount = graph.getNodeCount();
+
+        // 1. Seviye derinlikleri: tek hücreli seviye atlanır, üst seviye alttakinden sığ olmalı
+        List<Integer> depths = new ArrayList<>();
+        for (int size : cellSizes) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Geçersiz hücre boyutu: " + size);
+            }
+            int depth = depthFor(nodeCount, size);
+            if (depth > 0 && (depths.isEmpty() || depth < depths.get(depths.size() - 1))) {
+                depths.add(depth);
+            }
+        }
+        int maxDepth = depths.isEmpty() ? 0 : depths.get(0);
+        int[] shifts = new int[depths.size() + 1];
+        for (int level = 1; level < shifts.length; level++) {
+            shifts[level] = maxDepth - depths.get(level - 1);
+        }
+
+        // 2. Özyinelemeli ikiye bölme (derinlik derinlik, aynı derinlikteki parçalar paralel)
+        int[] order = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            order[i] = i;
+        }
+        int[] parts = new int[nodeCount];
+        if (maxDepth > 0) {
+            new Bisection(graph, order, parts, threads).run(maxDepth);
+        }
+        int[] leaves = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            leaves[i] = parts[order[i]];
+        }
+        return new OverlayPartition(graph, shifts, leaves, order);
+    }
+
+    /**
+     * Hücresiz bölümleme: sorgular düz çift yönlü Dijkstra olur (yapı değişince geçici olarak kullanılır)
+     */
+    public static OverlayPartition flat(IRoadGraph graph) {
+        return build(graph, new int[0], 1);
+    }
+
+    // Parça boyutu size'ı aşmayana kadar gereken ikiye bölme sayısı
+    private static int depthFor(int nodeCount, int size) {
+        int depth = 0;
+        while (depth < 30 && ((nodeCount + (1L << depth) - 1) >> depth) > size) {
+            depth++;
+        }
+        return depth;
+    }
+
+    // İki şehrin farklı hücrede olduğu en yüksek seviye (aynı seviye 1 hücresindeyse 0)
+    private int crossLevel(int u, int v) {
+        for (int level = levelCount; level >= 1; level--) {
+            if ((leaves[u] >> shifts[level]) != (leaves[v] >> shifts[level])) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Bölümleme yeni görüntü için de geçerli mi? Şehirler ve yollar aynıysa evet;
+     * mesafe, hız ve durum farkları önemsizdir (O(V + E) karşılaştırma).
+     */
+    public boolean isValidFor(IRoadGraph newer) {
+        if (newer.sharesTopology(graph)) {
+            return true;
+        }
+        if (newer.getNodeCount() != graph.getNodeCount() || newer.getEdgeCount() != graph.getEdgeCount()) {
+            return false;
+        }
+        for (int id = 0; id < nodeCount; id++) {
+            if (newer.outBegin(id) != graph.outBegin(id)
+                    || (newer.getNode(id) != graph.getNode(id) && !newer.getNodeName(id).equals(graph.getNodeName(id)))) {
+                return false;
+            }
+        }
+        for (int slot = 0; slot < graph.getEdgeCount(); slot++) {
+            if (newer.getTarget(slot) != graph.getTarget(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public IRoadGraph getGraph() {
+        return graph;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    // Seviyedeki hücre sayısı (1..L)
+    public int getCellCount(int level) {
+        return cellCounts[level];
+    }
+
+    // Seviyedeki toplam sınır şehri sayısı (1..L)
+    public int getBoundaryCount(int level) {
+        return boundaryNodes[level].length;
+    }
+
+    int cellOf(int level, int node) {
+        return leaves[node] >> shifts[level];
+    }
+
+    int boundarySize(int level, int cell) {
+        return boundaryOffsets[level][cell + 1] - boundaryOffsets[level][cell];
+    }
+
+    /**
+     * İkiye bölme. parts[şehir] = şehrin o anki derinlikteki parça numarası; parça k'nın şehirleri
+     * order dizisinde [bounds[k], bounds[k + 1]) aralığındadır.
+     */
+    private static final class Bisection {
+        private final IRoadGraph graph;
+        private final int[] order;
+        private final int[] parts;
+        private final int threads;
+
+        // Parçalar ayrık olduğu için paralel görevler aynı dizilere çakışmadan yazar
+        private final int[] distancesA;
+        private final int[] distancesB;
+
+        Bisection(IRoadGraph graph, int[] order, int[] parts, int threads) {
+            this.graph = graph;
+            this.order = order;
+            this.parts = parts;
+            this.threads = threads;
+            this.distancesA = new int[order.length];
+            this.distancesB = new int[order.length];
+        }
+
+        void run(int maxDepth) {
+            ExecutorService pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "overlay-partition");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                int[] bounds = {0, order.length};
+                for (int depth = 0; depth < maxDepth; depth++) {
+                    int partCount = bounds.length - 1;
+                    int[] current = bounds;
+                    parallelFor(pool, partCount, part -> split(part, current[part], current[part + 1]));
+
+                    int[] next = new int[2 * partCount + 1];
+                    for (int part = 0; part < partCount; part++) {
+                        int middle = (current[part] + current[part + 1]) >>> 1;
+                        next[2 * part] = current[part];
+                        next[2 * part + 1] = middle;
+                        for (int i = current[part]; i < current[part + 1]; i++) {
+                            parts[order[i]] = i < middle ? 2 * part : 2 * part + 1;
+                        }
+                    }
+                    next[2 * partCount] = order.length;
+                    bounds = next;
+                }
+            } finally {
+                if (pool != null) {
+                    pool.shutdownNow();
+                }
+            }
+        }
+
+        // Parçayı (d(a) - d(b)) sırasına dizer; ilk yarı ve ikinci yarı yeni parçalar olur
+        private void split(int part, int begin, int end) {
+            int size = end - begin;
+            if (size < 2) {
+                return;
+            }
+            int[] queue = new int[size];
+            int a = bfs(part, begin, end, order[begin], distancesA, queue);
+            int b = bfs(part, begin, end, a, distancesA, queue);
+            bfs(part, begin, end, b, distancesB, queue);
+
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                int node = order[begin + i];
+                // a'dan ulaşılamayan bileşenler sona
+                int key = distancesA[node] < 0 ? Integer.MAX_VALUE : distancesA[node] - distancesB[node];
+                keys[i] = ((long) key << 32) | node;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                order[begin + i] = (int) keys[i];
+            }
+        }
+
+        /**
+         * Parça içinde yön gözetmeden BFS (adım sayısı); parçadaki şehirlerin mesafesi yazılır,
+         * ulaşılamayanlar -1. En son ulaşılan (en uzak) şehri döner.
+         */
+        private int bfs(int part, int begin, int end, int source, int[] distances, int[] queue) {
+            for (int i = begin; i < end; i++) {
+                distances[order[i]] = -1;
+            }
+            int head = 0;
+            int tail = 0;
+            distances[source] = 0;
+            queue[tail++] = source;
+            int last = source;
+            while (head < tail) {
+                int current = queue[head++];
+                last = current;
+                int next = distances[current] + 1;
+                int slotEnd = graph.outEnd(current);
+                for (int slot = graph.outBegin(current); slot < slotEnd; slot++) {
+                    int neighbour = graph.getTarget(slot);
+                    if (parts[neighbour] == part && distances[neighbour] < 0) {
+                        distances[neighbour] = next;
+                        queue[tail++] = neighbour;
+                    }
+                }
+                int positionEnd = graph.inEnd(current);
+                for (int position = graph.inBegin(current); position < positionEnd; position++) {
+                    int neighbour = graph.getInSource(position);
+                    if (parts[neighbour] == part && distances[neighbour] < 0) {
+                        distances[neighbour] = next;
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+            return last;
+        }
+    }
+
+    // Aynı derinlikteki parçaları havuzda paralel böler (havuz yoksa sırayla)
+    private static void parallelFor(ExecutorService pool, int count, IntConsumer body) {
+        if (pool == null || count < 2) {
+            for (int i = 0; i < count; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(pool.submit(() -> body.accept(index)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bölümleme kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bölümleme başarısız: " + e.getCause(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.navigation.project.backend.strategy;
+
+import java.util.Arrays;
+
+/**
+ * QuaternaryHeap - Azaltılabilir Anahtarlı 4'lü Min-Heap
+ *
+ * AMAÇ:
+ * IndexedMinHeap ile aynı sözleşme; her düğümün 4 çocuğu vardır. Ağaç yarı derinliktedir:
+ * decrease-key (yukarı taşıma, Dijkstra'da en sık işlem) daha az adım sürer, çıkarmada 4 çocuk
+ * aynı önbellek satırından okunur.
+ *
+ * KARMAŞIKLIK: update O(log4 n), pop O(4 log4 n)
+ *
+ * İLİŞKİLİ SINIFLAR: INodeQueue, IndexedMinHeap, NodeQueueType
+ */
+final class QuaternaryHeap implements INodeQueue {
+    private final long[] keys;
+    private final int[] nodes;
+    private final int[] positions;
+    private int size;
+
+    QuaternaryHeap(int nodeCount) {
+        keys = new long[nodeCount];
+        nodes = new int[nodeCount];
+        positions = new int[nodeCount];
+        Arrays.fill(positions, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long minKey() {
+        return keys[0];
+    }
+
+    @Override
+    public boolean contains(int node) {
+        return positions[node] >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[nodes[i]] = -1;
+        }
+        size = 0;
+    }
+
+    @Override
+    public void update(int node, long key) {
+        int i = positions[node];
+        if (i < 0) {
+            i = size++;
+        }
+        while (i > 0) {
+            int parent = (i - 1) >>> 2;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            nodes[i] = nodes[parent];
+            positions[nodes[i]] = i;
+            i = parent;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+        positions[node] = i;
+    }
+
+    @Override
+    public int pop() {
+        int top = nodes[0];
+        positions[top] = -1;
+        if (--size == 0) {
+            return top;
+        }
+        long key = keys[size];
+        int node = nodes[size];
+        int i = 0;
+        while (true) {
+            int first = 4 * i + 1;
+            if (first >= size) {
+                break;
+            }
+            // 4 çocuğun en küçüğü
+            int child = first;
+            long childKey = keys[first];
+            int last = Math.min(first + 4, size);
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < childKey) {
+                    child = c;
+                    childKey = keys[c];
+                }
+            }
+            if (key <= childKey) {
+                break;
+            }
+            keys[i] = childKey;
+            nodes[i] = nodes[child];
+            positions[nodes[i]] = i;
+            i = child;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+        positions[node] = i;
+        return top;
+    }
+}
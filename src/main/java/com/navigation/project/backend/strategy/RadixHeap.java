@@ -0,0 +1,147 @@
+package com.navigation.project.backend.strategy;
+
+import java.util.Arrays;
+
+/**
+ * RadixHeap - Monoton Tam Sayı Anahtarlı Radix Heap
+ *
+ * AMAÇ:
+ * Dijkstra'da çıkarılan anahtarlar hiç azalmaz. Radix heap bunu kullanır: şehir, anahtarının son
+ * çıkarılan anahtardan ilk farklı olduğu bit'e göre 65 kovadan birine konur (kova 0: eşit).
+ * Karşılaştırmalı sıralama yoktur; her şehir en fazla 64 kez daha alt kovaya iner.
+ *
+ * YAPI:
+ * Kovalar şehir id'leriyle çift yönlü bağlı listelerdir (next/previous dizileri): decrease-key
+ * şehri listeden çıkarıp yeni kovasına ekler, O(1). Kutulama ve nesne yoktur.
+ *
+ * SÖZLEŞME: update() anahtarı son çıkarılan anahtardan küçük olamaz (IllegalArgumentException).
+ *
+ * KARMAŞIKLIK: update O(1), pop amortize O(log C) (C: en büyük yol ağırlığı)
+ *
+ * İLİŞKİLİ SINIFLAR: INodeQueue, NodeQueueType, DialQueue
+ */
+final class RadixHeap implements INodeQueue {
+    private static final int BUCKETS = 65;
+    private static final int NONE = -1;
+
+    private final long[] keys;
+    private final int[] next;
+    private final int[] previous;
+    private final byte[] buckets;          // Şehrin kovası, kuyrukta değilse -1
+    private final int[] heads = new int[BUCKETS];
+    private long last;                     // Son çıkarılan anahtar
+    private int size;
+
+    RadixHeap(int nodeCount) {
+        keys = new long[nodeCount];
+        next = new int[nodeCount];
+        previous = new int[nodeCount];
+        buckets = new byte[nodeCount];
+        Arrays.fill(buckets, (byte) -1);
+        Arrays.fill(heads, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long minKey() {
+        settle();
+        return last;
+    }
+
+    @Override
+    public boolean contains(int node) {
+        return buckets[node] >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            for (int node = heads[bucket]; node != NONE; node = next[node]) {
+                buckets[node] = -1;
+            }
+            heads[bucket] = NONE;
+        }
+        size = 0;
+        last = 0;
+    }
+
+    @Override
+    public void update(int node, long key) {
+        if (key < last) {
+            throw new IllegalArgumentException("RadixHeap anahtarı son çıkarılandan küçük olamaz: " + key + " < " + last);
+        }
+        if (buckets[node] >= 0) {
+            unlink(node);
+        } else {
+            size++;
+        }
+        keys[node] = key;
+        link(node, bucketOf(key));
+    }
+
+    @Override
+    public int pop() {
+        settle();
+        int node = heads[0];
+        unlink(node);
+        buckets[node] = -1;
+        size--;
+        return node;
+    }
+
+    // Kova 0 boşsa: ilk dolu kovanın en küçük anahtarı yeni "last" olur, kova alt kovalara dağıtılır
+    private void settle() {
+        if (heads[0] != NONE) {
+            return;
+        }
+        int bucket = 1;
+        while (heads[bucket] == NONE) {
+            bucket++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int node = heads[bucket]; node != NONE; node = next[node]) {
+            min = Math.min(min, keys[node]);
+        }
+        last = min;
+        int node = heads[bucket];
+        heads[bucket] = NONE;
+        while (node != NONE) {
+            int following = next[node];
+            link(node, bucketOf(keys[node]));
+            node = following;
+        }
+    }
+
+    // Anahtarın son çıkarılandan ilk farklı olduğu bit (+1), eşitse 0
+    private int bucketOf(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int node, int bucket) {
+        int head = heads[bucket];
+        next[node] = head;
+        previous[node] = NONE;
+        if (head != NONE) {
+            previous[head] = node;
+        }
+        heads[bucket] = node;
+        buckets[node] = (byte) bucket;
+    }
+
+    private void unlink(int node) {
+        int before = previous[node];
+        int after = next[node];
+        if (before == NONE) {
+            heads[buckets[node]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+    }
+}
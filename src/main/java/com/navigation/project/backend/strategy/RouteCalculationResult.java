@@ -15,19 +15,22 @@ import java.util.List;
  * - Hesaplanan rotayı (node listesi) tutar
  * - Toplam mesafeyi tutar
  * - Toplam süreyi tutar
+ * - Aramanın kesinleştirdiği (kuyruktan çıkan) şehir sayısını tutar (algoritma karşılaştırması için)
  * - Immutable (değiştirilemez) yapı
  *
- * İLİŞKİLİ SINIFLAR: DijkstraStrategy, Node
+ * İLİŞKİLİ SINIFLAR: DijkstraStrategy, AStarStrategy, Node
  *
  * FIELD'LAR:
  * - path (List<Node>): Rota (sıralı şehir listesi)
  * - totalDistance (double): Toplam mesafe (km)
  * - totalDuration (double): Toplam süre (dakika)
+ * - settledNodes (int): Kesinleşen şehir sayısı (bilinmiyorsa 0)
  *
  * TEMEL METODLAR:
  * - getPath(): Rotayı döner
  * - getTotalDistance(): Mesafeyi döner
  * - getTotalDuration(): Süreyi döner
+ * - getSettledNodes(): Kesinleşen şehir sayısını döner
  * - toString(): Özet string döner
  *
  * ÖRNEK:
@@ -41,11 +44,17 @@ public class RouteCalculationResult {
     private final List<Node> path;              // İzlenen yol (Şehirlerin listesi)
     private final double totalDistance;         // Toplam mesafe (km)
     private final double totalDuration;         // Toplam süre (dk veya saat)
+    private final int settledNodes;             // Aramada kesinleşen şehir sayısı
 
     public RouteCalculationResult(List<Node> path, double totalDistance, double totalDuration){
+        this(path, totalDistance, totalDuration, 0);
+    }
+
+    public RouteCalculationResult(List<Node> path, double totalDistance, double totalDuration, int settledNodes){
         this.path = path;
         this.totalDistance = totalDistance;
         this.totalDuration = totalDuration;
+        this.settledNodes = settledNodes;
     }
 
     public List<Node> getPath(){
@@ -60,6 +69,10 @@ public class RouteCalculationResult {
         return totalDuration;
     }
 
+    public int getSettledNodes(){
+        return settledNodes;
+    }
+
     @Override
     public String toString(){
         return "Rota Sonucu => Mesafe: " + totalDistance + " birim, Süre: " + totalDuration + " birim";
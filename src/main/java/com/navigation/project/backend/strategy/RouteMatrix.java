@@ -0,0 +1,110 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RouteMatrix - Mesafe / Süre Matrisi Sonucu
+ *
+ * AMAÇ:
+ * Çoktan çoğa rota hesabının (RouteMatrixCalculator) sonucunu immutable olarak tutar.
+ *
+ * NE İŞE YARAR:
+ * - Kaynak ve hedef şehir listelerini tutar (matrisin satırları ve sütunları)
+ * - Mesafe (km) ve süre (dakika) matrislerini satır düzeninde paketli double[] olarak tutar:
+ *   kaynak i → hedef j hücresi [i * getTargetCount() + j]
+ * - Yol yoksa (ya da şehir haritada yoksa) hücre Double.POSITIVE_INFINITY
+ * - Aramaların kesinleştirdiği toplam şehir sayısını tutar (algoritma karşılaştırması için)
+ *
+ * NOT:
+ * getDistances() / getDurations() büyük matrislerde kopyalanmadan döner; değiştirilmemelidir.
+ *
+ * İLİŞKİLİ SINIFLAR: RouteMatrixCalculator, RouteCalculationResult
+ *
+ * ÖRNEK:
+ * RouteMatrix matrix = calculator.calculate(sources, targets, VehicleType.CAR);
+ * double km = matrix.getDistance(0, 3);
+ * double minutes = matrix.getDuration(0, 3);
+ */
+public class RouteMatrix {
+    private final List<Node> sources;
+    private final List<Node> targets;
+    private final VehicleType vehicle;
+    private final double[] distances;       // km, satır düzeninde
+    private final double[] durations;       // dakika, satır düzeninde
+    private final long settledNodes;
+
+    public RouteMatrix(List<Node> sources, List<Node> targets, VehicleType vehicle, double[] distances,
+                       double[] durations, long settledNodes) {
+        if (distances.length != sources.size() * targets.size() || durations.length != distances.length) {
+            throw new IllegalArgumentException("Matris boyutu kaynak x hedef olmalı!");
+        }
+        this.sources = Collections.unmodifiableList(sources);
+        this.targets = Collections.unmodifiableList(targets);
+        this.vehicle = vehicle;
+        this.distances = distances;
+        this.durations = durations;
+        this.settledNodes = settledNodes;
+    }
+
+    public List<Node> getSources() {
+        return sources;
+    }
+
+    public List<Node> getTargets() {
+        return targets;
+    }
+
+    public VehicleType getVehicle() {
+        return vehicle;
+    }
+
+    public int getSourceCount() {
+        return sources.size();
+    }
+
+    public int getTargetCount() {
+        return targets.size();
+    }
+
+    // Paketli mesafe matrisi (km)
+    public double[] getDistances() {
+        return distances;
+    }
+
+    // Paketli süre matrisi (dakika)
+    public double[] getDurations() {
+        return durations;
+    }
+
+    public double getDistance(int source, int target) {
+        return distances[index(source, target)];
+    }
+
+    public double getDuration(int source, int target) {
+        return durations[index(source, target)];
+    }
+
+    public boolean isReachable(int source, int target) {
+        return distances[index(source, target)] != Double.POSITIVE_INFINITY;
+    }
+
+    public long getSettledNodes() {
+        return settledNodes;
+    }
+
+    private int index(int source, int target) {
+        if (source < 0 || source >= sources.size() || target < 0 || target >= targets.size()) {
+            throw new IndexOutOfBoundsException("Matris hücresi yok: " + source + ", " + target);
+        }
+        return source * targets.size() + target;
+    }
+
+    @Override
+    public String toString() {
+        return "Rota Matrisi => " + sources.size() + " x " + targets.size() + " (" + vehicle + ")";
+    }
+}
@@ -0,0 +1,242 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * RouteMatrixCalculator - Çoktan Çoğa Mesafe / Süre Matrisi
+ *
+ * AMAÇ:
+ * Kaynak ve hedef şehir kümeleri arasındaki tüm en kısa rotaların mesafe (km) ve süre (dakika)
+ * matrislerini, S x T bağımsız sorgu yapmadan hesaplar (lojistik, filo atama, tur planlama).
+ *
+ * NE İŞE YARAR:
+ * - Kısayol hiyerarşisi güncelse (ContractionHierarchyStrategy): kova algoritması
+ *   (ContractionHierarchy.manyToMany), S + T yukarı arama; 1000 x 1000 matris saniyeler içinde
+ * - Hiyerarşi yoksa ya da eskidiyse: kaynak başına tek bir Dijkstra (one-to-many), tüm hedefler
+ *   kesinleşince durur; hiyerarşi arka planda yenilenir (refreshAsync)
+ * - Aramalar kaynaklar (ve hedefler) üzerinden iş parçacıklarına dağıtılır
+ * - Konsola yazmaz (toplu iş)
+ *
+ * METRİK:
+ * Rotalar DijkstraStrategy (SHORTEST) ile aynıdır: en kısa mesafe, sadece OPEN yollar.
+ * Süre, bu rotalar boyunca DijkstraStrategy.calculateDuration kurallarıyla toplanır
+ * (CAR hız limiti, BUS 80 km/h sınırı + segment başına 30 dk, WALK 5 km/h).
+ * Eşit uzunlukta birden fazla rota varsa süre seçilen rotanınkidir.
+ *
+ * İLİŞKİLİ SINIFLAR: RouteMatrix, ContractionHierarchy, ContractionHierarchyStrategy, DijkstraStrategy
+ *
+ * ÖRNEK:
+ * ContractionHierarchyStrategy ch = new ContractionHierarchyStrategy(map, false, true);
+ * ch.prepare();
+ * RouteMatrix matrix = new RouteMatrixCalculator(map, ch).calculate(sources, targets, VehicleType.CAR);
+ */
+public class RouteMatrixCalculator {
+
+    private final CityMap map;
+    private final ContractionHierarchyStrategy hierarchy;   // null: sadece Dijkstra
+    private final int threads;
+
+    public RouteMatrixCalculator(CityMap map) {
+        this(map, null);
+    }
+
+    public RouteMatrixCalculator(CityMap map, ContractionHierarchyStrategy hierarchy) {
+        this(map, hierarchy, Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public RouteMatrixCalculator(CityMap map, ContractionHierarchyStrategy hierarchy, int threads) {
+        if (map == null) {
+            throw new IllegalArgumentException("Harita boş olamaz!");
+        }
+        if (hierarchy != null && hierarchy.getMap() != map) {
+            throw new IllegalArgumentException("Hiyerarşi stratejisi aynı haritaya bağlı olmalı!");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("İş parçacığı sayısı en az 1 olmalı: " + threads);
+        }
+        this.map = map;
+        this.hierarchy = hierarchy;
+        this.threads = threads;
+    }
+
+    public CityMap getMap() {
+        return map;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Kaynaklar x hedefler matrisi. Haritada olmayan şehirlerin satır / sütunu +∞ olur.
+     */
+    public RouteMatrix calculate(List<Node> sources, List<Node> targets, VehicleType vehicle) {
+        if (sources == null || targets == null || vehicle == null) {
+            throw new IllegalArgumentException("Kaynaklar, hedefler ve araç tipi boş olamaz!");
+        }
+
+        // Hesap boyunca tek görüntü kullanılır
+        IRoadGraph graph = map.getGraph();
+        int[] sourceIds = idsOf(graph, sources);
+        int[] targetIds = idsOf(graph, targets);
+        double[] slotMinutes = slotMinutes(graph, vehicle);
+        int cells = sourceIds.length * targetIds.length;
+        double[] distances = new double[cells];
+        double[] durations = new double[cells];
+
+        long settled;
+        ContractionHierarchy current = hierarchyFor(graph);
+        if (current != null) {
+            long[] meters = new long[cells];
+            settled = current.manyToMany(sourceIds, targetIds, slotMinutes, meters, durations, threads);
+            for (int cell = 0; cell < cells; cell++) {
+                distances[cell] = meters[cell] == Long.MAX_VALUE
+                        ? Double.POSITIVE_INFINITY : EdgeTable.toKilometers(meters[cell]);
+            }
+        } else {
+            settled = oneToMany(graph, sourceIds, targetIds, slotMinutes, distances, durations);
+        }
+        return new RouteMatrix(new ArrayList<>(sources), new ArrayList<>(targets), vehicle, distances, durations,
+                settled);
+    }
+
+    // Görüntüye bağlanabilen hiyerarşi; yoksa null (ve arka planda yenilenir)
+    private ContractionHierarchy hierarchyFor(IRoadGraph graph) {
+        if (hierarchy == null) {
+            return null;
+        }
+        ContractionHierarchy current = hierarchy.getHierarchy();
+        ContractionHierarchy rebound = current == null ? null : current.rebind(graph);
+        if (rebound == null) {
+            hierarchy.refreshAsync();
+        }
+        return rebound;
+    }
+
+    private static int[] idsOf(IRoadGraph graph, List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Node node = nodes.get(i);
+            ids[i] = node == null ? -1 : graph.idOf(node);
+        }
+        return ids;
+    }
+
+    // Slot başına süre (dakika), calculateDuration ile aynı kural
+    private static double[] slotMinutes(IRoadGraph graph, VehicleType vehicle) {
+        double[] minutes = new double[graph.getEdgeCount()];
+        double stop = DijkstraStrategy.stopMinutes(vehicle);
+        for (int slot = 0; slot < minutes.length; slot++) {
+            double speed = DijkstraStrategy.effectiveSpeed(vehicle, graph.getSpeedLimit(slot));
+            minutes[slot] = stop + (graph.getDistance(slot) / speed) * 60;
+        }
+        return minutes;
+    }
+
+    /**
+     * Hiyerarşi yoksa: kaynak başına bir Dijkstra, tüm (farklı) hedefler kesinleşince durur.
+     * Aynı şehir birden fazla sütunda olabilir: şehir → ilk sütun, sütun → sonraki sütun zinciri.
+     */
+    private long oneToMany(IRoadGraph graph, int[] sourceIds, int[] targetIds, double[] slotMinutes,
+                           double[] distances, double[] durations) {
+        int[] firstColumn = new int[graph.getNodeCount()];
+        Arrays.fill(firstColumn, -1);
+        int[] nextColumn = new int[targetIds.length];
+        int distinct = 0;
+        for (int j = targetIds.length - 1; j >= 0; j--) {
+            int id = targetIds[j];
+            if (id < 0) {
+                continue;
+            }
+            if (firstColumn[id] < 0) {
+                distinct++;
+            }
+            nextColumn[j] = firstColumn[id];
+            firstColumn[id] = j;
+        }
+        int targetCount = distinct;
+
+        long[] settled = new long[sourceIds.length];
+        ExecutorService pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "route-matrix");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ContractionHierarchy.parallelFor(pool, threads, sourceIds.length, 2, "Matris hesabı", i -> {
+                int row = i * targetIds.length;
+                Arrays.fill(distances, row, row + targetIds.length, Double.POSITIVE_INFINITY);
+                Arrays.fill(durations, row, row + targetIds.length, Double.POSITIVE_INFINITY);
+                if (sourceIds[i] >= 0 && targetCount > 0) {
+                    settled[i] = searchRow(graph, sourceIds[i], firstColumn, nextColumn, targetCount, slotMinutes,
+                            distances, durations, row);
+                }
+            });
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+        long total = 0;
+        for (long count : settled) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Tek kaynaktan Dijkstra (metre); süre ağaç boyunca toplanır. Kesinleşen şehir sayısını döner.
+    private static int searchRow(IRoadGraph graph, int source, int[] firstColumn, int[] nextColumn, int targetCount,
+                                 double[] slotMinutes, double[] distances, double[] durations, int row) {
+        SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT);
+        ws.reset();
+        INodeQueue queue = ws.queue;
+        double[] minutes = ws.costs();
+        ws.reach(source, 0, -1, -1);
+        minutes[source] = 0;
+        queue.update(source, 0);
+        int remaining = targetCount;
+        int settled = 0;
+
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            settled++;
+            long distance = ws.distances[current];
+            if (firstColumn[current] >= 0) {
+                for (int column = firstColumn[current]; column >= 0; column = nextColumn[column]) {
+                    distances[row + column] = EdgeTable.toKilometers(distance);
+                    durations[row + column] = minutes[current];
+                }
+                if (--remaining == 0) {
+                    break;
+                }
+            }
+            int begin = graph.outBegin(current);
+            int degree = graph.outEnd(current) - begin;
+            int[] neighbours = ws.loadTargets(graph, current, degree);
+            for (int i = 0; i < degree; i++) {
+                int slot = begin + i;
+                if (!graph.isOpen(slot)) {
+                    continue;
+                }
+                int neighbour = neighbours[i];
+                long newDist = distance + graph.getDistanceMeters(slot);
+                if (newDist < ws.distance(neighbour)) {
+                    ws.reach(neighbour, newDist, current, slot);
+                    minutes[neighbour] = minutes[current] + slotMinutes[slot];
+                    queue.update(neighbour, newDist);
+                }
+            }
+        }
+        return settled;
+    }
+}
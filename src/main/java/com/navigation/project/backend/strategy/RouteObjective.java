@@ -0,0 +1,19 @@
+package com.navigation.project.backend.strategy;
+
+/**
+ * RouteObjective - Rota Aramasının Neyi En Aza İndirdiği
+ *
+ * DEĞERLER:
+ * - SHORTEST: toplam mesafe (varsayılan); süre rota bulunduktan sonra araç tipine göre hesaplanır
+ * - FASTEST: araç tipinin kendi süresi, arama sırasında (EdgeMetric.travelTimeOf):
+ *   CAR hız limiti, BUS max 80 km/h + segment başına 30 dk durak, WALK sabit 5 km/h
+ *
+ * İLİŞKİLİ SINIFLAR: DijkstraStrategy, EdgeMetric, EdgeWeights
+ *
+ * ÖRNEK:
+ * facade.setRouteStrategy(new DijkstraStrategy(map, RouteObjective.FASTEST, true));
+ */
+public enum RouteObjective {
+    SHORTEST,
+    FASTEST
+}
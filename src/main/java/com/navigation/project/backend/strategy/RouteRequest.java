@@ -0,0 +1,47 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+/**
+ * RouteRequest - Toplu Rota İsteği
+ *
+ * AMAÇ:
+ * BatchRouteCalculator'a verilen tek bir (başlangıç, hedef, araç tipi) isteğini immutable olarak tutar.
+ *
+ * İLİŞKİLİ SINIFLAR: BatchRouteCalculator, IRouteResultListener
+ *
+ * ÖRNEK:
+ * RouteRequest request = new RouteRequest(istanbul, ankara, VehicleType.BUS);
+ */
+public final class RouteRequest {
+    private final Node start;
+    private final Node end;
+    private final VehicleType vehicle;
+
+    public RouteRequest(Node start, Node end, VehicleType vehicle) {
+        if (start == null || end == null || vehicle == null) {
+            throw new IllegalArgumentException("Başlangıç, hedef ve araç tipi boş olamaz!");
+        }
+        this.start = start;
+        this.end = end;
+        this.vehicle = vehicle;
+    }
+
+    public Node getStart() {
+        return start;
+    }
+
+    public Node getEnd() {
+        return end;
+    }
+
+    public VehicleType getVehicle() {
+        return vehicle;
+    }
+
+    @Override
+    public String toString() {
+        return start.getName() + " -> " + end.getName() + " (" + vehicle + ")";
+    }
+}
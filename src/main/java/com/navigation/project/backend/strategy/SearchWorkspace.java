@@ -0,0 +1,188 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.IRoadGraph;
+
+import java.util.Arrays;
+
+/**
+ * SearchWorkspace - İş Parçacığı Başına Yeniden Kullanılan Arama Alanı
+ *
+ * AMAÇ:
+ * Tek kaynaklı aramaların (DijkstraStrategy) şehir başına dizilerini her sorguda yeniden
+ * ayırmadan kullanmak. Kararlı durumda sorgu, döndürülen sonuç dışında bellek ayırmaz.
+ *
+ * NE İŞE YARAR:
+ * - Mesafe, önceki şehir ve önceki slot dizileri + öncelik kuyruğu iş parçacığı başına bir kez
+ *   ayrılır (forThread); şehir sayısı ya da kuyruk tipi değişince yenilenir. İleri + geri ağaç
+ *   gibi aynı anda iki arama gerektiğinde ikinci şerit (lane 1) kullanılır.
+ * - Arama sırasında dışarıdaki koda dönen sorgular (IsochroneCalculator.stream) kendi şeridinde
+ *   (CALLBACK_LANE) çalışır: dinleyicinin başlattığı rota sorguları lane 0 / 1'i kullanır ve
+ *   süren aramayı bozmaz. Bu şerit claim() / release() ile tutulur; iç içe kullanım hata verir.
+ * - reset() O(1)'dir: nesil sayacı artar, damgası eşleşmeyen şehir "ulaşılmamış" sayılır.
+ *   Kuyrukta kalan şehirler clear() ile sadece kendileri kadar temizlenir.
+ * - Komşu hedefleri ve rota geri sarma için büyüyen tampon diziler
+ *
+ * BELLEK:
+ * Şehir başına ~36 bayt (dört dizi + kuyruk), iş parçacığı ve kuyruk tipi başına bir kez.
+ *
+ * İLİŞKİLİ SINIFLAR: DijkstraStrategy, AStarStrategy, BidirectionalDijkstraStrategy, CrossRegionRouter,
+ * RouteMatrixCalculator, AlternativeRoutesCalculator, IsochroneCalculator, INodeQueue, NodeQueueType
+ *
+ * ÖRNEK:
+ * SearchWorkspace ws = SearchWorkspace.forThread(graph.getNodeCount(), NodeQueueType.DEFAULT);
+ * ws.reset();
+ * ws.reach(startId, 0, -1, -1);
+ */
+final class SearchWorkspace {
+
+    // Aynı iş parçacığında aynı anda kullanılabilen alan sayısı (ileri + geri ağaç, geri çağırmalı arama)
+    static final int LANES = 3;
+
+    // Arama sırasında dinleyici çağıran sorguların şeridi (diğer aramalar bu şeridi kullanmaz)
+    static final int CALLBACK_LANE = 2;
+
+    // İş parçacığı başına, kuyruk tipi (ordinal) ve şerit başına bir alan
+    private static final ThreadLocal<SearchWorkspace[]> WORKSPACES =
+            ThreadLocal.withInitial(() -> new SearchWorkspace[NodeQueueType.values().length * LANES]);
+
+    final long[] distances;
+    final int[] previous;       // Önceki şehir (-1: kök)
+    final int[] slots;          // Önceki şehirden gelinen yol slotu
+    final INodeQueue queue;
+    private final int[] stamps;
+    private final NodeQueueType queueType;
+    private int generation;
+    private boolean claimed;    // CALLBACK_LANE: süren geri çağırmalı arama var
+
+    // Rota boyunca ikinci maliyet (RouteMatrixCalculator: süre; AStarStrategy: kesirli maliyet) ve
+    // şehir başına sezgisel (AStarStrategy); ilk kullanımda ayrılır
+    private double[] costs;
+    private double[] estimates;
+
+    // Komşu hedefleri (IRoadGraph.loadTargets) ve rota geri sarma tamponları
+    private int[] targets = new int[8];
+    private int[] route = new int[64];
+
+    private SearchWorkspace(int nodeCount, NodeQueueType queueType) {
+        distances = new long[nodeCount];
+        previous = new int[nodeCount];
+        slots = new int[nodeCount];
+        stamps = new int[nodeCount];
+        this.queueType = queueType;
+        queue = queueType.create(nodeCount);
+    }
+
+    /**
+     * Bu iş parçacığının alanı (şehir sayısı uyuşmuyorsa yenisi ayrılır)
+     */
+    static SearchWorkspace forThread(int nodeCount, NodeQueueType queueType) {
+        return forThread(nodeCount, queueType, 0);
+    }
+
+    /**
+     * Aynı anda iki arama gereken sorgular (lane 0 / 1) ve geri çağırmalı aramalar (CALLBACK_LANE)
+     * için; şerit ilk kullanımda ayrılır
+     */
+    static SearchWorkspace forThread(int nodeCount, NodeQueueType queueType, int lane) {
+        SearchWorkspace[] workspaces = WORKSPACES.get();
+        int index = queueType.ordinal() * LANES + lane;
+        SearchWorkspace ws = workspaces[index];
+        if (ws == null || ws.distances.length != nodeCount) {
+            ws = new SearchWorkspace(nodeCount, queueType);
+            workspaces[index] = ws;
+        }
+        return ws;
+    }
+
+    /**
+     * Alanı süren arama için tutar; alan zaten tutuluyorsa (dinleyiciden iç içe çağrı) hata verir
+     */
+    void claim() {
+        if (claimed) {
+            throw new IllegalStateException(
+                    "Arama alanı kullanımda: dinleyici içinden aynı tür arama başlatılamaz!");
+        }
+        claimed = true;
+    }
+
+    void release() {
+        claimed = false;
+    }
+
+    NodeQueueType getQueueType() {
+        return queueType;
+    }
+
+    // Yeni sorgu: tüm şehirler ulaşılmamış, kuyruk boş
+    void reset() {
+        queue.clear();
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    boolean isReached(int node) {
+        return stamps[node] == generation;
+    }
+
+    // Ulaşılmamışsa Long.MAX_VALUE
+    long distance(int node) {
+        return stamps[node] == generation ? distances[node] : Long.MAX_VALUE;
+    }
+
+    void reach(int node, long distance, int from, int slot) {
+        stamps[node] = generation;
+        distances[node] = distance;
+        previous[node] = from;
+        slots[node] = slot;
+    }
+
+    double[] costs() {
+        if (costs == null) {
+            costs = new double[distances.length];
+        }
+        return costs;
+    }
+
+    double[] estimates() {
+        if (estimates == null) {
+            estimates = new double[distances.length];
+        }
+        return estimates;
+    }
+
+    /**
+     * Şehrin komşu hedeflerini tampona okur (tampon gerekirse büyütülür)
+     */
+    int[] loadTargets(IRoadGraph graph, int node, int degree) {
+        if (degree > targets.length) {
+            targets = new int[Math.max(degree, targets.length * 2)];
+        }
+        graph.loadTargets(node, targets);
+        return targets;
+    }
+
+    /**
+     * Hedeften köke geri sarar; rota slotları kökten hedefe sırayla tampona yazılır.
+     * Slot sayısını döner (tampon routeSlots() ile okunur).
+     */
+    int unwind(int target) {
+        int count = 0;
+        for (int step = target; previous[step] >= 0; step = previous[step]) {
+            count++;
+        }
+        if (count > route.length) {
+            route = new int[Math.max(count, route.length * 2)];
+        }
+        int index = count;
+        for (int step = target; previous[step] >= 0; step = previous[step]) {
+            route[--index] = slots[step];
+        }
+        return count;
+    }
+
+    int[] routeSlots() {
+        return route;
+    }
+}
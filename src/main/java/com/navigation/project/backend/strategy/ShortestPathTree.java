@@ -0,0 +1,126 @@
+package com.navigation.project.backend.strategy;
+
+import com.navigation.project.backend.data.EdgeTable;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ShortestPathTree - Tek Kaynaklı En Kısa Yol Ağacı (One-to-All)
+ *
+ * AMAÇ:
+ * Bir kaynak şehirden haritadaki tüm şehirlere en kısa maliyetleri ve öncül (predecessor)
+ * şehirleri primitive dizilerde tutar (yönetici analizleri: "kapanıştan sonra her şehir Ankara'ya ne kadar uzak?").
+ *
+ * NE İŞE YARAR:
+ * - Diziler, hesaplandığı görüntünün (getGraph()) şehir id'leriyle adreslenir
+ * - getDistances(): ham maliyetler (SHORTEST → metre, FASTEST → milisaniye); ulaşılamayan şehir Long.MAX_VALUE
+ * - getPredecessors(): öncül şehir id'si; kaynak ve ulaşılamayan şehirlerde -1
+ * - getCost() / getPath(): tek şehir için km ya da dakika ve kaynaktan rota
+ *
+ * DİZİLER:
+ * Büyük haritalarda kopyalanmamaları için dizilerin kendisi döner; değiştirilmemelidir.
+ *
+ * İLİŞKİLİ SINIFLAR: DeltaSteppingCalculator, IRoadGraph, RouteObjective
+ *
+ * ÖRNEK:
+ * ShortestPathTree tree = new DeltaSteppingCalculator(map).calculate(ankara, VehicleType.CAR, RouteObjective.SHORTEST);
+ * double km = tree.getCost(izmir);
+ * List<Node> path = tree.getPath(izmir);
+ */
+public class ShortestPathTree {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final IRoadGraph graph;
+    private final int sourceId;
+    private final VehicleType vehicle;
+    private final RouteObjective objective;
+    private final long[] distances;         // Şehir id → maliyet (metre / ms), ulaşılamayan Long.MAX_VALUE
+    private final int[] predecessors;       // Şehir id → öncül şehir id, yoksa -1
+    private final int reachedCount;
+
+    public ShortestPathTree(IRoadGraph graph, int sourceId, VehicleType vehicle, RouteObjective objective,
+                            long[] distances, int[] predecessors, int reachedCount) {
+        if (distances.length != graph.getNodeCount() || predecessors.length != distances.length) {
+            throw new IllegalArgumentException("Ağaç dizilerinin boyutları uyuşmuyor!");
+        }
+        this.graph = graph;
+        this.sourceId = sourceId;
+        this.vehicle = vehicle;
+        this.objective = objective;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.reachedCount = reachedCount;
+    }
+
+    public IRoadGraph getGraph() {
+        return graph;
+    }
+
+    public Node getSource() {
+        return graph.getNode(sourceId);
+    }
+
+    public int getSourceId() {
+        return sourceId;
+    }
+
+    public VehicleType getVehicle() {
+        return vehicle;
+    }
+
+    public RouteObjective getObjective() {
+        return objective;
+    }
+
+    public long[] getDistances() {
+        return distances;
+    }
+
+    public int[] getPredecessors() {
+        return predecessors;
+    }
+
+    // Kaynak dahil ulaşılan şehir sayısı
+    public int getReachedCount() {
+        return reachedCount;
+    }
+
+    public boolean isReachable(Node node) {
+        int id = graph.idOf(node);
+        return id >= 0 && distances[id] != Long.MAX_VALUE;
+    }
+
+    /**
+     * Kaynaktan şehre maliyet: SHORTEST → km, FASTEST → dakika; ulaşılamıyorsa +∞
+     */
+    public double getCost(Node node) {
+        int id = graph.idOf(node);
+        if (id < 0 || distances[id] == Long.MAX_VALUE) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return objective == RouteObjective.FASTEST
+                ? distances[id] / MILLIS_PER_MINUTE : EdgeTable.toKilometers(distances[id]);
+    }
+
+    /**
+     * Kaynaktan şehre rota (kaynak dahil); ulaşılamıyorsa boş liste
+     */
+    public List<Node> getPath(Node node) {
+        int id = graph.idOf(node);
+        if (id < 0 || distances[id] == Long.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        List<Node> path = new ArrayList<>();
+        for (int current = id; current >= 0; current = predecessors[current]) {
+            path.add(graph.getNode(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
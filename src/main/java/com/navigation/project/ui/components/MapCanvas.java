@@ -28,6 +28,8 @@ import java.util.*;
  * - Yolları çizgilerle gösterir
  * - Rota vurgulaması yapar (yeşil)
  * - Yol durumlarını renklerle gösterir
+ * - Konumu (enlem/boylam) bilinen şehirleri konumlarına göre yerleştirir;
+ *   konumu olmayanlar için sabit konumlar kullanılır
  *
  * İLİŞKİLİ SINIFLAR: Node, Edge
  *
@@ -54,6 +56,7 @@ public class MapCanvas extends Canvas {
     private Map<String, Point> cityPositions;
     private List<Node> nodes;
     private List<Edge> edges;
+    private Map<Node, Map<Node, Edge>> edgeIndex;
     private List<Node> highlightedRoute;
 
     public MapCanvas(double width, double height) {
@@ -61,6 +64,7 @@ public class MapCanvas extends Canvas {
         this.cityPositions = new HashMap<>();
         this.nodes = new ArrayList<>();
         this.edges = new ArrayList<>();
+        this.edgeIndex = new HashMap<>();
         this.highlightedRoute = new ArrayList<>();
         initializeCityPositions();
     }
@@ -75,9 +79,56 @@ public class MapCanvas extends Canvas {
     public void drawMap(List<Node> nodes, List<Edge> edges) {
         this.nodes = nodes;
         this.edges = edges;
+        indexEdges(edges);
+        placeByCoordinates(nodes);
         redraw();
     }
 
+    /**
+     * Canvas'a verilen yolları kaynak → hedef çiftine göre indeksler
+     * (vurgulanan rotanın segmentleri çizimde O(1) bulunur)
+     */
+    private void indexEdges(List<Edge> edges) {
+        edgeIndex = new HashMap<>();
+        for (Edge edge : edges) {
+            edgeIndex.computeIfAbsent(edge.getSource(), k -> new HashMap<>())
+                    .putIfAbsent(edge.getDestination(), edge);
+        }
+    }
+
+    /**
+     * Konumu bilinen şehirleri enlem/boylam kutusunu canvas'a sığdırarak yerleştirir
+     * (kuzey yukarıda; boylam, enlemin kosinüsü ile ölçeklenir)
+     */
+    private void placeByCoordinates(List<Node> nodes) {
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (Node node : nodes) {
+            if (node.hasCoordinates()) {
+                minLat = Math.min(minLat, node.getLatitude());
+                maxLat = Math.max(maxLat, node.getLatitude());
+                minLon = Math.min(minLon, node.getLongitude());
+                maxLon = Math.max(maxLon, node.getLongitude());
+            }
+        }
+        if (minLat > maxLat) {
+            return;
+        }
+
+        double margin = 60;
+        double lonScale = Math.cos(Math.toRadians((minLat + maxLat) / 2));
+        double spanX = Math.max((maxLon - minLon) * lonScale, 1e-9);
+        double spanY = Math.max(maxLat - minLat, 1e-9);
+        double scale = Math.min((getWidth() - 2 * margin) / spanX, (getHeight() - 2 * margin) / spanY);
+        for (Node node : nodes) {
+            if (node.hasCoordinates()) {
+                double x = margin + (node.getLongitude() - minLon) * lonScale * scale;
+                double y = margin + (maxLat - node.getLatitude()) * scale;
+                cityPositions.put(node.getName(), new Point(x, y));
+            }
+        }
+    }
+
     public void highlightRoute(List<Node> route) {
         this.highlightedRoute = route;
         redraw();
@@ -185,12 +236,11 @@ public class MapCanvas extends Canvas {
             if (p1 != null && p2 != null) {
                 gc.strokeLine(p1.x, p1.y, p2.x, p2.y);
 
-                for (Edge edge : edges) {
-                    if (edge.getSource().equals(highlightedRoute.get(i)) &&
-                            edge.getDestination().equals(highlightedRoute.get(i + 1))) {
-                        totalDistance += edge.getDistance();
-                        break;
-                    }
+                // Segment yolu canvas'a verilen yolların indeksinden O(1) bulunur
+                Map<Node, Edge> outgoing = edgeIndex.get(highlightedRoute.get(i));
+                Edge edge = outgoing == null ? null : outgoing.get(highlightedRoute.get(i + 1));
+                if (edge != null) {
+                    totalDistance += edge.getDistance();
                 }
             }
         }
@@ -735,25 +735,11 @@ public class MainController implements ITrafficObserver {
     }
 
     private Node findNode(String name) {
-        for (Node node : map.getNodes()) {
-            if (node.getName().equals(name)) {
-                return node;
-            }
-        }
-        return null;
+        return map.findNode(name);
     }
 
     private Edge findEdge(String fromName, String toName) {
-        Node from = findNode(fromName);
-        Node to = findNode(toName);
-        if (from == null || to == null) return null;
-
-        for (Edge edge : map.getEdges()) {
-            if (edge.getSource().equals(from) && edge.getDestination().equals(to)) {
-                return edge;
-            }
-        }
-        return null;
+        return map.findEdge(fromName, toName);
     }
 
     // =========================================================================
@@ -0,0 +1,114 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.AStarStrategy;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.Random;
+
+/**
+ * AStarBenchmark - A* / Dijkstra Karşılaştırma Benchmark'ı
+ *
+ * AMAÇ:
+ * Aynı noktadan noktaya sorgularda AStarStrategy'nin DijkstraStrategy'ye göre
+ * kaç şehir kesinleştirdiğini (settled) ve sorgu süresini ölçer, sonuçların doğruluğunu kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx2g -cp target/classes:target/test-classes com.navigation.project.benchmark.AStarBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M yollu konumlu ızgara haritalar (RoadGraphGenerator.buildGeoGrid), rastgele çiftler
+ * - DISTANCE: A* rota mesafesi Dijkstra ile birebir aynı olmalıdır
+ * - TIME: A* rota süresi, aynı haritanın konumsuz kopyasında (sezgisel 0, yani Dijkstra) bulunan
+ *   en hızlı rota ile aynı olmalıdır
+ * - Gezilen: sorgu başına ortalama kesinleşen şehir sayısı ve Dijkstra'ya oranı
+ */
+public class AStarBenchmark {
+
+    private static final String CHECK = "A*";
+    private static final int[] EDGE_COUNTS = {100_000, 1_000_000};
+    private static final int QUERIES = 20;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        CityMap plain = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+        AStarStrategy distanceStar = new AStarStrategy(map, AStarStrategy.Heuristic.DISTANCE, false);
+        AStarStrategy timeStar = new AStarStrategy(map, AStarStrategy.Heuristic.TIME, false);
+        AStarStrategy timeReference = new AStarStrategy(plain, AStarStrategy.Heuristic.TIME, false);
+
+        System.out.println("═".repeat(96));
+        System.out.printf("%-9s %-16s %-14s %-16s %-12s %-14s%n",
+                "Yol", "Strateji", "Sorgu (ms)", "Gezilen şehir", "Oran", "Kontrol");
+        System.out.println("═".repeat(96));
+
+        for (int edgeCount : EDGE_COUNTS) {
+            int side = RoadGraphGenerator.sideForEdges(edgeCount);
+            Node[] nodes = RoadGraphGenerator.buildGeoGrid(map, side, 42, true);
+            Node[] plainNodes = RoadGraphGenerator.buildGeoGrid(plain, side, 42, false);
+
+            Random random = new Random(7);
+            int[][] pairs = new int[QUERIES][];
+            for (int i = 0; i < QUERIES; i++) {
+                pairs[i] = new int[]{random.nextInt(nodes.length), random.nextInt(nodes.length)};
+            }
+
+            // Isınma (ölçek hesabı da burada yapılır)
+            dijkstra.calculateRoute(nodes[pairs[0][0]], nodes[pairs[0][1]], VehicleType.CAR);
+            distanceStar.calculateRoute(nodes[pairs[0][0]], nodes[pairs[0][1]], VehicleType.CAR);
+            timeStar.calculateRoute(nodes[pairs[0][0]], nodes[pairs[0][1]], VehicleType.CAR);
+
+            long dijkstraTime = 0, distanceTime = 0, timeTime = 0;
+            long dijkstraSettled = 0, distanceSettled = 0, timeSettled = 0, referenceSettled = 0;
+            for (int[] pair : pairs) {
+                Node from = nodes[pair[0]];
+                Node to = nodes[pair[1]];
+
+                long start = System.nanoTime();
+                RouteCalculationResult expected = dijkstra.calculateRoute(from, to, VehicleType.CAR);
+                dijkstraTime += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                RouteCalculationResult shortest = distanceStar.calculateRoute(from, to, VehicleType.CAR);
+                distanceTime += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                RouteCalculationResult fastest = timeStar.calculateRoute(from, to, VehicleType.CAR);
+                timeTime += System.nanoTime() - start;
+
+                RouteCalculationResult reference = timeReference.calculateRoute(
+                        plainNodes[pair[0]], plainNodes[pair[1]], VehicleType.CAR);
+
+                RoadGraphGenerator.check(CHECK, shortest.getTotalDistance() == expected.getTotalDistance(),
+                        "DISTANCE sonucu uyuşmuyor: " + expected.getTotalDistance() + " != "
+                                + shortest.getTotalDistance());
+                RoadGraphGenerator.check(CHECK,
+                        Math.abs(fastest.getTotalDuration() - reference.getTotalDuration()) <= 1e-6,
+                        "TIME sonucu uyuşmuyor: " + reference.getTotalDuration() + " != "
+                                + fastest.getTotalDuration());
+                dijkstraSettled += expected.getSettledNodes();
+                distanceSettled += shortest.getSettledNodes();
+                timeSettled += fastest.getSettledNodes();
+                referenceSettled += reference.getSettledNodes();
+            }
+
+            print(edgeCount, "Dijkstra", dijkstraTime, dijkstraSettled, dijkstraSettled, "-");
+            print(edgeCount, "A* DISTANCE", distanceTime, distanceSettled, dijkstraSettled, "mesafe aynı");
+            print(edgeCount, "A* TIME", timeTime, timeSettled, referenceSettled, "süre aynı");
+            System.out.println("─".repeat(96));
+        }
+        System.out.println("Oran: A* TIME için aynı sürenin sezgiselsiz (Dijkstra) aramasına göredir.");
+        map.clearAll();
+        plain.clearAll();
+    }
+
+    private static void print(int edgeCount, String name, long nanos, long settled, long baseline, String check) {
+        System.out.printf("%-9d %-16s %-14.2f %-16d %-12s %-14s%n",
+                edgeCount, name, nanos / 1e6 / QUERIES, settled / QUERIES,
+                String.format("%%%.1f", 100.0 * settled / baseline), check);
+    }
+}
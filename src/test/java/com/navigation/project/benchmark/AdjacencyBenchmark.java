@@ -0,0 +1,150 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.*;
+
+/**
+ * AdjacencyBenchmark - CSR Komşuluk Benchmark'ı
+ *
+ * AMAÇ:
+ * Eski tam-tarama komşuluk (her node için tüm yol listesini gezmek) ile
+ * CityMap CSR komşuluğunun sorgu başı süresini karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.navigation.project.benchmark.AdjacencyBenchmark
+ *
+ * ÖLÇÜM:
+ * - 10k, 100k ve 1M yollu ızgara haritalar
+ * - "Önce": eski algoritmanın birebir kopyası (LegacyScanDijkstra)
+ * - "Sonra": CSR kullanan DijkstraStrategy
+ * - Aynı başlangıç/hedef çiftleri, sonuç mesafeleri karşılaştırılır
+ *
+ * NOT:
+ * Eski algoritma O(V·E) olduğu için "önce" ölçümü yakın çiftlerle yapılır.
+ * CSR için ayrıca haritanın iki ucu arasındaki uzun sorgular da ölçülür.
+ */
+public class AdjacencyBenchmark {
+
+    private static final String CHECK = "Komşuluk";
+    private static final int[] EDGE_COUNTS = {10_000, 100_000, 1_000_000};
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy strategy = new DijkstraStrategy(map, false);
+
+        System.out.println("═".repeat(78));
+        System.out.printf("%-10s %-10s %-18s %-18s %-18s%n",
+                "Yol", "Şehir", "Önce (yakın, ms)", "Sonra (yakın, ms)", "Sonra (uzun, ms)");
+        System.out.println("═".repeat(78));
+
+        for (int edgeCount : EDGE_COUNTS) {
+            int side = RoadGraphGenerator.sideForEdges(edgeCount);
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            Random random = new Random(7);
+
+            // Yakın çiftler (eski algoritma bitirebilsin diye)
+            int legacyQueries = edgeCount >= 1_000_000 ? 3 : (edgeCount >= 100_000 ? 5 : 20);
+            Node[][] nearPairs = new Node[legacyQueries][];
+            for (int i = 0; i < legacyQueries; i++) {
+                int row = random.nextInt(side - 4);
+                int col = random.nextInt(side - 4);
+                nearPairs[i] = new Node[]{nodes[row * side + col], nodes[(row + 4) * side + col + 4]};
+            }
+
+            // Isınma
+            strategy.calculateRoute(nearPairs[0][0], nearPairs[0][1], VehicleType.CAR);
+
+            long legacyTime = 0;
+            long csrNearTime = 0;
+            for (Node[] pair : nearPairs) {
+                long start = System.nanoTime();
+                double legacy = LegacyScanDijkstra.shortestDistance(map, pair[0], pair[1]);
+                legacyTime += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                RouteCalculationResult result = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+                csrNearTime += System.nanoTime() - start;
+
+                RoadGraphGenerator.check(CHECK, Math.abs(result.getTotalDistance() - legacy) <= 1e-9,
+                        "Sonuç uyuşmuyor: " + legacy + " != " + result.getTotalDistance());
+            }
+
+            // Uzun sorgular (köşeden köşeye)
+            int longQueries = 5;
+            long csrLongTime = 0;
+            for (int i = 0; i < longQueries; i++) {
+                long start = System.nanoTime();
+                strategy.calculateRoute(nodes[i], nodes[nodes.length - 1 - i], VehicleType.CAR);
+                csrLongTime += System.nanoTime() - start;
+            }
+
+            System.out.printf("%-10d %-10d %-18.3f %-18.3f %-18.3f%n",
+                    map.getEdges().size(), nodes.length,
+                    legacyTime / 1e6 / legacyQueries,
+                    csrNearTime / 1e6 / legacyQueries,
+                    csrLongTime / 1e6 / longQueries);
+        }
+        System.out.println("═".repeat(78));
+        map.clearAll();
+    }
+
+    /**
+     * Eski DijkstraStrategy'nin komşuluk erişimi: her node için tüm yollar taranır.
+     * Sadece karşılaştırma için tutulur.
+     */
+    static final class LegacyScanDijkstra {
+
+        static double shortestDistance(CityMap map, Node startNode, Node endNode) {
+            Map<Node, Double> distances = new HashMap<>();
+            Set<Node> visited = new HashSet<>();
+            PriorityQueue<Node> queue = new PriorityQueue<>(Comparator.comparingDouble(distances::get));
+
+            for (Node node : map.getNodes()) {
+                distances.put(node, Double.MAX_VALUE);
+            }
+            distances.put(startNode, 0.0);
+            queue.add(startNode);
+
+            while (!queue.isEmpty()) {
+                Node current = queue.poll();
+                if (!visited.add(current)) {
+                    continue;
+                }
+                if (current.equals(endNode)) {
+                    break;
+                }
+                for (Edge edge : getOutgoingEdges(map, current)) {
+                    if (edge.getStatus() != EdgeStatus.OPEN) {
+                        continue;
+                    }
+                    Node neighbour = edge.getDestination();
+                    double newDist = distances.get(current) + edge.getDistance();
+                    if (newDist < distances.get(neighbour)) {
+                        distances.put(neighbour, newDist);
+                        queue.remove(neighbour);
+                        queue.add(neighbour);
+                    }
+                }
+            }
+            return distances.get(endNode);
+        }
+
+        private static List<Edge> getOutgoingEdges(CityMap map, Node source) {
+            List<Edge> result = new ArrayList<>();
+            for (Edge edge : map.getEdges()) {
+                if (edge.getSource().equals(source)) {
+                    result.add(edge);
+                }
+            }
+            return result;
+        }
+    }
+}
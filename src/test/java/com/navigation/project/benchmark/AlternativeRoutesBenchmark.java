@@ -0,0 +1,175 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.AlternativeRouteMethod;
+import com.navigation.project.backend.strategy.AlternativeRoutesCalculator;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * AlternativeRoutesBenchmark - Alternatif Rota (Plato / Ceza) Benchmark'ı
+ *
+ * AMAÇ:
+ * AlternativeRoutesCalculator'ın 3 rotalık sorgu süresini tek bir DijkstraStrategy sorgusuyla
+ * karşılaştırır (hedef: ≤ ~3x) ve üretilen alternatiflerin kalitesini ölçer.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.AlternativeRoutesBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k şehirli ızgara harita; yolların %5'i kapalı; rastgele çiftler
+ * - Her yöntem (PLATEAU / PENALTY / PLATEAU_THEN_PENALTY) ve amaç için: sorgu başına ms,
+ *   Dijkstra'ya oranı, sorgu başına ortalama alternatif sayısı, ortalama uzama ve en büyük paylaşım
+ * - Kontrol: ilk rota Dijkstra ile aynı maliyette; rotalar döngüsüz, farklı, sadece açık yollardan;
+ *   uzama ve paylaşım sınırları aşılmıyor
+ */
+public class AlternativeRoutesBenchmark {
+
+    private static final String CHECK = "Alternatif rota";
+    private static final int SIDE = 316;
+    private static final int COUNT = 3;
+    private static final int QUERIES = 30;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+        Random random = new Random(7);
+        Node[][] pairs = new Node[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+        }
+
+        System.out.println("═".repeat(112));
+        System.out.printf("%-9s %-22s %-14s %-14s %-10s %-14s %-12s %-10s%n", "Amaç", "Yöntem", "Sorgu (ms)",
+                "Dijkstra (ms)", "Oran", "Alternatif", "Uzama", "Paylaşım");
+        System.out.println("═".repeat(112));
+        for (RouteObjective objective : RouteObjective.values()) {
+            DijkstraStrategy dijkstra = new DijkstraStrategy(map, objective, false);
+            for (int i = 0; i < 5; i++) {
+                dijkstra.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+            }
+            long dijkstraTime = 0;
+            RouteCalculationResult[] expected = new RouteCalculationResult[QUERIES];
+            for (int q = 0; q < QUERIES; q++) {
+                long start = System.nanoTime();
+                expected[q] = dijkstra.calculateRoute(pairs[q][0], pairs[q][1], VehicleType.CAR);
+                dijkstraTime += System.nanoTime() - start;
+            }
+            double dijkstraMs = dijkstraTime / 1e6 / QUERIES;
+
+            for (AlternativeRouteMethod method : AlternativeRouteMethod.values()) {
+                AlternativeRoutesCalculator calculator = new AlternativeRoutesCalculator(map, objective, method);
+                for (int i = 0; i < 5; i++) {
+                    calculator.calculateRoutes(pairs[i][0], pairs[i][1], VehicleType.CAR, COUNT);
+                }
+                long time = 0;
+                int alternatives = 0;
+                double stretch = 0;
+                double sharing = 0;
+                for (int q = 0; q < QUERIES; q++) {
+                    long start = System.nanoTime();
+                    List<RouteCalculationResult> routes =
+                            calculator.calculateRoutes(pairs[q][0], pairs[q][1], VehicleType.CAR, COUNT);
+                    time += System.nanoTime() - start;
+
+                    verify(map.getGraph(), objective, routes, expected[q]);
+                    for (int i = 1; i < routes.size(); i++) {
+                        stretch += cost(objective, routes.get(i)) / cost(objective, routes.get(0));
+                        sharing = Math.max(sharing, sharedFraction(map.getGraph(), routes, i));
+                        alternatives++;
+                    }
+                }
+                double ms = time / 1e6 / QUERIES;
+                System.out.printf("%-9s %-22s %-14.2f %-14.2f %-10.2f %-14.2f %-12.3f %-10.2f%n", objective, method,
+                        ms, dijkstraMs, ms / dijkstraMs, alternatives / (double) QUERIES,
+                        alternatives == 0 ? 0 : stretch / alternatives, sharing);
+            }
+            System.out.println("─".repeat(112));
+        }
+        map.clearAll();
+    }
+
+    // İlk rota Dijkstra maliyetinde; döngüsüz, farklı, açık yollardan ve uzama sınırı içinde
+    private static void verify(IRoadGraph graph, RouteObjective objective, List<RouteCalculationResult> routes,
+                               RouteCalculationResult expected) {
+        if (expected.getPath().isEmpty()) {
+            RoadGraphGenerator.check(CHECK, routes.isEmpty(), "Dijkstra yol bulamadı ama rota var");
+            return;
+        }
+        RoadGraphGenerator.check(CHECK, !routes.isEmpty() && routes.size() <= COUNT,
+                "rota sayısı geçersiz: " + routes.size());
+        // FASTEST maliyeti ms'ye yuvarlanmış ağırlıklarla: segment başına 1 ms tolerans
+        double tolerance = objective == RouteObjective.FASTEST ? expected.getPath().size() / 60_000.0 : 1e-9;
+        double shortest = cost(objective, expected);
+        RoadGraphGenerator.check(CHECK, Math.abs(cost(objective, routes.get(0)) - shortest) <= tolerance,
+                "ilk rota en kısa değil");
+        Set<List<Node>> distinct = new HashSet<>();
+        for (RouteCalculationResult route : routes) {
+            List<Node> path = route.getPath();
+            RoadGraphGenerator.check(CHECK, distinct.add(path), "aynı rota iki kez");
+            RoadGraphGenerator.check(CHECK, new HashSet<>(path).size() == path.size(), "rota döngülü");
+            for (int i = 0; i + 1 < path.size(); i++) {
+                int slot = graph.findSlot(graph.idOf(path.get(i)), graph.idOf(path.get(i + 1)));
+                RoadGraphGenerator.check(CHECK, slot >= 0 && graph.isOpen(slot),
+                        "rota kapalı ya da olmayan yoldan geçiyor");
+            }
+            RoadGraphGenerator.check(CHECK,
+                    cost(objective, route) <= shortest * (1 + AlternativeRoutesCalculator.DEFAULT_MAX_STRETCH)
+                    + 2 * tolerance, "uzama sınırı aşıldı");
+        }
+        // Paylaşım mesafe ile ölçülür: sınır sadece SHORTEST için birebir geçerli
+        for (int i = 1; i < routes.size() && objective == RouteObjective.SHORTEST; i++) {
+            RoadGraphGenerator.check(CHECK,
+                    sharedFraction(graph, routes, i) <= AlternativeRoutesCalculator.DEFAULT_MAX_SHARING + 1e-9,
+                    "paylaşım sınırı aşıldı");
+        }
+    }
+
+    // i. rotanın önceki rotalarla en büyük ortak mesafesi / en kısa rotanın mesafesi
+    private static double sharedFraction(IRoadGraph graph, List<RouteCalculationResult> routes, int i) {
+        double max = 0;
+        List<Node> path = routes.get(i).getPath();
+        for (int j = 0; j < i; j++) {
+            Set<Integer> slots = new HashSet<>();
+            List<Node> other = routes.get(j).getPath();
+            for (int k = 0; k + 1 < other.size(); k++) {
+                slots.add(slot(graph, other.get(k), other.get(k + 1)));
+            }
+            double shared = 0;
+            for (int k = 0; k + 1 < path.size(); k++) {
+                int slot = slot(graph, path.get(k), path.get(k + 1));
+                if (slots.contains(slot)) {
+                    shared += graph.getDistance(slot);
+                }
+            }
+            max = Math.max(max, shared / routes.get(0).getTotalDistance());
+        }
+        return max;
+    }
+
+    private static int slot(IRoadGraph graph, Node from, Node to) {
+        return graph.findSlot(graph.idOf(from), graph.idOf(to));
+    }
+
+    private static double cost(RouteObjective objective, RouteCalculationResult route) {
+        return objective == RouteObjective.FASTEST ? route.getTotalDuration() : route.getTotalDistance();
+    }
+}
@@ -0,0 +1,187 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.facade.NavigationFacade;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.BatchReport;
+import com.navigation.project.backend.strategy.BatchRouteCalculator;
+import com.navigation.project.backend.strategy.BatchRouteResult;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+import com.navigation.project.backend.strategy.RouteRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * BatchRouteBenchmark - Toplu Rota Hesabı Benchmark'ı
+ *
+ * AMAÇ:
+ * BatchRouteCalculator'ın saniyedeki rota sayısını NavigationFacade.calculateRoute'u tek tek
+ * çağırmakla karşılaştırır; sonuçların DijkstraStrategy ile aynı olduğunu ve konsola hiçbir şey
+ * yazılmadığını kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.BatchRouteBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k şehirli ızgara harita; yolların %5'i kapalı
+ * - Gruplu iş: 100 başlangıç x 200 hedef (karışık sırada, karışık araç tipi); rastgele iş: 1000 çift
+ * - Tek tek: facade (konsol çıktısı atılarak) ve sessiz DijkstraStrategy, örneklem üzerinden rota/sn
+ * - Toplu: 1 iş parçacığı ve çekirdek sayısı kadar iş parçacığı, rota/sn ve arama sayısı
+ * - Kontrol: örneklenen sonuçlar DijkstraStrategy ile aynı (rota, mesafe, süre); stream() her
+ *   isteği bir kez ve calculate() ile aynı sonuçla verir; toplu hesap konsola yazmaz
+ */
+public class BatchRouteBenchmark {
+
+    private static final String CHECK = "Toplu rota";
+    private static final int SIDE = 316;
+    private static final int ORIGINS = 100;
+    private static final int TARGETS_PER_ORIGIN = 200;
+    private static final int RANDOM_PAIRS = 1000;
+    private static final int SAMPLE = 150;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+        Random random = new Random(7);
+        VehicleType[] vehicles = VehicleType.values();
+
+        List<RouteRequest> grouped = new ArrayList<>();
+        for (int o = 0; o < ORIGINS; o++) {
+            Node origin = nodes[random.nextInt(nodes.length)];
+            for (int t = 0; t < TARGETS_PER_ORIGIN; t++) {
+                grouped.add(new RouteRequest(origin, nodes[random.nextInt(nodes.length)],
+                        vehicles[random.nextInt(vehicles.length)]));
+            }
+        }
+        Collections.shuffle(grouped, random);
+        List<RouteRequest> pairs = new ArrayList<>();
+        for (int i = 0; i < RANDOM_PAIRS; i++) {
+            pairs.add(new RouteRequest(nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)],
+                    vehicles[random.nextInt(vehicles.length)]));
+        }
+
+        NavigationFacade facade = new NavigationFacade(map);
+        Set<Integer> threadCounts = new LinkedHashSet<>(Arrays.asList(1, Runtime.getRuntime().availableProcessors()));
+        System.out.println("Çekirdek sayısı: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("═".repeat(100));
+        System.out.printf("%-10s %-9s %-10s %-28s %-12s %-14s %-10s%n", "İş", "Amaç", "İstek", "Yöntem", "Arama",
+                "Rota / sn", "Kontrol");
+        System.out.println("═".repeat(100));
+        for (RouteObjective objective : RouteObjective.values()) {
+            DijkstraStrategy dijkstra = new DijkstraStrategy(map, objective, false);
+            for (Object[] job : new Object[][]{{"Gruplu", grouped}, {"Rastgele", pairs}}) {
+                String name = (String) job[0];
+                @SuppressWarnings("unchecked")
+                List<RouteRequest> requests = (List<RouteRequest>) job[1];
+                List<RouteRequest> sample = requests.subList(0, SAMPLE);
+
+                // Tek tek: facade (fiş konsola yazılır; burada atılır) sadece SHORTEST için
+                if (objective == RouteObjective.SHORTEST) {
+                    PrintStream console = System.out;
+                    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                    long start = System.nanoTime();
+                    try {
+                        for (RouteRequest request : sample) {
+                            facade.calculateRoute(request.getStart().getName(), request.getEnd().getName(),
+                                    request.getVehicle());
+                        }
+                    } finally {
+                        System.setOut(console);
+                    }
+                    print(name, objective, requests.size(), "Tek tek (facade, örneklem)", "-",
+                            SAMPLE / ((System.nanoTime() - start) / 1e9), "-");
+                }
+
+                // Tek tek: sessiz Dijkstra (örneklem); sonuçlar kontrol için saklanır
+                List<RouteCalculationResult> expected = new ArrayList<>(SAMPLE);
+                long start = System.nanoTime();
+                for (RouteRequest request : sample) {
+                    expected.add(dijkstra.calculateRoute(request.getStart(), request.getEnd(), request.getVehicle()));
+                }
+                print(name, objective, requests.size(), "Tek tek (Dijkstra, örneklem)", "-",
+                        SAMPLE / ((System.nanoTime() - start) / 1e9), "-");
+
+                BatchRouteResult reference = null;
+                for (int threads : threadCounts) {
+                    BatchRouteCalculator calculator = new BatchRouteCalculator(map, objective, threads);
+                    PrintStream console = System.out;
+                    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+                    System.setOut(new PrintStream(captured));
+                    BatchRouteResult batch;
+                    try {
+                        batch = calculator.calculate(requests);
+                    } finally {
+                        System.setOut(console);
+                    }
+                    RoadGraphGenerator.check(CHECK, captured.size() == 0, "toplu hesap konsola yazdı");
+                    for (int i = 0; i < SAMPLE; i++) {
+                        same(expected.get(i), batch.getResult(i));
+                    }
+                    if (reference == null) {
+                        reference = batch;
+                    } else {
+                        for (int i = 0; i < requests.size(); i++) {
+                            same(reference.getResult(i), batch.getResult(i));
+                        }
+                    }
+                    BatchReport report = batch.getReport();
+                    RoadGraphGenerator.check(CHECK, report.getRequestCount() == requests.size(), "istek sayısı yanlış");
+                    print(name, objective, requests.size(), "Toplu, " + threads + " iş parçacığı",
+                            String.valueOf(report.getSearchCount()), report.getRoutesPerSecond(), "OK");
+                }
+
+                // Akış: her istek bir kez, calculate() ile aynı sonuç
+                BatchRouteResult inOrder = reference;
+                boolean[] seen = new boolean[requests.size()];
+                BatchReport report = new BatchRouteCalculator(map, objective,
+                        Runtime.getRuntime().availableProcessors()).stream(requests.stream(),
+                        (index, request, result) -> {
+                            RoadGraphGenerator.check(CHECK, !seen[index] && request == requests.get(index),
+                                    "akışta istek tekrarlandı");
+                            seen[index] = true;
+                            same(inOrder.getResult(index), result);
+                        });
+                for (boolean delivered : seen) {
+                    RoadGraphGenerator.check(CHECK, delivered, "akışta eksik sonuç");
+                }
+                print(name, objective, requests.size(), "Akış (stream)", String.valueOf(report.getSearchCount()),
+                        report.getRoutesPerSecond(), "OK");
+            }
+            System.out.println("─".repeat(100));
+        }
+        map.clearAll();
+    }
+
+    private static void same(RouteCalculationResult expected, RouteCalculationResult actual) {
+        RoadGraphGenerator.check(CHECK, expected.getPath().equals(actual.getPath()), "rota farklı");
+        RoadGraphGenerator.check(CHECK, expected.getTotalDistance() == actual.getTotalDistance(), "mesafe farklı");
+        RoadGraphGenerator.check(CHECK, expected.getTotalDuration() == actual.getTotalDuration(), "süre farklı");
+    }
+
+    private static void print(String job, RouteObjective objective, int requests, String method, String searches,
+                              double rate, String status) {
+        System.out.printf("%-10s %-9s %-10d %-28s %-12s %-14.0f %-10s%n", job, objective, requests, method, searches,
+                rate, status);
+    }
+}
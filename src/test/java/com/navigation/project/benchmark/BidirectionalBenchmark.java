@@ -0,0 +1,130 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.BidirectionalDijkstraStrategy;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BidirectionalBenchmark - Çift Yönlü Dijkstra Benchmark'ı
+ *
+ * AMAÇ:
+ * BidirectionalDijkstraStrategy ile DijkstraStrategy'yi aynı sorgularda gezilen şehir sayısı
+ * ve sorgu süresi açısından karşılaştırır, sonuçların birebir aynı olduğunu kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx2g -cp target/classes:target/test-classes com.navigation.project.benchmark.BidirectionalBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M yollu ızgara haritalar; yolların %5'i kapalı ya da tadilatta (OPEN kuralı kontrolü)
+ * - Rastgele çiftler, köşeden köşeye uzun sorgular ve merkezde, kenarlara değmeyen sorgular
+ *   (arama daireleri harita kenarında kesilmediği için kazanç en çok burada görülür)
+ * - Mesafeler birebir aynı olmalı, rota sadece açık yollardan geçmelidir
+ */
+public class BidirectionalBenchmark {
+
+    private static final String CHECK = "Çift yönlü";
+    private static final int[] EDGE_COUNTS = {100_000, 1_000_000};
+    private static final int RANDOM_QUERIES = 20;
+    private static final int LONG_QUERIES = 5;
+    private static final int CENTER_QUERIES = 20;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+        BidirectionalDijkstraStrategy bidirectional = new BidirectionalDijkstraStrategy(map, false);
+
+        System.out.println("═".repeat(88));
+        System.out.printf("%-9s %-10s %-14s %-14s %-14s %-14s %-10s%n",
+                "Yol", "Sorgu", "Dijkstra (ms)", "Çift yön (ms)", "Dijkstra şehir", "Çift yön şehir", "Oran");
+        System.out.println("═".repeat(88));
+
+        for (int edgeCount : EDGE_COUNTS) {
+            int side = RoadGraphGenerator.sideForEdges(edgeCount);
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            closeRandomRoads(map, 0.05, new Random(3));
+
+            Random random = new Random(7);
+            Node[][] randomPairs = new Node[RANDOM_QUERIES][];
+            for (int i = 0; i < RANDOM_QUERIES; i++) {
+                randomPairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+            }
+            Node[][] longPairs = new Node[LONG_QUERIES][];
+            for (int i = 0; i < LONG_QUERIES; i++) {
+                longPairs[i] = new Node[]{nodes[i], nodes[nodes.length - 1 - i]};
+            }
+
+            // Merkez: kaynak ve hedef arasında side/4 satır ve sütun, ikisi de merkez bölgede
+            Node[][] centerPairs = new Node[CENTER_QUERIES][];
+            int quarter = side / 4;
+            for (int i = 0; i < CENTER_QUERIES; i++) {
+                int row = side / 2 - quarter / 2 + random.nextInt(3) - 1;
+                int col = side / 2 - quarter / 2 + random.nextInt(3) - 1;
+                centerPairs[i] = new Node[]{nodes[row * side + col], nodes[(row + quarter) * side + col + quarter]};
+            }
+
+            // Isınma
+            dijkstra.calculateRoute(randomPairs[0][0], randomPairs[0][1], VehicleType.CAR);
+            bidirectional.calculateRoute(randomPairs[0][0], randomPairs[0][1], VehicleType.CAR);
+
+            run(map, edgeCount, "rastgele", randomPairs, dijkstra, bidirectional);
+            run(map, edgeCount, "uzun", longPairs, dijkstra, bidirectional);
+            run(map, edgeCount, "merkez", centerPairs, dijkstra, bidirectional);
+        }
+        System.out.println("═".repeat(88));
+        map.clearAll();
+    }
+
+    private static void run(CityMap map, int edgeCount, String label, Node[][] pairs,
+                            DijkstraStrategy dijkstra, BidirectionalDijkstraStrategy bidirectional) {
+        long dijkstraTime = 0, bidirectionalTime = 0;
+        long dijkstraSettled = 0, bidirectionalSettled = 0;
+        for (Node[] pair : pairs) {
+            long start = System.nanoTime();
+            RouteCalculationResult expected = dijkstra.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+            dijkstraTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            RouteCalculationResult result = bidirectional.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+            bidirectionalTime += System.nanoTime() - start;
+
+            RoadGraphGenerator.check(CHECK, result.getTotalDistance() == expected.getTotalDistance()
+                            && result.getPath().isEmpty() == expected.getPath().isEmpty(),
+                    "Sonuç uyuşmuyor: " + expected.getTotalDistance() + " != " + result.getTotalDistance());
+            requireOpenPath(map, result.getPath());
+            dijkstraSettled += expected.getSettledNodes();
+            bidirectionalSettled += result.getSettledNodes();
+        }
+        System.out.printf("%-9d %-10s %-14.2f %-14.2f %-14d %-14d %s%n",
+                edgeCount, label, dijkstraTime / 1e6 / pairs.length, bidirectionalTime / 1e6 / pairs.length,
+                dijkstraSettled / pairs.length, bidirectionalSettled / pairs.length,
+                String.format("%%%.1f", 100.0 * bidirectionalSettled / dijkstraSettled));
+    }
+
+    // Yolların bir kısmını kapatır ya da tadilata alır
+    private static void closeRandomRoads(CityMap map, double ratio, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < ratio) {
+                edge.setStatus(random.nextBoolean() ? EdgeStatus.CLOSED : EdgeStatus.UNDER_CONSTRUCTION);
+            }
+        }
+    }
+
+    private static void requireOpenPath(CityMap map, List<Node> path) {
+        for (int i = 0; i + 1 < path.size(); i++) {
+            Edge edge = map.findEdge(path.get(i).getName(), path.get(i + 1).getName());
+            if (edge == null || edge.getStatus() != EdgeStatus.OPEN) {
+                RoadGraphGenerator.fail(CHECK, "Rota açık olmayan yoldan geçiyor: " + path.get(i) + " → "
+                        + path.get(i + 1));
+            }
+        }
+    }
+}
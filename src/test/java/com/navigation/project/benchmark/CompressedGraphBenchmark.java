@@ -0,0 +1,139 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.CompressedGraph;
+import com.navigation.project.backend.data.GraphSnapshot;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.Random;
+
+/**
+ * CompressedGraphBenchmark - Sıkıştırılmış Komşuluk Benchmark'ı
+ *
+ * AMAÇ:
+ * Düz (int/short/byte dizili) GraphSnapshot ile varint/sözlük kodlu CompressedGraph'ı
+ * aynı DijkstraStrategy sorgularında bellek ve sorgu süresi açısından karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xms4g -Xmx4g -XX:+UseParallelGC -cp target/classes:target/test-classes com.navigation.project.benchmark.CompressedGraphBenchmark
+ * (ParallelGC, System.gc() sonrası kullanılan heap'i G1'e göre daha kesin raporlar)
+ *
+ * ÖLÇÜM:
+ * - 100k, 1M ve 4M yollu ızgara haritalar, köşeden köşeye sorgular
+ * - Dizi (MB): komşuluk + öznitelik dizilerinin boyutu (şehirler ve isim araması hariç)
+ * - Heap (MB): GC sonrası haritanın heap'te kapladığı toplam yer (şehirler dahil)
+ * - Kayıpsız (1 m, 1 km/h) sonuçlar düz görüntü ile birebir aynı olmalıdır
+ * - Kayıplı (250 m, 10 km/h) için rota mesafelerindeki en büyük sapma raporlanır
+ */
+public class CompressedGraphBenchmark {
+
+    private static final String CHECK = "Sıkıştırılmış graf";
+    private static final int[] EDGE_COUNTS = {100_000, 1_000_000, 4_000_000};
+    private static final int QUERIES = 10;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy strategy = new DijkstraStrategy(map, false);
+        long baseline = usedHeap();
+
+        System.out.println("═".repeat(105));
+        System.out.printf("%-9s %-13s %-13s %-12s %-12s %-14s %-14s %-14s%n",
+                "Yol", "Düz dizi (MB)", "Sıkış. (MB)", "Düz heap", "Sıkış. heap",
+                "Düz sorgu", "Sıkış. sorgu", "Kayıplı sapma");
+        System.out.println("═".repeat(105));
+
+        for (int edgeCount : EDGE_COUNTS) {
+            int side = RoadGraphGenerator.sideForEdges(edgeCount);
+            String[][] pairs = buildMap(map, side);
+
+            // Düz görüntü
+            GraphSnapshot snapshot = map.snapshot();
+            long flatArrays = flatBytes(snapshot);
+            snapshot = null;
+            long flatHeap = usedHeap() - baseline;
+            double[] expected = new double[QUERIES];
+            long flatTime = runQueries(map, strategy, pairs, expected, 0);
+
+            // Kayıpsız sıkıştırma: heap'teki tablo ve CSR bırakılır
+            CompressedGraph compressed = map.compress(1, 1);
+            long compressedArrays = compressed.getEncodedBytes();
+            compressed = null;
+            long compressedHeap = usedHeap() - baseline;
+            long compressedTime = runQueries(map, strategy, pairs, expected, -1);
+
+            // Kayıplı sıkıştırma (mesafe 250 m, hız 10 km/h adım)
+            map.detachStore();
+            buildMap(map, side);
+            map.compress(250, 10);
+            double[] deviation = new double[1];
+            runQueries(map, strategy, pairs, expected, 1, deviation);
+
+            System.out.printf("%-9d %-13.1f %-13.1f %-12.1f %-12.1f %-14.2f %-14.2f %s%n",
+                    edgeCount, flatArrays / 1e6, compressedArrays / 1e6,
+                    flatHeap / 1e6, compressedHeap / 1e6,
+                    flatTime / 1e6 / QUERIES, compressedTime / 1e6 / QUERIES,
+                    String.format("%%%.3f", deviation[0] * 100));
+
+            map.detachStore();
+            map.clearAll();
+        }
+        System.out.println("═".repeat(105));
+        System.out.println("Heap (MB) ve sorgu (ms / sorgu). Kayıpsız sıkıştırmanın tüm sonuçları düz görüntü ile aynı.");
+    }
+
+    private static String[][] buildMap(CityMap map, int side) {
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+        Random random = new Random(7);
+        String[][] pairs = new String[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            int from = random.nextInt(side);
+            int to = (side - 1) * side + random.nextInt(side);
+            pairs[i] = new String[]{nodes[from].getName(), nodes[to].getName()};
+        }
+        return pairs;
+    }
+
+    // GraphSnapshot'ın komşuluk + öznitelik dizileri: offsetler (2 x V+1 int),
+    // slot başına hedef, satır, giriş kaynağı, giriş slotu, mesafe (int), hız (short), durum (byte)
+    private static long flatBytes(GraphSnapshot snapshot) {
+        long nodes = snapshot.getNodeCount() + 1L;
+        long edges = snapshot.getEdgeCount();
+        return 2 * 4 * nodes + edges * (4 + 4 + 4 + 4 + 4 + 2 + 1);
+    }
+
+    private static long runQueries(CityMap map, DijkstraStrategy strategy, String[][] pairs, double[] expected,
+                                   int mode) {
+        return runQueries(map, strategy, pairs, expected, mode, null);
+    }
+
+    // mode 0: sonuçları kaydet, -1: birebir karşılaştır, 1: en büyük göreli sapmayı deviation[0]'a yaz
+    private static long runQueries(CityMap map, DijkstraStrategy strategy, String[][] pairs, double[] expected,
+                                   int mode, double[] deviation) {
+        strategy.calculateRoute(map.findNode(pairs[0][0]), map.findNode(pairs[0][1]), VehicleType.CAR);
+        long start = System.nanoTime();
+        for (int i = 0; i < pairs.length; i++) {
+            RouteCalculationResult result = strategy.calculateRoute(map.findNode(pairs[i][0]),
+                    map.findNode(pairs[i][1]), VehicleType.CAR);
+            if (mode == 0) {
+                expected[i] = result.getTotalDistance();
+            } else if (mode < 0 && result.getTotalDistance() != expected[i]) {
+                RoadGraphGenerator.fail(CHECK, "Sonuç uyuşmuyor: " + expected[i] + " != " + result.getTotalDistance());
+            } else if (mode > 0) {
+                deviation[0] = Math.max(deviation[0], Math.abs(result.getTotalDistance() - expected[i]) / expected[i]);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,171 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.ContractionHierarchy;
+import com.navigation.project.backend.strategy.ContractionHierarchyStrategy;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ContractionHierarchyBenchmark - Kısayol Hiyerarşisi Benchmark'ı
+ *
+ * AMAÇ:
+ * ContractionHierarchyStrategy'nin ön işleme süresini, kısayol sayısını ve sorgu süresini ölçer;
+ * sonuçları DijkstraStrategy ile karşılaştırır, harita değişince Dijkstra'ya düşmeyi ve
+ * hiyerarşinin yenilenmesini kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.ContractionHierarchyBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M şehirli ızgara haritalar; yolların %5'i kapalı ya da tadilatta
+ * - Sorgu: rastgele çiftler, ortalama süre (µs) ve kesinleşen şehir sayısı
+ * - Kontrol: mesafeler Dijkstra ile birebir aynı, rota sadece açık yollardan geçer
+ * - Hız limiti değişikliği: hiyerarşi yeniden kurulmadan yeni görüntüye bağlanır
+ * - Yol kapatma: sorgu Dijkstra'ya düşer, arka planda kurulan hiyerarşi kapalı yolu kullanmaz
+ *   (bu iki kontrol sadece 100k şehirli haritada yapılır)
+ */
+public class ContractionHierarchyBenchmark {
+
+    private static final String CHECK = "CH";
+    private static final int[] NODE_COUNTS = {100_000, 1_000_000};
+    private static final int QUERIES = 1000;
+    private static final int VERIFIED_QUERIES = 20;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+        ContractionHierarchyStrategy strategy = new ContractionHierarchyStrategy(map, false, true);
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-12s %-12s %-14s %-14s %-14s %-12s %-10s%n",
+                "Şehir", "Kurulum (s)", "Kısayol", "CH sorgu (µs)", "Dijkstra (ms)", "CH şehir", "Dijk. şehir", "Kontrol");
+        System.out.println("═".repeat(100));
+
+        for (int nodeCount : NODE_COUNTS) {
+            int side = (int) Math.round(Math.sqrt(nodeCount));
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            closeRandomRoads(map, 0.05, new Random(3));
+
+            long start = System.nanoTime();
+            ContractionHierarchy hierarchy = strategy.prepare();
+            double buildSeconds = (System.nanoTime() - start) / 1e9;
+
+            Random random = new Random(7);
+            Node[][] pairs = new Node[QUERIES][];
+            for (int i = 0; i < QUERIES; i++) {
+                pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+            }
+
+            // Isınma
+            for (Node[] pair : pairs) {
+                strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+            }
+            long chTime = 0, chSettled = 0;
+            for (Node[] pair : pairs) {
+                start = System.nanoTime();
+                RouteCalculationResult result = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+                chTime += System.nanoTime() - start;
+                chSettled += result.getSettledNodes();
+            }
+
+            long dijkstraTime = 0, dijkstraSettled = 0;
+            for (int i = 0; i < VERIFIED_QUERIES; i++) {
+                start = System.nanoTime();
+                RouteCalculationResult expected = dijkstra.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+                dijkstraTime += System.nanoTime() - start;
+                dijkstraSettled += expected.getSettledNodes();
+                verify(map, strategy, pairs[i], expected);
+            }
+
+            System.out.printf("%-9d %-12.1f %-12d %-14.1f %-14.1f %-14d %-12d %-10s%n",
+                    nodeCount, buildSeconds, hierarchy.getShortcutCount(), chTime / 1e3 / QUERIES,
+                    dijkstraTime / 1e6 / VERIFIED_QUERIES, chSettled / QUERIES, dijkstraSettled / VERIFIED_QUERIES,
+                    "aynı");
+
+            // Güncelleme kontrolü küçük haritada (1M şehirde yeniden kurulum dakikalar sürer)
+            if (nodeCount == NODE_COUNTS[0]) {
+                checkUpdates(map, strategy, dijkstra, pairs);
+            }
+            System.out.println("─".repeat(100));
+        }
+        map.clearAll();
+    }
+
+    /**
+     * Hız limiti değişince hiyerarşi yeniden bağlanır; yol kapanınca sorgu Dijkstra'ya düşer
+     * ve yeni kurulan hiyerarşi kapalı yolu kullanmaz
+     */
+    private static void checkUpdates(CityMap map, ContractionHierarchyStrategy strategy,
+                                     DijkstraStrategy dijkstra, Node[][] pairs) {
+        Node[] pair = pairs[0];
+        List<Node> path = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR).getPath();
+        Edge edge = map.findEdge(path.get(0).getName(), path.get(1).getName());
+
+        // Hız limiti: mesafe metriği aynı, yeniden kurulum yok
+        edge.setSpeedLimit(edge.getSpeedLimit() + 10);
+        ContractionHierarchy before = strategy.getHierarchy();
+        RoadGraphGenerator.check(CHECK, !strategy.isReady(), "Hız limiti değişikliği hiyerarşiyi eskitmedi");
+        long start = System.nanoTime();
+        ContractionHierarchy rebound = strategy.refreshAsync().join();
+        double reboundMillis = (System.nanoTime() - start) / 1e6;
+        RoadGraphGenerator.check(CHECK, rebound.getShortcutCount() == before.getShortcutCount() && strategy.isReady(),
+                "Hiyerarşi yeniden bağlanmadı");
+        verify(map, strategy, pair, dijkstra.calculateRoute(pair[0], pair[1], VehicleType.CAR));
+
+        // Yol kapatma: eski hiyerarşi kullanılmaz
+        edge.setStatus(EdgeStatus.CLOSED);
+        RouteCalculationResult fallback = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+        RouteCalculationResult expected = dijkstra.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+        RoadGraphGenerator.check(CHECK, fallback.getTotalDistance() == expected.getTotalDistance(),
+                "Yol kapatıldıktan sonra sonuç uyuşmuyor");
+        start = System.nanoTime();
+        strategy.refreshAsync().join();
+        double rebuildSeconds = (System.nanoTime() - start) / 1e9;
+        RoadGraphGenerator.check(CHECK, strategy.isReady(), "Hiyerarşi yeniden kurulmadı");
+        verify(map, strategy, pair, expected);
+
+        System.out.printf("  Hız limiti: yeniden bağlama %.1f ms | Yol kapatma: Dijkstra'ya düştü, yeniden kurulum %.1f s%n",
+                reboundMillis, rebuildSeconds);
+    }
+
+    private static void verify(CityMap map, ContractionHierarchyStrategy strategy, Node[] pair,
+                               RouteCalculationResult expected) {
+        RouteCalculationResult result = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+        RoadGraphGenerator.check(CHECK, result.getTotalDistance() == expected.getTotalDistance()
+                        && result.getPath().isEmpty() == expected.getPath().isEmpty(),
+                "Sonuç uyuşmuyor: " + expected.getTotalDistance() + " != " + result.getTotalDistance());
+        // Eşit uzunlukta farklı rotalar olabilir; süre sadece rota aynıysa karşılaştırılır
+        RoadGraphGenerator.check(CHECK, !result.getPath().equals(expected.getPath())
+                        || Math.abs(result.getTotalDuration() - expected.getTotalDuration()) <= 1e-6,
+                "Süre uyuşmuyor: " + expected.getTotalDuration() + " != " + result.getTotalDuration());
+        requireOpenPath(map, result.getPath());
+    }
+
+    // Yolların bir kısmını kapatır ya da tadilata alır
+    private static void closeRandomRoads(CityMap map, double ratio, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < ratio) {
+                edge.setStatus(random.nextBoolean() ? EdgeStatus.CLOSED : EdgeStatus.UNDER_CONSTRUCTION);
+            }
+        }
+    }
+
+    private static void requireOpenPath(CityMap map, List<Node> path) {
+        for (int i = 0; i + 1 < path.size(); i++) {
+            Edge edge = map.findEdge(path.get(i).getName(), path.get(i + 1).getName());
+            if (edge == null || edge.getStatus() != EdgeStatus.OPEN) {
+                RoadGraphGenerator.fail(CHECK, "Rota açık olmayan yoldan geçiyor: " + path.get(i) + " → "
+                        + path.get(i + 1));
+            }
+        }
+    }
+}
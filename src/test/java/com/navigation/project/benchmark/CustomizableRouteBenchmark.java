@@ -0,0 +1,251 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.CustomizableRouteStrategy;
+import com.navigation.project.backend.strategy.CustomizedOverlay;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.EdgeMetric;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * CustomizableRouteBenchmark - CRP (Özelleştirilebilir Rota Planlama) Benchmark'ı
+ *
+ * AMAÇ:
+ * CustomizableRouteStrategy'nin bölümleme, tam özelleştirme, sorgu ve - asıl önemlisi -
+ * hız limiti değişikliği / yol kapatma sonrası yeniden özelleştirme sürelerini ölçer.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.CustomizableRouteBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M şehirli ızgara haritalar; yolların %5'i kapalı
+ * - Hazırlık: bölümleme + tam özelleştirme; Özelleştirme: aynı bölümlemeyle sadece tam özelleştirme
+ * - Sorgu: rastgele çiftler, ortalama süre (ms) ve kesinleşen şehir sayısı; DijkstraStrategy ile
+ * - Güncelleme: tek yolun hız limiti değişir ya da yol kapanır/açılır, customize() süresi
+ *   (ortalama, medyan, en kötü) ve yeniden hesaplanan hücre sayısı
+ * - Kontrol: DISTANCE mesafeleri Dijkstra ile, TRAVEL_TIME maliyetleri basit bir referans
+ *   Dijkstra ile birebir aynı olmalı (güncellemelerden sonra da)
+ */
+public class CustomizableRouteBenchmark {
+
+    private static final String CHECK = "CRP";
+    private static final int[] NODE_COUNTS = {100_000, 1_000_000};
+    private static final int QUERIES = 100;
+    private static final int REFERENCE_QUERIES = 10;
+    private static final int UPDATES = 60;
+    private static final int WARMUP_UPDATES = 10;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-12s %-8s %-13s %-12s %-12s %-14s %-12s %-12s%n",
+                "Şehir", "Metrik", "Seviye", "Hazırlık (s)", "Özelleş. (s)", "CRP (ms)", "Dijkstra (ms)", "CRP şehir", "Dijk. şehir");
+        System.out.println("═".repeat(100));
+
+        for (int nodeCount : NODE_COUNTS) {
+            int side = (int) Math.round(Math.sqrt(nodeCount));
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            closeRandomRoads(map, 0.05, new Random(3));
+
+            Random random = new Random(7);
+            Node[][] pairs = new Node[QUERIES][];
+            for (int i = 0; i < QUERIES; i++) {
+                pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+            }
+
+            // Referans: Dijkstra (mesafe)
+            RouteCalculationResult[] expected = new RouteCalculationResult[QUERIES];
+            long dijkstraTime = 0, dijkstraSettled = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long start = System.nanoTime();
+                expected[i] = dijkstra.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+                dijkstraTime += System.nanoTime() - start;
+                dijkstraSettled += expected[i].getSettledNodes();
+            }
+
+            CustomizableRouteStrategy travelTime = null;
+            for (EdgeMetric metric : new EdgeMetric[]{EdgeMetric.DISTANCE, EdgeMetric.TRAVEL_TIME}) {
+                CustomizableRouteStrategy strategy = new CustomizableRouteStrategy(map, metric, false);
+                long start = System.nanoTime();
+                CustomizedOverlay overlay = strategy.prepare();
+                double prepareSeconds = (System.nanoTime() - start) / 1e9;
+                start = System.nanoTime();
+                CustomizedOverlay.customize(overlay.getPartition(), overlay.getGraph(), metric,
+                        Runtime.getRuntime().availableProcessors());
+                double customizeSeconds = (System.nanoTime() - start) / 1e9;
+
+                // Isınma
+                for (Node[] pair : pairs) {
+                    strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+                }
+                long crpTime = 0, crpSettled = 0;
+                for (int i = 0; i < QUERIES; i++) {
+                    start = System.nanoTime();
+                    RouteCalculationResult result = strategy.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+                    crpTime += System.nanoTime() - start;
+                    crpSettled += result.getSettledNodes();
+                    if (metric == EdgeMetric.DISTANCE) {
+                        verifyDistance(map, result, expected[i]);
+                    } else {
+                        requireOpenPath(map, result.getPath());
+                    }
+                }
+
+                System.out.printf("%-9d %-12s %-8d %-13.1f %-12.1f %-12.2f %-14.1f %-12d %-12d%n",
+                        nodeCount, metric, overlay.getPartition().getLevelCount(),
+                        prepareSeconds, customizeSeconds,
+                        crpTime / 1e6 / QUERIES, dijkstraTime / 1e6 / QUERIES,
+                        crpSettled / QUERIES, dijkstraSettled / QUERIES);
+                if (metric == EdgeMetric.TRAVEL_TIME) {
+                    verifyCosts(strategy, pairs);
+                    travelTime = strategy;
+                }
+            }
+
+            System.out.printf("  Katman: %d hücre (en alt seviye), %,d klik girdisi%n",
+                    travelTime.getOverlay().getPartition().getCellCount(1), travelTime.getOverlay().getCliqueEntries());
+            measureUpdates(map, travelTime, pairs);
+            System.out.println("─".repeat(100));
+        }
+        map.clearAll();
+    }
+
+    /**
+     * Tek tek hız limiti değişikliği ve yol kapatma/açma; her birinden sonra customize() ölçülür
+     */
+    private static void measureUpdates(CityMap map, CustomizableRouteStrategy strategy, Node[][] pairs) {
+        List<Edge> edges = map.getEdges();
+        Random random = new Random(19);
+        double[] speedTimes = new double[UPDATES];
+        double[] closureTimes = new double[UPDATES];
+        long speedCells = 0, closureCells = 0;
+
+        for (int i = 0; i < WARMUP_UPDATES + UPDATES; i++) {
+            Edge edge = edges.get(random.nextInt(edges.size()));
+            edge.setSpeedLimit(30 + random.nextInt(100));
+            long start = System.nanoTime();
+            CustomizedOverlay overlay = strategy.customize();
+            if (i >= WARMUP_UPDATES) {
+                speedTimes[i - WARMUP_UPDATES] = (System.nanoTime() - start) / 1e6;
+                speedCells += overlay.getCustomizedCells();
+            }
+
+            edge = edges.get(random.nextInt(edges.size()));
+            edge.setStatus(edge.getStatus() == EdgeStatus.OPEN ? EdgeStatus.CLOSED : EdgeStatus.OPEN);
+            start = System.nanoTime();
+            overlay = strategy.customize();
+            if (i >= WARMUP_UPDATES) {
+                closureTimes[i - WARMUP_UPDATES] = (System.nanoTime() - start) / 1e6;
+                closureCells += overlay.getCustomizedCells();
+            }
+        }
+        RoadGraphGenerator.check(CHECK, strategy.isReady(), "Katman güncel görüntüye getirilemedi");
+        printUpdates("Hız limiti", speedTimes, speedCells);
+        printUpdates("Yol kapatma", closureTimes, closureCells);
+        verifyCosts(strategy, pairs);
+        System.out.println("  Güncellemelerden sonra maliyetler referans Dijkstra ile aynı");
+    }
+
+    private static void printUpdates(String label, double[] times, long cells) {
+        double[] sorted = times.clone();
+        Arrays.sort(sorted);
+        double total = 0;
+        for (double time : sorted) {
+            total += time;
+        }
+        System.out.printf("  %-12s güncelleme: ort %.2f ms, medyan %.2f ms, en kötü %.2f ms | ort %.1f hücre%n",
+                label, total / sorted.length, sorted[sorted.length / 2], sorted[sorted.length - 1],
+                (double) cells / sorted.length);
+    }
+
+    // Katman maliyetleri, metrik ağırlıklarıyla çalışan basit Dijkstra ile aynı olmalı
+    private static void verifyCosts(CustomizableRouteStrategy strategy, Node[][] pairs) {
+        CustomizedOverlay overlay = strategy.customize();
+        IRoadGraph graph = overlay.getGraph();
+        for (int i = 0; i < REFERENCE_QUERIES; i++) {
+            int source = graph.idOf(pairs[i][0]);
+            int target = graph.idOf(pairs[i][1]);
+            CustomizedOverlay.Route route = overlay.query(source, target);
+            long expected = referenceCost(graph, strategy.getMetric(), source, target);
+            long actual = route.isFound() ? route.getCost() : -1;
+            RoadGraphGenerator.check(CHECK, actual == expected, "Maliyet uyuşmuyor: " + expected + " != " + actual);
+            long sum = 0;
+            for (int slot : route.getSlots()) {
+                sum += strategy.getMetric().weight(graph, slot);
+            }
+            RoadGraphGenerator.check(CHECK, !route.isFound() || sum == actual,
+                    "Rota maliyeti tutarsız: " + sum + " != " + actual);
+        }
+    }
+
+    // Ulaşılamıyorsa -1
+    private static long referenceCost(IRoadGraph graph, EdgeMetric metric, int source, int target) {
+        long[] distances = new long[graph.getNodeCount()];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        distances[source] = 0;
+        queue.add(new long[]{0, source});
+        while (!queue.isEmpty()) {
+            long[] entry = queue.poll();
+            int node = (int) entry[1];
+            if (entry[0] > distances[node]) {
+                continue;
+            }
+            if (node == target) {
+                return entry[0];
+            }
+            for (int slot = graph.outBegin(node); slot < graph.outEnd(node); slot++) {
+                int weight = metric.weight(graph, slot);
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                int neighbour = graph.getTarget(slot);
+                long candidate = entry[0] + weight;
+                if (candidate < distances[neighbour]) {
+                    distances[neighbour] = candidate;
+                    queue.add(new long[]{candidate, neighbour});
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static void verifyDistance(CityMap map, RouteCalculationResult result, RouteCalculationResult expected) {
+        RoadGraphGenerator.check(CHECK, result.getTotalDistance() == expected.getTotalDistance()
+                        && result.getPath().isEmpty() == expected.getPath().isEmpty(),
+                "Sonuç uyuşmuyor: " + expected.getTotalDistance() + " != " + result.getTotalDistance());
+        requireOpenPath(map, result.getPath());
+    }
+
+    // Yolların bir kısmını kapatır
+    private static void closeRandomRoads(CityMap map, double ratio, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < ratio) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+    }
+
+    private static void requireOpenPath(CityMap map, List<Node> path) {
+        for (int i = 0; i + 1 < path.size(); i++) {
+            Edge edge = map.findEdge(path.get(i).getName(), path.get(i + 1).getName());
+            if (edge == null || edge.getStatus() != EdgeStatus.OPEN) {
+                RoadGraphGenerator.fail(CHECK, "Rota açık olmayan yoldan geçiyor: " + path.get(i) + " → "
+                        + path.get(i + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DeltaSteppingCalculator;
+import com.navigation.project.backend.strategy.IsochroneCalculator;
+import com.navigation.project.backend.strategy.RouteObjective;
+import com.navigation.project.backend.strategy.ShortestPathTree;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * DeltaSteppingBenchmark - Paralel Tek Kaynaklı En Kısa Yollar Benchmark'ı
+ *
+ * AMAÇ:
+ * DeltaSteppingCalculator'ın tüm haritaya en kısa yol ağacı süresini iş parçacığı sayısına göre
+ * ölçer ve sırayla çalışan Dijkstra (sınırsız IsochroneCalculator) ile karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.DeltaSteppingBenchmark
+ *
+ * ÖLÇÜM:
+ * - 1M şehirli ızgara harita; yolların %5'i kapalı; rastgele kaynaklar
+ * - SHORTEST ve FASTEST (CAR): Dijkstra (ms), delta-stepping 1 / 2 / 4 / çekirdek sayısı iş parçacığı (ms)
+ * - Otomatik delta'nın farklı katlarında 1 iş parçacığı süresi (delta seçimi için)
+ * - Kontrol: tüm şehirlerde maliyet Dijkstra ile birebir aynı; sonuç iş parçacığı sayısından
+ *   bağımsız; öncüller maliyeti tutan açık yollar ve rotalar kaynağa ulaşıyor
+ *
+ * NOT:
+ * Ölçeklenme çekirdek sayısıyla sınırlıdır; tek çekirdekli makinede iş parçacığı sayısı arttıkça
+ * süre düşmez (sadece ek yük görünür).
+ */
+public class DeltaSteppingBenchmark {
+
+    private static final String CHECK = "Delta-stepping";
+    private static final int SIDE = 1000;
+    private static final int SOURCES = 2;
+    private static final double UNBOUNDED = 1e9;
+    private static final double[] DELTA_FACTORS = {0.5, 1, 2, 4, 8};
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+        IRoadGraph graph = map.getGraph();
+        IsochroneCalculator dijkstra = new IsochroneCalculator(map);
+        Random random = new Random(7);
+
+        Set<Integer> threadCounts = new LinkedHashSet<>(Arrays.asList(1, 2, 4,
+                Runtime.getRuntime().availableProcessors()));
+        System.out.println("Çekirdek sayısı: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-12s %-14s %-12s %-30s%n", "Amaç", "Ulaşılan", "Dijkstra (ms)", "İş parç.",
+                "Delta-stepping (ms)");
+        System.out.println("═".repeat(100));
+
+        for (RouteObjective objective : RouteObjective.values()) {
+            double unit = objective == RouteObjective.FASTEST ? 60_000.0 : 1000.0;
+            for (int s = 0; s < SOURCES; s++) {
+                Node source = nodes[random.nextInt(nodes.length)];
+
+                // Sırayla Dijkstra (ısınma + ölçüm)
+                long[] expected = new long[graph.getNodeCount()];
+                dijkstra.stream(source, VehicleType.CAR, objective, new double[]{UNBOUNDED}, (node, cost, b) -> { });
+                Arrays.fill(expected, Long.MAX_VALUE);
+                long start = System.nanoTime();
+                dijkstra.stream(source, VehicleType.CAR, objective, new double[]{UNBOUNDED},
+                        (node, cost, b) -> expected[graph.idOf(node)] = Math.round(cost * unit));
+                double dijkstraMs = (System.nanoTime() - start) / 1e6;
+
+                ShortestPathTree reference = null;
+                for (int threads : threadCounts) {
+                    DeltaSteppingCalculator calculator = new DeltaSteppingCalculator(map, threads, 0);
+                    calculator.calculate(source, VehicleType.CAR, objective);
+                    start = System.nanoTime();
+                    ShortestPathTree tree = calculator.calculate(source, VehicleType.CAR, objective);
+                    double ms = (System.nanoTime() - start) / 1e6;
+
+                    if (reference == null) {
+                        verify(tree, expected, objective, random);
+                        reference = tree;
+                    } else {
+                        RoadGraphGenerator.check(CHECK, Arrays.equals(tree.getDistances(), reference.getDistances())
+                                        && Arrays.equals(tree.getPredecessors(), reference.getPredecessors()),
+                                threads + " iş parçacığı farklı sonuç verdi");
+                    }
+                    System.out.printf("%-9s %-12d %-14.1f %-12d %-30.1f%n", objective, tree.getReachedCount(),
+                            dijkstraMs, threads, ms);
+                }
+            }
+            System.out.println("─".repeat(100));
+        }
+
+        // Delta seçimi: otomatik delta'nın katları, 1 iş parçacığı
+        Node source = nodes[nodes.length / 2 + SIDE / 2];
+        System.out.printf("%-9s %-16s %-14s%n", "Amaç", "Delta katı", "1 iş parç. (ms)");
+        for (RouteObjective objective : RouteObjective.values()) {
+            long mean = meanWeight(new DeltaSteppingCalculator(map, 1, 0)
+                    .calculate(source, VehicleType.CAR, objective), graph);
+            for (double factor : DELTA_FACTORS) {
+                DeltaSteppingCalculator calculator = new DeltaSteppingCalculator(map, 1,
+                        Math.max(1, (long) (mean * factor)));
+                calculator.calculate(source, VehicleType.CAR, objective);
+                long start = System.nanoTime();
+                calculator.calculate(source, VehicleType.CAR, objective);
+                System.out.printf("%-9s %-16.1f %-14.1f%n", objective, factor, (System.nanoTime() - start) / 1e6);
+            }
+        }
+        map.clearAll();
+    }
+
+    // Maliyetler Dijkstra ile aynı; rastgele şehirlerde öncül zinciri açık ve maliyeti tutan yollardan kaynağa ulaşır
+    private static void verify(ShortestPathTree tree, long[] expected, RouteObjective objective, Random random) {
+        long[] distances = tree.getDistances();
+        for (int node = 0; node < distances.length; node++) {
+            RoadGraphGenerator.check(CHECK, distances[node] == expected[node],
+                    "maliyet uyuşmuyor: şehir " + node + " " + distances[node]
+                    + " != " + expected[node]);
+        }
+        IRoadGraph graph = tree.getGraph();
+        int[] predecessors = tree.getPredecessors();
+        for (int k = 0; k < 100; k++) {
+            int node = random.nextInt(distances.length);
+            if (distances[node] == Long.MAX_VALUE) {
+                RoadGraphGenerator.check(CHECK, predecessors[node] == -1, "ulaşılamayan şehrin öncülü var");
+                continue;
+            }
+            int steps = 0;
+            for (int current = node; current != tree.getSourceId(); current = predecessors[current]) {
+                int previous = predecessors[current];
+                RoadGraphGenerator.check(CHECK, previous >= 0 && ++steps <= distances.length,
+                        "öncül zinciri kaynağa ulaşmıyor");
+                int slot = graph.findSlot(previous, current);
+                RoadGraphGenerator.check(CHECK, slot >= 0 && graph.isOpen(slot), "öncül yolu kapalı ya da yok");
+                RoadGraphGenerator.check(CHECK, distances[previous] < distances[current], "öncül maliyeti tutmuyor");
+            }
+            RoadGraphGenerator.check(CHECK, tree.getPath(graph.getNode(node)).size() == steps + 1,
+                    "rota uzunluğu uyuşmuyor");
+        }
+    }
+
+    // Ağaçtaki açık yolların ortalama ağırlığı (öncül yolları üzerinden)
+    private static long meanWeight(ShortestPathTree tree, IRoadGraph graph) {
+        long total = 0;
+        int count = 0;
+        long[] distances = tree.getDistances();
+        int[] predecessors = tree.getPredecessors();
+        for (int node = 0; node < distances.length; node++) {
+            if (predecessors[node] >= 0) {
+                total += distances[node] - distances[predecessors[node]];
+                count++;
+            }
+        }
+        return count == 0 ? 1 : total / count;
+    }
+}
@@ -0,0 +1,157 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.EdgeMetric;
+import com.navigation.project.backend.strategy.EdgeWeights;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * FastestRouteBenchmark - Araç Tipine Göre En Hızlı Rota Benchmark'ı
+ *
+ * AMAÇ:
+ * DijkstraStrategy'nin SHORTEST (mesafe) ve FASTEST (araç tipinin süresi) amaçlarını her araç
+ * tipi için karşılaştırır: sorgu süresi, bulunan rotanın km ve dakikası.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.FastestRouteBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k şehirli ızgara harita (hız limitleri 50-120 km/h karışık); yolların %5'i kapalı
+ * - Sorgu: rastgele çiftler, ortalama süre (ms), rota km ve dakikası
+ * - Kontrol: FASTEST rotasının dakikası hiçbir çiftte SHORTEST'ten uzun olmamalı
+ *   (ağırlıkların milisaniyeye yuvarlanması kadar tolerans)
+ * - Ağırlık dizileri: araç tipi başına tam hesaplama ve tek hız değişikliğinden sonra türetme süresi
+ */
+public class FastestRouteBenchmark {
+
+    private static final String CHECK = "En hızlı rota";
+    private static final int NODE_COUNT = 100_000;
+    private static final int QUERIES = 50;
+    private static final int UPDATES = 20;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        int side = (int) Math.round(Math.sqrt(NODE_COUNT));
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+
+        Random random = new Random(7);
+        Node[][] pairs = new Node[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+        }
+
+        DijkstraStrategy shortest = new DijkstraStrategy(map, RouteObjective.SHORTEST, false);
+        DijkstraStrategy fastest = new DijkstraStrategy(map, RouteObjective.FASTEST, false);
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-7s %-10s %-12s %-12s %-12s %-30s%n",
+                "Araç", "Amaç", "Sorgu (ms)", "Ort. km", "Ort. dk", "FASTEST kazancı");
+        System.out.println("═".repeat(100));
+
+        for (VehicleType vehicle : VehicleType.values()) {
+            // Isınma (FASTEST ağırlık dizisi burada hesaplanır)
+            for (int i = 0; i < 5; i++) {
+                shortest.calculateRoute(pairs[i][0], pairs[i][1], vehicle);
+                fastest.calculateRoute(pairs[i][0], pairs[i][1], vehicle);
+            }
+
+            RouteCalculationResult[] byDistance = new RouteCalculationResult[QUERIES];
+            RouteCalculationResult[] byTime = new RouteCalculationResult[QUERIES];
+            long shortestTime = 0, fastestTime = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long start = System.nanoTime();
+                byDistance[i] = shortest.calculateRoute(pairs[i][0], pairs[i][1], vehicle);
+                shortestTime += System.nanoTime() - start;
+                start = System.nanoTime();
+                byTime[i] = fastest.calculateRoute(pairs[i][0], pairs[i][1], vehicle);
+                fastestTime += System.nanoTime() - start;
+            }
+
+            double distanceKm = 0, distanceMinutes = 0, timeKm = 0, timeMinutes = 0;
+            int faster = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                verify(byDistance[i], byTime[i]);
+                distanceKm += byDistance[i].getTotalDistance();
+                distanceMinutes += byDistance[i].getTotalDuration();
+                timeKm += byTime[i].getTotalDistance();
+                timeMinutes += byTime[i].getTotalDuration();
+                if (byTime[i].getTotalDuration() < byDistance[i].getTotalDuration() - 1e-6) {
+                    faster++;
+                }
+            }
+            System.out.printf("%-7s %-10s %-12.1f %-12.1f %-12.1f%n", vehicle, RouteObjective.SHORTEST,
+                    shortestTime / 1e6 / QUERIES, distanceKm / QUERIES, distanceMinutes / QUERIES);
+            System.out.printf("%-7s %-10s %-12.1f %-12.1f %-12.1f %s%n", vehicle, RouteObjective.FASTEST,
+                    fastestTime / 1e6 / QUERIES, timeKm / QUERIES, timeMinutes / QUERIES,
+                    String.format("%d/%d çiftte daha hızlı, ort. -%.1f dk", faster, QUERIES,
+                            (distanceMinutes - timeMinutes) / QUERIES));
+            System.out.println("─".repeat(100));
+        }
+
+        measureWeights(map);
+        map.clearAll();
+    }
+
+    /**
+     * Ağırlık dizisinin tam hesaplanması ve tek yolun hızı değiştikten sonra türetilmesi
+     */
+    private static void measureWeights(CityMap map) {
+        List<Edge> edges = map.getEdges();
+        Random random = new Random(19);
+        for (VehicleType vehicle : VehicleType.values()) {
+            EdgeMetric metric = EdgeMetric.travelTimeOf(vehicle);
+            IRoadGraph graph = map.getGraph();
+            EdgeWeights weights = EdgeWeights.of(graph, metric);
+            long start = System.nanoTime();
+            weights = EdgeWeights.of(graph, metric);
+            double fullMs = (System.nanoTime() - start) / 1e6;
+
+            long deriveTime = 0;
+            for (int i = 0; i < UPDATES; i++) {
+                Edge edge = edges.get(random.nextInt(edges.size()));
+                edge.setSpeedLimit(30 + random.nextInt(100));
+                IRoadGraph newer = map.getGraph();
+                start = System.nanoTime();
+                weights = weights.derive(newer);
+                deriveTime += System.nanoTime() - start;
+            }
+            // Türetilen dizi baştan hesaplananla aynı olmalı
+            EdgeWeights expected = EdgeWeights.of(map.getGraph(), metric);
+            for (int slot = 0; slot < map.getGraph().getEdgeCount(); slot++) {
+                if (weights.get(slot) != expected.get(slot)) {
+                    RoadGraphGenerator.fail(CHECK, "Türetilen ağırlık uyuşmuyor: slot " + slot);
+                }
+            }
+            System.out.printf("  %-16s ağırlık dizisi: tam %.1f ms, hız değişikliği sonrası türetme %.2f ms%n",
+                    metric, fullMs, deriveTime / 1e6 / UPDATES);
+        }
+    }
+
+    // Her iki rota da bulunmalı (ya da ikisi de bulunmamalı); FASTEST daha uzun sürmemeli
+    private static void verify(RouteCalculationResult byDistance, RouteCalculationResult byTime) {
+        RoadGraphGenerator.check(CHECK, byDistance.getPath().isEmpty() == byTime.getPath().isEmpty(),
+                "Rota bulunabilirliği uyuşmuyor");
+        // Ağırlıklar milisaniyeye yuvarlanır: segment başına en fazla 1 ms
+        double tolerance = byTime.getPath().size() / 60_000.0;
+        RoadGraphGenerator.check(CHECK, byTime.getTotalDuration() <= byDistance.getTotalDuration() + tolerance,
+                String.format("FASTEST daha yavaş: %.3f > %.3f dk", byTime.getTotalDuration(),
+                        byDistance.getTotalDuration()));
+    }
+}
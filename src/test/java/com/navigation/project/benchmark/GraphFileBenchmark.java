@@ -0,0 +1,121 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.builder.MapBuilder;
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.GraphFile;
+import com.navigation.project.backend.data.GraphSnapshot;
+import com.navigation.project.backend.model.NodeType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * GraphFileBenchmark - İkili Harita Dosyası Benchmark'ı
+ *
+ * AMAÇ:
+ * Haritayı MapBuilder çağrılarıyla kurmak ile GraphFile'dan yüklemek arasındaki
+ * açılış süresini karşılaştırır ve yüklenen haritanın birebir aynı olduğunu doğrular.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xms6g -Xmx6g -XX:+UseParallelGC -cp target/classes:target/test-classes com.navigation.project.benchmark.GraphFileBenchmark
+ * (Yükleme süresinin büyük kısmı Node nesneleri ve isim tablosudur; yollar doğrudan sütunlara yazılır)
+ *
+ * ÖLÇÜM:
+ * - 10k, 100k, 1M ve 4M yollu ızgara haritalar
+ * - MapBuilder: aynı şehir/yolların addNode/addRoad ile tekrar oynatılması
+ * - Yazma / yükleme süresi ve yükleme hızı (MB/s, doğrusal ölçeklenmeyi görmek için)
+ * - Yüklenen görüntü, orijinal görüntü ile slot slot karşılaştırılır
+ */
+public class GraphFileBenchmark {
+
+    private static final String CHECK = "Graf dosyası";
+    private static final int[] EDGE_COUNTS = {10_000, 100_000, 1_000_000, 4_000_000};
+
+    public static void main(String[] args) throws IOException {
+        CityMap map = CityMap.create();
+        Path file = Files.createTempFile("navigation-benchmark", ".navs");
+
+        System.out.println("═".repeat(88));
+        System.out.printf("%-10s %-12s %-16s %-14s %-14s %-14s%n",
+                "Yol", "Dosya (MB)", "MapBuilder (ms)", "Yazma (ms)", "Yükleme (ms)", "Yükleme MB/s");
+        System.out.println("═".repeat(88));
+
+        try {
+            for (int edgeCount : EDGE_COUNTS) {
+                int side = RoadGraphGenerator.sideForEdges(edgeCount);
+                RoadGraphGenerator.buildGrid(map, side, 42);
+                GraphSnapshot original = map.snapshot();
+
+                long builderTime = replayWithBuilder(original);
+
+                long start = System.nanoTime();
+                GraphFile.write(map, file);
+                long writeTime = System.nanoTime() - start;
+
+                map.clearAll();
+                start = System.nanoTime();
+                GraphFile.load(map, file);
+                long loadTime = System.nanoTime() - start;
+
+                requireIdentical(original, map.snapshot());
+
+                double megabytes = Files.size(file) / 1e6;
+                System.out.printf("%-10d %-12.1f %-16.1f %-14.1f %-14.1f %-14.1f%n",
+                        edgeCount, megabytes, builderTime / 1e6, writeTime / 1e6, loadTime / 1e6,
+                        megabytes / (loadTime / 1e9));
+                map.clearAll();
+            }
+        } finally {
+            map.clearAll();
+            Files.deleteIfExists(file);
+        }
+        System.out.println("═".repeat(88));
+        System.out.println("Tüm yüklenen haritalar orijinal görüntü ile birebir aynı.");
+    }
+
+    // Aynı haritayı ayrı bir haritada MapBuilder ile kurar (konsola yazmaz)
+    private static long replayWithBuilder(GraphSnapshot graph) {
+        long start = System.nanoTime();
+        MapBuilder builder = new MapBuilder(CityMap.create());
+        for (int id = 0; id < graph.getNodeCount(); id++) {
+            builder.addNode(graph.getNodeName(id), NodeType.CITY);
+        }
+        for (int id = 0; id < graph.getNodeCount(); id++) {
+            for (int slot = graph.outBegin(id); slot < graph.outEnd(id); slot++) {
+                // addRoad iki yönü birlikte ekler; ızgaradaki her çift bir kez oynatılır
+                if (graph.getTarget(slot) < id) {
+                    continue;
+                }
+                builder.addRoad(graph.getNodeName(id), graph.getNodeName(graph.getTarget(slot)),
+                        graph.getDistance(slot), graph.getSpeedLimit(slot));
+            }
+        }
+        builder.build().snapshot();
+        return System.nanoTime() - start;
+    }
+
+    private static void requireIdentical(GraphSnapshot expected, GraphSnapshot actual) {
+        RoadGraphGenerator.check(CHECK, expected.getNodeCount() == actual.getNodeCount()
+                && expected.getEdgeCount() == actual.getEdgeCount(), "Şehir/yol sayısı farklı");
+        for (int id = 0; id < expected.getNodeCount(); id++) {
+            if (!expected.getNodeName(id).equals(actual.getNodeName(id))
+                    || expected.getNodeType(id) != actual.getNodeType(id)
+                    || expected.outBegin(id) != actual.outBegin(id)
+                    || expected.inBegin(id) != actual.inBegin(id)) {
+                RoadGraphGenerator.fail(CHECK, "Şehir farklı: " + id);
+            }
+        }
+        for (int slot = 0; slot < expected.getEdgeCount(); slot++) {
+            if (expected.getTarget(slot) != actual.getTarget(slot)
+                    || expected.getDistance(slot) != actual.getDistance(slot)
+                    || expected.getSpeedLimit(slot) != actual.getSpeedLimit(slot)
+                    || expected.getStatus(slot) != actual.getStatus(slot)
+                    || expected.getInSource(slot) != actual.getInSource(slot)
+                    || expected.getInSlot(slot) != actual.getInSlot(slot)) {
+                RoadGraphGenerator.fail(CHECK, "Yol farklı: " + slot);
+            }
+        }
+    }
+}
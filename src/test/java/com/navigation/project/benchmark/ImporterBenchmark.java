@@ -0,0 +1,145 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.builder.MapBuilder;
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.GraphSnapshot;
+import com.navigation.project.backend.io.ImportReport;
+import com.navigation.project.backend.io.RoadNetworkImporter;
+import com.navigation.project.backend.model.NodeType;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * ImporterBenchmark - Yol Ağı İçe Aktarma Benchmark'ı
+ *
+ * AMAÇ:
+ * CSV yol listesini satır satır okuyup MapBuilder ile kurmak ile
+ * RoadNetworkImporter ile içe aktarmayı karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xms6g -Xmx6g -cp target/classes:target/test-classes com.navigation.project.benchmark.ImporterBenchmark
+ *
+ * ÖLÇÜM:
+ * - 1M ve 4M yönlü yollu ızgara (CSV'de her çift bir satır, iki yönlü aktarılır)
+ * - Önce: BufferedReader + String.split + MapBuilder.addNode/addRoad
+ * - Sonra: RoadNetworkImporter (1 iş parçacığı ve tüm çekirdekler)
+ * - İki yöntemin kurduğu haritalar slot slot karşılaştırılır
+ */
+public class ImporterBenchmark {
+
+    private static final String CHECK = "İçe aktarma";
+    private static final int[] EDGE_COUNTS = {1_000_000, 4_000_000};
+    private static final int[] SPEED_LIMITS = {50, 70, 90, 110, 120};
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("navigation-benchmark", ".csv");
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("═".repeat(92));
+        System.out.printf("%-10s %-11s %-16s %-22s %-22s%n", "Yol", "CSV (MB)", "MapBuilder (ms)",
+                "İçe aktarıcı 1 (yol/s)", "İçe aktarıcı " + cores + " (yol/s)");
+        System.out.println("═".repeat(92));
+
+        try {
+            for (int edgeCount : EDGE_COUNTS) {
+                writeGridCsv(file, RoadGraphGenerator.sideForEdges(edgeCount));
+
+                CityMap baseline = CityMap.create();
+                long start = System.nanoTime();
+                loadWithMapBuilder(baseline, file);
+                long builderTime = System.nanoTime() - start;
+                GraphSnapshot expected = baseline.snapshot();
+                baseline = null;
+
+                ImportReport single = importAndCheck(file, 1, expected);
+                ImportReport parallel = importAndCheck(file, cores, expected);
+
+                System.out.printf("%-10d %-11.1f %-16.1f %-22.0f %-22.0f%n",
+                        parallel.getEdges(), Files.size(file) / 1e6, builderTime / 1e6,
+                        single.getEdgesPerSecond(), parallel.getEdgesPerSecond());
+                System.out.println("  " + parallel);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.println("═".repeat(92));
+    }
+
+    private static ImportReport importAndCheck(Path file, int threads, GraphSnapshot expected) throws IOException {
+        CityMap map = CityMap.create();
+        ImportReport report = new RoadNetworkImporter()
+                .bidirectional(true)
+                .threads(threads)
+                .importInto(map, file);
+        requireIdentical(expected, map.snapshot());
+        return report;
+    }
+
+    // Izgarayı "kaynak,hedef,mesafe,hız" satırları olarak yazar (başlık satırı dahil)
+    private static void writeGridCsv(Path file, int side) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("kaynak,hedef,mesafe_km,hiz_limiti\n");
+            for (int row = 0; row < side; row++) {
+                for (int col = 0; col < side; col++) {
+                    int id = row * side + col;
+                    if (col + 1 < side) {
+                        writeRoad(writer, id, id + 1, random);
+                    }
+                    if (row + 1 < side) {
+                        writeRoad(writer, id, id + side, random);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeRoad(BufferedWriter writer, int from, int to, Random random) throws IOException {
+        double distance = 1 + random.nextInt(100) / 10.0;
+        int speedLimit = SPEED_LIMITS[random.nextInt(SPEED_LIMITS.length)];
+        writer.write("N" + from + ",N" + to + "," + distance + "," + speedLimit + "\n");
+    }
+
+    // Eski yol: satır satır oku, şehirleri ilk görüldüğü sırada ekle, MapBuilder ile iki yönlü yol kur
+    private static void loadWithMapBuilder(CityMap map, Path file) throws IOException {
+        MapBuilder builder = new MapBuilder(map);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                if (map.findNode(fields[0]) == null) {
+                    builder.addNode(fields[0], NodeType.CITY);
+                }
+                if (map.findNode(fields[1]) == null) {
+                    builder.addNode(fields[1], NodeType.CITY);
+                }
+                builder.addRoad(fields[0], fields[1], Double.parseDouble(fields[2]), Integer.parseInt(fields[3]));
+            }
+        }
+    }
+
+    private static void requireIdentical(GraphSnapshot expected, GraphSnapshot actual) {
+        RoadGraphGenerator.check(CHECK, expected.getNodeCount() == actual.getNodeCount()
+                && expected.getEdgeCount() == actual.getEdgeCount(), "Şehir/yol sayısı farklı");
+        for (int id = 0; id < expected.getNodeCount(); id++) {
+            if (!expected.getNodeName(id).equals(actual.getNodeName(id)) || expected.outBegin(id) != actual.outBegin(id)) {
+                RoadGraphGenerator.fail(CHECK, "Şehir farklı: " + id);
+            }
+        }
+        for (int slot = 0; slot < expected.getEdgeCount(); slot++) {
+            if (expected.getTarget(slot) != actual.getTarget(slot)
+                    || expected.getDistance(slot) != actual.getDistance(slot)
+                    || expected.getSpeedLimit(slot) != actual.getSpeedLimit(slot)) {
+                RoadGraphGenerator.fail(CHECK, "Yol farklı: " + slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.IReachListener;
+import com.navigation.project.backend.strategy.Isochrone;
+import com.navigation.project.backend.strategy.IsochroneCalculator;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * IsochroneBenchmark - Erişilebilirlik (İzokron) Sorgusu Benchmark'ı
+ *
+ * AMAÇ:
+ * IsochroneCalculator'ın çok bütçeli tek geçişini, her bütçe için ayrı geçişle ve her şehir
+ * için ayrı calculateRoute çağırmakla (tahmini) karşılaştırır; akış (stream) modunun sonuç
+ * başına bellek ayırmadığını kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.IsochroneBenchmark
+ *
+ * ÖLÇÜM:
+ * - 1M şehirli ızgara harita; yolların %5'i kapalı
+ * - CAR / BUS / WALK süre bütçeleri (dakika) ve mesafe bütçeleri (km), rastgele başlangıçlar
+ * - Tek geçiş (ms), bütçe başına ayrı geçişlerin toplamı (ms), akış (ms, ayrılan bayt)
+ * - Tek tek calculateRoute: birkaç hedefin ortalama sorgu süresi x erişilen şehir sayısı (tahmini)
+ * - Kontrol: rastgele şehirlerde FASTEST / SHORTEST Dijkstra maliyeti; bütçe içindeyse kümede ve
+ *   aynı maliyetle, dışındaysa kümede olmamalı (süre ağırlıkları ms'ye yuvarlandığı için segment
+ *   başına 1 ms tolerans)
+ * - Kontrol: dinleyici içinden calculateRoute çağırmak akışın sonucunu değiştirmemeli; iç içe
+ *   stream hata vermeli
+ */
+public class IsochroneBenchmark {
+
+    private static final String CHECK = "İzokron";
+    private static final int SIDE = 1000;
+    private static final int ORIGINS = 3;
+    private static final int VERIFIED_NODES = 40;
+    private static final int SAMPLED_ROUTES = 5;
+
+    // Akışta sayaç dinleyicisi dışında ayrılan bellek bu sınırı geçmemeli (sonuç başına 0 bayt)
+    private static final long STREAM_ALLOCATION_LIMIT = 64 * 1024;
+
+    private static final Object[][] CASES = {
+            {VehicleType.CAR, RouteObjective.FASTEST, new double[]{30, 120, 480}},
+            {VehicleType.BUS, RouteObjective.FASTEST, new double[]{60, 240, 960}},
+            {VehicleType.WALK, RouteObjective.FASTEST, new double[]{120, 600, 2400}},
+            {VehicleType.CAR, RouteObjective.SHORTEST, new double[]{50, 200, 800}}
+    };
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+        IsochroneCalculator calculator = new IsochroneCalculator(map);
+        Random random = new Random(7);
+
+        System.out.println("═".repeat(120));
+        System.out.printf("%-6s %-9s %-18s %-24s %-10s %-12s %-10s %-12s %-16s%n", "Araç", "Amaç", "Bütçeler",
+                "Erişilen şehir", "Tek (ms)", "Ayrı (ms)", "Akış (ms)", "Akış bayt", "Tek tek (s)*");
+        System.out.println("═".repeat(120));
+
+        for (Object[] testCase : CASES) {
+            VehicleType vehicle = (VehicleType) testCase[0];
+            RouteObjective objective = (RouteObjective) testCase[1];
+            double[] budgets = (double[]) testCase[2];
+            DijkstraStrategy dijkstra = new DijkstraStrategy(map, objective, false);
+
+            // Isınma (ağırlık dizileri burada hesaplanır)
+            calculator.calculate(nodes[0], vehicle, objective, budgets);
+            dijkstra.calculateRoute(nodes[0], nodes[SIDE + 1], vehicle);
+
+            for (int o = 0; o < ORIGINS; o++) {
+                Node origin = nodes[random.nextInt(nodes.length)];
+
+                long start = System.nanoTime();
+                Isochrone isochrone = calculator.calculate(origin, vehicle, objective, budgets);
+                double onePass = (System.nanoTime() - start) / 1e6;
+
+                start = System.nanoTime();
+                for (int b = 0; b < budgets.length; b++) {
+                    Isochrone single = calculator.calculate(origin, vehicle, objective, budgets[b]);
+                    RoadGraphGenerator.check(CHECK, single.getReachableCount(0) == isochrone.getReachableCount(b),
+                            "tek bütçeli geçiş farklı sayı verdi");
+                }
+                double separate = (System.nanoTime() - start) / 1e6;
+
+                Counter counter = new Counter();
+                com.sun.management.ThreadMXBean threads =
+                        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                long thread = Thread.currentThread().getId();
+                long bytes = threads.getThreadAllocatedBytes(thread);
+                start = System.nanoTime();
+                int streamed = calculator.stream(origin, vehicle, objective, budgets, counter);
+                double streamMs = (System.nanoTime() - start) / 1e6;
+                bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+                RoadGraphGenerator.check(CHECK, streamed == isochrone.getNodes().size() && counter.count == streamed,
+                        "akış ve toplanan sonuç farklı");
+                RoadGraphGenerator.check(CHECK, bytes < STREAM_ALLOCATION_LIMIT,
+                        "akış sonuç başına bellek ayırıyor: " + bytes + " bayt");
+
+                if (o == 0) {
+                    verifyReentrant(calculator, dijkstra, isochrone, budgets);
+                }
+
+                double perRoute = verify(dijkstra, isochrone, nodes, random);
+                double oneByOne = perRoute * isochrone.getNodes().size() / 1e3;
+
+                StringBuilder counts = new StringBuilder();
+                for (int b = 0; b < budgets.length; b++) {
+                    counts.append(b == 0 ? "" : " / ").append(isochrone.getReachableCount(b));
+                }
+                System.out.printf("%-6s %-9s %-18s %-24s %-10.1f %-12.1f %-10.1f %-12d %-16.1f%n",
+                        vehicle, objective, Arrays.toString(budgets).replace(".0", ""), counts, onePass, separate,
+                        streamMs, bytes, oneByOne);
+            }
+            System.out.println("─".repeat(120));
+        }
+        System.out.println("* Birkaç hedefin ortalama calculateRoute süresi x erişilen şehir sayısı");
+        map.clearAll();
+    }
+
+    /**
+     * Dinleyici içinden rota sorgusu akışı bozmamalı; iç içe stream hata vermeli
+     */
+    private static void verifyReentrant(IsochroneCalculator calculator, DijkstraStrategy dijkstra,
+                                        Isochrone isochrone, double[] budgets) {
+        Node origin = isochrone.getOrigin();
+        int[] index = {0};
+        int streamed = calculator.stream(origin, isochrone.getVehicle(), isochrone.getObjective(), budgets,
+                (node, cost, budgetIndex) -> {
+                    int i = index[0]++;
+                    RoadGraphGenerator.check(CHECK, i < isochrone.getNodes().size()
+                                    && isochrone.getNodes().get(i).equals(node) && isochrone.getCost(i) == cost,
+                            "dinleyicideki rota sorgusu akışı bozdu");
+                    if (i > 0 && (i & (i - 1)) == 0) {     // 1, 2, 4, 8... sırasındaki şehirler
+                        dijkstra.calculateRoute(node, origin, isochrone.getVehicle());
+                    }
+                });
+        RoadGraphGenerator.check(CHECK, streamed == isochrone.getNodes().size(),
+                "dinleyicideki rota sorgusu akışı bozdu");
+
+        boolean rejected = false;
+        try {
+            calculator.stream(origin, isochrone.getVehicle(), isochrone.getObjective(), budgets,
+                    (node, cost, budgetIndex) -> calculator.calculate(node, isochrone.getVehicle(),
+                            isochrone.getObjective(), budgets));
+        } catch (IllegalStateException e) {
+            rejected = true;
+        }
+        RoadGraphGenerator.check(CHECK, rejected, "iç içe stream hata vermedi");
+    }
+
+    /**
+     * Rastgele şehirleri Dijkstra ile kontrol eder; örneklenen rotaların ortalama süresini (ms) döner
+     */
+    private static double verify(DijkstraStrategy dijkstra, Isochrone isochrone, Node[] nodes, Random random) {
+        Map<Node, Double> costs = new HashMap<>();
+        for (int i = 0; i < isochrone.getNodes().size(); i++) {
+            costs.put(isochrone.getNodes().get(i), isochrone.getCost(i));
+        }
+        boolean fastest = isochrone.getObjective() == RouteObjective.FASTEST;
+        double budget = isochrone.getBudget(isochrone.getBudgetCount() - 1);
+        long routeTime = 0;
+        int routes = 0;
+
+        for (int k = 0; k < VERIFIED_NODES; k++) {
+            // Yarısı kümeden (bütçe içi), yarısı haritanın tamamından
+            Node target = k % 2 == 0 && !costs.isEmpty()
+                    ? isochrone.getNodes().get(random.nextInt(isochrone.getNodes().size()))
+                    : nodes[random.nextInt(nodes.length)];
+            if (target == isochrone.getOrigin()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            RouteCalculationResult route = dijkstra.calculateRoute(isochrone.getOrigin(), target,
+                    isochrone.getVehicle());
+            if (routes < SAMPLED_ROUTES && costs.containsKey(target)) {
+                routeTime += System.nanoTime() - start;
+                routes++;
+            }
+            if (route.getPath().isEmpty()) {
+                RoadGraphGenerator.check(CHECK, !costs.containsKey(target), "Dijkstra yol bulamadı ama şehir kümede");
+                continue;
+            }
+            double expected = fastest ? route.getTotalDuration() : route.getTotalDistance();
+            double tolerance = fastest ? route.getPath().size() / 60_000.0 : 1e-9;
+            Double cost = costs.get(target);
+            if (expected <= budget - tolerance) {
+                RoadGraphGenerator.check(CHECK, cost != null, "bütçe içindeki şehir kümede yok: " + expected);
+            }
+            if (cost != null) {
+                RoadGraphGenerator.check(CHECK, Math.abs(cost - expected) <= tolerance,
+                        "maliyet uyuşmuyor: " + cost + " != " + expected);
+            } else {
+                RoadGraphGenerator.check(CHECK, expected >= budget - tolerance,
+                        "kümede olmayan şehir bütçe içinde: " + expected);
+            }
+        }
+        return routes == 0 ? 0 : routeTime / 1e6 / routes;
+    }
+
+    // Akış için sadece sayan dinleyici
+    private static final class Counter implements IReachListener {
+        private int count;
+
+        @Override
+        public void onReached(Node node, double cost, int budgetIndex) {
+            count++;
+        }
+    }
+}
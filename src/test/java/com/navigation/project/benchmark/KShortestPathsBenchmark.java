@@ -0,0 +1,220 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.KShortestPathsCalculator;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * KShortestPathsBenchmark - En Kısa k Rota (Yen) Benchmark'ı
+ *
+ * AMAÇ:
+ * KShortestPathsCalculator'ın k = 10 alternatif rota süresini ölçer; tek iş parçacıklı havuz ile
+ * paralel havuzu karşılaştırır ve sonuçları doğrular.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.KShortestPathsBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k şehirli ızgara harita; yolların %5'i kapalı; rastgele çiftler
+ * - SHORTEST ve FASTEST (CAR) için sorgu başına ms (1 iş parçacığı / ortak havuz) ve
+ *   dönen rotaların ortalama mesafe artışı (k. rota / 1. rota)
+ * - Kontrol: rotalar maliyete göre sıralı, birbirinden farklı, döngüsüz, sadece açık yollardan;
+ *   1. rota Dijkstra ile aynı maliyette
+ * - Küçük ızgarada (4 x 4) tüm basit yollar sayılır; en iyi k maliyet birebir aynı olmalı.
+ *   Yarısında bazı yollara paralel yol eklenir: rotalar şehir dizisi olarak farklı olmalı
+ */
+public class KShortestPathsBenchmark {
+
+    private static final String CHECK = "k rota";
+    private static final int SIDE = 316;
+    private static final int K = 10;
+    private static final int QUERIES = 20;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        checkAgainstEnumeration(map);
+
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        closeRandomRoads(map, new Random(3));
+        Random random = new Random(7);
+        Node[][] pairs = new Node[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+        }
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-9s %-4s %-18s %-18s %-16s %-10s%n",
+                "Şehir", "Amaç", "k", "1 iş parç. (ms)", "Ortak havuz (ms)", "k. / 1. rota", "Kontrol");
+        System.out.println("═".repeat(100));
+        for (RouteObjective objective : RouteObjective.values()) {
+            KShortestPathsCalculator sequential = new KShortestPathsCalculator(map, objective, single);
+            KShortestPathsCalculator parallel = new KShortestPathsCalculator(map, objective);
+            DijkstraStrategy dijkstra = new DijkstraStrategy(map, objective, false);
+
+            // Isınma
+            for (int i = 0; i < 3; i++) {
+                parallel.calculateRoutes(pairs[i][0], pairs[i][1], VehicleType.CAR, K);
+                sequential.calculateRoutes(pairs[i][0], pairs[i][1], VehicleType.CAR, K);
+            }
+
+            long sequentialTime = 0, parallelTime = 0;
+            double stretch = 0;
+            int found = 0;
+            for (Node[] pair : pairs) {
+                long start = System.nanoTime();
+                List<RouteCalculationResult> a = sequential.calculateRoutes(pair[0], pair[1], VehicleType.CAR, K);
+                sequentialTime += System.nanoTime() - start;
+                start = System.nanoTime();
+                List<RouteCalculationResult> b = parallel.calculateRoutes(pair[0], pair[1], VehicleType.CAR, K);
+                parallelTime += System.nanoTime() - start;
+
+                verify(map.getGraph(), objective, b, dijkstra.calculateRoute(pair[0], pair[1], VehicleType.CAR));
+                RoadGraphGenerator.check(CHECK, a.size() == b.size(), "paralel ve sıralı sonuç sayısı farklı");
+                for (int i = 0; i < a.size(); i++) {
+                    RoadGraphGenerator.check(CHECK,
+                            Math.abs(cost(objective, a.get(i)) - cost(objective, b.get(i))) < 1e-6,
+                            "paralel ve sıralı maliyetler farklı");
+                }
+                if (!b.isEmpty()) {
+                    stretch += cost(objective, b.get(b.size() - 1)) / cost(objective, b.get(0));
+                    found++;
+                }
+            }
+            System.out.printf("%-9d %-9s %-4d %-18.1f %-18.1f %-16.3f %-10s%n", nodes.length, objective, K,
+                    sequentialTime / 1e6 / QUERIES, parallelTime / 1e6 / QUERIES,
+                    found == 0 ? 0 : stretch / found, "OK");
+        }
+        single.shutdown();
+        map.clearAll();
+    }
+
+    // Sıralama, farklılık, döngüsüzlük, açık yollar ve ilk rotanın Dijkstra maliyeti
+    private static void verify(IRoadGraph graph, RouteObjective objective, List<RouteCalculationResult> routes,
+                               RouteCalculationResult expected) {
+        if (expected.getPath().isEmpty()) {
+            RoadGraphGenerator.check(CHECK, routes.isEmpty(), "Dijkstra yol bulamadı ama alternatif var");
+            return;
+        }
+        RoadGraphGenerator.check(CHECK, !routes.isEmpty(), "alternatif yok");
+        RoadGraphGenerator.check(CHECK, Math.abs(cost(objective, routes.get(0)) - cost(objective, expected))
+                <= expected.getPath().size() / 60_000.0 + 1e-9, "ilk rota en kısa değil");
+        Set<List<Node>> distinct = new HashSet<>();
+        double previous = 0;
+        for (RouteCalculationResult route : routes) {
+            List<Node> path = route.getPath();
+            RoadGraphGenerator.check(CHECK, distinct.add(path), "aynı rota iki kez");
+            RoadGraphGenerator.check(CHECK, new HashSet<>(path).size() == path.size(), "rota döngülü");
+            for (int i = 0; i + 1 < path.size(); i++) {
+                int from = graph.idOf(path.get(i));
+                int slot = graph.findSlot(from, graph.idOf(path.get(i + 1)));
+                RoadGraphGenerator.check(CHECK, slot >= 0 && graph.isOpen(slot),
+                        "rota kapalı ya da olmayan yoldan geçiyor");
+            }
+            // FASTEST sıralaması ms'ye yuvarlanmış ağırlıklarla: segment başına 1 ms tolerans
+            double value = cost(objective, route);
+            RoadGraphGenerator.check(CHECK, value >= previous - path.size() / 60_000.0,
+                    "rotalar maliyete göre sıralı değil");
+            previous = Math.max(previous, value);
+        }
+    }
+
+    // 4 x 4 ızgara: tüm basit yollar (şehir dizisi) DFS ile sayılır, en iyi k mesafe karşılaştırılır
+    private static void checkAgainstEnumeration(CityMap map) {
+        for (long seed = 1; seed <= 20; seed++) {
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, 4, seed);
+            closeRandomRoads(map, new Random(seed));
+            if (seed % 2 == 0) {
+                addParallelRoads(map, new Random(seed));
+            }
+            IRoadGraph graph = map.getGraph();
+            List<Long> all = new ArrayList<>();
+            boolean[] visited = new boolean[graph.getNodeCount()];
+            int start = graph.idOf(nodes[0]);
+            int end = graph.idOf(nodes[nodes.length - 1]);
+            visited[start] = true;
+            enumerate(graph, start, end, 0, visited, all);
+            Collections.sort(all);
+
+            List<RouteCalculationResult> routes = new KShortestPathsCalculator(map)
+                    .calculateRoutes(nodes[0], nodes[nodes.length - 1], VehicleType.CAR, K);
+            RoadGraphGenerator.check(CHECK, routes.size() == Math.min(K, all.size()),
+                    "küçük ızgarada rota sayısı farklı");
+            Set<List<Node>> distinct = new HashSet<>();
+            for (int i = 0; i < routes.size(); i++) {
+                RoadGraphGenerator.check(CHECK, distinct.add(routes.get(i).getPath()),
+                        "küçük ızgarada aynı rota iki kez");
+                RoadGraphGenerator.check(CHECK, Math.round(routes.get(i).getTotalDistance() * 1000) == all.get(i),
+                        "küçük ızgarada " + (i + 1) + ". rota farklı");
+            }
+        }
+    }
+
+    private static void enumerate(IRoadGraph graph, int node, int end, long meters, boolean[] visited,
+                                  List<Long> all) {
+        if (node == end) {
+            all.add(meters);
+            return;
+        }
+        for (int slot = graph.outBegin(node); slot < graph.outEnd(node); slot++) {
+            int next = graph.getTarget(slot);
+            if (visited[next]) {
+                continue;
+            }
+            // Paralel yollar tek rota: komşu şehre en kısa açık yol ile bir kez gidilir
+            long best = Long.MAX_VALUE;
+            boolean first = true;
+            for (int other = graph.outBegin(node); other < graph.outEnd(node); other++) {
+                if (graph.getTarget(other) == next) {
+                    first &= other >= slot;
+                    if (graph.isOpen(other)) {
+                        best = Math.min(best, graph.getDistanceMeters(other));
+                    }
+                }
+            }
+            if (first && best != Long.MAX_VALUE) {
+                visited[next] = true;
+                enumerate(graph, next, end, meters + best, visited, all);
+                visited[next] = false;
+            }
+        }
+    }
+
+    // Rastgele yolların yanına daha kısa ya da daha uzun paralel yol ekler
+    private static void addParallelRoads(CityMap map, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < 0.3) {
+                double distance = Math.max(0.1, edge.getDistance() + (random.nextBoolean() ? -0.5 : 0.5));
+                map.addEdge(new Edge(edge.getSource(), edge.getDestination(), distance, edge.getSpeedLimit()));
+            }
+        }
+    }
+
+    private static double cost(RouteObjective objective, RouteCalculationResult route) {
+        return objective == RouteObjective.FASTEST ? route.getTotalDuration() : route.getTotalDistance();
+    }
+
+    private static void closeRandomRoads(CityMap map, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+    }
+}
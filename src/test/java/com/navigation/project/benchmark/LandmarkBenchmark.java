@@ -0,0 +1,152 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.LandmarkIndex;
+import com.navigation.project.backend.strategy.LandmarkStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * LandmarkBenchmark - ALT (Landmark) Stratejisi Benchmark'ı
+ *
+ * AMAÇ:
+ * LandmarkStrategy'nin tablo hazırlama süresini, sorgu süresini ve kesinleşen şehir sayısını
+ * FARTHEST ve AVOID seçimleri için DijkstraStrategy ile karşılaştırır; yol kapatıldıktan sonra
+ * tabloların yeniden hesaplanmadan doğru sonuç verdiğini kontrol eder.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.LandmarkBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M şehirli ızgara haritalar (konumsuz); yolların %5'i kapalı ya da tadilatta
+ * - Sorgu: rastgele çiftler, ortalama süre (ms) ve kesinleşen şehir sayısı
+ * - Kontrol: mesafeler Dijkstra ile birebir aynı, rota sadece açık yollardan geçer
+ * - Yol kapatma: tablolar kurulduktan sonra yolların %5'i daha kapatılır; aynı tablolarla
+ *   sonuçlar yine Dijkstra ile aynı olmalı
+ */
+public class LandmarkBenchmark {
+
+    private static final String CHECK = "Landmark";
+    private static final int[] NODE_COUNTS = {100_000, 1_000_000};
+    private static final int LANDMARKS = 16;
+    private static final int QUERIES = 100;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-10s %-14s %-12s %-14s %-12s %-12s %-10s%n",
+                "Şehir", "Seçim", "Hazırlık (s)", "ALT (ms)", "Dijkstra (ms)", "ALT şehir", "Dijk. şehir", "Kontrol");
+        System.out.println("═".repeat(100));
+
+        for (int nodeCount : NODE_COUNTS) {
+            int side = (int) Math.round(Math.sqrt(nodeCount));
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            closeRandomRoads(map, 0.05, new Random(3));
+
+            Random random = new Random(7);
+            Node[][] pairs = new Node[QUERIES][];
+            for (int i = 0; i < QUERIES; i++) {
+                pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+            }
+
+            // Referans: Dijkstra
+            RouteCalculationResult[] expected = new RouteCalculationResult[QUERIES];
+            long dijkstraTime = 0, dijkstraSettled = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long start = System.nanoTime();
+                expected[i] = dijkstra.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+                dijkstraTime += System.nanoTime() - start;
+                dijkstraSettled += expected[i].getSettledNodes();
+            }
+
+            LandmarkStrategy last = null;
+            for (LandmarkIndex.Selection selection : LandmarkIndex.Selection.values()) {
+                LandmarkStrategy strategy = new LandmarkStrategy(map, LANDMARKS, selection, false);
+                long start = System.nanoTime();
+                strategy.prepare();
+                double prepareSeconds = (System.nanoTime() - start) / 1e9;
+
+                // Isınma
+                for (Node[] pair : pairs) {
+                    strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+                }
+                long altTime = 0, altSettled = 0;
+                for (int i = 0; i < QUERIES; i++) {
+                    start = System.nanoTime();
+                    RouteCalculationResult result = strategy.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+                    altTime += System.nanoTime() - start;
+                    altSettled += result.getSettledNodes();
+                    verify(map, result, expected[i]);
+                }
+
+                System.out.printf("%-9d %-10s %-14.1f %-12.2f %-14.1f %-12d %-12d %-10s%n",
+                        nodeCount, selection, prepareSeconds, altTime / 1e6 / QUERIES,
+                        dijkstraTime / 1e6 / QUERIES, altSettled / QUERIES, dijkstraSettled / QUERIES, "aynı");
+                last = strategy;
+            }
+
+            checkClosures(map, last, dijkstra, pairs);
+            System.out.println("─".repeat(100));
+        }
+        map.clearAll();
+    }
+
+    /**
+     * Tablolar kurulduktan sonra yol kapatılır: aynı tablolarla sonuçlar yine doğru olmalı
+     */
+    private static void checkClosures(CityMap map, LandmarkStrategy strategy, DijkstraStrategy dijkstra,
+                                      Node[][] pairs) {
+        LandmarkIndex before = strategy.getIndex();
+        closeRandomRoads(map, 0.05, new Random(11));
+        RoadGraphGenerator.check(CHECK, strategy.isReady() && strategy.getIndex() == before,
+                "Yol kapatma landmark tablolarını geçersiz kıldı");
+
+        long altSettled = 0, dijkstraSettled = 0;
+        for (Node[] pair : pairs) {
+            RouteCalculationResult expected = dijkstra.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+            RouteCalculationResult result = strategy.calculateRoute(pair[0], pair[1], VehicleType.CAR);
+            verify(map, result, expected);
+            altSettled += result.getSettledNodes();
+            dijkstraSettled += expected.getSettledNodes();
+        }
+        RoadGraphGenerator.check(CHECK, strategy.getIndex() == before, "Landmark tabloları yeniden kuruldu");
+        System.out.printf("  Yol kapatma (+%%5): tablolar aynı, sonuçlar aynı | ALT şehir %d, Dijkstra şehir %d%n",
+                altSettled / pairs.length, dijkstraSettled / pairs.length);
+    }
+
+    private static void verify(CityMap map, RouteCalculationResult result, RouteCalculationResult expected) {
+        RoadGraphGenerator.check(CHECK, result.getTotalDistance() == expected.getTotalDistance()
+                        && result.getPath().isEmpty() == expected.getPath().isEmpty(),
+                "Sonuç uyuşmuyor: " + expected.getTotalDistance() + " != " + result.getTotalDistance());
+        requireOpenPath(map, result.getPath());
+    }
+
+    // Yolların bir kısmını kapatır ya da tadilata alır
+    private static void closeRandomRoads(CityMap map, double ratio, Random random) {
+        for (Edge edge : map.getEdges()) {
+            if (random.nextDouble() < ratio) {
+                edge.setStatus(random.nextBoolean() ? EdgeStatus.CLOSED : EdgeStatus.UNDER_CONSTRUCTION);
+            }
+        }
+    }
+
+    private static void requireOpenPath(CityMap map, List<Node> path) {
+        for (int i = 0; i + 1 < path.size(); i++) {
+            Edge edge = map.findEdge(path.get(i).getName(), path.get(i + 1).getName());
+            if (edge == null || edge.getStatus() != EdgeStatus.OPEN) {
+                RoadGraphGenerator.fail(CHECK, "Rota açık olmayan yoldan geçiyor: " + path.get(i) + " → "
+                        + path.get(i + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.MappedGraphStore;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * MappedStoreBenchmark - Bellek Eşlemeli Depo Benchmark'ı
+ *
+ * AMAÇ:
+ * Haritayı heap'te tutmak ile MappedGraphStore dosyasından okumak arasındaki
+ * heap kullanımını ve sorgu süresini karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -XX:+UseParallelGC -cp target/classes:target/test-classes com.navigation.project.benchmark.MappedStoreBenchmark
+ * (ParallelGC, System.gc() sonrası kullanılan heap'i G1'e göre daha kesin raporlar)
+ *
+ * ÖLÇÜM:
+ * - 10k, 100k, 1M ve 4M yollu ızgara haritalar
+ * - Heap: GC sonrası kullanılan heap (harita yüklü iken, boş haritaya göre fark)
+ * - Sorgu: aynı çiftler için köşeden köşeye DijkstraStrategy süresi, sonuçlar karşılaştırılır
+ */
+public class MappedStoreBenchmark {
+
+    private static final String CHECK = "Dosya deposu";
+    private static final int[] EDGE_COUNTS = {10_000, 100_000, 1_000_000, 4_000_000};
+    private static final int QUERIES = 5;
+
+    public static void main(String[] args) throws IOException {
+        CityMap map = CityMap.create();
+        DijkstraStrategy strategy = new DijkstraStrategy(map, false);
+        Path file = Files.createTempFile("navigation-benchmark", ".navg");
+
+        map.clearAll();
+        long baseline = usedHeap();
+
+        System.out.println("═".repeat(86));
+        System.out.printf("%-10s %-12s %-14s %-14s %-16s %-16s%n",
+                "Yol", "Dosya (MB)", "Heap (MB)", "Depo (MB)", "Heap sorgu (ms)", "Depo sorgu (ms)");
+        System.out.println("═".repeat(86));
+
+        try {
+            for (int edgeCount : EDGE_COUNTS) {
+                String[][] pairs = buildMap(map, edgeCount);
+
+                // Heap modu
+                map.snapshot();
+                long heapMode = usedHeap() - baseline;
+                double[] expected = new double[QUERIES];
+                long heapTime = runQueries(map, strategy, pairs, expected, false);
+
+                // Depo modu: dosyaya yaz, heap'i boşalt, dosyayı bağla
+                MappedGraphStore.write(map.snapshot(), file);
+                map.attachStore(MappedGraphStore.open(file));
+                long storeMode = usedHeap() - baseline;
+                long storeTime = runQueries(map, strategy, pairs, expected, true);
+
+                System.out.printf("%-10d %-12.1f %-14.1f %-14.1f %-16.2f %-16.2f%n",
+                        edgeCount,
+                        Files.size(file) / 1e6,
+                        heapMode / 1e6,
+                        storeMode / 1e6,
+                        heapTime / 1e6 / QUERIES,
+                        storeTime / 1e6 / QUERIES);
+
+                map.clearAll();
+            }
+        } finally {
+            map.clearAll();
+            Files.deleteIfExists(file);
+        }
+        System.out.println("═".repeat(86));
+        System.out.println("Depo (MB): dosya bağlıyken heap'te kalan kısım; harita verisi sayfa önbelleğindedir.");
+    }
+
+    // Izgarayı kurar, köşeden köşeye sorgu çiftlerinin isimlerini döner
+    private static String[][] buildMap(CityMap map, int edgeCount) {
+        int side = RoadGraphGenerator.sideForEdges(edgeCount);
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+        Random random = new Random(7);
+
+        String[][] pairs = new String[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            int from = random.nextInt(side);
+            int to = (side - 1) * side + random.nextInt(side);
+            pairs[i] = new String[]{nodes[from].getName(), nodes[to].getName()};
+        }
+        return pairs;
+    }
+
+    // Sorguları çalıştırır; check false ise sonuçları kaydeder, true ise kayıtla karşılaştırır
+    private static long runQueries(CityMap map, DijkstraStrategy strategy, String[][] pairs, double[] expected,
+                                   boolean check) {
+        strategy.calculateRoute(map.findNode(pairs[0][0]), map.findNode(pairs[0][1]), VehicleType.CAR);
+        long start = System.nanoTime();
+        for (int i = 0; i < pairs.length; i++) {
+            RouteCalculationResult result = strategy.calculateRoute(map.findNode(pairs[i][0]),
+                    map.findNode(pairs[i][1]), VehicleType.CAR);
+            if (!check) {
+                expected[i] = result.getTotalDistance();
+            } else if (result.getTotalDistance() != expected[i]) {
+                RoadGraphGenerator.fail(CHECK, "Sonuç uyuşmuyor: " + expected[i] + " != " + result.getTotalDistance());
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,192 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.IRoadGraph;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.EdgeMetric;
+import com.navigation.project.backend.strategy.EdgeWeights;
+import com.navigation.project.backend.strategy.INodeQueue;
+import com.navigation.project.backend.strategy.NodeQueueType;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * NodeQueueBenchmark - Öncelik Kuyruğu Karşılaştırması (Gerçek Sorgu İzleri)
+ *
+ * AMAÇ:
+ * NodeQueueType implementasyonlarını gerçek Dijkstra sorgularının kuyruk işlemleriyle
+ * karşılaştırır ve varsayılan kuyruğun (NodeQueueType.DEFAULT) seçimine dayanak olur.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.NodeQueueBenchmark
+ *
+ * ÖLÇÜM:
+ * - İz: ızgara haritada (yolların %5'i kapalı) rastgele çiftler arası Dijkstra çalıştırılır,
+ *   kuyruğa yapılan her update(şehir, anahtar) ve pop() kaydedilir. Mesafe (metre) ve araba
+ *   süresi (milisaniye) ağırlıklarıyla iki iz ayrı ayrı ölçülür.
+ * - Tekrar oynatma: her kuyruk aynı izi birkaç tur oynatır; işlem başına ns (en iyi tur)
+ * - Kontrol: her pop'ta minKey() izdeki anahtarla aynı olmalı
+ * - Uçtan uca: DijkstraStrategy her kuyruk tipiyle aynı çiftlerde (ms/sorgu)
+ */
+public class NodeQueueBenchmark {
+
+    private static final String CHECK = "Kuyruk";
+    private static final int[] NODE_COUNTS = {100_000, 1_000_000};
+    private static final int[] TRACE_QUERIES = {20, 3};
+    private static final int ROUNDS = 5;
+    private static final int QUERIES = 20;
+
+    // İz kaydı: işlem başına iki long (şehir << 1 | pop?, anahtar)
+    private static final long POP = 1;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-9s %-12s %-12s %-16s %-12s %-12s %-12s%n",
+                "Şehir", "Ağırlık", "İşlem", "Kuyruk", "ns/işlem", "İz (ms)", "Dijkstra (ms)");
+        System.out.println("═".repeat(100));
+
+        for (int index = 0; index < NODE_COUNTS.length; index++) {
+            int nodeCount = NODE_COUNTS[index];
+            int side = (int) Math.round(Math.sqrt(nodeCount));
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            Random closures = new Random(3);
+            for (Edge edge : map.getEdges()) {
+                if (closures.nextDouble() < 0.05) {
+                    edge.setStatus(EdgeStatus.CLOSED);
+                }
+            }
+            IRoadGraph graph = map.getGraph();
+
+            Random random = new Random(7);
+            Node[][] pairs = new Node[Math.max(QUERIES, TRACE_QUERIES[index])][];
+            for (int i = 0; i < pairs.length; i++) {
+                pairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+            }
+
+            for (RouteObjective objective : RouteObjective.values()) {
+                EdgeWeights weights = EdgeWeights.of(graph, objective == RouteObjective.FASTEST
+                        ? EdgeMetric.travelTimeOf(VehicleType.CAR) : EdgeMetric.DISTANCE);
+                Trace trace = new Trace();
+                for (int i = 0; i < TRACE_QUERIES[index]; i++) {
+                    record(graph, weights, graph.idOf(pairs[i][0]), graph.idOf(pairs[i][1]), trace);
+                }
+
+                for (NodeQueueType type : NodeQueueType.values()) {
+                    INodeQueue queue = type.create(graph.getNodeCount());
+                    long best = Long.MAX_VALUE;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        long start = System.nanoTime();
+                        replay(trace, queue);
+                        best = Math.min(best, System.nanoTime() - start);
+                    }
+                    double dijkstraMs = endToEnd(map, objective, type, pairs);
+                    System.out.printf("%-9d %-12s %-12d %-16s %-12.1f %-12.1f %-12.1f%n",
+                            nodeCount, objective == RouteObjective.FASTEST ? "süre (ms)" : "mesafe (m)",
+                            trace.size / 2, type, (double) best / (trace.size / 2), best / 1e6, dijkstraMs);
+                }
+                System.out.println("─".repeat(100));
+            }
+        }
+        map.clearAll();
+    }
+
+    /**
+     * Dijkstra'yı kaydedici kuyrukla çalıştırır; izin her sorgusu boş kuyrukla başlar
+     */
+    private static void record(IRoadGraph graph, EdgeWeights weights, int source, int target, Trace trace) {
+        int nodeCount = graph.getNodeCount();
+        long[] distances = new long[nodeCount];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        INodeQueue queue = NodeQueueType.BINARY_HEAP.create(nodeCount);
+        distances[source] = 0;
+        queue.update(source, 0);
+        trace.add((long) source << 1, 0);
+        while (!queue.isEmpty()) {
+            long key = queue.minKey();
+            int current = queue.pop();
+            trace.add(POP, key);
+            if (current == target) {
+                break;
+            }
+            for (int slot = graph.outBegin(current); slot < graph.outEnd(current); slot++) {
+                int weight = weights.get(slot);
+                if (weight == EdgeMetric.INFINITE) {
+                    continue;
+                }
+                int neighbour = graph.getTarget(slot);
+                long candidate = key + weight;
+                if (candidate < distances[neighbour]) {
+                    distances[neighbour] = candidate;
+                    queue.update(neighbour, candidate);
+                    trace.add((long) neighbour << 1, candidate);
+                }
+            }
+        }
+        // Sorgu sonu: kuyruk temizlenir
+        trace.add(-1, 0);
+    }
+
+    private static void replay(Trace trace, INodeQueue queue) {
+        long[] operations = trace.operations;
+        for (int i = 0; i < trace.size; i += 2) {
+            long operation = operations[i];
+            if (operation == POP) {
+                if (queue.minKey() != operations[i + 1]) {
+                    RoadGraphGenerator.fail(CHECK, "Kuyruk sırası uyuşmuyor: " + queue.minKey()
+                            + " != " + operations[i + 1]);
+                }
+                queue.pop();
+            } else if (operation < 0) {
+                queue.clear();
+            } else {
+                queue.update((int) (operation >>> 1), operations[i + 1]);
+            }
+        }
+    }
+
+    // DijkstraStrategy'nin kuyruk tipiyle ortalama sorgu süresi; sonuçlar ikili heap ile aynı olmalı
+    private static double endToEnd(CityMap map, RouteObjective objective, NodeQueueType type, Node[][] pairs) {
+        DijkstraStrategy reference = new DijkstraStrategy(map, objective, NodeQueueType.BINARY_HEAP, false);
+        DijkstraStrategy strategy = new DijkstraStrategy(map, objective, type, false);
+        strategy.calculateRoute(pairs[0][0], pairs[0][1], VehicleType.CAR);
+        long total = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            RouteCalculationResult result = strategy.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+            total += System.nanoTime() - start;
+            RouteCalculationResult expected = reference.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+            // Eşit maliyetli farklı rotalar olabilir: SHORTEST'te mesafe, FASTEST'te süre aynı olmalı
+            // (süre ağırlıkları milisaniyeye yuvarlandığından segment başına 1 ms tolerans)
+            boolean same = objective == RouteObjective.SHORTEST
+                    ? result.getTotalDistance() == expected.getTotalDistance()
+                    : Math.abs(result.getTotalDuration() - expected.getTotalDuration())
+                    <= expected.getPath().size() / 60_000.0;
+            RoadGraphGenerator.check(CHECK, same, type + " sonucu uyuşmuyor");
+        }
+        return total / 1e6 / QUERIES;
+    }
+
+    // Büyüyen ilkel iz dizisi
+    private static final class Trace {
+        private long[] operations = new long[1 << 16];
+        private int size;
+
+        void add(long operation, long key) {
+            if (size + 2 > operations.length) {
+                operations = Arrays.copyOf(operations, operations.length * 2);
+            }
+            operations[size++] = operation;
+            operations[size++] = key;
+        }
+    }
+}
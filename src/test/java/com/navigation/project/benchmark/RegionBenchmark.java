@@ -0,0 +1,187 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.builder.MapBuilder;
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.data.MapRegistry;
+import com.navigation.project.backend.model.NodeType;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.CrossRegionRouter;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * RegionBenchmark - Bölgesel Harita Benchmark'ı
+ *
+ * AMAÇ:
+ * MapRegistry'deki bağımsız bölgesel haritaların aynı anda (farklı çekirdeklerde)
+ * ortak kilit olmadan sorgulanabildiğini ve bölgeler arası rotaların sınır şehirlerinde
+ * doğru birleştirildiğini ölçer.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.navigation.project.benchmark.RegionBenchmark
+ *
+ * ÖLÇÜM:
+ * - Yan yana dizilmiş 4 ızgara bölge; komşu bölgeler bir sütun şehri (sınır) paylaşır
+ * - Sıralı: tüm bölgelerin sorguları tek iş parçacığında
+ * - Paralel: her bölge kendi iş parçacığında, kendi DijkstraStrategy'si ile
+ * - Bölgeler arası: 0. ve 1. bölge arasındaki rotalar, iki bölgeyi tek haritada birleştirip
+ *   hesaplanan en kısa rota ile karşılaştırılır (birleştirilmiş rota sınırı birden çok kez
+ *   geçebildiği için sapma 0 ya da pozitif olur)
+ */
+public class RegionBenchmark {
+
+    private static final String CHECK = "Bölge";
+    private static final int REGIONS = 4;
+    private static final int SIDE = 200;
+    private static final int QUERIES = 40;
+    private static final int CROSS_QUERIES = 20;
+    private static final int[] SPEED_LIMITS = {50, 70, 90, 110, 120};
+
+    public static void main(String[] args) throws Exception {
+        MapRegistry registry = new MapRegistry();
+        for (int region = 0; region < REGIONS; region++) {
+            buildRegion(registry.getOrCreate(regionName(region)), region * (SIDE - 1), SIDE);
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        Random random = new Random(42);
+        String[][][] pairs = new String[REGIONS][QUERIES][];
+        for (int region = 0; region < REGIONS; region++) {
+            int firstColumn = region * (SIDE - 1);
+            for (int i = 0; i < QUERIES; i++) {
+                pairs[region][i] = new String[]{
+                        nodeName(random.nextInt(SIDE), firstColumn + random.nextInt(SIDE)),
+                        nodeName(random.nextInt(SIDE), firstColumn + random.nextInt(SIDE))};
+            }
+        }
+
+        // Isınma
+        runRegion(registry, 0, pairs[0]);
+
+        long start = System.nanoTime();
+        double sequentialChecksum = 0;
+        for (int region = 0; region < REGIONS; region++) {
+            sequentialChecksum += runRegion(registry, region, pairs[region]);
+        }
+        long sequentialTime = System.nanoTime() - start;
+
+        ExecutorService pool = Executors.newFixedThreadPool(REGIONS);
+        double parallelChecksum = 0;
+        try {
+            start = System.nanoTime();
+            List<Future<Double>> futures = new ArrayList<>();
+            for (int region = 0; region < REGIONS; region++) {
+                int current = region;
+                futures.add(pool.submit(() -> runRegion(registry, current, pairs[current])));
+            }
+            for (Future<Double> future : futures) {
+                parallelChecksum += future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long parallelTime = System.nanoTime() - start;
+
+        RoadGraphGenerator.check(CHECK, sequentialChecksum == parallelChecksum,
+                "Paralel sonuçlar sıralı sonuçlardan farklı");
+
+        int totalQueries = REGIONS * QUERIES;
+        System.out.println("═".repeat(72));
+        System.out.printf("%d bölge x %d şehir, %d sorgu, %d çekirdek%n", REGIONS, SIDE * SIDE, totalQueries, cores);
+        System.out.println("═".repeat(72));
+        System.out.printf("%-28s %-18s %-18s%n", "", "Süre (ms)", "Sorgu/s");
+        System.out.printf("%-28s %-18.1f %-18.1f%n", "Sıralı", sequentialTime / 1e6, totalQueries / (sequentialTime / 1e9));
+        System.out.printf("%-28s %-18.1f %-18.1f%n", "Paralel (bölge başına 1)", parallelTime / 1e6, totalQueries / (parallelTime / 1e9));
+
+        crossRegionCheck(registry, random);
+        System.out.println("═".repeat(72));
+    }
+
+    // Bölgeler arası rotaları, iki bölgenin birleşimi olan tek haritadaki en kısa rota ile karşılaştırır
+    private static void crossRegionCheck(MapRegistry registry, Random random) {
+        CityMap merged = CityMap.create();
+        buildRegion(merged, 0, 2 * SIDE - 1);
+        DijkstraStrategy mergedStrategy = new DijkstraStrategy(merged, false);
+        CrossRegionRouter router = new CrossRegionRouter(registry, false);
+
+        double maxDeviation = 0;
+        long crossTime = 0;
+        for (int i = 0; i < CROSS_QUERIES; i++) {
+            String from = nodeName(random.nextInt(SIDE), random.nextInt(SIDE - 1));
+            String to = nodeName(random.nextInt(SIDE), SIDE + random.nextInt(SIDE - 1));
+
+            long start = System.nanoTime();
+            RouteCalculationResult stitched = router.calculateRoute(regionName(0), from, regionName(1), to, VehicleType.CAR);
+            crossTime += System.nanoTime() - start;
+            RouteCalculationResult optimal = mergedStrategy.calculateRoute(
+                    merged.findNode(from), merged.findNode(to), VehicleType.CAR);
+
+            RoadGraphGenerator.check(CHECK, !stitched.getPath().isEmpty()
+                            && stitched.getPath().get(0).getName().equals(from)
+                            && stitched.getPath().get(stitched.getPath().size() - 1).getName().equals(to)
+                            && stitched.getTotalDistance() >= optimal.getTotalDistance() - 1e-9,
+                    "Bölgeler arası rota hatalı: " + from + " → " + to);
+            maxDeviation = Math.max(maxDeviation,
+                    (stitched.getTotalDistance() - optimal.getTotalDistance()) / optimal.getTotalDistance());
+        }
+        System.out.printf("%-28s %-18.1f %s%n", "Bölgeler arası (0 → 1)", crossTime / 1e6 / CROSS_QUERIES,
+                String.format("en büyük sapma: %%%.2f", maxDeviation * 100));
+    }
+
+    private static double runRegion(MapRegistry registry, int region, String[][] pairs) {
+        CityMap map = registry.require(regionName(region));
+        DijkstraStrategy strategy = new DijkstraStrategy(map, false);
+        double checksum = 0;
+        for (String[] pair : pairs) {
+            checksum += strategy.calculateRoute(map.findNode(pair[0]), map.findNode(pair[1]), VehicleType.CAR)
+                    .getTotalDistance();
+        }
+        return checksum;
+    }
+
+    /**
+     * Sütunları [firstColumn, firstColumn + width) olan ızgarayı haritaya kurar.
+     * Yol uzunlukları şehir koordinatından türetilir; komşu bölgelerin ortak sütunu aynı yolları alır.
+     */
+    private static void buildRegion(CityMap map, int firstColumn, int width) {
+        MapBuilder builder = new MapBuilder(map);
+        for (int row = 0; row < SIDE; row++) {
+            for (int col = firstColumn; col < firstColumn + width; col++) {
+                builder.addNode(nodeName(row, col), NodeType.CITY);
+            }
+        }
+        for (int row = 0; row < SIDE; row++) {
+            for (int col = firstColumn; col < firstColumn + width; col++) {
+                if (col + 1 < firstColumn + width) {
+                    addRoad(builder, row, col, row, col + 1);
+                }
+                if (row + 1 < SIDE) {
+                    addRoad(builder, row, col, row + 1, col);
+                }
+            }
+        }
+    }
+
+    private static void addRoad(MapBuilder builder, int row, int col, int toRow, int toCol) {
+        int hash = (row * 73_856_093) ^ (col * 19_349_663) ^ (toRow * 83_492_791) ^ (toCol * 50_331_653);
+        double distance = 1 + Math.floorMod(hash, 100) / 10.0;
+        int speedLimit = SPEED_LIMITS[Math.floorMod(hash >>> 8, SPEED_LIMITS.length)];
+        builder.addRoad(nodeName(row, col), nodeName(toRow, toCol), distance, speedLimit);
+    }
+
+    private static String nodeName(int row, int col) {
+        return "N" + row + "_" + col;
+    }
+
+    private static String regionName(int region) {
+        return "bolge" + region;
+    }
+}
@@ -0,0 +1,141 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.NodeType;
+import com.navigation.project.backend.strategy.AStarStrategy;
+
+import java.util.Random;
+
+/**
+ * RoadGraphGenerator - Benchmark Haritası Üretici
+ *
+ * AMAÇ:
+ * Benchmark'lar için yol ağına benzeyen (ızgara) büyük haritalar üretir.
+ *
+ * NE İŞE YARAR:
+ * - side x side ızgara şehir oluşturur ("N0", "N1", ...)
+ * - Komşu şehirler arasına çift yönlü yol ekler
+ * - Mesafe ve hız limitleri sabit seed ile rastgele seçilir (tekrarlanabilir)
+ * - buildGeoGrid(): şehirlere konum verir, yol mesafesi iki şehrin büyük daire
+ *   mesafesinden %0-40 uzun olur (A* sezgiseli için gerçekçi harita)
+ * - check(): benchmark kontrolleri için ortak doğrulama (başarısızsa IllegalStateException)
+ *
+ * YOL SAYISI: 4 * side * (side - 1) yönlü yol
+ * - side = 50  → ~10k yol
+ * - side = 159 → ~100k yol
+ * - side = 500 → ~1M yol
+ */
+public final class RoadGraphGenerator {
+
+    private static final int[] SPEED_LIMITS = {50, 70, 90, 110, 120};
+
+    private RoadGraphGenerator() {
+    }
+
+    /**
+     * Koşul sağlanmazsa "<label> kontrolü başarısız: <message>" ile IllegalStateException fırlatır
+     */
+    public static void check(String label, boolean condition, String message) {
+        if (!condition) {
+            fail(label, message);
+        }
+    }
+
+    /**
+     * check() ile aynı hata; sıcak döngülerde mesaj sadece hata anında oluşturulsun diye
+     * koşul çağıran tarafta sınanır
+     */
+    public static void fail(String label, String message) {
+        throw new IllegalStateException(label + " kontrolü başarısız: " + message);
+    }
+
+    /**
+     * Hedef yol sayısına en yakın ızgara kenar uzunluğu
+     */
+    public static int sideForEdges(int edgeCount) {
+        return (int) Math.round((1 + Math.sqrt(1 + edgeCount)) / 2);
+    }
+
+    /**
+     * Verilen haritayı temizler ve side x side ızgara ile doldurur
+     */
+    public static Node[] buildGrid(CityMap map, int side, long seed) {
+        map.clearAll();
+        Random random = new Random(seed);
+
+        Node[] nodes = new Node[side * side];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node("N" + i, NodeType.CITY);
+            map.addNode(nodes[i]);
+        }
+
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int id = row * side + col;
+                if (col + 1 < side) {
+                    addRoad(map, nodes[id], nodes[id + 1], random);
+                }
+                if (row + 1 < side) {
+                    addRoad(map, nodes[id], nodes[id + side], random);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Verilen haritayı temizler ve side x side konumlu ızgara ile doldurur.
+     * Şehirler ~1.1 km aralıklı, hafifçe kaydırılmış; withCoordinates false ise aynı harita konumsuz kurulur.
+     */
+    public static Node[] buildGeoGrid(CityMap map, int side, long seed, boolean withCoordinates) {
+        map.clearAll();
+        Random random = new Random(seed);
+
+        double baseLat = 39.0;
+        double baseLon = 32.0;
+        double step = 0.01;
+        double lonStep = step / Math.cos(Math.toRadians(baseLat));
+        double[] lats = new double[side * side];
+        double[] lons = new double[side * side];
+        Node[] nodes = new Node[side * side];
+        for (int i = 0; i < nodes.length; i++) {
+            lats[i] = baseLat + (i / side) * step + (random.nextDouble() - 0.5) * step * 0.4;
+            lons[i] = baseLon + (i % side) * lonStep + (random.nextDouble() - 0.5) * lonStep * 0.4;
+            nodes[i] = withCoordinates
+                    ? new Node("N" + i, NodeType.CITY, lats[i], lons[i])
+                    : new Node("N" + i, NodeType.CITY);
+            map.addNode(nodes[i]);
+        }
+
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int id = row * side + col;
+                if (col + 1 < side) {
+                    addGeoRoad(map, nodes, lats, lons, id, id + 1, random);
+                }
+                if (row + 1 < side) {
+                    addGeoRoad(map, nodes, lats, lons, id, id + side, random);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private static void addGeoRoad(CityMap map, Node[] nodes, double[] lats, double[] lons, int a, int b,
+                                   Random random) {
+        double straight = AStarStrategy.greatCircleMeters(lats[a], lons[a], lats[b], lons[b]);
+        double distance = Math.ceil(straight * (1 + random.nextDouble() * 0.4)) / 1000.0;
+        int speedLimit = SPEED_LIMITS[random.nextInt(SPEED_LIMITS.length)];
+        map.addEdge(new Edge(nodes[a], nodes[b], distance, speedLimit));
+        map.addEdge(new Edge(nodes[b], nodes[a], distance, speedLimit));
+    }
+
+    private static void addRoad(CityMap map, Node a, Node b, Random random) {
+        double distance = 1 + random.nextInt(100) / 10.0;
+        int speedLimit = SPEED_LIMITS[random.nextInt(SPEED_LIMITS.length)];
+        map.addEdge(new Edge(a, b, distance, speedLimit));
+        map.addEdge(new Edge(b, a, distance, speedLimit));
+    }
+}
@@ -0,0 +1,158 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.ContractionHierarchyStrategy;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteMatrix;
+import com.navigation.project.backend.strategy.RouteMatrixCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * RouteMatrixBenchmark - Çoktan Çoğa Matris Benchmark'ı
+ *
+ * AMAÇ:
+ * RouteMatrixCalculator'ın 1000 x 1000 mesafe / süre matrisini kısayol hiyerarşisi (kova
+ * algoritması) ve hiyerarşisiz (kaynak başına one-to-many Dijkstra) hesaplama sürelerini ölçer;
+ * hücreleri bağımsız DijkstraStrategy sorgularıyla karşılaştırır.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.RouteMatrixBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k ve 1M şehirli ızgara haritalar; yolların %5'i kapalı
+ * - Kaynak ve hedefler rastgele 1000'er şehir; hiyerarşi kurulum süresi ayrı gösterilir
+ * - Matris süresi (s), hücre/s, kesinleşen şehir sayısı; hiyerarşisiz yol sadece 100k'da
+ *   tam matris, 1M'de 20 satır ölçülüp 1000 satıra oranlanır
+ * - Kontrol: rastgele hücrelerde mesafe Dijkstra ile birebir; süre hiyerarşisiz yolda birebir
+ *   (aynı arama ağacı), hiyerarşide %5 toleransla (eşit uzunlukta farklı rota seçilebilir;
+ *   ızgarada sık görülür). İki hesap yolunun mesafe matrisleri aynı olmalı.
+ */
+public class RouteMatrixBenchmark {
+
+    private static final String CHECK = "Matris";
+    private static final int[] NODE_COUNTS = {100_000, 1_000_000};
+    private static final int SIZE = 1000;
+    private static final int VERIFIED_CELLS = 30;
+    private static final int SAMPLED_ROWS = 20;
+
+    // Eşit uzunlukta farklı rotalar: hiyerarşi Dijkstra'dan farklı birini seçebilir (süre farkı, oran)
+    private static final double TIE_TOLERANCE = 0.05;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        DijkstraStrategy dijkstra = new DijkstraStrategy(map, false);
+        ContractionHierarchyStrategy strategy = new ContractionHierarchyStrategy(map, false, false);
+
+        System.out.println("═".repeat(110));
+        System.out.printf("%-9s %-14s %-11s %-12s %-14s %-16s %-14s %-10s%n",
+                "Şehir", "Yöntem", "Araç", "Kurulum (s)", "Matris (s)", "Hücre/s", "Şehir (ort.)", "Kontrol");
+        System.out.println("═".repeat(110));
+
+        for (int nodeCount : NODE_COUNTS) {
+            int side = (int) Math.round(Math.sqrt(nodeCount));
+            Node[] nodes = RoadGraphGenerator.buildGrid(map, side, 42);
+            Random closures = new Random(3);
+            for (Edge edge : map.getEdges()) {
+                if (closures.nextDouble() < 0.05) {
+                    edge.setStatus(EdgeStatus.CLOSED);
+                }
+            }
+
+            Random random = new Random(7);
+            List<Node> sources = new ArrayList<>(SIZE);
+            List<Node> targets = new ArrayList<>(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                sources.add(nodes[random.nextInt(nodes.length)]);
+                targets.add(nodes[random.nextInt(nodes.length)]);
+            }
+
+            long start = System.nanoTime();
+            strategy.prepare();
+            double prepareSeconds = (System.nanoTime() - start) / 1e9;
+            RouteMatrixCalculator withHierarchy = new RouteMatrixCalculator(map, strategy);
+            RouteMatrixCalculator withoutHierarchy = new RouteMatrixCalculator(map);
+
+            for (VehicleType vehicle : new VehicleType[]{VehicleType.CAR, VehicleType.BUS}) {
+                // Isınma
+                withHierarchy.calculate(sources.subList(0, 50), targets.subList(0, 50), vehicle);
+
+                start = System.nanoTime();
+                RouteMatrix matrix = withHierarchy.calculate(sources, targets, vehicle);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                verify(dijkstra, matrix, vehicle, random, TIE_TOLERANCE);
+                print(nodeCount, "CH kova", vehicle, String.format("%.1f", prepareSeconds), seconds, 2 * SIZE, matrix);
+
+                // Hiyerarşisiz: 1M'de sadece ilk satırlar, süre 1000 satıra oranlanır
+                int rows = nodeCount > 100_000 ? SAMPLED_ROWS : SIZE;
+                start = System.nanoTime();
+                RouteMatrix fallback = withoutHierarchy.calculate(sources.subList(0, rows), targets, vehicle);
+                double fallbackSeconds = (System.nanoTime() - start) / 1e9 * SIZE / rows;
+                compare(matrix, fallback, rows);
+                verify(dijkstra, fallback, vehicle, random, 0);
+                print(nodeCount, rows == SIZE ? "One-to-many" : "One-to-many*", vehicle, "-", fallbackSeconds, rows,
+                        fallback);
+            }
+            System.out.println("─".repeat(110));
+        }
+        System.out.println("* " + SAMPLED_ROWS + " satırdan 1000 satıra oranlanmış süre");
+        map.clearAll();
+    }
+
+    // Rastgele hücreler bağımsız Dijkstra sorgusu ile karşılaştırılır
+    private static void verify(DijkstraStrategy dijkstra, RouteMatrix matrix, VehicleType vehicle, Random random,
+                               double tolerance) {
+        for (int k = 0; k < VERIFIED_CELLS; k++) {
+            int i = random.nextInt(matrix.getSourceCount());
+            int j = random.nextInt(matrix.getTargetCount());
+            Node source = matrix.getSources().get(i);
+            Node target = matrix.getTargets().get(j);
+            RouteCalculationResult expected = dijkstra.calculateRoute(source, target, vehicle);
+            if (source == target) {
+                RoadGraphGenerator.check(CHECK, matrix.getDistance(i, j) == 0 && matrix.getDuration(i, j) == 0,
+                        "köşegen 0 değil");
+                continue;
+            }
+            if (expected.getPath().isEmpty()) {
+                RoadGraphGenerator.check(CHECK, !matrix.isReachable(i, j), "Dijkstra yol bulamadı ama matris buldu");
+                continue;
+            }
+            RoadGraphGenerator.check(CHECK, Math.abs(matrix.getDistance(i, j) - expected.getTotalDistance()) < 1e-9,
+                    "mesafe uyuşmuyor: " + matrix.getDistance(i, j) + " != " + expected.getTotalDistance());
+            double duration = matrix.getDuration(i, j);
+            double reference = expected.getTotalDuration();
+            RoadGraphGenerator.check(CHECK, Math.abs(duration - reference) <= 1e-6 + reference * tolerance,
+                    "süre uyuşmuyor: " + duration + " / " + reference);
+        }
+    }
+
+    // İki hesap yolu aynı mesafeleri vermeli
+    private static void compare(RouteMatrix matrix, RouteMatrix fallback, int rows) {
+        int targets = matrix.getTargetCount();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < targets; j++) {
+                double a = matrix.getDistance(i, j);
+                double b = fallback.getDistance(i, j);
+                RoadGraphGenerator.check(CHECK, a == b || Math.abs(a - b) < 1e-9,
+                        "CH ve Dijkstra matrisi uyuşmuyor: " + a + " != " + b);
+                RoadGraphGenerator.check(CHECK, matrix.isReachable(i, j) == fallback.isReachable(i, j),
+                        "ulaşılabilirlik uyuşmuyor");
+            }
+        }
+    }
+
+    private static void print(int nodeCount, String method, VehicleType vehicle, String prepare, double seconds,
+                              int searches, RouteMatrix matrix) {
+        System.out.printf("%-9d %-14s %-11s %-12s %-14.2f %-16.0f %-14d %-10s%n",
+                nodeCount, method, vehicle, prepare, seconds, (double) SIZE * SIZE / seconds,
+                matrix.getSettledNodes() / searches, "OK");
+    }
+}
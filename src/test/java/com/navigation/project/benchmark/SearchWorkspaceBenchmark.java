@@ -0,0 +1,150 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.strategy.BidirectionalDijkstraStrategy;
+import com.navigation.project.backend.strategy.DijkstraStrategy;
+import com.navigation.project.backend.strategy.IRouteStrategy;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+import com.navigation.project.backend.strategy.RouteObjective;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * SearchWorkspaceBenchmark - Sorgu Başına Bellek Ayırma (GC) Benchmark'ı
+ *
+ * AMAÇ:
+ * DijkstraStrategy ve BidirectionalDijkstraStrategy'nin yeniden kullanılan arama alanıyla
+ * (SearchWorkspace) sorgu başına ne kadar bellek ayırdığını ve GC'ye etkisini ölçer.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.SearchWorkspaceBenchmark
+ *
+ * ÖLÇÜM:
+ * - 1M şehirli ızgara harita; yolların %5'i kapalı
+ * - Kısa sorgu: aynı satırda 2 şehir ötesi (2 adımlık rota); uzun sorgu: rastgele çiftler
+ * - Sorgu başına ayrılan bayt (ThreadMXBean.getThreadAllocatedBytes), ayırma hızı (MB/s),
+ *   ölçüm boyunca GC sayısı ve süresi, ortalama sorgu süresi
+ * - Kısa sorguda ayrılan bellek sadece sonuç (rota listesi + sonuç nesnesi) kadar olmalı
+ */
+public class SearchWorkspaceBenchmark {
+
+    private static final String CHECK = "Arama alanı";
+    private static final int SIDE = 1000;
+    private static final int SHORT_QUERIES = 20_000;
+    private static final int LONG_QUERIES = 20;
+
+    // Kısa sorgu sonucu: ArrayList + dizisi + sonuç nesnesi; bu sınırın üstü O(V) ayırma demektir
+    private static final long SHORT_RESULT_LIMIT = 512;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        Random closures = new Random(3);
+        for (Edge edge : map.getEdges()) {
+            if (closures.nextDouble() < 0.05) {
+                edge.setStatus(EdgeStatus.CLOSED);
+            }
+        }
+
+        Random random = new Random(7);
+        Node[][] shortPairs = new Node[SHORT_QUERIES][];
+        for (int i = 0; i < SHORT_QUERIES; i++) {
+            int row = random.nextInt(SIDE);
+            int column = random.nextInt(SIDE - 2);
+            shortPairs[i] = new Node[]{nodes[row * SIDE + column], nodes[row * SIDE + column + 2]};
+        }
+        Node[][] longPairs = new Node[LONG_QUERIES][];
+        for (int i = 0; i < LONG_QUERIES; i++) {
+            longPairs[i] = new Node[]{nodes[random.nextInt(nodes.length)], nodes[random.nextInt(nodes.length)]};
+        }
+
+        IRouteStrategy[] strategies = {
+                new DijkstraStrategy(map, RouteObjective.SHORTEST, false),
+                new DijkstraStrategy(map, RouteObjective.FASTEST, false),
+                new BidirectionalDijkstraStrategy(map, false)
+        };
+        String[] names = {"Dijkstra", "Dijkstra FASTEST", "Çift yönlü"};
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-18s %-7s %-12s %-16s %-14s %-10s %-10s%n",
+                "Strateji", "Sorgu", "ms/sorgu", "bayt/sorgu", "MB/s", "GC sayısı", "GC (ms)");
+        System.out.println("═".repeat(100));
+        for (int i = 0; i < strategies.length; i++) {
+            // Isınma: alan ve ağırlık dizileri burada ayrılır
+            run(strategies[i], shortPairs, 2_000);
+            run(strategies[i], longPairs, 3);
+
+            Measurement shortRun = measure(strategies[i], shortPairs, SHORT_QUERIES);
+            Measurement longRun = measure(strategies[i], longPairs, LONG_QUERIES);
+            print(names[i], "kısa", shortRun);
+            print(names[i], "uzun", longRun);
+            RoadGraphGenerator.check(CHECK, shortRun.bytesPerQuery <= SHORT_RESULT_LIMIT,
+                    names[i] + " kısa sorguda sonuç dışında bellek ayırıyor: " + shortRun.bytesPerQuery + " bayt");
+            System.out.println("─".repeat(100));
+        }
+        map.clearAll();
+    }
+
+    private static Measurement measure(IRouteStrategy strategy, Node[][] pairs, int count) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+        long bytes = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        run(strategy, pairs, count);
+        long elapsed = System.nanoTime() - start;
+        bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+
+        Measurement measurement = new Measurement();
+        measurement.millisPerQuery = elapsed / 1e6 / count;
+        measurement.bytesPerQuery = bytes / count;
+        measurement.megabytesPerSecond = bytes / 1e6 / (elapsed / 1e9);
+        measurement.gcCount = gcCount() - gcCount;
+        measurement.gcMillis = gcTime() - gcTime;
+        return measurement;
+    }
+
+    private static void run(IRouteStrategy strategy, Node[][] pairs, int count) {
+        for (int i = 0; i < count; i++) {
+            RouteCalculationResult result = strategy.calculateRoute(pairs[i][0], pairs[i][1], VehicleType.CAR);
+            RoadGraphGenerator.check(CHECK, result != null, "Sonuç boş");
+        }
+    }
+
+    private static void print(String name, String kind, Measurement m) {
+        System.out.printf("%-18s %-7s %-12.3f %-16d %-14.1f %-10d %-10d%n",
+                name, kind, m.millisPerQuery, m.bytesPerQuery, m.megabytesPerSecond, m.gcCount, m.gcMillis);
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static final class Measurement {
+        private double millisPerQuery;
+        private long bytesPerQuery;
+        private double megabytesPerSecond;
+        private long gcCount;
+        private long gcMillis;
+    }
+}
@@ -0,0 +1,202 @@
+package com.navigation.project.benchmark;
+
+import com.navigation.project.backend.command.BlockRoadCommand;
+import com.navigation.project.backend.command.SetSpeedLimitCommand;
+import com.navigation.project.backend.data.CityMap;
+import com.navigation.project.backend.model.Edge;
+import com.navigation.project.backend.model.EdgeStatus;
+import com.navigation.project.backend.model.Node;
+import com.navigation.project.backend.model.VehicleType;
+import com.navigation.project.backend.observer.ActiveTrip;
+import com.navigation.project.backend.observer.TrafficNotifier;
+import com.navigation.project.backend.observer.TripRegistry;
+import com.navigation.project.backend.strategy.RouteCalculationResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * TripRegistryBenchmark - Aktif Yolculuk Kaydı Benchmark'ı
+ *
+ * AMAÇ:
+ * 100k aktif yolculuk varken bir yolun kapanmasının (BlockRoadCommand) ve hız değişikliğinin
+ * (SetSpeedLimitCommand) maliyetinin tüm yolculuklarla değil, etkilenen yolculuklarla orantılı
+ * olduğunu ölçer.
+ *
+ * ÇALIŞTIRMA:
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes com.navigation.project.benchmark.TripRegistryBenchmark
+ *
+ * ÖLÇÜM:
+ * - 100k şehirli ızgara harita; 100k yolculuk (en fazla 20 x 20 blokluk merdiven rotalar, registerTrip)
+ * - Yol başına: etkilenen yolculuk, dizin araması (ms), tüm yolculukları tarama (ms), kapatma +
+ *   paralel yeniden rotalama + bildirim (ms)
+ * - Kontrol: bildirim alan yolculuklar tam olarak tarama ile bulunanlar; yeni rotalar kapalı yoldan
+ *   geçmiyor; etkilenmeyen yolculukların rotası değişmiyor; yarısı bitince dizin doğru kalıyor
+ */
+public class TripRegistryBenchmark {
+
+    private static final String CHECK = "Yolculuk kaydı";
+    private static final int SIDE = 316;
+    private static final int TRIPS = 100_000;
+    private static final int SPAN = 20;
+    private static final int CLOSURES = 10;
+
+    public static void main(String[] args) {
+        CityMap map = CityMap.create();
+        Node[] nodes = RoadGraphGenerator.buildGrid(map, SIDE, 42);
+        TripRegistry registry = new TripRegistry(map);
+        TrafficNotifier notifier = new TrafficNotifier();
+        notifier.attach(registry);
+
+        Random random = new Random(7);
+        Map<ActiveTrip, RouteCalculationResult> notified = new HashMap<>();
+        List<ActiveTrip> trips = new ArrayList<>(TRIPS);
+        long start = System.nanoTime();
+        for (int i = 0; i < TRIPS; i++) {
+            int row = random.nextInt(SIDE);
+            int column = random.nextInt(SIDE);
+            int endRow = clamp(row + random.nextInt(2 * SPAN + 1) - SPAN);
+            int endColumn = clamp(column + random.nextInt(2 * SPAN + 1) - SPAN);
+            if (row == endRow && column == endColumn) {
+                continue;
+            }
+            List<Node> path = staircase(nodes, row, column, endRow, endColumn);
+            trips.add(registry.registerTrip(path.get(0), path.get(path.size() - 1), VehicleType.CAR,
+                    new RouteCalculationResult(path, 0, 0),
+                    (trip, previous, current, message) -> notified.put(trip, current)));
+        }
+        System.out.printf("%d yolculuk kaydedildi: %.0f ms%n", registry.getActiveTripCount(),
+                (System.nanoTime() - start) / 1e6);
+
+        System.out.println("═".repeat(100));
+        System.out.printf("%-24s %-12s %-16s %-16s %-22s%n", "Değişiklik", "Etkilenen", "Dizin (ms)",
+                "Tarama (ms)", "Yeniden rotalama (ms)");
+        System.out.println("═".repeat(100));
+        for (int k = 0; k <= CLOSURES; k++) {
+            // Son değişiklik hız limiti; diğerleri rastgele bir yolculuğun geçtiği yolun kapanması
+            boolean speed = k == CLOSURES;
+            ActiveTrip sample = trips.get(random.nextInt(trips.size()));
+            List<Node> path = sample.getRoute().getPath();
+            int at = random.nextInt(path.size() - 1);
+            Node from = path.get(at);
+            Node to = path.get(at + 1);
+
+            long begin = System.nanoTime();
+            List<ActiveTrip> indexed = registry.getTripsUsing(from, to);
+            double indexMs = (System.nanoTime() - begin) / 1e6;
+            begin = System.nanoTime();
+            Set<ActiveTrip> expected = scan(trips, from, to);
+            double scanMs = (System.nanoTime() - begin) / 1e6;
+            RoadGraphGenerator.check(CHECK, new HashSet<>(indexed).equals(expected),
+                    "dizin ve tarama farklı yolculuklar buldu");
+
+            Map<ActiveTrip, RouteCalculationResult> before = new HashMap<>();
+            for (ActiveTrip trip : trips) {
+                before.put(trip, trip.getRoute());
+            }
+            notified.clear();
+            Edge edge = map.findEdge(from, to);
+            begin = System.nanoTime();
+            if (speed) {
+                new SetSpeedLimitCommand(edge, 20, notifier).execute();
+            } else {
+                new BlockRoadCommand(edge, notifier).execute();
+            }
+            double rerouteMs = (System.nanoTime() - begin) / 1e6;
+
+            RoadGraphGenerator.check(CHECK, notified.keySet().equals(expected),
+                    "bildirim alan yolculuklar etkilenenler değil");
+            for (ActiveTrip trip : trips) {
+                RouteCalculationResult current = notified.get(trip);
+                if (current == null) {
+                    RoadGraphGenerator.check(CHECK, trip.getRoute() == before.get(trip),
+                            "etkilenmeyen yolculuğun rotası değişti");
+                    continue;
+                }
+                RoadGraphGenerator.check(CHECK, trip.getRoute() == current, "yolculuğun rotası bildirilen rota değil");
+                RoadGraphGenerator.check(CHECK, !current.getPath().isEmpty(), "ızgarada yeni rota bulunamadı");
+                if (!speed) {
+                    RoadGraphGenerator.check(CHECK, !uses(current.getPath(), from, to),
+                            "yeni rota kapalı yoldan geçiyor");
+                }
+                List<Node> newPath = current.getPath();
+                for (int i = 0; i + 1 < newPath.size(); i++) {
+                    RoadGraphGenerator.check(CHECK,
+                            map.findEdge(newPath.get(i), newPath.get(i + 1)).getStatus() == EdgeStatus.OPEN,
+                            "yeni rota açık olmayan yoldan geçiyor");
+                }
+            }
+            System.out.printf("%-24s %-12d %-16.3f %-16.1f %-22.1f%n",
+                    (speed ? "Hız " : "Kapat ") + from.getName() + "->" + to.getName(), expected.size(), indexMs,
+                    scanMs, rerouteMs);
+        }
+
+        // Yarısı biter: dizin yeniden kurulur, aramalar doğru kalır
+        for (int i = 0; i < trips.size(); i += 2) {
+            RoadGraphGenerator.check(CHECK, registry.endTrip(trips.get(i)), "yolculuk bitirilemedi");
+        }
+        List<ActiveTrip> remaining = new ArrayList<>();
+        for (ActiveTrip trip : trips) {
+            if (trip.isActive()) {
+                remaining.add(trip);
+            }
+        }
+        RoadGraphGenerator.check(CHECK, registry.getActiveTripCount() == remaining.size(),
+                "aktif yolculuk sayısı yanlış");
+        for (int k = 0; k < 50; k++) {
+            List<Node> path = remaining.get(random.nextInt(remaining.size())).getRoute().getPath();
+            int at = random.nextInt(path.size() - 1);
+            RoadGraphGenerator.check(CHECK, new HashSet<>(registry.getTripsUsing(path.get(at), path.get(at + 1)))
+                    .equals(scan(remaining, path.get(at), path.get(at + 1))), "bitişlerden sonra dizin yanlış");
+        }
+        System.out.println("Yarısı bitti: " + registry.getActiveTripCount() + " aktif yolculuk, dizin OK");
+        map.clearAll();
+    }
+
+    // Tüm yolculukları tarayarak kalan rotası from → to'dan geçenler (dizinsiz karşılaştırma)
+    private static Set<ActiveTrip> scan(List<ActiveTrip> trips, Node from, Node to) {
+        Set<ActiveTrip> result = new HashSet<>();
+        for (ActiveTrip trip : trips) {
+            List<Node> path = trip.getRoute().getPath();
+            int position = Math.max(0, path.indexOf(trip.getPosition()));
+            if (uses(path.subList(position, path.size()), from, to)) {
+                result.add(trip);
+            }
+        }
+        return result;
+    }
+
+    private static boolean uses(List<Node> path, Node from, Node to) {
+        for (int i = 0; i + 1 < path.size(); i++) {
+            if (path.get(i).equals(from) && path.get(i + 1).equals(to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Önce satır boyunca, sonra sütun boyunca giden rota
+    private static List<Node> staircase(Node[] nodes, int row, int column, int endRow, int endColumn) {
+        List<Node> path = new ArrayList<>();
+        path.add(nodes[row * SIDE + column]);
+        while (column != endColumn) {
+            column += Integer.signum(endColumn - column);
+            path.add(nodes[row * SIDE + column]);
+        }
+        while (row != endRow) {
+            row += Integer.signum(endRow - row);
+            path.add(nodes[row * SIDE + column]);
+        }
+        return path;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(SIDE - 1, value));
+    }
+}